@@ -0,0 +1,42 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#anagrams() by word length, for letters with (hit) and
+ * without (miss) anagrams. Run with `-prof gc` to check the lookup does
+ * not allocate beyond the returned view.
+ */
+@State(Scope.Benchmark)
+public class AnagramsBenchmark extends EngineBenchmark {
+
+    @Param({ "3", "8", "15" })
+    int wordLength;
+
+    @Param({ "true", "false" })
+    boolean hit;
+
+    String[] words;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.words = hit
+                ? Inputs.words(this.engine.getDictionary(), wordLength)
+                : Inputs.misses(this.engine.getDictionary(), wordLength, false);
+    }
+
+    @Benchmark
+    public List<String> anagrams() {
+        return this.engine.anagrams(this.words[next()]);
+    }
+
+}
@@ -0,0 +1,152 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the engine benchmarks with GC profiler (allocation rate), and
+ * optionally saves/compares the scores against a baseline file.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp benchmarks.jar asia.fourtitude.interviewq.jumble.benchmark.BenchmarkRunner \
+ *     [--save-baseline FILE] [--baseline FILE] [INCLUDE_REGEX...]
+ * </pre>
+ * The baseline file is a plain CSV with header `key,score,error,unit`, one
+ * line per result and secondary (GC) result, sorted by key. The key is
+ * "benchmark[:secondary] [mode] {param=value;...}", with any comma replaced
+ * by a space, e.g.
+ * <pre>
+ * asia.fourtitude.interviewq.jumble.benchmark.AnagramsBenchmark.anagrams:gc.alloc.rate.norm [avgt] {hit=true;wordLength=8},96.0,0.01,B/op
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    private static final String HEADER = "key,score,error,unit";
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path saveBaseline = null;
+        Path baseline = null;
+        List<String> includes = new ArrayList<>();
+        for (int ix = 0; ix < args.length; ix += 1) {
+            switch (args[ix]) {
+            case "--save-baseline":
+                saveBaseline = Paths.get(args[++ix]);
+                break;
+            case "--baseline":
+                baseline = Paths.get(args[++ix]);
+                break;
+            default:
+                includes.add(args[ix]);
+                break;
+            }
+        }
+        if (includes.isEmpty()) {
+            includes.add(BenchmarkRunner.class.getPackage().getName() + ".*");
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json");
+        for (String include : includes) {
+            options.include(include);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        Map<String, String[]> current = toScores(results);
+        if (saveBaseline != null) {
+            List<String> lines = new ArrayList<>();
+            lines.add(HEADER);
+            for (Map.Entry<String, String[]> entry : current.entrySet()) {
+                lines.add(entry.getKey() + ',' + String.join(",", entry.getValue()));
+            }
+            Files.write(saveBaseline, lines, StandardCharsets.UTF_8);
+            System.out.println("Saved baseline: " + saveBaseline.toAbsolutePath());
+        }
+        if (baseline != null) {
+            compare(readScores(baseline), current, System.out);
+        }
+    }
+
+    /*
+     * Key is "benchmark:label [mode] {params}", value is (score, error, unit).
+     */
+    static Map<String, String[]> toScores(Collection<RunResult> results) {
+        Map<String, String[]> scores = new TreeMap<>();
+        for (RunResult run : results) {
+            String benchmark = run.getParams().getBenchmark();
+            String mode = run.getParams().getMode().shortLabel();
+            StringBuilder params = new StringBuilder();
+            for (String key : run.getParams().getParamsKeys()) {
+                params.append(params.length() == 0 ? "" : ";").append(key).append('=').append(run.getParams().getParam(key));
+            }
+            Map<String, Result> all = new LinkedHashMap<>();
+            all.put("", run.getPrimaryResult());
+            for (Map.Entry<String, Result> secondary : run.getSecondaryResults().entrySet()) {
+                if (secondary.getKey().startsWith("gc.alloc.rate")) {
+                    all.put(":" + secondary.getKey(), secondary.getValue());
+                }
+            }
+            for (Map.Entry<String, Result> entry : all.entrySet()) {
+                Result result = entry.getValue();
+                String key = benchmark + entry.getKey() + " [" + mode + "] {" + params + '}';
+                scores.put(key.replace(',', ' '), new String[] {
+                        Double.toString(result.getScore()),
+                        Double.toString(result.getScoreError()),
+                        result.getScoreUnit() });
+            }
+        }
+        return scores;
+    }
+
+    static Map<String, String[]> readScores(Path file) throws IOException {
+        Map<String, String[]> scores = new TreeMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.equals(HEADER)) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            scores.put(columns[0], new String[] { columns[1], columns[2], columns[3] });
+        }
+        return scores;
+    }
+
+    static void compare(Map<String, String[]> baseline, Map<String, String[]> current, PrintStream out) {
+        out.println();
+        out.println("Comparison against baseline (delta = current / baseline - 1)");
+        out.printf("%-100s %14s %14s %9s %s%n", "Benchmark", "Baseline", "Current", "Delta", "Unit");
+        for (Map.Entry<String, String[]> entry : current.entrySet()) {
+            String[] now = entry.getValue();
+            String[] before = baseline.get(entry.getKey());
+            if (before == null) {
+                out.printf("%-100s %14s %14.3f %9s %s%n", entry.getKey(), "-", Double.parseDouble(now[0]), "new", now[2]);
+                continue;
+            }
+            double was = Double.parseDouble(before[0]);
+            double is = Double.parseDouble(now[0]);
+            String delta = was == 0.0 ? "-" : String.format("%+8.1f%%", (is / was - 1.0) * 100.0);
+            out.printf("%-100s %14.3f %14.3f %9s %s%n", entry.getKey(), was, is, delta, now[2]);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#createGameState() by word length and `minLength`.
+ */
+@State(Scope.Benchmark)
+public class CreateGameStateBenchmark extends EngineBenchmark {
+
+    @Param({ "4", "6", "8" })
+    int length;
+
+    @Param({ "3" })
+    int minLength;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.engine.getDictionary();
+    }
+
+    @Benchmark
+    public GameState createGameState() {
+        return this.engine.createGameState(length, minLength);
+    }
+
+}
@@ -0,0 +1,38 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * Common settings of engine benchmarks: throughput and average time,
+ * 1 fork, 3 warm up and 5 measurement iterations of 1 second each.
+ * <p>
+ * Each invocation takes the next input from a fixed array of deterministic
+ * inputs, so that the JIT cannot constant fold a single input.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class EngineBenchmark {
+
+    JumbleEngine engine;
+
+    private int cursor;
+
+    final int next() {
+        int ix = this.cursor;
+        this.cursor = (ix + 1) & Inputs.MASK;
+        return ix;
+    }
+
+}
@@ -0,0 +1,39 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#exists() by word length, for words in (hit) and not in
+ * (miss) the dictionary.
+ */
+@State(Scope.Benchmark)
+public class ExistsBenchmark extends EngineBenchmark {
+
+    @Param({ "3", "8", "15" })
+    int wordLength;
+
+    @Param({ "true", "false" })
+    boolean hit;
+
+    String[] words;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.words = hit
+                ? Inputs.words(this.engine.getDictionary(), wordLength)
+                : Inputs.misses(this.engine.getDictionary(), wordLength, false);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return this.engine.exists(this.words[next()]);
+    }
+
+}
@@ -0,0 +1,91 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.repository.GameRecord;
+import asia.fourtitude.interviewq.jumble.core.repository.GameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.JdbcGameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MappedFileGameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MemoryGameRepository;
+
+/**
+ * GameRepository#get() and a guess (get, then compare-and-set of the next
+ * version) by backend, over {@link Inputs#SIZE} games of 6 letter words.
+ */
+@State(Scope.Benchmark)
+public class GameRepositoryBenchmark extends EngineBenchmark {
+
+    @Param({ "memory", "file", "h2" })
+    String backend;
+
+    GameRepository repository;
+
+    String[] ids;
+
+    Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.engine = new JumbleEngine();
+        switch (backend) {
+        case "memory":
+            this.repository = new MemoryGameRepository();
+            break;
+        case "file":
+            this.file = Files.createTempFile("jumble-games", ".dat");
+            this.repository = new MappedFileGameRepository(this.file, Inputs.SIZE, 4096);
+            break;
+        case "h2":
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:jumble-games-benchmark;DB_CLOSE_DELAY=-1");
+            this.repository = new JdbcGameRepository(dataSource);
+            break;
+        default:
+            throw new IllegalArgumentException("Invalid backend=[" + backend + "]");
+        }
+        this.ids = new String[Inputs.SIZE];
+        for (int ix = 0; ix < Inputs.SIZE; ix += 1) {
+            this.ids[ix] = "game-" + ix;
+            this.repository.create(new GameRecord(this.ids[ix], 0L, 0L, 0L, this.engine.createGameState(6, 3)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.repository.scan(record -> this.repository.evict(record.getId()));
+        this.repository.close();
+        if (this.file != null) {
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public GameRecord get() {
+        return this.repository.get(this.ids[next()]);
+    }
+
+    @Benchmark
+    public boolean guess() {
+        GameRecord current = this.repository.get(this.ids[next()]);
+        GameRecord updated = new GameRecord(current.getId(), current.getVersion() + 1, current.getCreatedAt(),
+                current.getModifiedAt() + 1, current.getState());
+        return this.repository.compareAndSet(current.getVersion(), updated);
+    }
+
+}
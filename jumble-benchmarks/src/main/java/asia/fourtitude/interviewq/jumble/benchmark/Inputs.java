@@ -0,0 +1,86 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import asia.fourtitude.interviewq.jumble.core.Dictionary;
+
+/**
+ * Deterministic benchmark inputs picked from the dictionary, so that runs
+ * are comparable across machines and commits.
+ */
+final class Inputs {
+
+    static final int SIZE = 1024;
+
+    static final int MASK = SIZE - 1;
+
+    private static final long SEED = 20240101L;
+
+    private Inputs() {
+    }
+
+    /**
+     * Dictionary words of exactly `length` letters (repeated if fewer).
+     */
+    static String[] words(Dictionary dictionary, int length) {
+        List<String> candidates = new ArrayList<>();
+        for (String word : dictionary.getWords()) {
+            if (word.length() == length) {
+                candidates.add(word);
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("No word of length=[" + length + "]");
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] words = new String[SIZE];
+        for (int ix = 0; ix < SIZE; ix += 1) {
+            words[ix] = candidates.get(random.nextInt(candidates.size()));
+        }
+        return words;
+    }
+
+    /**
+     * Random letters of `length`, that are not in dictionary
+     * (and not a prefix of any word, when `asPrefix`).
+     */
+    static String[] misses(Dictionary dictionary, int length, boolean asPrefix) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] words = new String[SIZE];
+        int ix = 0;
+        while (ix < SIZE) {
+            char[] letters = new char[length];
+            for (int jx = 0; jx < length; jx += 1) {
+                letters[jx] = (char) ('a' + random.nextInt(26));
+            }
+            String word = new String(letters);
+            boolean found = asPrefix ? !dictionary.withPrefix(word).isEmpty() : dictionary.contains(word);
+            if (!found) {
+                words[ix] = word;
+                ix += 1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Prefixes of `length` letters, taken from dictionary words.
+     */
+    static String[] prefixes(Dictionary dictionary, int length) {
+        List<String> candidates = new ArrayList<>();
+        for (String word : dictionary.getWords()) {
+            if (word.length() >= length) {
+                candidates.add(word.substring(0, length));
+            }
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] prefixes = new String[SIZE];
+        for (int ix = 0; ix < SIZE; ix += 1) {
+            prefixes[ix] = candidates.get(random.nextInt(candidates.size()));
+        }
+        return prefixes;
+    }
+
+}
@@ -0,0 +1,29 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#retrievePalindromeWords(), has no input.
+ */
+@State(Scope.Benchmark)
+public class PalindromeBenchmark extends EngineBenchmark {
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.engine.getDictionary();
+    }
+
+    @Benchmark
+    public Collection<String> retrievePalindromeWords() {
+        return this.engine.retrievePalindromeWords();
+    }
+
+}
@@ -0,0 +1,35 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.PhraseAnagramSolver;
+
+/**
+ * JumbleEngine#phraseAnagrams() to completion (no limit, generous budget),
+ * by phrase of 9, 13, 15 and 18 letters. The solutions are consumed by
+ * the blackhole, as a streaming client would.
+ */
+@State(Scope.Benchmark)
+public class PhraseAnagramsBenchmark extends EngineBenchmark {
+
+    @Param({ "dormitory", "clint eastwood", "a decimal point", "interview question" })
+    String phrase;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.engine.getDictionary();
+    }
+
+    @Benchmark
+    public PhraseAnagramSolver.Outcome phraseAnagrams(Blackhole blackhole) {
+        return this.engine.phraseAnagrams(this.phrase, null, Integer.MAX_VALUE, 60000L, blackhole::consume);
+    }
+
+}
@@ -0,0 +1,41 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#wordsMatchingPrefix() by prefix length, for prefixes of
+ * dictionary words (hit) and prefixes matching nothing (miss).
+ */
+@State(Scope.Benchmark)
+public class PrefixBenchmark extends EngineBenchmark {
+
+    @Param({ "1", "2", "3", "5" })
+    int prefixLength;
+
+    @Param({ "true", "false" })
+    boolean hit;
+
+    String[] prefixes;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.prefixes = hit
+                ? Inputs.prefixes(this.engine.getDictionary(), prefixLength)
+                : Inputs.misses(this.engine.getDictionary(), Math.max(prefixLength, 3), true);
+    }
+
+    @Benchmark
+    public Collection<String> wordsMatchingPrefix() {
+        return this.engine.wordsMatchingPrefix(this.prefixes[next()]);
+    }
+
+}
@@ -0,0 +1,33 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#scramble() by word length.
+ */
+@State(Scope.Benchmark)
+public class ScrambleBenchmark extends EngineBenchmark {
+
+    @Param({ "3", "6", "12", "20" })
+    int wordLength;
+
+    String[] words;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.words = Inputs.words(this.engine.getDictionary(), wordLength);
+    }
+
+    @Benchmark
+    public String scramble() {
+        return this.engine.scramble(this.words[next()]);
+    }
+
+}
@@ -0,0 +1,52 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#searchWords() by the combination of criteria.
+ */
+@State(Scope.Benchmark)
+public class SearchBenchmark extends EngineBenchmark {
+
+    /**
+     * Which criteria are given: start char, end char, length.
+     */
+    @Param({ "start", "end", "length", "start+end", "start+end+length" })
+    String criteria;
+
+    Character[] startChars;
+
+    Character[] endChars;
+
+    Integer[] lengths;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        String[] words = Inputs.words(this.engine.getDictionary(), 7);
+        this.startChars = new Character[Inputs.SIZE];
+        this.endChars = new Character[Inputs.SIZE];
+        this.lengths = new Integer[Inputs.SIZE];
+        for (int ix = 0; ix < Inputs.SIZE; ix += 1) {
+            String word = words[ix];
+            this.startChars[ix] = criteria.contains("start") ? word.charAt(0) : null;
+            this.endChars[ix] = criteria.contains("end") ? word.charAt(word.length() - 1) : null;
+            this.lengths[ix] = criteria.contains("length") ? 3 + (ix % 10) : null;
+        }
+    }
+
+    @Benchmark
+    public Collection<String> searchWords() {
+        int ix = next();
+        return this.engine.searchWords(this.startChars[ix], this.endChars[ix], this.lengths[ix]);
+    }
+
+}
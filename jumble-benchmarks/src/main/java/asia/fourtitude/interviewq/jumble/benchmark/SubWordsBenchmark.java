@@ -0,0 +1,43 @@
+package asia.fourtitude.interviewq.jumble.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * JumbleEngine#generateSubWords() by seed word length and `minLength`,
+ * forking at the default `parallelThreshold` versus never forking.
+ */
+@State(Scope.Benchmark)
+public class SubWordsBenchmark extends EngineBenchmark {
+
+    @Param({ "6", "10", "15", "22" })
+    int wordLength;
+
+    @Param({ "1", "3", "5" })
+    int minLength;
+
+    @Param({ "12", "2147483647" })
+    int parallelThreshold;
+
+    String[] words;
+
+    @Setup
+    public void setUp() {
+        this.engine = new JumbleEngine();
+        this.engine.setParallelThreshold(parallelThreshold);
+        this.words = Inputs.words(this.engine.getDictionary(), wordLength);
+    }
+
+    @Benchmark
+    public List<String> generateSubWords() {
+        return this.engine.generateSubWords(this.words[next()], minLength);
+    }
+
+}
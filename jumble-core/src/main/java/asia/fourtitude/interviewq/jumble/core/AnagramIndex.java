@@ -0,0 +1,186 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Letter signature to words table, for finding the (full) anagrams of some
+ * letters with one hash lookup.
+ * <p>
+ * The signature is the 26 letter counts packed as 4-bit lanes, the same
+ * packing as {@link SubWordIndex}. It takes two longs (letters 'a' to 'm',
+ * and 'n' to 'z'), as 26 counts don't fit in one. The table is open
+ * addressing (linear probing) over primitive arrays, and the lookup packs
+ * the letters directly into the key, so it allocates nothing but the
+ * returned sub list view.
+ * <p>
+ * Words of a signature are stored contiguously in dictionary order, so a
+ * lookup returns a sorted view of them.
+ */
+public final class AnagramIndex {
+
+    private static final long EMPTY = -1L;
+
+    private static final int MAX_COUNT = 7;
+
+    private final long[] lows;
+
+    private final long[] highs;
+
+    /* slot to its words: `words` from `starts[slot]` to `ends[slot]` (exclusive) */
+    private final int[] starts;
+
+    private final int[] ends;
+
+    private final List<String> words;
+
+    private final int shift;
+
+    /* set by build() */
+    private int signatures;
+
+    private AnagramIndex(int capacity, String[] words) {
+        this.lows = new long[capacity];
+        this.highs = new long[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.words = Collections.unmodifiableList(Arrays.asList(words));
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        Arrays.fill(this.lows, EMPTY);
+    }
+
+    /**
+     * Builds the table of lower case, sorted and distinct `sorted` words.
+     * Words that are not all 'a' to 'z', or repeat a letter more than 7
+     * times, are left out.
+     */
+    static AnagramIndex build(String[] sorted) {
+        long[] lows = new long[sorted.length];
+        long[] highs = new long[sorted.length];
+        boolean[] valid = new boolean[sorted.length];
+        int[] counts = new int[SubWordIndex.LETTERS];
+        int size = 0;
+        for (int ix = 0; ix < sorted.length; ix += 1) {
+            if (SubWordIndex.count(sorted[ix], counts)) {
+                lows[ix] = SubWordIndex.pack(counts, 0);
+                highs[ix] = SubWordIndex.pack(counts, SubWordIndex.LANES);
+                valid[ix] = true;
+                size += 1;
+            }
+        }
+
+        /*
+         * First pass counts the words per signature (in `ends`), then the
+         * counts become start offsets, and the second pass places the words.
+         */
+        int capacity = Integer.highestOneBit(Math.max(2, size) * 2 - 1) * 2;
+        String[] grouped = new String[size];
+        AnagramIndex index = new AnagramIndex(capacity, grouped);
+        for (int ix = 0; ix < sorted.length; ix += 1) {
+            if (valid[ix]) {
+                int slot = index.slot(lows[ix], highs[ix]);
+                if (index.lows[slot] == EMPTY) {
+                    index.lows[slot] = lows[ix];
+                    index.highs[slot] = highs[ix];
+                    index.signatures += 1;
+                }
+                index.ends[slot] += 1;
+            }
+        }
+        int offset = 0;
+        for (int slot = 0; slot < capacity; slot += 1) {
+            if (index.lows[slot] != EMPTY) {
+                index.starts[slot] = offset;
+                offset += index.ends[slot];
+                index.ends[slot] = index.starts[slot];
+            }
+        }
+        for (int ix = 0; ix < sorted.length; ix += 1) {
+            if (valid[ix]) {
+                int slot = index.slot(lows[ix], highs[ix]);
+                grouped[index.ends[slot]] = sorted[ix];
+                index.ends[slot] += 1;
+            }
+        }
+        return index;
+    }
+
+    /*
+     * The slot of the signature, or the empty slot where it would go.
+     */
+    private int slot(long low, long high) {
+        long hash = (low * 0x9E3779B97F4A7C15L) ^ (high * 0xC2B2AE3D27D4EB4FL);
+        int mask = lows.length - 1;
+        int slot = (int) ((hash ^ (hash >>> 29)) * 0x9E3779B97F4A7C15L >>> shift);
+        while (lows[slot] != EMPTY && (lows[slot] != low || highs[slot] != high)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Finds the words using exactly the lower case `letters`.
+     *
+     * @param letters The letters, in any order.
+     * @return The (read-only) sorted list of anagrams, or empty list if
+     * `letters` is not all 'a' to 'z'.
+     */
+    public List<String> lookup(String letters) {
+        long low = 0L;
+        long high = 0L;
+        for (int ix = 0; ix < letters.length(); ix += 1) {
+            int c = letters.charAt(ix) - 'a';
+            if (c < 0 || c >= SubWordIndex.LETTERS) {
+                return Collections.emptyList();
+            }
+            if (c < SubWordIndex.LANES) {
+                int lane = c * 4;
+                if (((low >>> lane) & 0xFL) == MAX_COUNT) {
+                    return Collections.emptyList();
+                }
+                low += 1L << lane;
+            } else {
+                int lane = (c - SubWordIndex.LANES) * 4;
+                if (((high >>> lane) & 0xFL) == MAX_COUNT) {
+                    return Collections.emptyList();
+                }
+                high += 1L << lane;
+            }
+        }
+        int slot = slot(low, high);
+        if (lows[slot] == EMPTY) {
+            return Collections.emptyList();
+        }
+        return words.subList(starts[slot], ends[slot]);
+    }
+
+    /*
+     * The number of words of the packed signature (`low`, `high`).
+     */
+    int count(long low, long high) {
+        int slot = slot(low, high);
+        return lows[slot] == EMPTY ? 0 : ends[slot] - starts[slot];
+    }
+
+    /**
+     * The number of distinct letter signatures.
+     */
+    public int size() {
+        return signatures;
+    }
+
+    /**
+     * Estimated heap bytes of the table and the grouped word references
+     * (the words are shared with the dictionary).
+     */
+    long getEstimatedBytes() {
+        return 4L * 16L + 24L * lows.length + 16L + 4L * words.size();
+    }
+
+    @Override
+    public String toString() {
+        return "signatures=[" + signatures + "], capacity=[" + lows.length + ']';
+    }
+
+}
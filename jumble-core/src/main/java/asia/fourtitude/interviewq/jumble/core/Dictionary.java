@@ -0,0 +1,338 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+
+import asia.fourtitude.interviewq.jumble.core.jfr.DictionaryLoadEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.IndexBuildEvent;
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+
+/**
+ * The word list/dictionary, loaded once from classpath resource.
+ * <p>
+ * Words are normalized to lower case, de-duplicated and sorted, so that
+ * exact and prefix lookups are binary searches over the sorted array.
+ * Sub word lookups use the letter count {@link SubWordIndex}, anagram
+ * lookups the {@link AnagramIndex}, pattern lookups walk the
+ * {@link WordTrie}, and positional letter lookups intersect the sets of the
+ * {@link PositionIndex}. Game seeds are rated by the {@link SeedIndex}.
+ * Each index is built on its first use, or all at once, in parallel, by
+ * {@link #buildIndexes()}.
+ * <p>
+ * The `version` is the CRC32 checksum of the loaded words, so that any
+ * derived data (caches, tokens) can be tied to the exact word list it was
+ * computed from.
+ */
+public final class Dictionary {
+
+    public static final String DEFAULT_RESOURCE = "words.txt";
+
+    private final String[] sorted;
+
+    private final List<String> words;
+
+    private final long version;
+
+    private final long sortedBytes;
+
+    private final Lazy<SubWordIndex> subWordIndex;
+
+    private final Lazy<WordTrie> trie;
+
+    private final Lazy<AnagramIndex> anagramIndex;
+
+    private final Lazy<PositionIndex> positionIndex;
+
+    private final Lazy<SeedIndex> seedIndex;
+
+    /**
+     * An index built on first use, once, and then read without lock.
+     */
+    private static final class Lazy<T> {
+
+        private final Supplier<T> builder;
+
+        private volatile T value;
+
+        Lazy(Supplier<T> builder) {
+            this.builder = builder;
+        }
+
+        T get() {
+            T result = this.value;
+            if (result == null) {
+                synchronized (this) {
+                    result = this.value;
+                    if (result == null) {
+                        result = this.builder.get();
+                        this.value = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /* without building */
+        T peek() {
+            return this.value;
+        }
+
+    }
+
+    private Dictionary(String[] sorted, long version) {
+        this.sorted = sorted;
+        this.words = Collections.unmodifiableList(Arrays.asList(sorted));
+        this.version = version;
+        this.sortedBytes = estimateBytes(sorted);
+        this.subWordIndex = new Lazy<>(() -> build("letter-counts", SubWordIndex::build,
+                index -> sorted.length, SubWordIndex::getEstimatedBytes));
+        this.trie = new Lazy<>(() -> build("trie", WordTrie::build, WordTrie::size, WordTrie::getEstimatedBytes));
+        this.anagramIndex = new Lazy<>(() -> build("anagrams", AnagramIndex::build,
+                AnagramIndex::size, AnagramIndex::getEstimatedBytes));
+        this.positionIndex = new Lazy<>(() -> build("positions", PositionIndex::build,
+                PositionIndex::getMaxLength, PositionIndex::getEstimatedBytes));
+        this.seedIndex = new Lazy<>(() -> {
+            AnagramIndex anagrams = this.anagramIndex.get();
+            return build("seeds", input -> SeedIndex.build(input, anagrams, ForkJoinPool.commonPool()),
+                    SeedIndex::size, SeedIndex::getEstimatedBytes);
+        });
+    }
+
+    private <T> T build(String name, Function<String[], T> builder, ToIntFunction<T> resultSize,
+            ToLongFunction<T> bytes) {
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
+        T index = builder.apply(this.sorted);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setIndex(name);
+            event.setInputSize(this.sorted.length);
+            event.setResultSize(resultSize.applyAsInt(index));
+            event.setBytes(bytes.applyAsLong(index));
+            event.setDictionaryVersion(this.version);
+            event.commit();
+        }
+        return index;
+    }
+
+    /*
+     * Assumes 64-bit JVM with compressed oops and compact (LATIN1) strings:
+     * String is 24 bytes, its byte[] is 16 bytes header plus the letters,
+     * each padded to 8 bytes; the array is 16 bytes header plus 4 per word.
+     */
+    private static long estimateBytes(String[] sorted) {
+        long bytes = 16L + 4L * sorted.length;
+        for (String word : sorted) {
+            bytes += 24L + ((16L + word.length() + 7L) & ~7L);
+        }
+        return bytes;
+    }
+
+    /**
+     * Loads the word list from classpath `resource`.
+     * One word per line, blank lines are ignored.
+     * <p>
+     * Only the sorted word array is built here; each index is built on its
+     * first use, so that a caller of exact or prefix lookups only (e.g. the
+     * console) does not pay for the others.
+     *
+     * @param resource The classpath resource of word list.
+     * @return The loaded dictionary.
+     */
+    public static Dictionary load(String resource) {
+        InputStream in = Dictionary.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new JumbleEngineException("Word list not found, resource=[" + resource + "]");
+        }
+        DictionaryLoadEvent loadEvent = new DictionaryLoadEvent();
+        loadEvent.begin();
+        int lines = 0;
+        TreeSet<String> words = new TreeSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines += 1;
+                String word = line.trim().toLowerCase(Locale.ROOT);
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        } catch (IOException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+        loadEvent.end();
+
+        IndexBuildEvent indexEvent = new IndexBuildEvent();
+        indexEvent.begin();
+        CRC32 crc = new CRC32();
+        for (String word : words) {
+            crc.update(word.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        String[] sorted = words.toArray(new String[0]);
+        indexEvent.end();
+        Dictionary dictionary = new Dictionary(sorted, crc.getValue());
+
+        if (loadEvent.shouldCommit()) {
+            loadEvent.setResource(resource);
+            loadEvent.setInputSize(lines);
+            loadEvent.setResultSize(dictionary.size());
+            loadEvent.setDictionaryVersion(dictionary.getVersion());
+            loadEvent.commit();
+        }
+        if (indexEvent.shouldCommit()) {
+            indexEvent.setIndex("sorted");
+            indexEvent.setInputSize(words.size());
+            indexEvent.setResultSize(dictionary.size());
+            indexEvent.setBytes(estimateBytes(sorted));
+            indexEvent.setDictionaryVersion(dictionary.getVersion());
+            indexEvent.commit();
+        }
+        return dictionary;
+    }
+
+    public List<String> getWords() {
+        return words;
+    }
+
+    public int size() {
+        return sorted.length;
+    }
+
+    /**
+     * Checks if the lower case `word` exists in dictionary.
+     */
+    public boolean contains(String word) {
+        return Arrays.binarySearch(sorted, word) >= 0;
+    }
+
+    /**
+     * Finds the words beginning with the lower case `prefix`.
+     *
+     * @param prefix The prefix to match.
+     * @return The (read-only) sorted list of matching words.
+     */
+    public List<String> withPrefix(String prefix) {
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        return words.subList(from, to);
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Builds all the indexes now, in parallel (the game seeds after the
+     * anagrams, and themselves in fork/join slices), instead of on first
+     * use; for a server, so that no request waits on a build.
+     *
+     * @return This dictionary.
+     */
+    public Dictionary buildIndexes() {
+        try {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(this.subWordIndex::get),
+                    CompletableFuture.runAsync(this.trie::get),
+                    CompletableFuture.runAsync(this.positionIndex::get),
+                    CompletableFuture.runAsync(this.seedIndex::get)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+        return this;
+    }
+
+    /**
+     * The letter count index, for finding the sub words of a seed word.
+     */
+    public SubWordIndex getSubWordIndex() {
+        return subWordIndex.get();
+    }
+
+    /**
+     * The prefix tree, for automaton (e.g. wildcard pattern) queries.
+     */
+    public WordTrie getTrie() {
+        return trie.get();
+    }
+
+    /**
+     * The letter signature table, for finding the anagrams of some letters.
+     */
+    public AnagramIndex getAnagramIndex() {
+        return anagramIndex.get();
+    }
+
+    /**
+     * The positional letter index, for crossword style queries, and the
+     * words bucketed by length.
+     */
+    public PositionIndex getPositionIndex() {
+        return positionIndex.get();
+    }
+
+    /**
+     * The difficulty rated game seeds.
+     */
+    public SeedIndex getSeedIndex() {
+        return seedIndex.get();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Estimated heap bytes retained by the words and the indexes built so
+     * far.
+     */
+    public long getEstimatedBytes() {
+        long bytes = this.sortedBytes;
+        SubWordIndex subWords = this.subWordIndex.peek();
+        bytes += subWords == null ? 0L : subWords.getEstimatedBytes();
+        WordTrie wordTrie = this.trie.peek();
+        bytes += wordTrie == null ? 0L : wordTrie.getEstimatedBytes();
+        AnagramIndex anagrams = this.anagramIndex.peek();
+        bytes += anagrams == null ? 0L : anagrams.getEstimatedBytes();
+        PositionIndex positions = this.positionIndex.peek();
+        bytes += positions == null ? 0L : positions.getEstimatedBytes();
+        SeedIndex seeds = this.seedIndex.peek();
+        bytes += seeds == null ? 0L : seeds.getEstimatedBytes();
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "size=[" + sorted.length + "], version=[" + Long.toHexString(version) + ']';
+    }
+
+}
@@ -0,0 +1,168 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A game shared by many players guessing the same scrambled word at once.
+ * <p>
+ * Sub words are kept sorted in an array, with the finder of each word in a
+ * parallel {@link AtomicReferenceArray}: a guess is a binary search, then a
+ * compare-and-set from null to the player, so the first finder wins without
+ * any lock, and a guess never waits on another. The `version` is bumped on
+ * every find, for watchers to tell whether anything changed.
+ */
+public class GameRoom {
+
+    public enum Result {
+        /** The player is the first to find the word. */
+        FOUND,
+        /** The word was found before, by this or another player. */
+        ALREADY,
+        /** The word is not a sub word. */
+        INCORRECT
+    }
+
+    private final String id;
+
+    private final String original;
+
+    private final long createdAt;
+
+    private final String[] words;
+
+    private final AtomicReferenceArray<String> finders;
+
+    private final AtomicInteger remaining;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile String scramble;
+
+    private volatile long modifiedAt;
+
+    /**
+     * Creates the room of `state`; words already guessed in `state` are not
+     * carried over.
+     *
+     * @param id        The room ID.
+     * @param state     The game.
+     * @param createdAt The creation time (epoch milliseconds).
+     */
+    public GameRoom(String id, GameState state, long createdAt) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.original = state.getOriginal();
+        this.scramble = state.getScramble();
+        this.words = state.getSubWords().keySet().toArray(new String[0]);
+        Arrays.sort(this.words);
+        this.finders = new AtomicReferenceArray<>(this.words.length);
+        this.remaining = new AtomicInteger(this.words.length);
+        this.createdAt = createdAt;
+        this.modifiedAt = createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOriginal() {
+        return original;
+    }
+
+    public String getScramble() {
+        return scramble;
+    }
+
+    public void setScramble(String scramble) {
+        this.scramble = scramble;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getModifiedAt() {
+        return modifiedAt;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public int getTotalWords() {
+        return words.length;
+    }
+
+    public int getRemainingWords() {
+        return remaining.get();
+    }
+
+    /**
+     * Guesses `word` on behalf of `player`.
+     *
+     * @param player The player.
+     * @param word   The (lower case) guess.
+     * @return {@link Result#FOUND} if `player` found it first.
+     */
+    public Result guess(String player, String word) {
+        Objects.requireNonNull(player, "player must not be null");
+        if (word == null) {
+            return Result.INCORRECT;
+        }
+        int ix = Arrays.binarySearch(words, word);
+        if (ix < 0) {
+            return Result.INCORRECT;
+        }
+        if (finders.get(ix) != null || !finders.compareAndSet(ix, null, player)) {
+            return Result.ALREADY;
+        }
+        remaining.decrementAndGet();
+        modifiedAt = System.currentTimeMillis();
+        version.incrementAndGet();
+        return Result.FOUND;
+    }
+
+    /**
+     * @param word The sub word.
+     * @return The player who found `word` first, or null if not found yet
+     * (or not a sub word).
+     */
+    public String getFinder(String word) {
+        int ix = word == null ? -1 : Arrays.binarySearch(words, word);
+        return ix < 0 ? null : finders.get(ix);
+    }
+
+    /**
+     * The found words and their finders, by length then alphabetical order
+     * (as {@link GameState#getGuessedWords()}). Not an atomic snapshot: a
+     * word found during the call may or may not be in.
+     */
+    public Map<String, String> getFinders() {
+        List<String> found = new ArrayList<>();
+        for (int ix = 0; ix < words.length; ix += 1) {
+            if (finders.get(ix) != null) {
+                found.add(words[ix]);
+            }
+        }
+        found.sort((a, b) -> a.length() != b.length() ? a.length() - b.length() : a.compareTo(b));
+        Map<String, String> byWord = new LinkedHashMap<>();
+        for (String word : found) {
+            byWord.put(word, getFinder(word));
+        }
+        return byWord;
+    }
+
+    @Override
+    public String toString() {
+        return "id=[" + id + "], original=[" + original + "], version=[" + version.get() + "], remaining=["
+                + remaining.get() + "/" + words.length + ']';
+    }
+
+}
@@ -1,6 +1,7 @@
 package asia.fourtitude.interviewq.jumble.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -79,6 +80,50 @@ public /* record */ class GameState {
         return false;
     }
 
+    /**
+     * "Did you mean" suggestions for an incorrect guess: the sub words not
+     * guessed yet within {@link LevenshteinAutomaton#MAX_DISTANCE} edits of
+     * `word`, closest first, then in alphabetical order.
+     * <p>
+     * Sub words are few, so each is run through the automaton of `word`,
+     * which stops at the first letter too far.
+     *
+     * @param word  The (lower case) guess.
+     * @param limit The maximum number of words.
+     * @return The close sub words, or empty list if none.
+     */
+    public List<String> suggestWords(String word, int limit) {
+        if (word == null || word.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        LevenshteinAutomaton automaton;
+        try {
+            automaton = LevenshteinAutomaton.of(word, LevenshteinAutomaton.MAX_DISTANCE);
+        } catch (IllegalArgumentException e) {
+            return new ArrayList<>();
+        }
+        List<String> remaining = new ArrayList<>();
+        for (Map.Entry<String, Boolean> entry : this.subWords.entrySet()) {
+            if (entry.getValue() != Boolean.TRUE) {
+                remaining.add(entry.getKey());
+            }
+        }
+        Collections.sort(remaining);
+        return JumbleEngine.closest(automaton, remaining, limit);
+    }
+
+    /**
+     * A fresh copy of the game, with no words guessed, e.g. to serve one
+     * cached (seeded) game to many players.
+     */
+    public GameState copy() {
+        Map<String, Boolean> words = new TreeMap<>();
+        for (String word : this.subWords.keySet()) {
+            words.put(word, Boolean.FALSE);
+        }
+        return new GameState(this.original, this.scramble, words);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -0,0 +1,268 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+
+/**
+ * Encodes a game state into a compact token signed with HMAC-SHA256, so
+ * that the client holds the game, and any node (sharing the key and the
+ * dictionary) can serve its next guess without shared storage.
+ * <p>
+ * The token is the URL safe base64 (no padding) of:
+ * <pre>
+ * format        1 byte
+ * version       4 bytes, the dictionary version (CRC32)
+ * word id       4 bytes, the index of the word in the dictionary
+ * minLength     1 byte
+ * scramble      1 byte per letter, the index in the word of each letter
+ * guessed       1 bit per sub word (in alphabetical order), padded to bytes
+ * mac           16 bytes, HMAC-SHA256 of all the above, truncated
+ * </pre>
+ * A 6 letter game is 40 to 60 characters. The sub words are not in the
+ * token; they follow from the word, and are kept in a small direct mapped
+ * cache, so decoding a known word costs a MAC and a few lookups. The `Mac`
+ * is per thread, as it is not thread safe and costly to get.
+ */
+public final class GameTokenCodec {
+
+    public static final String ALGORITHM = "HmacSHA256";
+
+    public static final int MAC_BYTES = 16;
+
+    private static final byte FORMAT = 1;
+
+    private static final int HEADER_BYTES = 10;
+
+    private static final int CACHE_SIZE = 1024;
+
+    private final JumbleEngine engine;
+
+    private final ThreadLocal<Signer> signers;
+
+    private final AtomicReferenceArray<SubWords> subWordsCache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    /**
+     * @param engine The engine, whose dictionary the tokens refer to.
+     * @param key    The secret key, shared by all nodes.
+     * @throws IllegalArgumentException If `key` is empty.
+     */
+    public GameTokenCodec(JumbleEngine engine, byte[] key) {
+        if (key == null || key.length == 0) {
+            throw new IllegalArgumentException("Invalid key, expect at least 1 byte");
+        }
+        this.engine = engine;
+        SecretKeySpec spec = new SecretKeySpec(key, ALGORITHM);
+        this.signers = ThreadLocal.withInitial(() -> new Signer(spec));
+    }
+
+    /**
+     * Encodes `state` into a signed token.
+     *
+     * @param state     The game state, of sub words as generated by the engine.
+     * @param minLength The minimum length of sub words the game was created with.
+     * @return The token.
+     * @throws IllegalArgumentException If the word is not in the dictionary,
+     *                                  or the scramble or sub words do not
+     *                                  follow from it.
+     */
+    public String encode(GameState state, int minLength) {
+        Dictionary dictionary = engine.getDictionary();
+        String original = state.getOriginal();
+        int id = Collections.binarySearch(dictionary.getWords(), original);
+        if (id < 0 || original.length() > 0xff || minLength <= 0 || minLength > 0xff) {
+            throw new IllegalArgumentException("Invalid game=[" + state + "], expect dictionary word");
+        }
+        String[] subWords = subWords(dictionary, id, minLength);
+        Map<String, Boolean> guesses = state.getSubWords();
+        if (guesses.size() != subWords.length) {
+            throw new IllegalArgumentException("Invalid game=[" + state + "], expect " + subWords.length + " sub words");
+        }
+        int length = original.length();
+        byte[] token = new byte[HEADER_BYTES + length + (subWords.length + 7) / 8 + MAC_BYTES];
+        token[0] = FORMAT;
+        putInt(token, 1, (int) dictionary.getVersion());
+        putInt(token, 5, id);
+        token[9] = (byte) minLength;
+        String scramble = state.getScramble();
+        if (scramble == null || scramble.length() != length) {
+            throw new IllegalArgumentException("Invalid game=[" + state + "], expect scramble of the word");
+        }
+        boolean[] used = new boolean[length];
+        for (int ix = 0; ix < length; ix += 1) {
+            int at = 0;
+            while (at < length && (used[at] || original.charAt(at) != scramble.charAt(ix))) {
+                at += 1;
+            }
+            if (at == length) {
+                throw new IllegalArgumentException("Invalid game=[" + state + "], expect scramble of the word");
+            }
+            used[at] = true;
+            token[HEADER_BYTES + ix] = (byte) at;
+        }
+        int bits = HEADER_BYTES + length;
+        int ix = 0;
+        for (Map.Entry<String, Boolean> entry : guesses.entrySet()) {
+            if (!entry.getKey().equals(subWords[ix])) {
+                throw new IllegalArgumentException("Invalid game=[" + state + "], unexpected sub word=[" + entry.getKey() + "]");
+            }
+            if (entry.getValue() == Boolean.TRUE) {
+                token[bits + (ix >>> 3)] |= (byte) (1 << (ix & 7));
+            }
+            ix += 1;
+        }
+        signers.get().sign(token, token.length - MAC_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Decodes and verifies `token`.
+     *
+     * @param token The token.
+     * @return The game state, or null if `token` is malformed, not signed
+     * with the key, or of another dictionary version.
+     */
+    public GameState decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (bytes.length < HEADER_BYTES + MAC_BYTES || bytes[0] != FORMAT
+                || !signers.get().verify(bytes, bytes.length - MAC_BYTES)) {
+            return null;
+        }
+        Dictionary dictionary = engine.getDictionary();
+        int id = getInt(bytes, 5);
+        int minLength = bytes[9] & 0xff;
+        List<String> words = dictionary.getWords();
+        if (getInt(bytes, 1) != (int) dictionary.getVersion() || id < 0 || id >= words.size() || minLength == 0) {
+            return null;
+        }
+        String original = words.get(id);
+        int length = original.length();
+        String[] subWords = subWords(dictionary, id, minLength);
+        if (bytes.length != HEADER_BYTES + length + (subWords.length + 7) / 8 + MAC_BYTES) {
+            return null;
+        }
+        char[] scramble = new char[length];
+        for (int ix = 0; ix < length; ix += 1) {
+            int at = bytes[HEADER_BYTES + ix] & 0xff;
+            if (at >= length) {
+                return null;
+            }
+            scramble[ix] = original.charAt(at);
+        }
+        int bits = HEADER_BYTES + length;
+        Map<String, Boolean> guesses = new TreeMap<>();
+        for (int ix = 0; ix < subWords.length; ix += 1) {
+            guesses.put(subWords[ix], (bytes[bits + (ix >>> 3)] & (1 << (ix & 7))) != 0 ? Boolean.TRUE : Boolean.FALSE);
+        }
+        return new GameState(original, new String(scramble), guesses);
+    }
+
+    /*
+     * The sorted sub words of the word `id`, cached by (id, minLength).
+     * A racing miss computes them twice, and either is kept.
+     */
+    private String[] subWords(Dictionary dictionary, int id, int minLength) {
+        int slot = (id * 31 + minLength) & (CACHE_SIZE - 1);
+        SubWords cached = subWordsCache.get(slot);
+        if (cached != null && cached.id == id && cached.minLength == minLength && cached.version == dictionary.getVersion()) {
+            return cached.words;
+        }
+        String[] words = dictionary.getSubWordIndex().find(dictionary.getWords().get(id), minLength).toArray(new String[0]);
+        Arrays.sort(words);
+        subWordsCache.set(slot, new SubWords(dictionary.getVersion(), id, minLength, words));
+        return words;
+    }
+
+    private static void putInt(byte[] bytes, int at, int value) {
+        bytes[at] = (byte) (value >>> 24);
+        bytes[at + 1] = (byte) (value >>> 16);
+        bytes[at + 2] = (byte) (value >>> 8);
+        bytes[at + 3] = (byte) value;
+    }
+
+    private static int getInt(byte[] bytes, int at) {
+        return (bytes[at] & 0xff) << 24 | (bytes[at + 1] & 0xff) << 16 | (bytes[at + 2] & 0xff) << 8 | (bytes[at + 3] & 0xff);
+    }
+
+    private static final class SubWords {
+
+        private final long version;
+
+        private final int id;
+
+        private final int minLength;
+
+        private final String[] words;
+
+        private SubWords(long version, int id, int minLength, String[] words) {
+            this.version = version;
+            this.id = id;
+            this.minLength = minLength;
+            this.words = words;
+        }
+
+    }
+
+    /*
+     * Per thread MAC, with its digest buffer reused.
+     */
+    private static final class Signer {
+
+        private final Mac mac;
+
+        private final byte[] digest;
+
+        private Signer(SecretKeySpec spec) {
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+                this.mac.init(spec);
+            } catch (GeneralSecurityException e) {
+                throw new JumbleEngineException(e.getMessage(), e);
+            }
+            this.digest = new byte[mac.getMacLength()];
+        }
+
+        private void digest(byte[] bytes, int length) {
+            mac.update(bytes, 0, length);
+            try {
+                mac.doFinal(digest, 0);
+            } catch (GeneralSecurityException e) {
+                throw new JumbleEngineException(e.getMessage(), e);
+            }
+        }
+
+        void sign(byte[] bytes, int length) {
+            digest(bytes, length);
+            System.arraycopy(digest, 0, bytes, length, MAC_BYTES);
+        }
+
+        boolean verify(byte[] bytes, int length) {
+            digest(bytes, length);
+            int diff = 0;
+            for (int ix = 0; ix < MAC_BYTES; ix += 1) {
+                diff |= digest[ix] ^ bytes[length + ix];
+            }
+            return diff == 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,984 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import asia.fourtitude.interviewq.jumble.core.jfr.AnagramQueryEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.DidYouMeanEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.GameCreateEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.PatternQueryEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.PhraseAnagramEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.PositionQueryEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.PrefixQueryEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.RegexQueryEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.SearchEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.SubWordsEvent;
+import asia.fourtitude.interviewq.jumble.core.jfr.WordleEvent;
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+import asia.fourtitude.interviewq.jumble.util.Validator;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class JumbleEngine {
+
+    /**
+     * Default minimum length of sub words.
+     */
+    public static final int DEFAULT_MIN_LENGTH = 3;
+
+    /**
+     * Default seed length from which sub words are searched in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 12;
+
+    /**
+     * Default maximum number of DFA states of a compiled regex.
+     */
+    public static final int DEFAULT_MAX_REGEX_STATES = 1000;
+
+    private volatile Dictionary dictionary;
+
+    private volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private volatile int maxRegexStates = DEFAULT_MAX_REGEX_STATES;
+
+    /**
+     * Returns the internal word list/dictionary, loading it on first use.
+     *
+     * @return The loaded dictionary.
+     */
+    public Dictionary getDictionary() {
+        Dictionary dict = this.dictionary;
+        if (dict == null) {
+            synchronized (this) {
+                dict = this.dictionary;
+                if (dict == null) {
+                    dict = Dictionary.load(Dictionary.DEFAULT_RESOURCE);
+                    this.dictionary = dict;
+                }
+            }
+        }
+        return dict;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the seed length from which {@link #generateSubWords(String, Integer)}
+     * splits the search across the common ForkJoinPool. Shorter seeds are
+     * searched in the caller thread, as forking costs more than it saves.
+     *
+     * @param parallelThreshold The seed length, or Integer.MAX_VALUE to never fork.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold <= 0) {
+            throw new IllegalArgumentException("Invalid parallelThreshold=[" + parallelThreshold + "], expect positive integer");
+        }
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getMaxRegexStates() {
+        return maxRegexStates;
+    }
+
+    /**
+     * Sets the maximum number of DFA states a regex may compile into, see
+     * {@link #wordsMatchingRegex(String, Integer)}.
+     *
+     * @param maxRegexStates The maximum number of states.
+     */
+    public void setMaxRegexStates(int maxRegexStates) {
+        if (maxRegexStates <= 0) {
+            throw new IllegalArgumentException("Invalid maxRegexStates=[" + maxRegexStates + "], expect positive integer");
+        }
+        this.maxRegexStates = maxRegexStates;
+    }
+
+    /**
+     * The version of internal word list/dictionary. Any output derived from
+     * the word list (e.g. cached responses) should be keyed by this version.
+     *
+     * @return The dictionary version.
+     */
+    public long getDictionaryVersion() {
+        return getDictionary().getVersion();
+    }
+
+    /**
+     * Estimated heap bytes of the dictionary and the lookup indexes built so
+     * far, without triggering the load.
+     *
+     * @return The estimated bytes, or 0 if the dictionary is not loaded yet.
+     */
+    public long getIndexBytes() {
+        Dictionary dict = this.dictionary;
+        return dict == null ? 0L : dict.getEstimatedBytes();
+    }
+
+    /**
+     * From the input `word`, produces/generates a copy which has the same
+     * letters, but in different ordering.
+     * <p>
+     * Example: from "elephant" to "aeehlnpt".
+     * <p>
+     * Evaluation/Grading:
+     * a) pass unit test: JumbleEngineTest#scramble()
+     * b) scrambled letters/output must not be the same as input
+     *
+     * @param word The input word to scramble the letters.
+     * @return The scrambled output/letters.
+     */
+    public String scramble(String word) {
+        return shuffle(word, new SplittableRandom());
+    }
+
+    /**
+     * Scrambles the letters of `word` as {@link #scramble(String)}, drawing
+     * from `random`: the same `word` and generator seed always scramble the
+     * same.
+     *
+     * @param word   The input word to scramble the letters.
+     * @param random The random generator.
+     * @return The scrambled output/letters.
+     */
+    public String scramble(String word, SplittableRandom random) {
+        return shuffle(word, random);
+    }
+
+    /*
+     * Fisher-Yates shuffle, again while unchanged (unless all letters are
+     * the same, which cannot change).
+     */
+    private static String shuffle(String word, SplittableRandom random) {
+        char[] letters = word.toCharArray();
+        boolean same = true;
+        for (int ix = 1; ix < letters.length && same; ix += 1) {
+            same = letters[ix] == letters[0];
+        }
+        if (same) {
+            return word;
+        }
+        String scrambled;
+        do {
+            for (int ix = letters.length - 1; ix > 0; ix -= 1) {
+                int other = random.nextInt(ix + 1);
+                char letter = letters[ix];
+                letters[ix] = letters[other];
+                letters[other] = letter;
+            }
+            scrambled = new String(letters);
+        } while (scrambled.equals(word));
+        return scrambled;
+    }
+
+    /**
+     * Retrieves the palindrome words from the internal
+     * word list/dictionary ("src/main/resources/words.txt").
+     * <p>
+     * Word of single letter is not considered as valid palindrome word.
+     * <p>
+     * Examples: "eye", "deed", "level".
+     * <p>
+     * Evaluation/Grading:
+     * a) able to access/use resource from classpath
+     * b) using inbuilt Collections
+     * c) using "try-with-resources" functionality/statement
+     * d) pass unit test: JumbleEngineTest#palindrome()
+     *
+     * @return The list of palindrome words found in system/engine.
+     * @see https://www.google.com/search?q=palindrome+meaning
+     */
+    public Collection<String> retrievePalindromeWords() {
+        List<String> palindromes = new ArrayList<>();
+
+        // Use try-with-resources to read from the resource file
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(getClass().getClassLoader().getResourceAsStream("words.txt")))) {
+
+            palindromes = reader.lines() // Create a stream of lines
+                    .map(String::trim)
+                    .filter(word -> isPalindrome(word) && word.length() > 1) // Check for valid palindrome
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new JumbleEngineException(e.getMessage());
+        }
+
+        return palindromes;
+    }
+
+    // Helper method to check if a word is a palindrome
+    private boolean isPalindrome(String word) {
+        int left = 0;
+        int right = word.length() - 1;
+
+        while (left < right) {
+            if (word.charAt(left) != word.charAt(right)) {
+                return false;
+            }
+            left++;
+            right--;
+        }
+        return true;
+    }
+
+    /**
+     * Picks one word randomly from internal word list.
+     * <p>
+     * Evaluation/Grading:
+     * a) pass unit test: JumbleEngineTest#randomWord()
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param length The word picked, must of length.
+     * @return One of the word (randomly) from word list.
+     * Or null if none matching.
+     */
+    public String pickOneRandomWord(Integer length) {
+        List<String> words = loadWords(); // Load words from the file
+        Random random = new Random();
+
+        // If length is null, return a random word of any length
+        if (length == null) {
+            return words.get(random.nextInt(words.size()));
+        }
+
+        // Filter words by the specified length
+        List<String> filteredWords = new ArrayList<>();
+        for (String word : words) {
+            if (word.length() == length) {
+                filteredWords.add(word);
+            }
+        }
+
+        // Return a random word if there are matching words, or null if none found
+        if (!filteredWords.isEmpty()) {
+            return filteredWords.get(random.nextInt(filteredWords.size()));
+        }
+        return null; // No matching word found
+    }
+
+    private List<String> loadWords() {
+        List<String> wordList = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(getClass().getClassLoader().getResourceAsStream("words.txt")))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                wordList.add(line.trim());
+            }
+        } catch (IOException e) {
+            throw new JumbleEngineException(e.getMessage());
+        }
+        return wordList;
+    }
+
+    /**
+     * Checks if the `word` exists in internal word list.
+     * Matching is case insensitive.
+     * <p>
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param word The input word to check.
+     * @return true if `word` exists in internal word list.
+     */
+
+    public boolean exists(String word) {
+        // Check for null or empty input
+        if (word == null || word.trim().isEmpty()) {
+            return false;
+        }
+
+        // Check for existence in the dictionary (case insensitive)
+        return getDictionary().contains(word.trim().toLowerCase());
+    }
+
+    /**
+     * "Did you mean" suggestions: the words within edit distance
+     * `maxDistance` (insertions, deletions and substitutions) of `word`,
+     * closest first, then in alphabetical order. Matching is case insensitive,
+     * and `word` itself is left out.
+     * <p>
+     * Example: "wrod" within 1 edit is "prod", "rod", "trod" and "wood", and
+     * within 2 edits also "word" (a swap is two edits), ...
+     * <p>
+     * A {@link LevenshteinAutomaton} of `word` is walked over the dictionary
+     * trie (see {@link WordTrie}), skipping the subtrees whose prefix is
+     * already too far.
+     *
+     * @param word        The word.
+     * @param maxDistance The maximum edit distance, 1 to
+     *                    {@link LevenshteinAutomaton#MAX_DISTANCE}, or null for the maximum.
+     * @param limit       The maximum number of words, or null for all words.
+     * @return The list of close words. Or empty list if `word` is null,
+     * blank or too long.
+     * @throws IllegalArgumentException If `maxDistance` is out of range.
+     */
+    public List<String> didYouMean(String word, Integer maxDistance, Integer limit) {
+        DidYouMeanEvent event = new DidYouMeanEvent();
+        event.begin();
+        List<String> words = findDidYouMean(word, maxDistance, limit);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setWord(word);
+            event.setInputSize(word == null ? 0 : word.length());
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private List<String> findDidYouMean(String word, Integer maxDistance, Integer limit) {
+        int distance = maxDistance == null ? LevenshteinAutomaton.MAX_DISTANCE : maxDistance;
+        if (distance < 1 || distance > LevenshteinAutomaton.MAX_DISTANCE) {
+            throw new IllegalArgumentException("Invalid maxDistance=[" + maxDistance + "], expect 1 to "
+                    + LevenshteinAutomaton.MAX_DISTANCE);
+        }
+        if (word == null || word.trim().isEmpty() || (limit != null && limit <= 0)) {
+            return new ArrayList<>();
+        }
+        LevenshteinAutomaton automaton;
+        try {
+            automaton = LevenshteinAutomaton.of(word.trim(), distance);
+        } catch (IllegalArgumentException e) {
+            return new ArrayList<>();
+        }
+        return closest(automaton, getDictionary().getTrie().match(automaton, Integer.MAX_VALUE),
+                limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    /*
+     * Orders the `words` accepted by `automaton` by distance (stable, so
+     * alphabetical order within a distance), without the word itself.
+     */
+    static List<String> closest(LevenshteinAutomaton automaton, Collection<String> words, int limit) {
+        List<List<String>> byDistance = new ArrayList<>();
+        for (int distance = 0; distance <= automaton.getMaxDistance(); distance += 1) {
+            byDistance.add(new ArrayList<>());
+        }
+        for (String candidate : words) {
+            int distance = automaton.distance(candidate);
+            if (distance > 0) {
+                byDistance.get(distance).add(candidate);
+            }
+        }
+        List<String> closest = new ArrayList<>();
+        for (List<String> list : byDistance) {
+            for (int ix = 0; ix < list.size() && closest.size() < limit; ix += 1) {
+                closest.add(list.get(ix));
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Finds all the words from internal word list which begins with the
+     * input `prefix`.
+     * Matching is case insensitive.
+     * <p>
+     * Invalid `prefix` (null, empty string, blank string, non letter) will
+     * return empty list.
+     * <p>
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param prefix The prefix to match.
+     * @return The list of words matching the prefix.
+     */
+    public Collection<String> wordsMatchingPrefix(String prefix) {
+        PrefixQueryEvent event = new PrefixQueryEvent();
+        event.begin();
+        Collection<String> words = findWordsMatchingPrefix(prefix);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPrefix(prefix);
+            event.setInputSize(prefix == null ? 0 : prefix.length());
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private Collection<String> findWordsMatchingPrefix(String prefix) {
+        // Check for invalid prefix (null, empty, blank, or non-letter)
+        if (prefix == null || prefix.trim().isEmpty() || !prefix.matches("[a-zA-Z]+")) {
+            return new ArrayList<>(); // Return empty list for invalid prefix
+        }
+
+        // Binary search the range of words beginning with the prefix
+        return getDictionary().withPrefix(prefix.toLowerCase());
+    }
+
+    /**
+     * Finds all the words from internal word list matching the wildcard
+     * `pattern`, where `?` matches any single letter and `*` matches any run
+     * of letters (including none). Matching is case insensitive.
+     * <p>
+     * Example: "c?t*" matches "cat", "cut", "cats", "cutlery", ...
+     * <p>
+     * The pattern is walked over the dictionary trie (see {@link WordTrie}),
+     * skipping subtrees that cannot match, rather than scanning every word.
+     * Invalid `pattern` (null, blank, other than letters, `?` and `*`) will
+     * return empty list.
+     *
+     * @param pattern The wildcard pattern.
+     * @param limit   The maximum number of words, or null for all words.
+     * @return The list of matching words, in alphabetical order.
+     */
+    public List<String> wordsMatchingPattern(String pattern, Integer limit) {
+        PatternQueryEvent event = new PatternQueryEvent();
+        event.begin();
+        List<String> words = findWordsMatchingPattern(pattern, limit);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPattern(pattern);
+            event.setInputSize(pattern == null ? 0 : pattern.length());
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private List<String> findWordsMatchingPattern(String pattern, Integer limit) {
+        if (pattern == null || pattern.trim().isEmpty() || (limit != null && limit <= 0)) {
+            return new ArrayList<>();
+        }
+        WildcardPattern compiled;
+        try {
+            compiled = WildcardPattern.compile(pattern.trim());
+        } catch (IllegalArgumentException e) {
+            return new ArrayList<>();
+        }
+        return getDictionary().getTrie().match(compiled, limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    /**
+     * Finds all the words from internal word list fully matching the
+     * regular expression `regex`, case insensitive. Only a subset of regex
+     * syntax is supported, see {@link RegexAutomaton}.
+     * <p>
+     * Example: "[^aeiou]*y" matches "by", "cry", "dry", "fly", ...
+     * <p>
+     * The regex is compiled into a DFA, which is walked over the dictionary
+     * trie (see {@link WordTrie}), skipping subtrees without transitions.
+     *
+     * @param regex The regular expression.
+     * @param limit The maximum number of words, or null for all words.
+     * @return The list of matching words, in alphabetical order.
+     * Or empty list if `regex` is null or blank.
+     * @throws IllegalArgumentException If `regex` is invalid, unsupported,
+     *                                  or compiles to more than `maxRegexStates` states.
+     */
+    public List<String> wordsMatchingRegex(String regex, Integer limit) {
+        RegexQueryEvent event = new RegexQueryEvent();
+        event.begin();
+        int[] states = new int[1];
+        List<String> words = findWordsMatchingRegex(regex, limit, states);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setRegex(regex);
+            event.setStates(states[0]);
+            event.setInputSize(regex == null ? 0 : regex.length());
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private List<String> findWordsMatchingRegex(String regex, Integer limit, int[] states) {
+        if (regex == null || regex.trim().isEmpty() || (limit != null && limit <= 0)) {
+            return new ArrayList<>();
+        }
+        RegexAutomaton compiled = RegexAutomaton.compile(regex.trim(), this.maxRegexStates);
+        states[0] = compiled.size();
+        return getDictionary().getTrie().match(compiled, limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    /**
+     * Finds all the words from internal word list of `length`, having the
+     * given letters at the given positions (crossword style), case
+     * insensitive.
+     * <p>
+     * Example: `length` = 7, 2nd 'r' and 5th 'n' matches "arrange", "arsenal",
+     * "arsenic", "brained", ...
+     * <p>
+     * Each (length, position, letter) has a precomputed set of words in the
+     * {@link PositionIndex}, and the constraints are resolved by
+     * intersecting the sets, smallest first.
+     *
+     * @param length    The length of words. Invalid (null, not positive)
+     *                  will return empty list.
+     * @param lettersAt The letter at each position (1 based), none for all
+     *                  words of `length`.
+     * @param limit     The maximum number of words, or null for all words.
+     * @return The list of matching words, in alphabetical order.
+     * @throws IllegalArgumentException If a position is not within `length`,
+     *                                  or a letter not 'a' to 'z'.
+     */
+    public List<String> wordsWithLettersAt(Integer length, Map<Integer, Character> lettersAt, Integer limit) {
+        PositionQueryEvent event = new PositionQueryEvent();
+        event.begin();
+        List<String> words = findWordsWithLettersAt(length, lettersAt, limit);
+        event.end();
+        if (event.shouldCommit()) {
+            StringBuilder sb = new StringBuilder();
+            if (lettersAt != null) {
+                for (Map.Entry<Integer, Character> entry : new TreeMap<>(lettersAt).entrySet()) {
+                    sb.append(sb.length() == 0 ? "" : ",").append(entry.getKey()).append(entry.getValue());
+                }
+            }
+            event.setLength(length == null ? 0 : length);
+            event.setLetters(sb.toString());
+            event.setInputSize(lettersAt == null ? 0 : lettersAt.size());
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private List<String> findWordsWithLettersAt(Integer length, Map<Integer, Character> lettersAt, Integer limit) {
+        if (length == null || length <= 0 || (limit != null && limit <= 0)) {
+            return new ArrayList<>();
+        }
+        char[] letters = new char[length];
+        if (lettersAt != null) {
+            for (Map.Entry<Integer, Character> entry : lettersAt.entrySet()) {
+                Integer position = entry.getKey();
+                if (position == null || position < 1 || position > length) {
+                    throw new IllegalArgumentException("Invalid position=[" + position + "], expect 1 to " + length);
+                }
+                Character letter = entry.getValue();
+                if (letter == null || !Validator.isValidChar(letter)) {
+                    throw new IllegalArgumentException("Invalid letter=[" + letter + "] at position=[" + position + "], expect 'a' to 'z'");
+                }
+                letters[position - 1] = Character.toLowerCase(letter);
+            }
+        }
+        return getDictionary().getPositionIndex().find(length, letters, limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    /**
+     * Wordle style solving: from the `guesses` so far and their `feedbacks`,
+     * finds the remaining candidate words of `length`, and ranks the next
+     * guesses (any word of `length`) by expected information in bits.
+     * <p>
+     * Feedback has a letter per position: 'g' (green, right position), 'y'
+     * (yellow, elsewhere in the word) or 'b' (gray, not in the word), case
+     * insensitive. Example: guess "crane" with answer "cigar" is "gyybb".
+     * <p>
+     * See {@link WordleSolver}. Guesses are ranked in parallel on the
+     * common ForkJoinPool.
+     *
+     * @param length    The length of words, 2 to {@link WordleSolver#MAX_LENGTH}.
+     * @param guesses   The guesses so far, null or empty for the first guess.
+     * @param feedbacks The feedback of each guess.
+     * @param limit     The maximum number of suggestions, or null for 10.
+     * @return The candidates and suggestions.
+     * @throws IllegalArgumentException If `length`, a guess or a feedback is invalid.
+     */
+    public WordleSolver.Result wordle(Integer length, List<String> guesses, List<String> feedbacks, Integer limit) {
+        WordleEvent event = new WordleEvent();
+        event.begin();
+        WordleSolver.Result result = solveWordle(length, guesses, feedbacks, limit);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setLength(result.getLength());
+            event.setCandidates(result.getCandidates().size());
+            event.setInputSize(guesses == null ? 0 : guesses.size());
+            event.setResultSize(result.getSuggestions().size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return result;
+    }
+
+    private WordleSolver.Result solveWordle(Integer length, List<String> guesses, List<String> feedbacks, Integer limit) {
+        if (length == null) {
+            throw new IllegalArgumentException("Invalid length=[null], expect 2 to " + WordleSolver.MAX_LENGTH);
+        }
+        List<String> lowerGuesses = new ArrayList<>();
+        List<String> lowerFeedbacks = new ArrayList<>();
+        if (guesses != null) {
+            for (String guess : guesses) {
+                lowerGuesses.add(guess == null ? null : guess.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        if (feedbacks != null) {
+            for (String feedback : feedbacks) {
+                lowerFeedbacks.add(feedback == null ? null : feedback.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return WordleSolver.solve(getDictionary().getPositionIndex(), length, lowerGuesses, lowerFeedbacks,
+                limit == null ? 10 : limit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finds all the words from internal word list that is matching
+     * the searching criteria.
+     * <p>
+     * `startChar` and `endChar` must be 'a' to 'z' only. And case insensitive.
+     * `length`, if have value, must be positive integer (>= 1).
+     * <p>
+     * Words are filtered using `startChar` and `endChar` first.
+     * Then apply `length` on the result, to produce the final output.
+     * <p>
+     * Must have at least one valid value out of 3 inputs
+     * (`startChar`, `endChar`, `length`) to proceed with searching.
+     * Otherwise, return empty list.
+     * <p>
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param startChar The first character of the word to search for.
+     * @param endChar   The last character of the word to match with.
+     * @param length    The length of the word to match.
+     * @return The list of words matching the searching criteria.
+     */
+    public Collection<String> searchWords(Character startChar, Character endChar, Integer length) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        Collection<String> words = findWords(startChar, endChar, length);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setStartChar(startChar == null ? null : startChar.toString());
+            event.setEndChar(endChar == null ? null : endChar.toString());
+            event.setLength(length == null ? 0 : length);
+            event.setInputSize((startChar == null ? 0 : 1) + (endChar == null ? 0 : 1) + (length == null ? 0 : 1));
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private Collection<String> findWords(Character startChar, Character endChar, Integer length) {
+        // Load words into a set for fast lookup
+        List<String> wordSet = loadFromFile();
+
+        // Check for at least one valid input
+        boolean hasValidInput = Validator.isValidChar(startChar) || Validator.isValidChar(endChar) || (length != null && length >= 1);
+
+        if (!hasValidInput) {
+            return new ArrayList<>();
+        }
+
+        List<String> matchingWords = new ArrayList<>();
+
+        final Character finalStartChar = startChar == null ? null : Character.toLowerCase(startChar);
+        final Character finalEndChar = endChar == null ? null : Character.toLowerCase(endChar);
+
+        // all matches start and end character
+        matchingWords = wordSet.stream()
+                .map(String::toLowerCase)
+                .filter(word -> (startChar != null && word.charAt(0) == finalStartChar) ||
+                        (endChar != null && word.charAt(word.length() - 1) == finalEndChar) ||
+                        (length != null && word.length() == length))
+                .collect(Collectors.toList());
+
+        if (length != null) {
+            matchingWords = matchingWords.stream()
+                    .filter(word -> (startChar != null && endChar != null) && (word.charAt(0) == finalStartChar && word.charAt(word.length() - 1) == finalEndChar && word.length() == length) ||
+                            (startChar == null && endChar != null) && (word.charAt(word.length() - 1) == finalEndChar && word.length() == length) ||
+                            (startChar != null && endChar == null) && (word.charAt(0) == finalStartChar && word.length() == length) ||
+                            (startChar == null && endChar == null) && (word.length() == length))
+                    .collect(Collectors.toList());
+        }
+
+        if (length == null) {
+            matchingWords = matchingWords.stream()
+                    .filter(word -> (startChar != null && endChar != null) && (word.charAt(0) == finalStartChar && word.charAt(word.length() - 1) == finalEndChar) ||
+                            (startChar == null && endChar != null) && (word.charAt(word.length() - 1) == finalEndChar) ||
+                            (startChar != null && endChar == null) && (word.charAt(0) == finalStartChar))
+                    .collect(Collectors.toList());
+        }
+        return matchingWords;
+    }
+
+    private List<String> loadFromFile() {
+        List<String> wordSet = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(getClass().getClassLoader().getResourceAsStream("words.txt")))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                wordSet.add(line);
+            }
+        } catch (IOException e) {
+            e.printStackTrace(); // Handle the exception as needed
+        }
+        return wordSet;
+    }
+
+    /**
+     * Finds all the words from internal word list using exactly the input
+     * `letters`, in any order (including `letters` itself, if a word).
+     * Matching is case insensitive.
+     * <p>
+     * Example: from "listen", the anagrams:
+     * enlist, inlets, listen, silent, tinsel
+     * <p>
+     * Answered with one lookup of the letter signature in the
+     * {@link AnagramIndex}. Invalid `letters` (null, blank, non letter) will
+     * return empty list.
+     *
+     * @param letters The letters.
+     * @return The (read-only) list of anagrams, in alphabetical order.
+     */
+    public List<String> anagrams(String letters) {
+        AnagramQueryEvent event = new AnagramQueryEvent();
+        event.begin();
+        List<String> words = findAnagrams(letters);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setLetters(letters);
+            event.setInputSize(letters == null ? 0 : letters.length());
+            event.setResultSize(words.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return words;
+    }
+
+    private List<String> findAnagrams(String letters) {
+        if (letters == null || letters.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return getDictionary().getAnagramIndex().lookup(letters.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finds the ways to split the letters of `phrase` into two or more words
+     * (phrase anagrams), each at least `minLength` letters. Matching is case
+     * insensitive, and anything other than letters (e.g. spaces) is ignored.
+     * <p>
+     * Example: from "dormitory", one of the solutions: [dirty, room]
+     * <p>
+     * Solved by {@link PhraseAnagramSolver}. Solutions are streamed to the
+     * `consumer` as they are found (words in alphabetical order), until
+     * `limit` solutions or `budgetMillis` elapsed, whichever comes first.
+     *
+     * @param phrase       The phrase, of at most {@link PhraseAnagramSolver#MAX_LETTERS} letters.
+     * @param minLength    The minimum length (inclusive) of words.
+     *                     Default is 3.
+     * @param limit        The maximum number of solutions.
+     * @param budgetMillis The time budget in milliseconds.
+     * @param consumer     Receives each solution.
+     * @return How the search ended.
+     * @throws IllegalArgumentException If `phrase` has too many letters.
+     */
+    public PhraseAnagramSolver.Outcome phraseAnagrams(String phrase, Integer minLength, int limit,
+            long budgetMillis, Consumer<List<String>> consumer) {
+        PhraseAnagramEvent event = new PhraseAnagramEvent();
+        event.begin();
+        PhraseAnagramSolver solver = findPhraseAnagrams(phrase, minLength, limit, budgetMillis, consumer);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPhrase(phrase);
+            event.setOutcome(solver.getOutcome().name());
+            event.setCandidates(solver.getCandidates());
+            event.setNodes(solver.getNodes());
+            event.setInputSize(phrase == null ? 0 : phrase.length());
+            event.setResultSize(solver.getFound());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return solver.getOutcome();
+    }
+
+    private PhraseAnagramSolver findPhraseAnagrams(String phrase, Integer minLength, int limit,
+            long budgetMillis, Consumer<List<String>> consumer) {
+        if (minLength == null) {
+            minLength = DEFAULT_MIN_LENGTH;
+        }
+        String letters = phrase == null ? "" : phrase.toLowerCase(Locale.ROOT);
+        return PhraseAnagramSolver.solve(getDictionary().getSubWordIndex(), letters, minLength, limit,
+                budgetMillis, consumer);
+    }
+
+    /**
+     * Generates all possible combinations of smaller/sub words using the
+     * letters from input word.
+     * <p>
+     * The `minLength` set the minimum length of sub word that is considered
+     * as acceptable word.
+     * <p>
+     * If length of input `word` is less than `minLength`, then return empty list.
+     * <p>
+     * Example: From "yellow" and `minLength` = 3, the output sub words:
+     * low, lowly, lye, ole, owe, owl, well, welly, woe, yell, yeow, yew, yowl
+     * <p>
+     * Sub words are looked up in the letter count {@link SubWordIndex}, in
+     * sorted order. Seeds of at least `parallelThreshold` letters are
+     * searched in parallel (see {@link #setParallelThreshold(int)}).
+     * <p>
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param word      The input word to use as base/seed.
+     * @param minLength The minimum length (inclusive) of sub words.
+     *                  Expects positive integer.
+     *                  Default is 3.
+     * @return The list of sub words constructed from input `word`.
+     */
+    public List<String> generateSubWords(String word, Integer minLength) {
+        SubWordsEvent event = new SubWordsEvent();
+        event.begin();
+        List<String> subWords = findSubWords(word, minLength);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setWord(word);
+            event.setMinLength(minLength == null ? 0 : minLength);
+            event.setInputSize(word == null ? 0 : word.length());
+            event.setResultSize(subWords.size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return subWords;
+    }
+
+    private List<String> findSubWords(String word, Integer minLength) {
+        if (minLength == null) {
+            minLength = DEFAULT_MIN_LENGTH;
+        }
+        if (word == null || word.trim().isEmpty() || minLength <= 0) {
+            return Collections.emptyList();
+        }
+        String seed = word.trim().toLowerCase(Locale.ROOT);
+        if (seed.length() < minLength) {
+            return Collections.emptyList();
+        }
+        SubWordIndex index = getDictionary().getSubWordIndex();
+        if (seed.length() >= this.parallelThreshold) {
+            return index.find(seed, minLength, ForkJoinPool.commonPool());
+        }
+        return index.find(seed, minLength);
+    }
+
+    /**
+     * Creates a game state with word to guess, scrambled letters, and
+     * possible combinations of words.
+     * <p>
+     * Word is of length 6 characters.
+     * The minimum length of sub words is of length 3 characters.
+     *
+     * @param length    The length of selected word.
+     *                  Expects >= 3.
+     * @param minLength The minimum length (inclusive) of sub words.
+     *                  Expects positive integer.
+     *                  Default is 3.
+     * @return The game state.
+     */
+    public GameState createGameState(Integer length, Integer minLength) {
+        return createGameState(length, minLength, null);
+    }
+
+    /**
+     * Creates a game state, of a seed word sampled from the `difficulty`
+     * band of the {@link SeedIndex}: seeds with at least
+     * {@link SeedIndex#MIN_SUB_WORDS} sub words where possible, the easier
+     * the more sub words.
+     * <p>
+     * Words longer than {@link SeedIndex#MAX_SEED_LENGTH} letters are not
+     * rated, any word of the length is picked instead.
+     *
+     * @param length     The length of selected word.
+     *                   Expects >= 3.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Expects positive integer.
+     *                   Default is 3.
+     * @param difficulty The difficulty, or null for any.
+     * @return The game state.
+     */
+    public GameState createGameState(Integer length, Integer minLength, SeedIndex.Difficulty difficulty) {
+        return createGameState(length, minLength, difficulty, null);
+    }
+
+    /**
+     * Creates a game state as {@link #createGameState(Integer, Integer,
+     * SeedIndex.Difficulty)}, reproducibly when `seed` is given: the same
+     * (seed, length, minLength, difficulty) always yield the same word,
+     * scramble and sub words, on any node loaded with the same dictionary
+     * (version). E.g. the daily puzzle, seeded by the day.
+     * <p>
+     * The word and the scramble draw from their own splits of a
+     * {@link SplittableRandom}, whose sequence is fully specified by its
+     * seed, unlike the shared `Random` of `Collections.shuffle`.
+     *
+     * @param length     The length of selected word.
+     *                   Expects >= 3.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Expects positive integer.
+     *                   Default is 3.
+     * @param difficulty The difficulty, or null for any.
+     * @param seed       The seed, or null for a random game.
+     * @return The game state.
+     */
+    public GameState createGameState(Integer length, Integer minLength, SeedIndex.Difficulty difficulty, Long seed) {
+        GameCreateEvent event = new GameCreateEvent();
+        event.begin();
+        GameState state = newGameState(length, minLength, difficulty,
+                seed == null ? new SplittableRandom() : new SplittableRandom(seed));
+        event.end();
+        if (event.shouldCommit()) {
+            event.setWord(state.getOriginal());
+            event.setMinLength(minLength == null ? 0 : minLength);
+            event.setDifficulty(difficulty == null ? null : difficulty.name().toLowerCase(Locale.ROOT));
+            event.setSeeded(seed != null);
+            event.setInputSize(length);
+            event.setResultSize(state.getSubWords().size());
+            event.setDictionaryVersion(getDictionaryVersion());
+            event.commit();
+        }
+        return state;
+    }
+
+    private GameState newGameState(Integer length, Integer minLength, SeedIndex.Difficulty difficulty,
+            SplittableRandom random) {
+        Objects.requireNonNull(length, "length must not be null");
+        if (minLength == null) {
+            minLength = DEFAULT_MIN_LENGTH;
+        } else if (minLength <= 0) {
+            throw new IllegalArgumentException("Invalid minLength=[" + minLength + "], expect positive integer");
+        }
+        if (length < 3) {
+            throw new IllegalArgumentException("Invalid length=[" + length + "], expect greater than or equals 3");
+        }
+        if (minLength > length) {
+            throw new IllegalArgumentException("Expect minLength=[" + minLength + "] greater than length=[" + length + "]");
+        }
+        String original = pickWord(length, minLength, difficulty, random.split());
+        if (original == null) {
+            throw new IllegalArgumentException("Cannot find valid word to create game state");
+        }
+        String scramble = this.scramble(original, random.split());
+        Map<String, Boolean> subWords = new TreeMap<>();
+        for (String subWord : this.generateSubWords(original, minLength)) {
+            subWords.put(subWord, Boolean.FALSE);
+        }
+        return new GameState(original, scramble, subWords);
+    }
+
+    private String pickWord(int length, int minLength, SeedIndex.Difficulty difficulty, SplittableRandom random) {
+        String word = getDictionary().getSeedIndex().sample(length, minLength, difficulty, random);
+        if (word == null) {
+            List<String> words = getDictionary().getPositionIndex().ofLength(length);
+            word = words.isEmpty() ? null : words.get(random.nextInt(words.size()));
+        }
+        return word;
+    }
+
+}
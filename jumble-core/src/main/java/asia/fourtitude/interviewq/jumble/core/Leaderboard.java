@@ -0,0 +1,206 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Best score of each player, with top-N and rank-of-player queries.
+ * <p>
+ * Three structures, each concurrent:
+ * <ul>
+ * <li>player to best score, in a concurrent map, which also serializes the
+ * updates of one player (never of two players);</li>
+ * <li>(score descending, player) entries in a skip list, so the top N are
+ * the first N, in O(log n + N);</li>
+ * <li>the number of players of each score in a Fenwick tree of atomic
+ * counters, so the rank (1 + players of a higher score) is O(log
+ * {@link #MAX_SCORE}).</li>
+ * </ul>
+ * Queries take no lock; while a player is being updated, they may see the
+ * old or the new score of the player.
+ */
+public class Leaderboard {
+
+    /**
+     * Scores are clamped to [0, MAX_SCORE].
+     */
+    public static final int MAX_SCORE = 65535;
+
+    public static final class Entry implements Comparable<Entry> {
+
+        private final String player;
+
+        private final int score;
+
+        private final long rank;
+
+        Entry(String player, int score, long rank) {
+            this.player = player;
+            this.score = score;
+            this.rank = rank;
+        }
+
+        public String getPlayer() {
+            return player;
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * 1 + the number of players of a higher score; tied players share
+         * the rank.
+         */
+        public long getRank() {
+            return rank;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byScore = Integer.compare(other.score, this.score);
+            return byScore != 0 ? byScore : this.player.compareTo(other.player);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return score == other.score && player.equals(other.player);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * player.hashCode() + score;
+        }
+
+        @Override
+        public String toString() {
+            return "rank=[" + rank + "], player=[" + player + "], score=[" + score + ']';
+        }
+
+    }
+
+    private final ConcurrentHashMap<String, Integer> scores = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>();
+
+    /* 1-based Fenwick tree, index score + 1 */
+    private final AtomicLongArray counts = new AtomicLongArray(MAX_SCORE + 2);
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Records `score` of `player`, if better than the player's best.
+     *
+     * @param player The player.
+     * @param score  The score, clamped to [0, {@link #MAX_SCORE}].
+     * @return true if a new best of the player.
+     */
+    public boolean submit(String player, int score) {
+        Objects.requireNonNull(player, "player must not be null");
+        int clamped = Math.max(0, Math.min(MAX_SCORE, score));
+        int[] previous = { -1 };
+        boolean[] improved = new boolean[1];
+        this.scores.compute(player, (key, best) -> {
+            if (best != null && best >= clamped) {
+                return best;
+            }
+            this.ranking.add(new Entry(player, clamped, 0L));
+            add(clamped, 1L);
+            if (best == null) {
+                this.size.incrementAndGet();
+            } else {
+                previous[0] = best;
+            }
+            improved[0] = true;
+            return clamped;
+        });
+        /*
+         * The old entry goes out after the map has the new score, so top()
+         * (listing only entries matching the map) always sees one of them.
+         */
+        if (previous[0] >= 0) {
+            this.ranking.remove(new Entry(player, previous[0], 0L));
+            add(previous[0], -1L);
+        }
+        return improved[0];
+    }
+
+    private void add(int score, long delta) {
+        for (int ix = score + 1; ix < this.counts.length(); ix += ix & -ix) {
+            this.counts.addAndGet(ix, delta);
+        }
+    }
+
+    /* number of players of a score <= `score` */
+    private long countAtMost(int score) {
+        long count = 0L;
+        for (int ix = score + 1; ix > 0; ix -= ix & -ix) {
+            count += this.counts.get(ix);
+        }
+        return count;
+    }
+
+    private long rankOf(int score) {
+        return 1L + countAtMost(MAX_SCORE) - countAtMost(score);
+    }
+
+    /**
+     * @param player The player.
+     * @return The best score of `player`, or null if none.
+     */
+    public Integer getScore(String player) {
+        return player == null ? null : this.scores.get(player);
+    }
+
+    /**
+     * @param player The player.
+     * @return The entry of `player`, or null if none.
+     */
+    public Entry getEntry(String player) {
+        Integer score = getScore(player);
+        return score == null ? null : new Entry(player, score, rankOf(score));
+    }
+
+    /**
+     * @param limit The maximum number of entries.
+     * @return The best players, highest score first, then by name.
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        Iterator<Entry> it = this.ranking.iterator();
+        long rank = 0L;
+        int previous = -1;
+        while (entries.size() < limit && it.hasNext()) {
+            Entry entry = it.next();
+            // may be stale while the player is being updated
+            Integer best = this.scores.get(entry.player);
+            if (best == null || best != entry.score) {
+                continue;
+            }
+            if (entry.score != previous) {
+                rank = rankOf(entry.score);
+                previous = entry.score;
+            }
+            entries.add(new Entry(entry.player, entry.score, rank));
+        }
+        return entries;
+    }
+
+    /**
+     * The number of players.
+     */
+    public int size() {
+        return this.size.get();
+    }
+
+}
@@ -0,0 +1,166 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Locale;
+
+/**
+ * Levenshtein automaton: accepts the words within an edit distance
+ * (insertions, deletions and substitutions) of at most
+ * {@link #MAX_DISTANCE} from a word, for "did you mean" suggestions.
+ * <p>
+ * The automaton is simulated as a bit parallel NFA (Wu and Manber): one bit
+ * set of word positions reached per number of edits, all packed in the
+ * state, so a step is a few shifts and masks. Walked over the dictionary
+ * {@link WordTrie}, only the prefixes still within the distance are
+ * visited, instead of comparing with every word.
+ */
+public final class LevenshteinAutomaton implements WordAutomaton {
+
+    public static final int MAX_DISTANCE = 2;
+
+    private final String word;
+
+    private final int length;
+
+    private final int maxDistance;
+
+    /* bits per row (positions 0 to `length`), and their mask */
+    private final int width;
+
+    private final long rowMask;
+
+    /* `letterMasks[c]`: bit `ix + 1` set if the letter at `ix` is 'a' + c */
+    private final long[] letterMasks = new long[SubWordIndex.LETTERS];
+
+    private LevenshteinAutomaton(String word, int maxDistance) {
+        this.word = word;
+        this.length = word.length();
+        this.maxDistance = maxDistance;
+        this.width = length + 1;
+        this.rowMask = (1L << width) - 1L;
+        for (int ix = 0; ix < length; ix += 1) {
+            int c = word.charAt(ix) - 'a';
+            if (c >= 0 && c < letterMasks.length) {
+                letterMasks[c] |= 1L << (ix + 1);
+            }
+        }
+    }
+
+    /**
+     * Compiles the automaton of `word`, case insensitive.
+     *
+     * @param word        The word.
+     * @param maxDistance The maximum edit distance, 1 to {@link #MAX_DISTANCE}.
+     * @return The automaton.
+     * @throws IllegalArgumentException If `maxDistance` is out of range, or
+     *                                  `word` is empty or too long to pack
+     *                                  the state in a long.
+     */
+    public static LevenshteinAutomaton of(String word, int maxDistance) {
+        if (maxDistance < 1 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("Invalid maxDistance=[" + maxDistance + "], expect 1 to " + MAX_DISTANCE);
+        }
+        int maxLength = 63 / (maxDistance + 1) - 1;
+        if (word == null || word.isEmpty() || word.length() > maxLength) {
+            throw new IllegalArgumentException("Invalid word=[" + word + "], expect 1 to " + maxLength + " letters");
+        }
+        return new LevenshteinAutomaton(word.toLowerCase(Locale.ROOT), maxDistance);
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    private long row(long state, int edits) {
+        return (state >>> (edits * width)) & rowMask;
+    }
+
+    /*
+     * With `edits` edits, the first `edits` letters may already be deleted.
+     */
+    @Override
+    public long start() {
+        long state = 0L;
+        for (int edits = 0; edits <= maxDistance; edits += 1) {
+            state |= ((1L << (edits + 1)) - 1L) << (edits * width);
+        }
+        return state;
+    }
+
+    /*
+     * Row `e` advances on a match, and from row `e - 1` by a substitution
+     * (advance), an insertion (stay) or a deletion (advance, without
+     * consuming, from the new row `e - 1`).
+     */
+    @Override
+    public long step(long state, char letter) {
+        int c = letter - 'a';
+        long match = c >= 0 && c < letterMasks.length ? letterMasks[c] : 0L;
+        long previous = row(state, 0);
+        long nextPrevious = (previous << 1) & match;
+        long next = nextPrevious;
+        for (int edits = 1; edits <= maxDistance; edits += 1) {
+            long current = row(state, edits);
+            long nextCurrent = (((current << 1) & match) | previous | (previous << 1) | (nextPrevious << 1)) & rowMask;
+            next |= nextCurrent << (edits * width);
+            previous = current;
+            nextPrevious = nextCurrent;
+        }
+        return next == 0L ? DEAD : next;
+    }
+
+    @Override
+    public boolean isAccept(long state) {
+        return distance(state) >= 0;
+    }
+
+    /**
+     * The fewest edits of an accepting `state`, or -1 if not accepting.
+     */
+    public int distance(long state) {
+        for (int edits = 0; edits <= maxDistance; edits += 1) {
+            if (((row(state, edits) >>> length) & 1L) != 0L) {
+                return edits;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The edit distance from `other` to the word, or -1 if more than the
+     * maximum distance. Stops as soon as the automaton dies.
+     */
+    public int distance(CharSequence other) {
+        long state = start();
+        for (int ix = 0; ix < other.length() && state != DEAD; ix += 1) {
+            state = step(state, other.charAt(ix));
+        }
+        return state == DEAD ? -1 : distance(state);
+    }
+
+    /*
+     * From position `ix` with `e` edits, the remaining letters less the
+     * deletions left are needed. Highest positions need the least.
+     */
+    @Override
+    public int minRemaining(long state) {
+        int min = Integer.MAX_VALUE;
+        for (int edits = 0; edits <= maxDistance; edits += 1) {
+            long row = row(state, edits);
+            if (row != 0L) {
+                int position = 63 - Long.numberOfLeadingZeros(row);
+                min = Math.min(min, Math.max(0, length - position - (maxDistance - edits)));
+            }
+        }
+        return min;
+    }
+
+    @Override
+    public String toString() {
+        return word + '~' + maxDistance;
+    }
+
+}
@@ -0,0 +1,411 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Finds the ways to split the letters of a phrase into two or more
+ * dictionary words (phrase anagrams), e.g. "dormitory" into "dirty room".
+ * <p>
+ * The search is a depth first search over the remaining letter counts:
+ * <ul>
+ * <li>Candidates are the sub words of the phrase ({@link SubWordIndex}),
+ * grouped by letter signature, so anagram words (e.g. "post", "spot",
+ * "stop") are searched once and only expanded into words on a solution.</li>
+ * <li>Signatures are ordered by their rarest letter first, and picked in
+ * non decreasing order (each multiset once). A branch is pruned as soon as
+ * a remaining letter has no candidate left at or after the current one.</li>
+ * <li>Remaining letter counts that failed (no solution) from a candidate
+ * onwards are memoized, as they fail from any later candidate too.</li>
+ * </ul>
+ * Solutions are passed to the consumer as they are found, until `limit`
+ * solutions or the time budget.
+ */
+public final class PhraseAnagramSolver {
+
+    /**
+     * Phrases are limited to this many letters, so that letter counts fit
+     * in 4-bit lanes of the memo key.
+     */
+    public static final int MAX_LETTERS = 32;
+
+    private static final int MAX_COUNT = 15;
+
+    private static final int CLOCK_CHECK_MASK = 1023;
+
+    /**
+     * How the search ended.
+     */
+    public enum Outcome {
+        /** All solutions were found. */
+        COMPLETE,
+        /** Stopped after `limit` solutions. */
+        LIMIT,
+        /** Stopped at the time budget. */
+        BUDGET
+    }
+
+    private final int[] remaining = new int[SubWordIndex.LETTERS];
+
+    /* candidate signatures, in search order */
+    private final List<String[]> groups = new ArrayList<>();
+
+    /* `letters[ix]`/`counts[ix]`: the distinct letters of candidate `ix` and their counts */
+    private int[][] letters;
+
+    private int[][] counts;
+
+    private long[] lows;
+
+    private long[] highs;
+
+    private int[] lengths;
+
+    /* `lastIndex[c]`: the last candidate having letter 'a' + c, or -1 */
+    private final int[] lastIndex = new int[SubWordIndex.LETTERS];
+
+    private final FailMemo memo = new FailMemo();
+
+    private final int[] path = new int[MAX_LETTERS];
+
+    private final int limit;
+
+    private final long deadline;
+
+    private final Consumer<List<String>> consumer;
+
+    private int found;
+
+    private long nodes;
+
+    private Outcome outcome = Outcome.COMPLETE;
+
+    private PhraseAnagramSolver(int limit, long budgetMillis, Consumer<List<String>> consumer) {
+        this.limit = limit;
+        this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.consumer = consumer;
+    }
+
+    /**
+     * Checks that lower case `phrase` can be solved.
+     *
+     * @param phrase The phrase.
+     * @throws IllegalArgumentException If `phrase` has more than
+     *                                  {@link #MAX_LETTERS} letters, or a
+     *                                  letter more than 15 times.
+     */
+    public static void checkPhrase(String phrase) {
+        letterCounts(phrase);
+    }
+
+    private static int[] letterCounts(String phrase) {
+        int[] counts = new int[SubWordIndex.LETTERS];
+        int letters = 0;
+        for (int ix = 0; ix < phrase.length(); ix += 1) {
+            char c = phrase.charAt(ix);
+            if (c >= 'a' && c <= 'z') {
+                counts[c - 'a'] += 1;
+                letters += 1;
+            }
+        }
+        if (letters > MAX_LETTERS) {
+            throw new IllegalArgumentException("Invalid phrase=[" + phrase + "], expect at most " + MAX_LETTERS + " letters");
+        }
+        for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+            if (counts[c] > MAX_COUNT) {
+                throw new IllegalArgumentException("Invalid phrase=[" + phrase + "], expect each letter at most " + MAX_COUNT + " times");
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Solves the phrase anagrams of lower case `phrase`, ignoring anything
+     * other than 'a' to 'z' (e.g. spaces).
+     *
+     * @param index        The sub word index of the dictionary.
+     * @param phrase       The phrase.
+     * @param minLength    The minimum length of words.
+     * @param limit        The maximum number of solutions.
+     * @param budgetMillis The time budget.
+     * @param consumer     Receives each solution (words in alphabetical order).
+     * @return The solver, to query the outcome and statistics.
+     * @throws IllegalArgumentException If `phrase` can not be solved, see {@link #checkPhrase(String)}.
+     */
+    public static PhraseAnagramSolver solve(SubWordIndex index, String phrase, int minLength, int limit,
+            long budgetMillis, Consumer<List<String>> consumer) {
+        int[] counts = letterCounts(phrase);
+        PhraseAnagramSolver solver = new PhraseAnagramSolver(limit, budgetMillis, consumer);
+        StringBuilder seed = new StringBuilder(MAX_LETTERS);
+        for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+            solver.remaining[c] = counts[c];
+            for (int jx = 0; jx < counts[c]; jx += 1) {
+                seed.append((char) ('a' + c));
+            }
+        }
+        if (seed.length() == 0 || limit <= 0) {
+            return solver;
+        }
+        solver.prepare(index.find(seed.toString(), Math.max(1, minLength)));
+        solver.search(SubWordIndex.pack(counts, 0), SubWordIndex.pack(counts, SubWordIndex.LANES),
+                seed.length(), 0, 0);
+        return solver;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public int getCandidates() {
+        return groups.size();
+    }
+
+    /*
+     * Groups the sub words by letter signature, then orders the signatures
+     * by the rank of their rarest letter (fewest signatures having it),
+     * then longest first.
+     */
+    private void prepare(List<String> subWords) {
+        Map<String, List<String>> bySignature = new HashMap<>();
+        for (String word : subWords) {
+            char[] chars = word.toCharArray();
+            Arrays.sort(chars);
+            bySignature.computeIfAbsent(new String(chars), key -> new ArrayList<>()).add(word);
+        }
+        int[] frequency = new int[SubWordIndex.LETTERS];
+        for (String signature : bySignature.keySet()) {
+            for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+                if (signature.indexOf('a' + c) >= 0) {
+                    frequency[c] += 1;
+                }
+            }
+        }
+        List<String> signatures = new ArrayList<>(bySignature.keySet());
+        Comparator<String> byRarest = Comparator.comparingInt(signature -> rarest(signature, frequency));
+        signatures.sort(byRarest.thenComparing(Comparator.comparingInt(String::length).reversed())
+                .thenComparing(Comparator.naturalOrder()));
+
+        int size = signatures.size();
+        letters = new int[size][];
+        counts = new int[size][];
+        lows = new long[size];
+        highs = new long[size];
+        lengths = new int[size];
+        Arrays.fill(lastIndex, -1);
+        int[] wordCounts = new int[SubWordIndex.LETTERS];
+        for (int ix = 0; ix < size; ix += 1) {
+            String signature = signatures.get(ix);
+            groups.add(bySignature.get(signature).toArray(new String[0]));
+            SubWordIndex.count(signature, wordCounts);
+            lows[ix] = SubWordIndex.pack(wordCounts, 0);
+            highs[ix] = SubWordIndex.pack(wordCounts, SubWordIndex.LANES);
+            lengths[ix] = signature.length();
+            int distinct = 0;
+            for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+                distinct += wordCounts[c] > 0 ? 1 : 0;
+            }
+            letters[ix] = new int[distinct];
+            counts[ix] = new int[distinct];
+            int jx = 0;
+            for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+                if (wordCounts[c] > 0) {
+                    letters[ix][jx] = c;
+                    counts[ix][jx] = wordCounts[c];
+                    lastIndex[c] = ix;
+                    jx += 1;
+                }
+            }
+        }
+    }
+
+    /*
+     * The rank of the rarest letter of `signature`: by frequency, then by
+     * letter, so that the signatures of a letter stay contiguous.
+     */
+    private static int rarest(String signature, int[] frequency) {
+        int rarest = Integer.MAX_VALUE;
+        for (int ix = 0; ix < signature.length(); ix += 1) {
+            int c = signature.charAt(ix) - 'a';
+            rarest = Math.min(rarest, frequency[c] * SubWordIndex.LETTERS + c);
+        }
+        return rarest;
+    }
+
+    /**
+     * Searches the remaining letters (`low`/`high` packed, `left` letters)
+     * with candidates from `start`, with `depth` words picked so far.
+     *
+     * @return true if at least one solution was found, or the search stopped.
+     */
+    private boolean search(long low, long high, int left, int start, int depth) {
+        if (left == 0) {
+            if (depth >= 2) {
+                emit(depth, 0, new String[depth], 0);
+                return true;
+            }
+            return false;
+        }
+        nodes += 1;
+        if ((nodes & CLOCK_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            outcome = Outcome.BUDGET;
+        }
+        if (outcome != Outcome.COMPLETE || depth == path.length) {
+            return outcome != Outcome.COMPLETE;
+        }
+        for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+            if (remaining[c] > 0 && lastIndex[c] < start) {
+                return false;
+            }
+        }
+        if (memo.failsFrom(low, high) <= start) {
+            return false;
+        }
+        boolean solved = false;
+        for (int ix = start; ix < groups.size() && outcome == Outcome.COMPLETE; ix += 1) {
+            if (lengths[ix] > left || !fits(ix)) {
+                continue;
+            }
+            take(ix, -1);
+            path[depth] = ix;
+            solved |= search(low - lows[ix], high - highs[ix], left - lengths[ix], ix, depth + 1);
+            take(ix, 1);
+        }
+        if (!solved && outcome == Outcome.COMPLETE) {
+            memo.fail(low, high, start);
+        }
+        return solved;
+    }
+
+    private boolean fits(int ix) {
+        int[] candidateLetters = letters[ix];
+        int[] candidateCounts = counts[ix];
+        for (int jx = 0; jx < candidateLetters.length; jx += 1) {
+            if (remaining[candidateLetters[jx]] < candidateCounts[jx]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void take(int ix, int sign) {
+        int[] candidateLetters = letters[ix];
+        int[] candidateCounts = counts[ix];
+        for (int jx = 0; jx < candidateLetters.length; jx += 1) {
+            remaining[candidateLetters[jx]] += sign * candidateCounts[jx];
+        }
+    }
+
+    /*
+     * Expands the signature path into words: the cartesian product of the
+     * groups, with non decreasing words where a signature repeats.
+     */
+    private void emit(int depth, int position, String[] words, int from) {
+        if (outcome != Outcome.COMPLETE) {
+            return;
+        }
+        if (position == depth) {
+            List<String> solution = new ArrayList<>(Arrays.asList(words));
+            Collections.sort(solution);
+            consumer.accept(solution);
+            found += 1;
+            if (found >= limit) {
+                outcome = Outcome.LIMIT;
+            }
+            return;
+        }
+        String[] group = groups.get(path[position]);
+        boolean repeated = position + 1 < depth && path[position + 1] == path[position];
+        for (int ix = from; ix < group.length; ix += 1) {
+            words[position] = group[ix];
+            emit(depth, position + 1, words, repeated ? ix : 0);
+        }
+    }
+
+    /**
+     * Remaining letter counts (two packed longs) to the lowest candidate
+     * index from which they are known to have no solution. Open addressing
+     * over primitive arrays.
+     */
+    private static final class FailMemo {
+
+        private static final long EMPTY = -1L;
+
+        private long[] lows = new long[1024];
+
+        private long[] highs = new long[1024];
+
+        private int[] starts = new int[1024];
+
+        private int size;
+
+        FailMemo() {
+            Arrays.fill(lows, EMPTY);
+        }
+
+        private int slot(long[] keys, long[] otherKeys, long low, long high) {
+            long hash = (low * 0x9E3779B97F4A7C15L) ^ (high * 0xC2B2AE3D27D4EB4FL);
+            int mask = keys.length - 1;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (keys[slot] != EMPTY && (keys[slot] != low || otherKeys[slot] != high)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        int failsFrom(long low, long high) {
+            int slot = slot(lows, highs, low, high);
+            return lows[slot] == EMPTY ? Integer.MAX_VALUE : starts[slot];
+        }
+
+        void fail(long low, long high, int start) {
+            int slot = slot(lows, highs, low, high);
+            if (lows[slot] == EMPTY) {
+                if ((size + 1) * 2 > lows.length) {
+                    grow();
+                    slot = slot(lows, highs, low, high);
+                }
+                lows[slot] = low;
+                highs[slot] = high;
+                starts[slot] = start;
+                size += 1;
+            } else {
+                starts[slot] = Math.min(starts[slot], start);
+            }
+        }
+
+        private void grow() {
+            long[] oldLows = lows;
+            long[] oldHighs = highs;
+            int[] oldStarts = starts;
+            lows = new long[oldLows.length * 2];
+            highs = new long[oldLows.length * 2];
+            starts = new int[oldLows.length * 2];
+            Arrays.fill(lows, EMPTY);
+            for (int ix = 0; ix < oldLows.length; ix += 1) {
+                if (oldLows[ix] != EMPTY) {
+                    int slot = slot(lows, highs, oldLows[ix], oldHighs[ix]);
+                    lows[slot] = oldLows[ix];
+                    highs[slot] = oldHighs[ix];
+                    starts[slot] = oldStarts[ix];
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,336 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Positional letter index: from (length, position, letter) to the set of
+ * words having the letter at the position, for crossword style queries
+ * (e.g. 7 letters, 2nd 'r' and 5th 'n').
+ * <p>
+ * Words are bucketed by length, in dictionary order, and identified by
+ * their index in the bucket. Each set is a compressed bitmap container, as
+ * in Roaring bitmaps: a sorted array of 16-bit ids while sparse (at most
+ * {@link #ARRAY_MAX_SIZE} ids), or a plain bitmap over the bucket when
+ * dense. Constraints resolve by intersecting the sets, smallest first, so
+ * a selective query costs about the size of its smallest set, whatever
+ * the size of the dictionary.
+ */
+public final class PositionIndex {
+
+    /**
+     * Sets of more ids are stored as bitmaps (an array of 4096 chars is as
+     * large as a bitmap over 65536 ids).
+     */
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    private static final int MAX_ARRAY_BUCKET = 1 << 16;
+
+    /* `buckets[length]`: the words of the length, in dictionary order */
+    private final String[][] buckets;
+
+    /* set of (length, position, letter) at `(offsets[length] + position) * 26 + letter` */
+    private final int[] offsets;
+
+    private final int[] cardinalities;
+
+    /* `arrays[set]` (sorted ids) or `bitmaps[set]`, the other is null */
+    private final char[][] arrays;
+
+    private final long[][] bitmaps;
+
+    private PositionIndex(String[][] buckets, int[] offsets) {
+        this.buckets = buckets;
+        this.offsets = offsets;
+        int sets = offsets[offsets.length - 1] * SubWordIndex.LETTERS;
+        this.cardinalities = new int[sets];
+        this.arrays = new char[sets][];
+        this.bitmaps = new long[sets][];
+    }
+
+    /**
+     * Builds the index of lower case, sorted and distinct `sorted` words.
+     * Other than 'a' to 'z' at a position (if any) are left out of the sets.
+     */
+    static PositionIndex build(String[] sorted) {
+        return build(sorted, ARRAY_MAX_SIZE);
+    }
+
+    /*
+     * Builds with sets of more than `arrayMaxSize` ids as bitmaps.
+     */
+    static PositionIndex build(String[] sorted, int arrayMaxSize) {
+        int maxLength = 0;
+        for (String word : sorted) {
+            maxLength = Math.max(maxLength, word.length());
+        }
+        int[] sizes = new int[maxLength + 1];
+        for (String word : sorted) {
+            sizes[word.length()] += 1;
+        }
+        String[][] buckets = new String[maxLength + 1][];
+        int[] offsets = new int[maxLength + 2];
+        for (int length = 0; length <= maxLength; length += 1) {
+            buckets[length] = new String[sizes[length]];
+            offsets[length + 1] = offsets[length] + length;
+            sizes[length] = 0;
+        }
+        for (String word : sorted) {
+            buckets[word.length()][sizes[word.length()]] = word;
+            sizes[word.length()] += 1;
+        }
+
+        PositionIndex index = new PositionIndex(buckets, offsets);
+        for (int length = 1; length <= maxLength; length += 1) {
+            String[] bucket = buckets[length];
+            for (String word : bucket) {
+                for (int position = 0; position < length; position += 1) {
+                    int set = index.set(length, position, word.charAt(position));
+                    if (set >= 0) {
+                        index.cardinalities[set] += 1;
+                    }
+                }
+            }
+            for (int set = offsets[length] * SubWordIndex.LETTERS; set < offsets[length + 1] * SubWordIndex.LETTERS; set += 1) {
+                if (index.cardinalities[set] <= arrayMaxSize && bucket.length <= MAX_ARRAY_BUCKET) {
+                    index.arrays[set] = new char[index.cardinalities[set]];
+                } else {
+                    index.bitmaps[set] = new long[(bucket.length + 63) >>> 6];
+                }
+                index.cardinalities[set] = 0;
+            }
+            for (int id = 0; id < bucket.length; id += 1) {
+                for (int position = 0; position < length; position += 1) {
+                    int set = index.set(length, position, bucket[id].charAt(position));
+                    if (set >= 0) {
+                        if (index.arrays[set] != null) {
+                            index.arrays[set][index.cardinalities[set]] = (char) id;
+                        } else {
+                            index.bitmaps[set][id >>> 6] |= 1L << id;
+                        }
+                        index.cardinalities[set] += 1;
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    private int set(int length, int position, char letter) {
+        int c = letter - 'a';
+        if (c < 0 || c >= SubWordIndex.LETTERS) {
+            return -1;
+        }
+        return (offsets[length] + position) * SubWordIndex.LETTERS + c;
+    }
+
+    /**
+     * The longest word length.
+     */
+    public int getMaxLength() {
+        return buckets.length - 1;
+    }
+
+    /**
+     * The words of `length`, in dictionary order (the length bucket).
+     *
+     * @param length The length.
+     * @return The (read-only) list of words, or empty list if none.
+     */
+    public List<String> ofLength(int length) {
+        if (length <= 0 || length >= buckets.length) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(buckets[length]));
+    }
+
+    /**
+     * Finds the words of `length` having the lower case letters at their
+     * positions.
+     *
+     * @param length  The length of words.
+     * @param letters `letters[ix]` is the letter at position `ix` (0 based),
+     *                or 0 for any letter. Of `length` at most.
+     * @param limit   The maximum number of words.
+     * @return The matching words, in dictionary order.
+     */
+    public List<String> find(int length, char[] letters, int limit) {
+        if (length <= 0 || length >= buckets.length || letters.length > length || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String[] bucket = buckets[length];
+        int[] sets = new int[letters.length];
+        int count = 0;
+        for (int position = 0; position < letters.length; position += 1) {
+            if (letters[position] != 0) {
+                int set = set(length, position, letters[position]);
+                if (set < 0) {
+                    return Collections.emptyList();
+                }
+                sets[count] = set;
+                count += 1;
+            }
+        }
+        if (count == 0) {
+            return ofLength(length).subList(0, Math.min(limit, bucket.length));
+        }
+
+        /*
+         * Smallest set first (insertion sort, as there are few): it drives
+         * the intersection, the others are only probed.
+         */
+        for (int ix = 1; ix < count; ix += 1) {
+            int set = sets[ix];
+            int jx = ix - 1;
+            while (jx >= 0 && cardinalities[sets[jx]] > cardinalities[set]) {
+                sets[jx + 1] = sets[jx];
+                jx -= 1;
+            }
+            sets[jx + 1] = set;
+        }
+        List<String> found = new ArrayList<>();
+        if (arrays[sets[0]] != null) {
+            intersectArray(bucket, sets, count, limit, found);
+        } else {
+            intersectBitmaps(bucket, sets, count, limit, found);
+        }
+        return found;
+    }
+
+    /*
+     * Probes each id of the smallest (array) set in the other sets: a bit
+     * test for bitmaps, and a galloping search for arrays, resumed from the
+     * previous id as ids only increase.
+     */
+    private void intersectArray(String[] bucket, int[] sets, int count, int limit, List<String> found) {
+        char[] smallest = arrays[sets[0]];
+        int[] cursors = new int[count];
+        for (int ix = 0; ix < smallest.length && found.size() < limit; ix += 1) {
+            int id = smallest[ix];
+            boolean all = true;
+            for (int jx = 1; jx < count && all; jx += 1) {
+                char[] array = arrays[sets[jx]];
+                if (array == null) {
+                    all = (bitmaps[sets[jx]][id >>> 6] & (1L << id)) != 0L;
+                } else {
+                    cursors[jx] = advance(array, cursors[jx], id);
+                    if (cursors[jx] == array.length) {
+                        return;
+                    }
+                    all = array[cursors[jx]] == id;
+                }
+            }
+            if (all) {
+                found.add(bucket[id]);
+            }
+        }
+    }
+
+    /*
+     * The index of the first id at least `id` in `array`, from `from`:
+     * doubles the step, then binary searches the last step.
+     */
+    private static int advance(char[] array, int from, int id) {
+        int lo = from;
+        int step = 1;
+        while (lo + step < array.length && array[lo + step] < id) {
+            lo += step;
+            step <<= 1;
+        }
+        if (lo < array.length && array[lo] >= id) {
+            return lo;
+        }
+        int hi = Math.min(array.length, lo + step + 1);
+        lo += 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] < id) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /*
+     * All sets are dense: ANDs the bitmaps a word (64 ids) at a time.
+     */
+    private void intersectBitmaps(String[] bucket, int[] sets, int count, int limit, List<String> found) {
+        int words = bitmaps[sets[0]].length;
+        for (int wx = 0; wx < words && found.size() < limit; wx += 1) {
+            long bits = bitmaps[sets[0]][wx];
+            for (int jx = 1; jx < count && bits != 0L; jx += 1) {
+                bits &= bitmaps[sets[jx]][wx];
+            }
+            while (bits != 0L && found.size() < limit) {
+                found.add(bucket[(wx << 6) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1L;
+            }
+        }
+    }
+
+    /**
+     * The set of (length, position, letter) as a new bitmap over the length
+     * bucket (bit `id` set for word `ofLength(length).get(id)`).
+     *
+     * @param length   The length, of at least one word.
+     * @param position The position (0 based), less than `length`.
+     * @param letter   The lower case letter.
+     * @return The bitmap, all clear if `letter` is not 'a' to 'z'.
+     */
+    long[] bitmap(int length, int position, char letter) {
+        long[] bitmap = new long[(buckets[length].length + 63) >>> 6];
+        int set = set(length, position, letter);
+        if (set < 0) {
+            return bitmap;
+        }
+        if (arrays[set] == null) {
+            System.arraycopy(bitmaps[set], 0, bitmap, 0, bitmap.length);
+        } else {
+            for (char id : arrays[set]) {
+                bitmap[id >>> 6] |= 1L << id;
+            }
+        }
+        return bitmap;
+    }
+
+    /*
+     * The number of sets stored as arrays (sparse) and as bitmaps (dense).
+     */
+    int[] containerCounts() {
+        int[] counts = new int[2];
+        for (int set = 0; set < cardinalities.length; set += 1) {
+            counts[arrays[set] != null ? 0 : 1] += 1;
+        }
+        return counts;
+    }
+
+    /**
+     * Estimated heap bytes of the buckets and the sets (the words are shared
+     * with the dictionary).
+     */
+    long getEstimatedBytes() {
+        long bytes = 6L * 16L + 4L * offsets.length + 12L * cardinalities.length;
+        for (String[] bucket : buckets) {
+            bytes += 16L + 4L * bucket.length;
+        }
+        for (int set = 0; set < cardinalities.length; set += 1) {
+            if (arrays[set] != null) {
+                bytes += (16L + 2L * arrays[set].length + 7L) & ~7L;
+            } else {
+                bytes += 16L + 8L * bitmaps[set].length;
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        int[] counts = containerCounts();
+        return "lengths=[" + (buckets.length - 1) + "], arrays=[" + counts[0] + "], bitmaps=[" + counts[1] + ']';
+    }
+
+}
@@ -0,0 +1,543 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Regular expression of a supported subset, compiled into a DFA over the
+ * letters 'a' to 'z', to be walked over the dictionary {@link WordTrie}.
+ * <p>
+ * Supported syntax, case insensitive, always matching the whole word:
+ * <ul>
+ * <li>letters, `.` (any letter), classes `[aeiou]`, `[a-m]`, `[^aeiou]`</li>
+ * <li>groups `(...)` and `(?:...)`, alternation `|`</li>
+ * <li>quantifiers `*`, `+`, `?`, `{n}`, `{n,}`, `{n,m}` (at most {@link #MAX_REPEAT})</li>
+ * <li>optional anchors `^` and `$`, which are implied anyway</li>
+ * </ul>
+ * <p>
+ * The regex is parsed into a Thompson NFA, then determinized by subset
+ * construction. Determinizing may blow up exponentially (e.g. "[ab]*a[ab]{20}"),
+ * so it fails once the DFA exceeds `maxStates`. States that cannot reach
+ * an accepting state are removed, so the trie walk prunes those subtrees.
+ */
+public final class RegexAutomaton implements WordAutomaton {
+
+    public static final int MAX_LENGTH = 256;
+
+    public static final int MAX_REPEAT = 32;
+
+    public static final int MAX_NFA_STATES = 4096;
+
+    private static final int LETTERS = SubWordIndex.LETTERS;
+
+    private static final int ALL_LETTERS = (1 << LETTERS) - 1;
+
+    private final String regex;
+
+    /* `transitions[state * LETTERS + letter]`, -1 if dead */
+    private final int[] transitions;
+
+    private final boolean[] accepts;
+
+    /* letters to the nearest accepting state */
+    private final int[] minRemaining;
+
+    private RegexAutomaton(String regex, int[] transitions, boolean[] accepts, int[] minRemaining) {
+        this.regex = regex;
+        this.transitions = transitions;
+        this.accepts = accepts;
+        this.minRemaining = minRemaining;
+    }
+
+    /**
+     * Compiles `regex` into a DFA of at most `maxStates` states.
+     *
+     * @param regex     The regular expression.
+     * @param maxStates The maximum number of DFA states.
+     * @return The compiled automaton.
+     * @throws IllegalArgumentException If `regex` is invalid, unsupported,
+     *                                  or needs more than `maxStates` states.
+     */
+    public static RegexAutomaton compile(String regex, int maxStates) {
+        if (regex == null || regex.isEmpty() || regex.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid regex=[" + regex + "], expect 1 to " + MAX_LENGTH + " characters");
+        }
+        Nfa nfa = new Nfa(regex);
+        int[] fragment = new Parser(regex.toLowerCase(Locale.ROOT), nfa).parse();
+        return determinize(regex, nfa, fragment[0], fragment[1], maxStates);
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    public int size() {
+        return accepts.length;
+    }
+
+    @Override
+    public long start() {
+        return accepts.length == 0 ? DEAD : 0L;
+    }
+
+    @Override
+    public long step(long state, char letter) {
+        int c = letter - 'a';
+        if (c < 0 || c >= LETTERS) {
+            return DEAD;
+        }
+        int next = transitions[(int) state * LETTERS + c];
+        return next < 0 ? DEAD : next;
+    }
+
+    @Override
+    public boolean isAccept(long state) {
+        return accepts[(int) state];
+    }
+
+    @Override
+    public int minRemaining(long state) {
+        return minRemaining[(int) state];
+    }
+
+    @Override
+    public String toString() {
+        return "regex=[" + regex + "], states=[" + accepts.length + ']';
+    }
+
+    private static RegexAutomaton determinize(String regex, Nfa nfa, int start, int accept, int maxStates) {
+        Map<BitSet, Integer> ids = new HashMap<>();
+        List<BitSet> states = new ArrayList<>();
+        List<int[]> rows = new ArrayList<>();
+        BitSet initial = new BitSet(nfa.size);
+        initial.set(start);
+        nfa.close(initial);
+        ids.put(initial, 0);
+        states.add(initial);
+        for (int id = 0; id < states.size(); id += 1) {
+            BitSet current = states.get(id);
+            int[] row = new int[LETTERS];
+            for (int c = 0; c < LETTERS; c += 1) {
+                BitSet next = new BitSet(nfa.size);
+                for (int s = current.nextSetBit(0); s >= 0; s = current.nextSetBit(s + 1)) {
+                    if ((nfa.masks[s] & (1 << c)) != 0) {
+                        next.set(nfa.targets[s]);
+                    }
+                }
+                if (next.isEmpty()) {
+                    row[c] = -1;
+                    continue;
+                }
+                nfa.close(next);
+                Integer nextId = ids.get(next);
+                if (nextId == null) {
+                    if (states.size() == maxStates) {
+                        throw new IllegalArgumentException("Invalid regex=[" + regex + "], expect at most " + maxStates + " DFA states");
+                    }
+                    nextId = states.size();
+                    ids.put(next, nextId);
+                    states.add(next);
+                }
+                row[c] = nextId;
+            }
+            rows.add(row);
+        }
+
+        /*
+         * Distance (in letters) to the nearest accepting state, by breadth
+         * first search over reversed transitions. Unreachable states are dead.
+         */
+        int count = states.size();
+        boolean[] accepts = new boolean[count];
+        int[] distances = new int[count];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        List<List<Integer>> predecessors = new ArrayList<>(count);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int id = 0; id < count; id += 1) {
+            predecessors.add(new ArrayList<>());
+            if (states.get(id).get(accept)) {
+                accepts[id] = true;
+                distances[id] = 0;
+                queue.add(id);
+            }
+        }
+        for (int id = 0; id < count; id += 1) {
+            for (int next : rows.get(id)) {
+                if (next >= 0) {
+                    predecessors.get(next).add(id);
+                }
+            }
+        }
+        while (!queue.isEmpty()) {
+            int target = queue.poll();
+            for (int id : predecessors.get(target)) {
+                if (distances[id] == Integer.MAX_VALUE) {
+                    distances[id] = distances[target] + 1;
+                    queue.add(id);
+                }
+            }
+        }
+        if (distances[0] == Integer.MAX_VALUE) {
+            return new RegexAutomaton(regex, new int[0], new boolean[0], new int[0]);
+        }
+        int[] transitions = new int[count * LETTERS];
+        for (int id = 0; id < count; id += 1) {
+            int[] row = rows.get(id);
+            for (int c = 0; c < LETTERS; c += 1) {
+                int next = row[c];
+                transitions[id * LETTERS + c] = next >= 0 && distances[next] != Integer.MAX_VALUE ? next : -1;
+            }
+        }
+        return new RegexAutomaton(regex, transitions, accepts, distances);
+    }
+
+    /**
+     * Thompson NFA: a state either moves on a letter set (`masks`, to
+     * `targets`), or has up to two epsilon moves.
+     */
+    private static final class Nfa {
+
+        private final String regex;
+
+        int size;
+
+        int[] masks = new int[64];
+
+        int[] targets = new int[64];
+
+        int[] epsilon1 = new int[64];
+
+        int[] epsilon2 = new int[64];
+
+        Nfa(String regex) {
+            this.regex = regex;
+        }
+
+        int add() {
+            if (size == MAX_NFA_STATES) {
+                throw new IllegalArgumentException("Invalid regex=[" + regex + "], expect at most " + MAX_NFA_STATES + " NFA states");
+            }
+            if (size == masks.length) {
+                masks = Arrays.copyOf(masks, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+                epsilon1 = Arrays.copyOf(epsilon1, size * 2);
+                epsilon2 = Arrays.copyOf(epsilon2, size * 2);
+            }
+            targets[size] = -1;
+            epsilon1[size] = -1;
+            epsilon2[size] = -1;
+            size += 1;
+            return size - 1;
+        }
+
+        void epsilon(int from, int to) {
+            if (epsilon1[from] < 0) {
+                epsilon1[from] = to;
+            } else {
+                epsilon2[from] = to;
+            }
+        }
+
+        void close(BitSet states) {
+            Deque<Integer> stack = new ArrayDeque<>();
+            for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+                stack.push(s);
+            }
+            while (!stack.isEmpty()) {
+                int s = stack.pop();
+                push(states, stack, epsilon1[s]);
+                push(states, stack, epsilon2[s]);
+            }
+        }
+
+    }
+
+    private static void push(BitSet states, Deque<Integer> stack, int next) {
+        if (next >= 0 && !states.get(next)) {
+            states.set(next);
+            stack.push(next);
+        }
+    }
+
+    /**
+     * Recursive descent parser of the regex into an AST, which is then
+     * emitted into the NFA as fragments of {start, accept} states. The AST
+     * is kept, as bounded repeats emit their operand more than once.
+     */
+    private static final class Parser {
+
+        private final String regex;
+
+        private final Nfa nfa;
+
+        private int pos;
+
+        Parser(String regex, Nfa nfa) {
+            this.regex = regex;
+            this.nfa = nfa;
+        }
+
+        int[] parse() {
+            if (peek('^')) {
+                pos += 1;
+            }
+            Node node = alternation();
+            if (peek('$')) {
+                pos += 1;
+            }
+            if (pos != regex.length()) {
+                throw error("unexpected '" + regex.charAt(pos) + "'");
+            }
+            return node.emit(nfa);
+        }
+
+        private boolean peek(char c) {
+            return pos < regex.length() && regex.charAt(pos) == c;
+        }
+
+        private IllegalArgumentException error(String reason) {
+            return new IllegalArgumentException("Invalid regex=[" + regex + "] at " + pos + ", " + reason);
+        }
+
+        private Node alternation() {
+            List<Node> options = new ArrayList<>();
+            options.add(concatenation());
+            while (peek('|')) {
+                pos += 1;
+                options.add(concatenation());
+            }
+            return options.size() == 1 ? options.get(0) : Node.of(Node.ALTERNATION, options);
+        }
+
+        private Node concatenation() {
+            List<Node> parts = new ArrayList<>();
+            while (pos < regex.length() && !peek('|') && !peek(')') && !peek('$')) {
+                parts.add(repetition());
+            }
+            return Node.of(Node.CONCATENATION, parts);
+        }
+
+        private Node repetition() {
+            Node node = atom();
+            while (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                if (c == '*') {
+                    node = Node.repeat(node, 0, -1);
+                } else if (c == '+') {
+                    node = Node.repeat(node, 1, -1);
+                } else if (c == '?') {
+                    node = Node.repeat(node, 0, 1);
+                } else if (c == '{') {
+                    node = bounds(node);
+                    continue;
+                } else {
+                    break;
+                }
+                pos += 1;
+            }
+            return node;
+        }
+
+        private Node bounds(Node node) {
+            pos += 1;
+            int min = number();
+            int max = min;
+            if (peek(',')) {
+                pos += 1;
+                max = peek('}') ? -1 : number();
+            }
+            if (!peek('}')) {
+                throw error("expect '}'");
+            }
+            pos += 1;
+            if (min > MAX_REPEAT || max > MAX_REPEAT || (max >= 0 && max < min)) {
+                throw error("expect repeat bounds of 0 to " + MAX_REPEAT);
+            }
+            return Node.repeat(node, min, max);
+        }
+
+        private int number() {
+            int start = pos;
+            while (pos < regex.length() && Character.isDigit(regex.charAt(pos)) && pos - start < 3) {
+                pos += 1;
+            }
+            if (start == pos) {
+                throw error("expect number");
+            }
+            return Integer.parseInt(regex.substring(start, pos));
+        }
+
+        private Node atom() {
+            char c = regex.charAt(pos);
+            if (c == '(') {
+                pos += 1;
+                if (regex.startsWith("?:", pos)) {
+                    pos += 2;
+                }
+                Node node = alternation();
+                if (!peek(')')) {
+                    throw error("expect ')'");
+                }
+                pos += 1;
+                return node;
+            }
+            if (c == '[') {
+                return Node.letters(characterClass());
+            }
+            if (c == '.') {
+                pos += 1;
+                return Node.letters(ALL_LETTERS);
+            }
+            if (c >= 'a' && c <= 'z') {
+                pos += 1;
+                return Node.letters(1 << (c - 'a'));
+            }
+            throw error("unsupported '" + c + "'");
+        }
+
+        private int characterClass() {
+            pos += 1;
+            boolean negate = peek('^');
+            if (negate) {
+                pos += 1;
+            }
+            int mask = 0;
+            while (pos < regex.length() && !peek(']')) {
+                char from = regex.charAt(pos);
+                if (from < 'a' || from > 'z') {
+                    throw error("expect letters in class");
+                }
+                char to = from;
+                if (pos + 2 < regex.length() && regex.charAt(pos + 1) == '-' && regex.charAt(pos + 2) != ']') {
+                    to = regex.charAt(pos + 2);
+                    if (to < from || to > 'z') {
+                        throw error("invalid range");
+                    }
+                    pos += 2;
+                }
+                for (char letter = from; letter <= to; letter += 1) {
+                    mask |= 1 << (letter - 'a');
+                }
+                pos += 1;
+            }
+            if (!peek(']')) {
+                throw error("expect ']'");
+            }
+            pos += 1;
+            return negate ? ~mask & ALL_LETTERS : mask;
+        }
+
+    }
+
+    private static final class Node {
+
+        static final int LETTERS = 0;
+
+        static final int CONCATENATION = 1;
+
+        static final int ALTERNATION = 2;
+
+        static final int REPEAT = 3;
+
+        final int type;
+
+        final int mask;
+
+        final List<Node> children;
+
+        final int min;
+
+        final int max;
+
+        private Node(int type, int mask, List<Node> children, int min, int max) {
+            this.type = type;
+            this.mask = mask;
+            this.children = children;
+            this.min = min;
+            this.max = max;
+        }
+
+        static Node letters(int mask) {
+            return new Node(LETTERS, mask, null, 0, 0);
+        }
+
+        static Node of(int type, List<Node> children) {
+            return new Node(type, 0, children, 0, 0);
+        }
+
+        /* `max` of -1 is unbounded */
+        static Node repeat(Node child, int min, int max) {
+            List<Node> children = new ArrayList<>(1);
+            children.add(child);
+            return new Node(REPEAT, 0, children, min, max);
+        }
+
+        int[] emit(Nfa nfa) {
+            int start = nfa.add();
+            int accept;
+            if (type == LETTERS) {
+                accept = nfa.add();
+                nfa.masks[start] = mask;
+                nfa.targets[start] = accept;
+            } else if (type == CONCATENATION) {
+                accept = start;
+                for (Node child : children) {
+                    int[] fragment = child.emit(nfa);
+                    nfa.epsilon(accept, fragment[0]);
+                    accept = fragment[1];
+                }
+            } else if (type == ALTERNATION) {
+                accept = nfa.add();
+                int split = start;
+                for (int ix = 0; ix < children.size(); ix += 1) {
+                    int[] fragment = children.get(ix).emit(nfa);
+                    nfa.epsilon(split, fragment[0]);
+                    nfa.epsilon(fragment[1], accept);
+                    if (ix < children.size() - 1) {
+                        int next = nfa.add();
+                        nfa.epsilon(split, next);
+                        split = next;
+                    }
+                }
+            } else {
+                accept = start;
+                Node child = children.get(0);
+                for (int ix = 0; ix < min; ix += 1) {
+                    int[] fragment = child.emit(nfa);
+                    nfa.epsilon(accept, fragment[0]);
+                    accept = fragment[1];
+                }
+                if (max < 0) {
+                    int[] fragment = child.emit(nfa);
+                    int loop = nfa.add();
+                    int exit = nfa.add();
+                    nfa.epsilon(accept, loop);
+                    nfa.epsilon(loop, fragment[0]);
+                    nfa.epsilon(loop, exit);
+                    nfa.epsilon(fragment[1], loop);
+                    accept = exit;
+                } else {
+                    int end = nfa.add();
+                    for (int ix = min; ix < max; ix += 1) {
+                        int[] fragment = child.emit(nfa);
+                        nfa.epsilon(accept, fragment[0]);
+                        nfa.epsilon(accept, end);
+                        accept = fragment[1];
+                    }
+                    nfa.epsilon(accept, end);
+                    accept = end;
+                }
+            }
+            return new int[] { start, accept };
+        }
+
+    }
+
+}
@@ -0,0 +1,356 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Difficulty rated game seeds: the number of sub words of every candidate
+ * seed word ({@link #MIN_SEED_LENGTH} to {@link #MAX_SEED_LENGTH} letters
+ * 'a' to 'z') at each minimum sub word length, so that games are created
+ * from seeds with enough sub words, at a wanted {@link Difficulty}.
+ * <p>
+ * The sub words of a seed are the words spelled with a sub multiset of its
+ * letters. Rather than scanning the dictionary for each seed, the sub
+ * multisets are enumerated (at most 2^length) and looked up in the
+ * {@link AnagramIndex}, which counts the sub words by length: the counts at
+ * every minimum length then follow from one enumeration. Seeds are counted
+ * in parallel, in fork/join slices. Seeds are at most 8 letters (at most
+ * 256 sub multisets each), as the enumeration doubles with every letter.
+ * <p>
+ * For each (length, minLength), the seeds with at least
+ * {@link #MIN_SUB_WORDS} sub words (or, if too few, with any) are ordered
+ * by count, most first, and split in thirds: {@link Difficulty#EASY},
+ * {@link Difficulty#MEDIUM} and {@link Difficulty#HARD}. The fewer the sub
+ * words, the fewer common ones to find. Sampling a band is one random index.
+ */
+public final class SeedIndex {
+
+    public static final int MIN_SEED_LENGTH = 3;
+
+    public static final int MAX_SEED_LENGTH = 8;
+
+    /**
+     * Seeds of fewer sub words are left out, unless no seed has that many.
+     */
+    public static final int MIN_SUB_WORDS = 5;
+
+    /* seeds per fork/join slice */
+    private static final int SLICE = 1024;
+
+    public enum Difficulty {
+
+        EASY, MEDIUM, HARD;
+
+        /**
+         * Parses `value`, case insensitive.
+         *
+         * @param value The difficulty name, or null or blank for any difficulty.
+         * @return The difficulty, or null for any.
+         * @throws IllegalArgumentException If `value` is not a difficulty.
+         */
+        public static Difficulty parse(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return null;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid difficulty=[" + value + "], expect easy, medium or hard");
+            }
+        }
+
+    }
+
+    private final String[] sorted;
+
+    /* `seeds[length][minLength]`: word ids by sub word count, most first */
+    private final int[][][] seeds;
+
+    /* `counts[length][minLength][ix]`: sub words of `seeds[length][minLength][ix]` */
+    private final int[][][] counts;
+
+    private SeedIndex(String[] sorted, int[][][] seeds, int[][][] counts) {
+        this.sorted = sorted;
+        this.seeds = seeds;
+        this.counts = counts;
+    }
+
+    /**
+     * Builds the seeds of lower case, sorted and distinct `sorted` words.
+     *
+     * @param sorted   The words.
+     * @param anagrams The anagram index of `sorted`.
+     * @param pool     The pool to count the seeds in, or null for the caller thread.
+     */
+    static SeedIndex build(String[] sorted, AnagramIndex anagrams, ForkJoinPool pool) {
+        int[] candidates = new int[sorted.length];
+        int size = 0;
+        int[] letters = new int[SubWordIndex.LETTERS];
+        for (int id = 0; id < sorted.length; id += 1) {
+            int length = sorted[id].length();
+            if (length >= MIN_SEED_LENGTH && length <= MAX_SEED_LENGTH && SubWordIndex.count(sorted[id], letters)) {
+                candidates[size] = id;
+                size += 1;
+            }
+        }
+        candidates = Arrays.copyOf(candidates, size);
+
+        /* `histograms[ix * (MAX_SEED_LENGTH + 1) + length]`: sub words of the length */
+        int[] histograms = new int[size * (MAX_SEED_LENGTH + 1)];
+        Count count = new Count(sorted, anagrams, candidates, histograms, 0, size);
+        if (pool == null) {
+            count.compute();
+        } else {
+            pool.invoke(count);
+        }
+
+        int[][][] seeds = new int[MAX_SEED_LENGTH + 1][][];
+        int[][][] counts = new int[MAX_SEED_LENGTH + 1][][];
+        for (int length = MIN_SEED_LENGTH; length <= MAX_SEED_LENGTH; length += 1) {
+            int[] ofLength = new int[size];
+            int seedCount = 0;
+            for (int ix = 0; ix < size; ix += 1) {
+                if (sorted[candidates[ix]].length() == length) {
+                    ofLength[seedCount] = ix;
+                    seedCount += 1;
+                }
+            }
+            /* sub words of at least `minLength`, from the longest down */
+            int[] totals = new int[seedCount];
+            seeds[length] = new int[length + 1][];
+            counts[length] = new int[length + 1][];
+            for (int minLength = length; minLength >= 1; minLength -= 1) {
+                for (int sx = 0; sx < seedCount; sx += 1) {
+                    totals[sx] += histograms[ofLength[sx] * (MAX_SEED_LENGTH + 1) + minLength];
+                }
+                rank(candidates, ofLength, totals, seedCount, length, minLength, seeds, counts);
+            }
+        }
+        return new SeedIndex(sorted, seeds, counts);
+    }
+
+    /*
+     * Orders the seeds of `length` by their `totals` of sub words of at
+     * least `minLength` letters, most first (then in dictionary order), as
+     * long keys of inverted count and id.
+     */
+    private static void rank(int[] candidates, int[] ofLength, int[] totals, int seedCount, int length,
+            int minLength, int[][][] seeds, int[][][] counts) {
+        long[] keys = new long[seedCount];
+        int size = 0;
+        int qualified = 0;
+        for (int sx = 0; sx < seedCount; sx += 1) {
+            if (totals[sx] > 0) {
+                keys[size] = ((long) (Integer.MAX_VALUE - totals[sx]) << 32) | candidates[ofLength[sx]];
+                size += 1;
+                if (totals[sx] >= MIN_SUB_WORDS) {
+                    qualified += 1;
+                }
+            }
+        }
+        Arrays.sort(keys, 0, size);
+        if (qualified >= Difficulty.values().length) {
+            size = qualified;
+        }
+        int[] ids = new int[size];
+        int[] subWords = new int[size];
+        for (int ix = 0; ix < size; ix += 1) {
+            ids[ix] = (int) keys[ix];
+            subWords[ix] = Integer.MAX_VALUE - (int) (keys[ix] >>> 32);
+        }
+        seeds[length][minLength] = ids;
+        counts[length][minLength] = subWords;
+    }
+
+    /**
+     * Picks a random seed of `length` letters, with sub words of at least
+     * `minLength` letters, in the band of `difficulty`.
+     *
+     * @param length     The length of seed.
+     * @param minLength  The minimum length of sub words.
+     * @param difficulty The difficulty, or null for any.
+     * @param random     The random generator.
+     * @return The seed, or null if no seed of `length` has sub words of `minLength`.
+     */
+    public String sample(int length, int minLength, Difficulty difficulty, SplittableRandom random) {
+        int[] ids = group(length, minLength);
+        if (ids.length == 0) {
+            return null;
+        }
+        int from = 0;
+        int to = ids.length;
+        if (difficulty != null && ids.length >= Difficulty.values().length) {
+            int bands = Difficulty.values().length;
+            from = ids.length * difficulty.ordinal() / bands;
+            to = ids.length * (difficulty.ordinal() + 1) / bands;
+        }
+        return sorted[ids[from + random.nextInt(to - from)]];
+    }
+
+    private int[] group(int length, int minLength) {
+        if (length < MIN_SEED_LENGTH || length > MAX_SEED_LENGTH || minLength < 1 || minLength > length) {
+            return new int[0];
+        }
+        return seeds[length][minLength];
+    }
+
+    /**
+     * The number of seeds of `length` letters, with sub words of at least
+     * `minLength` letters.
+     */
+    public int size(int length, int minLength) {
+        return group(length, minLength).length;
+    }
+
+    /**
+     * The number of rated seeds, of any length.
+     */
+    public int size() {
+        int total = 0;
+        for (int length = MIN_SEED_LENGTH; length <= MAX_SEED_LENGTH; length += 1) {
+            total += seeds[length][1].length;
+        }
+        return total;
+    }
+
+    /**
+     * The difficulty score of `seed` with sub words of at least `minLength`
+     * letters: its rank by sub words, from 0 (most sub words) to 1 (fewest).
+     *
+     * @param seed      The lower case seed.
+     * @param minLength The minimum length of sub words.
+     * @return The score, or -1 if `seed` is not a rated seed.
+     */
+    public double difficulty(String seed, int minLength) {
+        int[] ids = group(seed.length(), minLength);
+        for (int ix = 0; ix < ids.length; ix += 1) {
+            if (sorted[ids[ix]].equals(seed)) {
+                return ids.length == 1 ? 0.0 : (double) ix / (ids.length - 1);
+            }
+        }
+        return -1.0;
+    }
+
+    /**
+     * The number of sub words of `seed` of at least `minLength` letters.
+     *
+     * @param seed      The lower case seed.
+     * @param minLength The minimum length of sub words.
+     * @return The count, or -1 if `seed` is not a rated seed.
+     */
+    public int subWordCount(String seed, int minLength) {
+        int[] ids = group(seed.length(), minLength);
+        for (int ix = 0; ix < ids.length; ix += 1) {
+            if (sorted[ids[ix]].equals(seed)) {
+                return counts[seed.length()][minLength][ix];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Estimated heap bytes of the groups (the words are shared with the
+     * dictionary).
+     */
+    long getEstimatedBytes() {
+        long bytes = 3L * 16L;
+        for (int length = MIN_SEED_LENGTH; length <= MAX_SEED_LENGTH; length += 1) {
+            bytes += 2L * (16L + 4L * (length + 1));
+            for (int minLength = 1; minLength <= length; minLength += 1) {
+                bytes += 2L * (16L + 4L * seeds[length][minLength].length);
+            }
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "lengths=[" + MIN_SEED_LENGTH + ".." + MAX_SEED_LENGTH + "], seeds=[" + size() + ']';
+    }
+
+    /**
+     * Counts the sub words by length of candidates [from, to), forking
+     * halves until one slice.
+     */
+    private static final class Count extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient String[] sorted;
+
+        private final transient AnagramIndex anagrams;
+
+        private final int[] candidates;
+
+        private final int[] histograms;
+
+        private final int from;
+
+        private final int to;
+
+        Count(String[] sorted, AnagramIndex anagrams, int[] candidates, int[] histograms, int from, int to) {
+            this.sorted = sorted;
+            this.anagrams = anagrams;
+            this.candidates = candidates;
+            this.histograms = histograms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SLICE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Count(sorted, anagrams, candidates, histograms, from, mid),
+                        new Count(sorted, anagrams, candidates, histograms, mid, to));
+                return;
+            }
+            int[] letters = new int[SubWordIndex.LETTERS];
+            int[] distinct = new int[MAX_SEED_LENGTH];
+            int[] limits = new int[MAX_SEED_LENGTH];
+            for (int ix = from; ix < to; ix += 1) {
+                SubWordIndex.count(sorted[candidates[ix]], letters);
+                int size = 0;
+                for (int c = 0; c < letters.length; c += 1) {
+                    if (letters[c] > 0) {
+                        distinct[size] = c;
+                        limits[size] = letters[c];
+                        size += 1;
+                    }
+                }
+                int at = ix * (MAX_SEED_LENGTH + 1);
+                enumerate(distinct, limits, size, 0, 0L, 0L, 0, at);
+                // the seed itself is not its own sub word
+                histograms[at + sorted[candidates[ix]].length()] -= 1;
+            }
+        }
+
+        /*
+         * Takes 0 to `limits[ix]` of letter `distinct[ix]`, for each
+         * distinct letter in turn, adding the anagrams of every non empty
+         * sub multiset to the histogram at `at`.
+         */
+        private void enumerate(int[] distinct, int[] limits, int size, int ix, long low, long high, int length, int at) {
+            if (ix == size) {
+                if (length > 0) {
+                    histograms[at + length] += anagrams.count(low, high);
+                }
+                return;
+            }
+            int c = distinct[ix];
+            long step = c < SubWordIndex.LANES ? 1L << (c * 4) : 1L << ((c - SubWordIndex.LANES) * 4);
+            for (int taken = 0; taken <= limits[ix]; taken += 1) {
+                if (c < SubWordIndex.LANES) {
+                    enumerate(distinct, limits, size, ix + 1, low + taken * step, high, length + taken, at);
+                } else {
+                    enumerate(distinct, limits, size, ix + 1, low, high + taken * step, length + taken, at);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,279 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Letter count index of the dictionary, for finding the sub words of a seed
+ * word, i.e. the words spelled using (some of) the letters of the seed.
+ * <p>
+ * The sorted dictionary is already partitioned by first letter, so a search
+ * only scans the partitions of letters present in the seed. Scanning in
+ * dictionary order yields sorted, distinct output, and the search is split
+ * into slices that are scanned in parallel (fork/join) and concatenated in
+ * order, without any merging.
+ * <p>
+ * The 26 letter counts of each word are packed as 4-bit lanes into two
+ * longs (13 letters each). As no word repeats a letter more than 7 times,
+ * a word fits in the seed when no lane of the word exceeds the seed's,
+ * which is tested for 13 letters at once: ((seed | H) - word) & H == H,
+ * where H has the high bit of every lane set.
+ */
+public final class SubWordIndex {
+
+    static final int LETTERS = 26;
+
+    static final int LANES = 13;
+
+    private static final int MAX_COUNT = 7;
+
+    private static final long HIGH_BITS = 0x8888888888888L;
+
+    /*
+     * Words per fork/join slice: large enough to amortize a task, small
+     * enough to balance the (very uneven) first letter partitions.
+     */
+    static final int SLICE = 2048;
+
+    private final String[] sorted;
+
+    private final long[] low;
+
+    private final long[] high;
+
+    /* 0 for words that are never sub words (non letters, too many repeats) */
+    private final byte[] lengths;
+
+    /* `partitions[c]` is the index of first word beginning with 'a' + c */
+    private final int[] partitions;
+
+    private SubWordIndex(String[] sorted) {
+        this.sorted = sorted;
+        this.low = new long[sorted.length];
+        this.high = new long[sorted.length];
+        this.lengths = new byte[sorted.length];
+        this.partitions = new int[LETTERS + 1];
+    }
+
+    /**
+     * Builds the index of lower case, sorted and distinct `sorted` words.
+     */
+    static SubWordIndex build(String[] sorted) {
+        SubWordIndex index = new SubWordIndex(sorted);
+        int[] counts = new int[LETTERS];
+        for (int ix = 0; ix < sorted.length; ix += 1) {
+            String word = sorted[ix];
+            if (word.length() <= Byte.MAX_VALUE && count(word, counts)) {
+                index.low[ix] = pack(counts, 0);
+                index.high[ix] = pack(counts, LANES);
+                index.lengths[ix] = (byte) word.length();
+            }
+        }
+        for (int c = 0; c <= LETTERS; c += 1) {
+            index.partitions[c] = lowerBound(sorted, String.valueOf((char) ('a' + c)));
+        }
+        return index;
+    }
+
+    /*
+     * Counts the letters of `word`, returns false if not all 'a' to 'z'.
+     * Counts are clamped to MAX_COUNT, as lanes must not exceed it.
+     */
+    static boolean count(String word, int[] counts) {
+        Arrays.fill(counts, 0);
+        boolean clamped = false;
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            int c = word.charAt(ix) - 'a';
+            if (c < 0 || c >= LETTERS) {
+                return false;
+            }
+            if (counts[c] == MAX_COUNT) {
+                clamped = true;
+            } else {
+                counts[c] += 1;
+            }
+        }
+        return !clamped;
+    }
+
+    static long pack(int[] counts, int from) {
+        long packed = 0L;
+        for (int ix = 0; ix < LANES; ix += 1) {
+            packed |= (long) counts[from + ix] << (ix * 4);
+        }
+        return packed;
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Finds the sub words of lower case `seed` of at least `minLength`
+     * letters, excluding `seed` itself, scanning in the caller thread.
+     *
+     * @return The sorted sub words, or empty list if `seed` is not all 'a' to 'z'.
+     */
+    public List<String> find(String seed, int minLength) {
+        Query query = Query.of(this, seed, minLength);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+        List<String> found = new ArrayList<>();
+        for (int ix = 0; ix < query.slices.length; ix += 2) {
+            scan(query, query.slices[ix], query.slices[ix + 1], found);
+        }
+        return found;
+    }
+
+    /**
+     * Same as {@link #find(String, int)}, with the slices scanned in
+     * parallel by `pool`.
+     */
+    public List<String> find(String seed, int minLength, ForkJoinPool pool) {
+        Query query = Query.of(this, seed, minLength);
+        if (query == null) {
+            return Collections.emptyList();
+        }
+        return pool.invoke(new Scan(this, query, 0, query.slices.length / 2));
+    }
+
+    private void scan(Query query, int from, int to, List<String> found) {
+        long seedLow = query.low | HIGH_BITS;
+        long seedHigh = query.high | HIGH_BITS;
+        for (int ix = from; ix < to; ix += 1) {
+            int length = lengths[ix];
+            if (length >= query.minLength && length <= query.maxLength
+                    && ((seedLow - low[ix]) & HIGH_BITS) == HIGH_BITS
+                    && ((seedHigh - high[ix]) & HIGH_BITS) == HIGH_BITS
+                    && (length < query.maxLength || !sorted[ix].equals(query.seed))) {
+                found.add(sorted[ix]);
+            }
+        }
+    }
+
+    /**
+     * Estimated heap bytes of the packed counts (the words are shared with
+     * the dictionary).
+     */
+    long getEstimatedBytes() {
+        return 3L * 16L + 17L * sorted.length + 16L + 4L * partitions.length;
+    }
+
+    /**
+     * Packed letter counts of a seed, and the slices ([from, to) pairs of
+     * word index) of the partitions to scan.
+     */
+    private static final class Query {
+
+        final String seed;
+
+        final long low;
+
+        final long high;
+
+        final int minLength;
+
+        final int maxLength;
+
+        final int[] slices;
+
+        private Query(String seed, int[] counts, int minLength, int[] slices) {
+            this.seed = seed;
+            this.low = pack(counts, 0);
+            this.high = pack(counts, LANES);
+            this.minLength = Math.max(1, minLength);
+            this.maxLength = seed.length();
+            this.slices = slices;
+        }
+
+        static Query of(SubWordIndex index, String seed, int minLength) {
+            int[] counts = new int[LETTERS];
+            for (int ix = 0; ix < seed.length(); ix += 1) {
+                int c = seed.charAt(ix) - 'a';
+                if (c < 0 || c >= LETTERS) {
+                    return null;
+                }
+                counts[c] = Math.min(MAX_COUNT, counts[c] + 1);
+            }
+            int size = 0;
+            int[] slices = new int[16];
+            for (int c = 0; c < LETTERS; c += 1) {
+                if (counts[c] == 0) {
+                    continue;
+                }
+                int to = index.partitions[c + 1];
+                for (int from = index.partitions[c]; from < to; from += SLICE) {
+                    if (size == slices.length) {
+                        slices = Arrays.copyOf(slices, size * 2);
+                    }
+                    slices[size] = from;
+                    slices[size + 1] = Math.min(to, from + SLICE);
+                    size += 2;
+                }
+            }
+            return new Query(seed, counts, minLength, Arrays.copyOf(slices, size));
+        }
+
+    }
+
+    /**
+     * Scans slices [from, to) of a query, forking halves until one slice.
+     */
+    private static final class Scan extends RecursiveTask<List<String>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient SubWordIndex index;
+
+        private final transient Query query;
+
+        private final int from;
+
+        private final int to;
+
+        Scan(SubWordIndex index, Query query, int from, int to) {
+            this.index = index;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<String> compute() {
+            if (to - from <= 1) {
+                List<String> found = new ArrayList<>();
+                if (from < to) {
+                    index.scan(query, query.slices[from * 2], query.slices[from * 2 + 1], found);
+                }
+                return found;
+            }
+            int mid = (from + to) >>> 1;
+            Scan left = new Scan(index, query, from, mid);
+            left.fork();
+            List<String> right = new Scan(index, query, mid, to).compute();
+            List<String> found = left.join();
+            if (found.isEmpty()) {
+                return right;
+            }
+            found.addAll(right);
+            return found;
+        }
+
+    }
+
+}
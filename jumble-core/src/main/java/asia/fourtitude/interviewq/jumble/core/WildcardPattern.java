@@ -0,0 +1,130 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Locale;
+
+/**
+ * Wildcard pattern of letters, `?` (any single letter) and `*` (any run of
+ * letters, including none), e.g. "c?t*".
+ * <p>
+ * The pattern is simulated as a bit parallel NFA (Shift-And): the state is
+ * the bit set of pattern positions reached so far, so a step is a couple
+ * of shifts and masks whatever the number of wildcards. Consecutive `*` are
+ * collapsed, and the pattern is limited to {@link #MAX_LENGTH} positions.
+ */
+public final class WildcardPattern implements WordAutomaton {
+
+    public static final int MAX_LENGTH = 62;
+
+    private final String pattern;
+
+    private final int length;
+
+    /* `letterMasks[c]`: positions matching 'a' + c, i.e. the letter or `?` */
+    private final long[] letterMasks = new long[SubWordIndex.LETTERS];
+
+    private final long starMask;
+
+    /* `minRemaining[ix]`: letters (non `*`) from position `ix` to the end */
+    private final int[] minRemaining;
+
+    private WildcardPattern(String pattern) {
+        this.pattern = pattern;
+        this.length = pattern.length();
+        this.minRemaining = new int[length + 1];
+        long stars = 0L;
+        for (int ix = length - 1; ix >= 0; ix -= 1) {
+            char c = pattern.charAt(ix);
+            long bit = 1L << ix;
+            if (c == '*') {
+                stars |= bit;
+                minRemaining[ix] = minRemaining[ix + 1];
+            } else {
+                if (c == '?') {
+                    for (int letter = 0; letter < letterMasks.length; letter += 1) {
+                        letterMasks[letter] |= bit;
+                    }
+                } else {
+                    letterMasks[c - 'a'] |= bit;
+                }
+                minRemaining[ix] = minRemaining[ix + 1] + 1;
+            }
+        }
+        this.starMask = stars;
+    }
+
+    /**
+     * Compiles `pattern`, case insensitive.
+     *
+     * @param pattern The pattern of letters, `?` and `*`.
+     * @return The compiled pattern.
+     * @throws IllegalArgumentException If `pattern` is empty, too long or
+     *                                  has other than letters, `?` and `*`.
+     */
+    public static WildcardPattern compile(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            throw new IllegalArgumentException("Invalid pattern=[" + pattern + "], expect letters, '?' and '*'");
+        }
+        String lower = pattern.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(lower.length());
+        for (int ix = 0; ix < lower.length(); ix += 1) {
+            char c = lower.charAt(ix);
+            if ((c < 'a' || c > 'z') && c != '?' && c != '*') {
+                throw new IllegalArgumentException("Invalid pattern=[" + pattern + "], expect letters, '?' and '*'");
+            }
+            if (c != '*' || sb.length() == 0 || sb.charAt(sb.length() - 1) != '*') {
+                sb.append(c);
+            }
+        }
+        if (sb.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid pattern=[" + pattern + "], expect at most " + MAX_LENGTH + " letters and wildcards");
+        }
+        return new WildcardPattern(sb.toString());
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /*
+     * A `*` at a reached position also reaches the next position (matching
+     * none). Stars are never consecutive, so one shift closes the set.
+     */
+    private long closure(long state) {
+        return state | ((state & starMask) << 1);
+    }
+
+    @Override
+    public long start() {
+        return closure(1L);
+    }
+
+    @Override
+    public long step(long state, char letter) {
+        int c = letter - 'a';
+        if (c < 0 || c >= letterMasks.length) {
+            return DEAD;
+        }
+        long next = closure(((state & letterMasks[c]) << 1) | (state & starMask));
+        return next == 0L ? DEAD : next;
+    }
+
+    @Override
+    public boolean isAccept(long state) {
+        return ((state >>> length) & 1L) != 0L;
+    }
+
+    /*
+     * `minRemaining` never increases with the position, so the minimum over
+     * the reached positions is at the highest one.
+     */
+    @Override
+    public int minRemaining(long state) {
+        return minRemaining[63 - Long.numberOfLeadingZeros(state)];
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+}
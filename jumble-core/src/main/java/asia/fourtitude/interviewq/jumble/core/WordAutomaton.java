@@ -0,0 +1,30 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+/**
+ * A deterministic automaton over letters, to be intersected with the
+ * dictionary {@link WordTrie}: the trie is walked together with the
+ * automaton, and a subtree is skipped as soon as the automaton dies, or
+ * needs more letters than the subtree's longest word.
+ * <p>
+ * States are opaque longs (e.g. a bit set of pattern positions, or a DFA
+ * state number), with {@link #DEAD} as the rejecting sink.
+ */
+public interface WordAutomaton {
+
+    long DEAD = -1L;
+
+    long start();
+
+    /**
+     * @return The next state after `letter`, or {@link #DEAD}.
+     */
+    long step(long state, char letter);
+
+    boolean isAccept(long state);
+
+    /**
+     * The minimum number of letters to reach an accepting state.
+     */
+    int minRemaining(long state);
+
+}
@@ -0,0 +1,151 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prefix tree (trie) of the dictionary, laid out as flat arrays.
+ * <p>
+ * Nodes are numbered in breadth first order, so the children of a node are
+ * contiguous, sorted by letter: node `n` has children `children[n]` to
+ * `children[n + 1]` (exclusive). Each node keeps the length of its longest
+ * word suffix (`heights`), so that walks can prune subtrees too short for
+ * the query.
+ * <p>
+ * Queries are {@link WordAutomaton} intersections: walking in letter order
+ * yields words in dictionary order, without any sorting.
+ */
+public final class WordTrie {
+
+    private final String[] sorted;
+
+    private final char[] labels;
+
+    private final int[] children;
+
+    /* index of the word ending at the node in `sorted`, or -1 */
+    private final int[] words;
+
+    private final byte[] heights;
+
+    private WordTrie(String[] sorted, char[] labels, int[] children, int[] words, byte[] heights) {
+        this.sorted = sorted;
+        this.labels = labels;
+        this.children = children;
+        this.words = words;
+        this.heights = heights;
+    }
+
+    /**
+     * Builds the trie of lower case, sorted and distinct `sorted` words.
+     * <p>
+     * Each node covers the range of words sharing its prefix: the word equal
+     * to the prefix (if any) comes first, followed by one child range per
+     * next letter.
+     */
+    static WordTrie build(String[] sorted) {
+        int capacity = Math.max(16, sorted.length * 3);
+        char[] labels = new char[capacity];
+        int[] children = new int[capacity + 1];
+        int[] words = new int[capacity];
+        int[] from = new int[capacity];
+        int[] to = new int[capacity];
+        int[] depths = new int[capacity];
+        int count = 1;
+        to[0] = sorted.length;
+        for (int node = 0; node < count; node += 1) {
+            children[node] = count;
+            int depth = depths[node];
+            int ix = from[node];
+            int end = to[node];
+            words[node] = -1;
+            if (ix < end && sorted[ix].length() == depth) {
+                words[node] = ix;
+                ix += 1;
+            }
+            while (ix < end) {
+                char letter = sorted[ix].charAt(depth);
+                int jx = ix + 1;
+                while (jx < end && sorted[jx].charAt(depth) == letter) {
+                    jx += 1;
+                }
+                if (count == labels.length) {
+                    int grown = count * 2;
+                    labels = Arrays.copyOf(labels, grown);
+                    children = Arrays.copyOf(children, grown + 1);
+                    words = Arrays.copyOf(words, grown);
+                    from = Arrays.copyOf(from, grown);
+                    to = Arrays.copyOf(to, grown);
+                    depths = Arrays.copyOf(depths, grown);
+                }
+                labels[count] = letter;
+                from[count] = ix;
+                to[count] = jx;
+                depths[count] = depth + 1;
+                count += 1;
+                ix = jx;
+            }
+        }
+        children[count] = count;
+
+        byte[] heights = new byte[count];
+        for (int node = count - 1; node >= 0; node -= 1) {
+            int height = 0;
+            for (int child = children[node]; child < children[node + 1]; child += 1) {
+                height = Math.max(height, heights[child] + 1);
+            }
+            heights[node] = (byte) Math.min(Byte.MAX_VALUE, height);
+        }
+        return new WordTrie(sorted, Arrays.copyOf(labels, count), Arrays.copyOf(children, count + 1),
+                Arrays.copyOf(words, count), heights);
+    }
+
+    public int size() {
+        return labels.length;
+    }
+
+    /**
+     * Finds the words accepted by `automaton`, in dictionary order.
+     *
+     * @param automaton The automaton to intersect with.
+     * @param limit     The maximum number of words.
+     * @return The matching words.
+     */
+    public List<String> match(WordAutomaton automaton, int limit) {
+        List<String> found = new ArrayList<>();
+        if (limit > 0) {
+            match(automaton, 0, automaton.start(), found, limit);
+        }
+        return found;
+    }
+
+    private void match(WordAutomaton automaton, int node, long state, List<String> found, int limit) {
+        if (automaton.minRemaining(state) > heights[node]) {
+            return;
+        }
+        if (words[node] >= 0 && automaton.isAccept(state)) {
+            found.add(sorted[words[node]]);
+        }
+        for (int child = children[node]; child < children[node + 1] && found.size() < limit; child += 1) {
+            long next = automaton.step(state, labels[child]);
+            if (next != WordAutomaton.DEAD) {
+                match(automaton, child, next, found, limit);
+            }
+        }
+    }
+
+    /**
+     * Estimated heap bytes of the node arrays (the words are shared with
+     * the dictionary).
+     */
+    long getEstimatedBytes() {
+        return 4L * 16L + 11L * labels.length + 4L;
+    }
+
+    @Override
+    public String toString() {
+        return "nodes=[" + labels.length + "], words=[" + sorted.length + ']';
+    }
+
+}
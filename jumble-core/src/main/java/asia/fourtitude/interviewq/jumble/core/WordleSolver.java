@@ -0,0 +1,473 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Wordle style solver: from a history of guesses and their feedback (green,
+ * yellow, gray per letter), finds the remaining candidate words, and ranks
+ * the next guesses by expected information gain.
+ * <p>
+ * Candidates are narrowed with bitmaps over the length bucket of the
+ * {@link PositionIndex}: a green keeps the words with the letter at the
+ * position, a yellow or gray drops them, a green or yellow letter keeps
+ * the words having it anywhere, and a gray only letter drops them. The
+ * survivors are then checked exactly (repeated letters), by recomputing the
+ * feedback of each guess against them.
+ * <p>
+ * A guess splits the candidates by the feedback they would give, and its
+ * expected information is the entropy (in bits) of that split. Every word
+ * of the length is scored against every candidate, with words as letter
+ * codes and feedback as base 3 numbers in primitive arrays, in parallel
+ * slices of guesses.
+ */
+public final class WordleSolver {
+
+    /**
+     * Longest supported word, so that feedback (base 3) counts stay small.
+     */
+    public static final int MAX_LENGTH = 10;
+
+    private static final int GRAY = 0;
+
+    private static final int YELLOW = 1;
+
+    private static final int GREEN = 2;
+
+    /* guesses per leaf task */
+    private static final int SLICE = 128;
+
+    private static final int[] POW3 = new int[MAX_LENGTH + 1];
+
+    static {
+        POW3[0] = 1;
+        for (int ix = 1; ix <= MAX_LENGTH; ix += 1) {
+            POW3[ix] = POW3[ix - 1] * 3;
+        }
+    }
+
+    /**
+     * A ranked next guess.
+     */
+    public static final class Suggestion {
+
+        private final String word;
+
+        private final double bits;
+
+        private final boolean candidate;
+
+        Suggestion(String word, double bits, boolean candidate) {
+            this.word = word;
+            this.bits = bits;
+            this.candidate = candidate;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * The expected information of the guess, in bits.
+         */
+        public double getBits() {
+            return bits;
+        }
+
+        /**
+         * Whether the guess is one of the candidates (could win right away).
+         */
+        public boolean isCandidate() {
+            return candidate;
+        }
+
+        @Override
+        public String toString() {
+            return word + '=' + String.format(Locale.ROOT, "%.3f", bits) + (candidate ? "*" : "");
+        }
+
+    }
+
+    /**
+     * The remaining candidates and the ranked next guesses.
+     */
+    public static final class Result {
+
+        private final int length;
+
+        private final List<String> candidates;
+
+        private final List<Suggestion> suggestions;
+
+        Result(int length, List<String> candidates, List<Suggestion> suggestions) {
+            this.length = length;
+            this.candidates = candidates;
+            this.suggestions = suggestions;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * The candidates, in dictionary order.
+         */
+        public List<String> getCandidates() {
+            return candidates;
+        }
+
+        /**
+         * The best next guesses, most informative first.
+         */
+        public List<Suggestion> getSuggestions() {
+            return suggestions;
+        }
+
+        @Override
+        public String toString() {
+            return "length=[" + length + "], candidates=[" + candidates.size() + "], suggestions=" + suggestions;
+        }
+
+    }
+
+    private final int length;
+
+    private final String[] words;
+
+    /* `codes[id * length + ix]`: letter (0 to 25) at position `ix` of word `id` */
+    private final byte[] codes;
+
+    /* `letters[id]`: bit set of the letters of word `id` */
+    private final int[] letters;
+
+    private WordleSolver(int length, List<String> bucket) {
+        this.length = length;
+        this.words = bucket.toArray(new String[0]);
+        this.codes = new byte[words.length * length];
+        this.letters = new int[words.length];
+        for (int id = 0; id < words.length; id += 1) {
+            for (int ix = 0; ix < length; ix += 1) {
+                int c = words[id].charAt(ix) - 'a';
+                codes[id * length + ix] = (byte) c;
+                letters[id] |= c >= 0 && c < SubWordIndex.LETTERS ? 1 << c : 0;
+            }
+        }
+    }
+
+    /**
+     * Solves from the history of `guesses` and their `feedbacks`.
+     *
+     * @param index     The positional index of the dictionary.
+     * @param length    The length of words.
+     * @param guesses   The lower case guesses, of `length` letters.
+     * @param feedbacks The feedback of each guess, a letter per position:
+     *                  'g' (green, right position), 'y' (yellow, elsewhere
+     *                  in the word) or 'b' (gray, not in the word).
+     * @param limit     The maximum number of suggestions.
+     * @param pool      The pool to rank guesses in, or null for the caller thread.
+     * @return The candidates and suggestions.
+     * @throws IllegalArgumentException If `length` is not 2 to {@link #MAX_LENGTH},
+     *                                  or a guess or feedback is invalid.
+     */
+    public static Result solve(PositionIndex index, int length, List<String> guesses, List<String> feedbacks,
+            int limit, ForkJoinPool pool) {
+        if (length < 2 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Invalid length=[" + length + "], expect 2 to " + MAX_LENGTH);
+        }
+        if (guesses.size() != feedbacks.size()) {
+            throw new IllegalArgumentException("Invalid feedbacks=[" + feedbacks.size() + "], expect one per guess=["
+                    + guesses.size() + "]");
+        }
+        byte[][] guessCodes = new byte[guesses.size()][];
+        int[] patterns = new int[guesses.size()];
+        for (int gx = 0; gx < guesses.size(); gx += 1) {
+            guessCodes[gx] = encode(guesses.get(gx), length);
+            patterns[gx] = parseFeedback(feedbacks.get(gx), length);
+        }
+        List<String> bucket = index.ofLength(length);
+        if (bucket.isEmpty()) {
+            return new Result(length, Collections.emptyList(), Collections.emptyList());
+        }
+
+        WordleSolver solver = new WordleSolver(length, bucket);
+        int[] candidates = solver.narrow(index, guessCodes, patterns);
+        List<String> candidateWords = new ArrayList<>(candidates.length);
+        boolean[] isCandidate = new boolean[solver.words.length];
+        for (int id : candidates) {
+            candidateWords.add(solver.words[id]);
+            isCandidate[id] = true;
+        }
+        if (candidates.length == 0 || limit <= 0) {
+            return new Result(length, candidateWords, Collections.emptyList());
+        }
+
+        double[] bits = new double[solver.words.length];
+        Rank rank = new Rank(solver, candidates, bits, 0, solver.words.length);
+        if (pool == null) {
+            rank.compute();
+        } else {
+            pool.invoke(rank);
+        }
+        return new Result(length, candidateWords, solver.best(bits, isCandidate, limit));
+    }
+
+    private static byte[] encode(String guess, int length) {
+        if (guess == null || guess.length() != length) {
+            throw new IllegalArgumentException("Invalid guess=[" + guess + "], expect " + length + " letters");
+        }
+        byte[] code = new byte[length];
+        for (int ix = 0; ix < length; ix += 1) {
+            int c = guess.charAt(ix) - 'a';
+            if (c < 0 || c >= SubWordIndex.LETTERS) {
+                throw new IllegalArgumentException("Invalid guess=[" + guess + "], expect " + length + " letters");
+            }
+            code[ix] = (byte) c;
+        }
+        return code;
+    }
+
+    private static int parseFeedback(String feedback, int length) {
+        if (feedback == null || feedback.length() != length) {
+            throw new IllegalArgumentException("Invalid feedback=[" + feedback + "], expect " + length + " of 'g', 'y' or 'b'");
+        }
+        int pattern = 0;
+        for (int ix = length - 1; ix >= 0; ix -= 1) {
+            char c = feedback.charAt(ix);
+            int digit;
+            if (c == 'g') {
+                digit = GREEN;
+            } else if (c == 'y') {
+                digit = YELLOW;
+            } else if (c == 'b') {
+                digit = GRAY;
+            } else {
+                throw new IllegalArgumentException("Invalid feedback=[" + feedback + "], expect " + length + " of 'g', 'y' or 'b'");
+            }
+            pattern = pattern * 3 + digit;
+        }
+        return pattern;
+    }
+
+    /*
+     * Candidates (word ids, ascending) consistent with all the guesses:
+     * bitmap constraints first, then the exact feedback of the survivors.
+     */
+    private int[] narrow(PositionIndex index, byte[][] guessCodes, int[] patterns) {
+        int size = (words.length + 63) >>> 6;
+        long[] candidates = new long[size];
+        for (int id = 0; id < words.length; id += 1) {
+            candidates[id >>> 6] |= 1L << id;
+        }
+        long[][] presence = new long[SubWordIndex.LETTERS][];
+        for (int gx = 0; gx < guessCodes.length; gx += 1) {
+            byte[] guess = guessCodes[gx];
+            int[] found = new int[SubWordIndex.LETTERS];
+            boolean[] gray = new boolean[SubWordIndex.LETTERS];
+            int pattern = patterns[gx];
+            for (int ix = 0; ix < length; ix += 1) {
+                int digit = pattern % 3;
+                pattern /= 3;
+                char letter = (char) ('a' + guess[ix]);
+                long[] positional = index.bitmap(length, ix, letter);
+                if (digit == GREEN) {
+                    and(candidates, positional);
+                } else {
+                    andNot(candidates, positional);
+                }
+                if (digit == GRAY) {
+                    gray[guess[ix]] = true;
+                } else {
+                    found[guess[ix]] += 1;
+                }
+            }
+            for (int c = 0; c < SubWordIndex.LETTERS; c += 1) {
+                if (found[c] > 0 || gray[c]) {
+                    if (presence[c] == null) {
+                        presence[c] = presence(index, (char) ('a' + c));
+                    }
+                    if (found[c] > 0) {
+                        and(candidates, presence[c]);
+                    } else {
+                        andNot(candidates, presence[c]);
+                    }
+                }
+            }
+        }
+
+        int[] ids = new int[words.length];
+        int count = 0;
+        for (int wx = 0; wx < size; wx += 1) {
+            long bits = candidates[wx];
+            while (bits != 0L) {
+                int id = (wx << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1L;
+                boolean consistent = true;
+                for (int gx = 0; gx < guessCodes.length && consistent; gx += 1) {
+                    consistent = feedback(guessCodes[gx], 0, codes, id * length, letters[id], length) == patterns[gx];
+                }
+                if (consistent) {
+                    ids[count] = id;
+                    count += 1;
+                }
+            }
+        }
+        int[] found = new int[count];
+        System.arraycopy(ids, 0, found, 0, count);
+        return found;
+    }
+
+    private long[] presence(PositionIndex index, char letter) {
+        long[] presence = index.bitmap(length, 0, letter);
+        for (int ix = 1; ix < length; ix += 1) {
+            long[] positional = index.bitmap(length, ix, letter);
+            for (int wx = 0; wx < presence.length; wx += 1) {
+                presence[wx] |= positional[wx];
+            }
+        }
+        return presence;
+    }
+
+    private static void and(long[] target, long[] bitmap) {
+        for (int wx = 0; wx < target.length; wx += 1) {
+            target[wx] &= bitmap[wx];
+        }
+    }
+
+    private static void andNot(long[] target, long[] bitmap) {
+        for (int wx = 0; wx < target.length; wx += 1) {
+            target[wx] &= ~bitmap[wx];
+        }
+    }
+
+    /*
+     * The feedback (base 3, position 0 least significant) of guessing the
+     * word at `guess[from..]` when the answer is at `answer[at..]`, having
+     * the letters of bit set `answerLetters`. Greens first, then each other
+     * guess letter is yellow if an answer letter not yet matched is the same
+     * (so repeated letters are not over counted). Letters not in the answer
+     * at all, the most common case, skip that scan.
+     */
+    static int feedback(byte[] guess, int from, byte[] answer, int at, int answerLetters, int length) {
+        int matched = 0;
+        int pattern = 0;
+        for (int ix = 0; ix < length; ix += 1) {
+            if (guess[from + ix] == answer[at + ix]) {
+                matched |= 1 << ix;
+                pattern += GREEN * POW3[ix];
+            }
+        }
+        int greens = matched;
+        for (int ix = 0; ix < length; ix += 1) {
+            int letter = guess[from + ix];
+            if ((greens & (1 << ix)) == 0 && (answerLetters & (1 << letter)) != 0) {
+                for (int jx = 0; jx < length; jx += 1) {
+                    if ((matched & (1 << jx)) == 0 && answer[at + jx] == letter) {
+                        matched |= 1 << jx;
+                        pattern += YELLOW * POW3[ix];
+                        break;
+                    }
+                }
+            }
+        }
+        return pattern;
+    }
+
+    /*
+     * The entropy of the split of `candidates` by guessing word `guess`.
+     * `counts` (of 3^length, all zero) is left all zero; `touched` holds
+     * the patterns seen.
+     */
+    private double entropy(int guess, int[] candidates, int[] counts, int[] touched) {
+        int distinct = 0;
+        for (int cx = 0; cx < candidates.length; cx += 1) {
+            int answer = candidates[cx];
+            int pattern = feedback(codes, guess * length, codes, answer * length, letters[answer], length);
+            if (counts[pattern] == 0) {
+                touched[distinct] = pattern;
+                distinct += 1;
+            }
+            counts[pattern] += 1;
+        }
+        double total = candidates.length;
+        double entropy = 0.0;
+        for (int tx = 0; tx < distinct; tx += 1) {
+            double p = counts[touched[tx]] / total;
+            entropy -= p * Math.log(p);
+            counts[touched[tx]] = 0;
+        }
+        return entropy / Math.log(2.0);
+    }
+
+    /*
+     * The `limit` best guesses: most bits, then candidates first (a chance
+     * to win now), then dictionary order.
+     */
+    private List<Suggestion> best(double[] bits, boolean[] isCandidate, int limit) {
+        List<Integer> ids = new ArrayList<>(words.length);
+        for (int id = 0; id < words.length; id += 1) {
+            ids.add(id);
+        }
+        ids.sort((a, b) -> {
+            int compare = Double.compare(bits[b], bits[a]);
+            if (compare == 0) {
+                compare = Boolean.compare(isCandidate[b], isCandidate[a]);
+            }
+            return compare == 0 ? Integer.compare(a, b) : compare;
+        });
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, ids.size()));
+        for (int ix = 0; ix < ids.size() && ix < limit; ix += 1) {
+            int id = ids.get(ix);
+            suggestions.add(new Suggestion(words[id], bits[id], isCandidate[id]));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Scores the guesses `from` to `to` (exclusive) into `bits`, splitting
+     * down to slices of {@link #SLICE} guesses. Each leaf has its own
+     * pattern counts, so leaves share nothing but the read-only codes.
+     */
+    private static final class Rank extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient WordleSolver solver;
+
+        private final int[] candidates;
+
+        private final double[] bits;
+
+        private final int from;
+
+        private final int to;
+
+        Rank(WordleSolver solver, int[] candidates, double[] bits, int from, int to) {
+            this.solver = solver;
+            this.candidates = candidates;
+            this.bits = bits;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE || getPool() == null) {
+                int patterns = POW3[solver.length];
+                int[] counts = new int[patterns];
+                int[] touched = new int[Math.min(patterns, candidates.length)];
+                for (int guess = from; guess < to; guess += 1) {
+                    bits[guess] = solver.entropy(guess, candidates, counts, touched);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Rank(solver, candidates, bits, from, mid), new Rank(solver, candidates, bits, mid, to));
+        }
+
+    }
+
+}
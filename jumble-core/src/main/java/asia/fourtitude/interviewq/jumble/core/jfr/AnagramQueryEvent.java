@@ -0,0 +1,26 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Finding the words using exactly some letters.
+ */
+@Name("asia.fourtitude.interviewq.jumble.AnagramQuery")
+@Label("Anagram Query")
+@Category({ "Jumble", "Engine" })
+public class AnagramQueryEvent extends JumbleEvent {
+
+    @Label("Letters")
+    private String letters;
+
+    public String getLetters() {
+        return letters;
+    }
+
+    public void setLetters(String letters) {
+        this.letters = letters;
+    }
+
+}
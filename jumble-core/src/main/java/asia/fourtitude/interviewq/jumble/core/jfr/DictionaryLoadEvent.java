@@ -0,0 +1,29 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Loading the word list from classpath resource; result size is the number
+ * of distinct words.
+ */
+@Name("asia.fourtitude.interviewq.jumble.DictionaryLoad")
+@Label("Dictionary Load")
+@Category({ "Jumble", "Engine" })
+@Threshold("0 ms")
+public class DictionaryLoadEvent extends JumbleEvent {
+
+    @Label("Resource")
+    private String resource;
+
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(String resource) {
+        this.resource = resource;
+    }
+
+}
@@ -0,0 +1,26 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Finding the dictionary words close to a word.
+ */
+@Name("asia.fourtitude.interviewq.jumble.DidYouMean")
+@Label("Did You Mean")
+@Category({ "Jumble", "Engine" })
+public class DidYouMeanEvent extends JumbleEvent {
+
+    @Label("Word")
+    private String word;
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+}
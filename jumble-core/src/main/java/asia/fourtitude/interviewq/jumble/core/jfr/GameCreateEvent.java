@@ -0,0 +1,60 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Creating a game state: picking a word, scrambling it and generating its
+ * sub words; result size is the number of sub words.
+ */
+@Name("asia.fourtitude.interviewq.jumble.GameCreate")
+@Label("Game Create")
+@Category({ "Jumble", "Game" })
+public class GameCreateEvent extends JumbleEvent {
+
+    @Label("Word")
+    private String word;
+
+    @Label("Minimum Length")
+    private int minLength;
+
+    @Label("Difficulty")
+    private String difficulty;
+
+    @Label("Seeded")
+    private boolean seeded;
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public void setMinLength(int minLength) {
+        this.minLength = minLength;
+    }
+
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public void setSeeded(boolean seeded) {
+        this.seeded = seeded;
+    }
+
+}
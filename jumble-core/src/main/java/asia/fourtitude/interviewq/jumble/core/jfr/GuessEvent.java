@@ -0,0 +1,49 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Handling a guess of a game; result size is the number of remaining
+ * words.
+ */
+@Name("asia.fourtitude.interviewq.jumble.Guess")
+@Label("Guess")
+@Category({ "Jumble", "Game" })
+public class GuessEvent extends JumbleEvent {
+
+    @Label("Game ID")
+    private String gameId;
+
+    @Label("Word")
+    private String word;
+
+    @Label("Result")
+    private String result;
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+}
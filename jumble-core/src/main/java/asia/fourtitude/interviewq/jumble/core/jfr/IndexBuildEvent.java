@@ -0,0 +1,42 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Building a lookup index over the dictionary; result size is the number
+ * of index entries.
+ */
+@Name("asia.fourtitude.interviewq.jumble.IndexBuild")
+@Label("Index Build")
+@Category({ "Jumble", "Engine" })
+@Threshold("0 ms")
+public class IndexBuildEvent extends JumbleEvent {
+
+    @Label("Index")
+    private String index;
+
+    @Label("Estimated Bytes")
+    @DataAmount
+    private long bytes;
+
+    public String getIndex() {
+        return index;
+    }
+
+    public void setIndex(String index) {
+        this.index = index;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+}
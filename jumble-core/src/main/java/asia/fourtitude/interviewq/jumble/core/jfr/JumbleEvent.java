@@ -0,0 +1,77 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Base of the Java Flight Recorder events of the engine and game, carrying
+ * input size, result size and dictionary version.
+ * <p>
+ * Events are enabled by default, and only committed when slower than their
+ * threshold (1 ms, unless overridden by the event type or by recording
+ * settings). When no recording is running, begin/end/commit are no-ops that
+ * the JIT removes, so the instrumentation is effectively free.
+ * <p>
+ * Common fields are protected, as JFR ignores private fields of a super
+ * class.
+ * <p>
+ * Usage, setting fields only when the event will be written:
+ * <pre>
+ * PrefixQueryEvent event = new PrefixQueryEvent();
+ * event.begin();
+ * ... // the operation
+ * event.end();
+ * if (event.shouldCommit()) {
+ *     event.setInputSize(...);
+ *     event.commit();
+ * }
+ * </pre>
+ */
+@Category("Jumble")
+@Enabled(true)
+@StackTrace(true)
+@Threshold("1 ms")
+public abstract class JumbleEvent extends Event {
+
+    @Label("Input Size")
+    @Description("Size of the input, e.g. letters of word or prefix")
+    protected int inputSize;
+
+    @Label("Result Size")
+    @Description("Size of the result, e.g. number of words")
+    protected int resultSize;
+
+    @Label("Dictionary Version")
+    @Description("CRC32 of the word list used")
+    protected long dictionaryVersion;
+
+    public int getInputSize() {
+        return inputSize;
+    }
+
+    public void setInputSize(int inputSize) {
+        this.inputSize = inputSize;
+    }
+
+    public int getResultSize() {
+        return resultSize;
+    }
+
+    public void setResultSize(int resultSize) {
+        this.resultSize = resultSize;
+    }
+
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    public void setDictionaryVersion(long dictionaryVersion) {
+        this.dictionaryVersion = dictionaryVersion;
+    }
+
+}
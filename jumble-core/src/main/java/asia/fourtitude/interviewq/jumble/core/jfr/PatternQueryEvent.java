@@ -0,0 +1,26 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Finding the words matching a wildcard pattern.
+ */
+@Name("asia.fourtitude.interviewq.jumble.PatternQuery")
+@Label("Pattern Query")
+@Category({ "Jumble", "Engine" })
+public class PatternQueryEvent extends JumbleEvent {
+
+    @Label("Pattern")
+    private String pattern;
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+}
@@ -0,0 +1,59 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Solving the multi word anagrams of a phrase.
+ */
+@Name("asia.fourtitude.interviewq.jumble.PhraseAnagram")
+@Label("Phrase Anagram")
+@Category({ "Jumble", "Engine" })
+public class PhraseAnagramEvent extends JumbleEvent {
+
+    @Label("Phrase")
+    private String phrase;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Candidates")
+    private int candidates;
+
+    @Label("Nodes")
+    private long nodes;
+
+    public String getPhrase() {
+        return phrase;
+    }
+
+    public void setPhrase(String phrase) {
+        this.phrase = phrase;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(long nodes) {
+        this.nodes = nodes;
+    }
+
+}
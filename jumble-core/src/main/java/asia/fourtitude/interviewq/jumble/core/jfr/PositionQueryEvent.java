@@ -0,0 +1,37 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Finding the words of a length having letters at positions.
+ */
+@Name("asia.fourtitude.interviewq.jumble.PositionQuery")
+@Label("Position Query")
+@Category({ "Jumble", "Engine" })
+public class PositionQueryEvent extends JumbleEvent {
+
+    @Label("Length")
+    private int length;
+
+    @Label("Letters")
+    private String letters;
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    public String getLetters() {
+        return letters;
+    }
+
+    public void setLetters(String letters) {
+        this.letters = letters;
+    }
+
+}
@@ -0,0 +1,26 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Finding the words beginning with a prefix.
+ */
+@Name("asia.fourtitude.interviewq.jumble.PrefixQuery")
+@Label("Prefix Query")
+@Category({ "Jumble", "Engine" })
+public class PrefixQueryEvent extends JumbleEvent {
+
+    @Label("Prefix")
+    private String prefix;
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+}
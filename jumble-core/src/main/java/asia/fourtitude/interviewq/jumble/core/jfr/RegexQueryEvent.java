@@ -0,0 +1,37 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Finding the words matching a regular expression.
+ */
+@Name("asia.fourtitude.interviewq.jumble.RegexQuery")
+@Label("Regex Query")
+@Category({ "Jumble", "Engine" })
+public class RegexQueryEvent extends JumbleEvent {
+
+    @Label("Regex")
+    private String regex;
+
+    @Label("DFA States")
+    private int states;
+
+    public String getRegex() {
+        return regex;
+    }
+
+    public void setRegex(String regex) {
+        this.regex = regex;
+    }
+
+    public int getStates() {
+        return states;
+    }
+
+    public void setStates(int states) {
+        this.states = states;
+    }
+
+}
@@ -0,0 +1,49 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Searching the words by start character, end character and length; input
+ * size is the number of criteria given.
+ */
+@Name("asia.fourtitude.interviewq.jumble.Search")
+@Label("Search")
+@Category({ "Jumble", "Engine" })
+public class SearchEvent extends JumbleEvent {
+
+    @Label("Start Character")
+    private String startChar;
+
+    @Label("End Character")
+    private String endChar;
+
+    @Label("Length")
+    private int length;
+
+    public String getStartChar() {
+        return startChar;
+    }
+
+    public void setStartChar(String startChar) {
+        this.startChar = startChar;
+    }
+
+    public String getEndChar() {
+        return endChar;
+    }
+
+    public void setEndChar(String endChar) {
+        this.endChar = endChar;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+}
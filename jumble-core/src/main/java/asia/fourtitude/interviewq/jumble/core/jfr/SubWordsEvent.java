@@ -0,0 +1,37 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Generating the sub words of a seed word.
+ */
+@Name("asia.fourtitude.interviewq.jumble.SubWords")
+@Label("Sub Words")
+@Category({ "Jumble", "Engine" })
+public class SubWordsEvent extends JumbleEvent {
+
+    @Label("Word")
+    private String word;
+
+    @Label("Minimum Length")
+    private int minLength;
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public void setMinLength(int minLength) {
+        this.minLength = minLength;
+    }
+
+}
@@ -0,0 +1,37 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Narrowing the Wordle candidates and ranking the next guesses.
+ */
+@Name("asia.fourtitude.interviewq.jumble.Wordle")
+@Label("Wordle")
+@Category({ "Jumble", "Engine" })
+public class WordleEvent extends JumbleEvent {
+
+    @Label("Length")
+    private int length;
+
+    @Label("Candidates")
+    private int candidates;
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+}
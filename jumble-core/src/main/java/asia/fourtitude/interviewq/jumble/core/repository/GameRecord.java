@@ -0,0 +1,68 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+
+/**
+ * A stored game: its state, with the `version` for compare-and-set updates,
+ * and the creation and modification times (epoch milliseconds).
+ */
+public final class GameRecord {
+
+    private final String id;
+
+    private final long version;
+
+    private final long createdAt;
+
+    private final long modifiedAt;
+
+    private final GameState state;
+
+    public GameRecord(String id, long version, long createdAt, long modifiedAt, GameState state) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.version = version;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.state = Objects.requireNonNull(state, "state must not be null");
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getModifiedAt() {
+        return modifiedAt;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * A deep copy, guessed words included, so that changing the copy does
+     * not change a stored record.
+     */
+    public GameRecord copy() {
+        Map<String, Boolean> subWords = new TreeMap<>(state.getSubWords());
+        return new GameRecord(id, version, createdAt, modifiedAt,
+                new GameState(state.getOriginal(), state.getScramble(), subWords));
+    }
+
+    @Override
+    public String toString() {
+        return "id=[" + id + "], version=[" + version + "], state=[" + state + ']';
+    }
+
+}
@@ -0,0 +1,70 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+
+/**
+ * Binary form of a game record, for the file and database repositories:
+ * <pre>
+ * version       8 bytes (first, so that it is read without decoding)
+ * createdAt     8 bytes
+ * modifiedAt    8 bytes
+ * id, original, scramble, modified UTF-8
+ * sub words     2 bytes count, then each modified UTF-8 and 1 byte guessed
+ * </pre>
+ */
+final class GameRecordCodec {
+
+    private GameRecordCodec() {
+    }
+
+    static byte[] encode(GameRecord record) {
+        GameState state = record.getState();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + state.getSubWords().size() * 8);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(record.getVersion());
+            out.writeLong(record.getCreatedAt());
+            out.writeLong(record.getModifiedAt());
+            out.writeUTF(record.getId());
+            out.writeUTF(state.getOriginal());
+            out.writeUTF(state.getScramble());
+            out.writeShort(state.getSubWords().size());
+            for (Map.Entry<String, Boolean> entry : state.getSubWords().entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeBoolean(entry.getValue() == Boolean.TRUE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static GameRecord decode(byte[] bytes, int offset, int length) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, offset, length))) {
+            long version = in.readLong();
+            long createdAt = in.readLong();
+            long modifiedAt = in.readLong();
+            String id = in.readUTF();
+            String original = in.readUTF();
+            String scramble = in.readUTF();
+            int count = in.readUnsignedShort();
+            Map<String, Boolean> subWords = new TreeMap<>();
+            for (int ix = 0; ix < count; ix += 1) {
+                String word = in.readUTF();
+                subWords.put(word, in.readBoolean() ? Boolean.TRUE : Boolean.FALSE);
+            }
+            return new GameRecord(id, version, createdAt, modifiedAt, new GameState(original, scramble, subWords));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
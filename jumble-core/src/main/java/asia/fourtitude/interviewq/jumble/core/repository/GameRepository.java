@@ -0,0 +1,73 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import java.util.function.Consumer;
+
+/**
+ * Storage of game records, by `id`.
+ * <p>
+ * Updates are compare-and-set on the record version, so that concurrent
+ * guesses of the same game (on any thread, or any node sharing a store) do
+ * not overwrite each other: the loser reloads and retries.
+ * <p>
+ * Records passed in may be kept by the repository as is, and must not be
+ * changed afterwards. Records returned are copies, the caller's to change.
+ * <p>
+ * Implementations: {@link MemoryGameRepository} (heap),
+ * {@link MappedFileGameRepository} (memory mapped file of fixed slots) and
+ * {@link JdbcGameRepository} (e.g. embedded H2).
+ */
+public interface GameRepository extends AutoCloseable {
+
+    /**
+     * Finds the record of `id`.
+     *
+     * @param id The game ID.
+     * @return A copy of the record, or null if not found.
+     */
+    GameRecord get(String id);
+
+    /**
+     * Stores a new record.
+     *
+     * @param record The record.
+     * @return true if stored, false if a record of the same id exists.
+     * @throws IllegalStateException If the repository is full.
+     */
+    boolean create(GameRecord record);
+
+    /**
+     * Replaces the record of the same id, only if its stored version is
+     * still `expectedVersion`.
+     *
+     * @param expectedVersion The version the update was based on.
+     * @param record          The updated record, usually of the next version.
+     * @return true if replaced, false if not found or of another version.
+     */
+    boolean compareAndSet(long expectedVersion, GameRecord record);
+
+    /**
+     * Removes the record of `id`.
+     *
+     * @param id The game ID.
+     * @return true if removed, false if not found.
+     */
+    boolean evict(String id);
+
+    /**
+     * Visits (copies of) all records, in no particular order. Records
+     * created or evicted during the scan may or may not be visited.
+     *
+     * @param action Receives each record.
+     */
+    void scan(Consumer<GameRecord> action);
+
+    /**
+     * The number of records.
+     */
+    int size();
+
+    @Override
+    default void close() {
+    }
+
+}
@@ -0,0 +1,149 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+
+/**
+ * Game records in a table of a JDBC database, e.g. H2 embedded in process
+ * (`jdbc:h2:mem:..` or `jdbc:h2:file:..`): one row per game, of the id, the
+ * version (for compare-and-set as a conditional `UPDATE`), and the encoded
+ * record.
+ * <p>
+ * Only `java.sql` is used, so the driver (and connection pool) is given as
+ * a `DataSource` by the caller, which also owns it.
+ */
+public class JdbcGameRepository implements GameRepository {
+
+    public static final String TABLE = "jumble_game";
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS " + TABLE
+            + " (id VARCHAR(255) PRIMARY KEY, version BIGINT NOT NULL, record VARBINARY(65535) NOT NULL)";
+
+    private static final String SELECT = "SELECT record FROM " + TABLE + " WHERE id = ?";
+
+    private static final String INSERT = "INSERT INTO " + TABLE + " (id, version, record) VALUES (?, ?, ?)";
+
+    private static final String UPDATE = "UPDATE " + TABLE + " SET version = ?, record = ? WHERE id = ? AND version = ?";
+
+    private static final String DELETE = "DELETE FROM " + TABLE + " WHERE id = ?";
+
+    private static final String SCAN = "SELECT record FROM " + TABLE;
+
+    private static final String COUNT = "SELECT COUNT(*) FROM " + TABLE;
+
+    /* SQLSTATE class of integrity constraint violations, e.g. duplicate key */
+    private static final String CONSTRAINT_VIOLATION = "23";
+
+    private final DataSource dataSource;
+
+    /**
+     * Creates the table if not exists.
+     *
+     * @param dataSource The database.
+     */
+    public JdbcGameRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        } catch (SQLException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public GameRecord get(String id) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT)) {
+            statement.setString(1, id);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() ? decode(rows.getBytes(1)) : null;
+            }
+        } catch (SQLException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean create(GameRecord record) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            statement.setString(1, record.getId());
+            statement.setLong(2, record.getVersion());
+            statement.setBytes(3, GameRecordCodec.encode(record));
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            if (e.getSQLState() != null && e.getSQLState().startsWith(CONSTRAINT_VIOLATION)) {
+                return false;
+            }
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(long expectedVersion, GameRecord record) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+            statement.setLong(1, record.getVersion());
+            statement.setBytes(2, GameRecordCodec.encode(record));
+            statement.setString(3, record.getId());
+            statement.setLong(4, expectedVersion);
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean evict(String id) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(DELETE)) {
+            statement.setString(1, id);
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void scan(Consumer<GameRecord> action) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(SCAN)) {
+            while (rows.next()) {
+                action.accept(decode(rows.getBytes(1)));
+            }
+        } catch (SQLException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int size() {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(COUNT)) {
+            return rows.next() ? rows.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    private static GameRecord decode(byte[] bytes) {
+        return GameRecordCodec.decode(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String toString() {
+        return "jdbc, table=[" + TABLE + ']';
+    }
+
+}
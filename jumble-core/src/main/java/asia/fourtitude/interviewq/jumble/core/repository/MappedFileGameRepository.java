@@ -0,0 +1,229 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Game records in a memory mapped file of fixed size slots, so they survive
+ * restarts and live off heap; capacity is fixed by the file size.
+ * <p>
+ * A slot is a 4 bytes length (0 if free) followed by the encoded record,
+ * whose version comes first, so a compare-and-set reads 8 bytes before
+ * writing. Slots are guarded by striped locks; the id to slot index is on
+ * the heap, rebuilt by scanning the slots on open. A slot is written before
+ * its id is indexed, and unindexed before it is freed, so a slot still
+ * indexed under the lock holds the record of that id.
+ */
+public class MappedFileGameRepository implements GameRepository {
+
+    private static final int STRIPES = 64;
+
+    private final Path path;
+
+    private final int capacity;
+
+    private final int slotBytes;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();
+
+    /* free slots, lowest first on open */
+    private final ArrayDeque<Integer> free = new ArrayDeque<>();
+
+    private final Object[] locks = new Object[STRIPES];
+
+    /**
+     * Opens (or creates) the file at `path`, of `capacity` slots of
+     * `slotBytes` each.
+     *
+     * @param path      The file.
+     * @param capacity  The maximum number of records.
+     * @param slotBytes The maximum encoded size of a record, plus 4.
+     * @throws IllegalArgumentException If the sizes are not positive, or the
+     *                                  file would exceed 2 GB.
+     */
+    public MappedFileGameRepository(Path path, int capacity, int slotBytes) {
+        if (capacity <= 0 || slotBytes <= Integer.BYTES + Long.BYTES
+                || (long) capacity * slotBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid capacity=[" + capacity + "], slotBytes=[" + slotBytes
+                    + "], expect positive sizes of at most 2 GB");
+        }
+        this.path = path;
+        this.capacity = capacity;
+        this.slotBytes = slotBytes;
+        for (int ix = 0; ix < STRIPES; ix += 1) {
+            locks[ix] = new Object();
+        }
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * slotBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (int slot = 0; slot < capacity; slot += 1) {
+            GameRecord record = read(slot);
+            if (record == null) {
+                free.addLast(slot);
+            } else {
+                index.put(record.getId(), slot);
+            }
+        }
+    }
+
+    private Object lock(int slot) {
+        return locks[slot & (STRIPES - 1)];
+    }
+
+    private int offset(int slot) {
+        return slot * slotBytes;
+    }
+
+    /* under the slot lock */
+    private GameRecord read(int slot) {
+        int length = buffer.getInt(offset(slot));
+        if (length <= 0 || length > slotBytes - Integer.BYTES) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset(slot) + Integer.BYTES);
+        view.get(bytes);
+        return GameRecordCodec.decode(bytes, 0, length);
+    }
+
+    /* under the slot lock */
+    private void write(int slot, byte[] bytes) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset(slot) + Integer.BYTES);
+        view.put(bytes);
+        buffer.putInt(offset(slot), bytes.length);
+    }
+
+    private byte[] encode(GameRecord record) {
+        byte[] bytes = GameRecordCodec.encode(record);
+        if (bytes.length > slotBytes - Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid record=[" + record + "], expect at most "
+                    + (slotBytes - Integer.BYTES) + " bytes, actual " + bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public GameRecord get(String id) {
+        Integer slot = index.get(id);
+        if (slot == null) {
+            return null;
+        }
+        synchronized (lock(slot)) {
+            // the slot may have been evicted, and reused, since looked up
+            return slot.equals(index.get(id)) ? read(slot) : null;
+        }
+    }
+
+    @Override
+    public boolean create(GameRecord record) {
+        if (index.containsKey(record.getId())) {
+            return false;
+        }
+        byte[] bytes = encode(record);
+        int slot;
+        synchronized (free) {
+            Integer next = free.pollFirst();
+            if (next == null) {
+                throw new IllegalStateException("Game repository is full, capacity=[" + capacity + "]");
+            }
+            slot = next;
+        }
+        synchronized (lock(slot)) {
+            write(slot, bytes);
+        }
+        if (index.putIfAbsent(record.getId(), slot) != null) {
+            release(slot);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean compareAndSet(long expectedVersion, GameRecord record) {
+        Integer slot = index.get(record.getId());
+        if (slot == null) {
+            return false;
+        }
+        byte[] bytes = encode(record);
+        synchronized (lock(slot)) {
+            if (!slot.equals(index.get(record.getId()))
+                    || buffer.getLong(offset(slot) + Integer.BYTES) != expectedVersion) {
+                return false;
+            }
+            write(slot, bytes);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean evict(String id) {
+        Integer slot = index.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        release(slot);
+        return true;
+    }
+
+    private void release(int slot) {
+        synchronized (lock(slot)) {
+            buffer.putInt(offset(slot), 0);
+        }
+        synchronized (free) {
+            free.addLast(slot);
+        }
+    }
+
+    @Override
+    public void scan(Consumer<GameRecord> action) {
+        for (String id : index.keySet()) {
+            GameRecord record = get(id);
+            if (record != null) {
+                action.accept(record);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Flushes the slots to the file, and closes it.
+     */
+    @Override
+    public void close() {
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "file=[" + path + "], size=[" + index.size() + "], capacity=[" + capacity + ']';
+    }
+
+}
@@ -0,0 +1,60 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Game records on the heap, in a concurrent map. Fastest, but bounded by
+ * the heap and lost on restart.
+ */
+public class MemoryGameRepository implements GameRepository {
+
+    private final ConcurrentHashMap<String, GameRecord> records = new ConcurrentHashMap<>();
+
+    @Override
+    public GameRecord get(String id) {
+        GameRecord record = records.get(id);
+        return record == null ? null : record.copy();
+    }
+
+    @Override
+    public boolean create(GameRecord record) {
+        return records.putIfAbsent(record.getId(), record) == null;
+    }
+
+    @Override
+    public boolean compareAndSet(long expectedVersion, GameRecord record) {
+        boolean[] replaced = new boolean[1];
+        records.computeIfPresent(record.getId(), (id, current) -> {
+            if (current.getVersion() != expectedVersion) {
+                return current;
+            }
+            replaced[0] = true;
+            return record;
+        });
+        return replaced[0];
+    }
+
+    @Override
+    public boolean evict(String id) {
+        return records.remove(id) != null;
+    }
+
+    @Override
+    public void scan(Consumer<GameRecord> action) {
+        for (GameRecord record : records.values()) {
+            action.accept(record.copy());
+        }
+    }
+
+    @Override
+    public int size() {
+        return records.size();
+    }
+
+    @Override
+    public String toString() {
+        return "memory, size=[" + records.size() + ']';
+    }
+
+}
@@ -0,0 +1,58 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class GameRoomTest {
+
+    JumbleEngine engine = new JumbleEngine();
+
+    @Test
+    void givenRoom_whenManyPlayersGuessSameWord_thenOneFinder() throws Exception {
+        GameState state = engine.createGameState(6, 3, null, 13L);
+        GameRoom room = new GameRoom("r1", state, 0L);
+        List<String> words = new ArrayList<>(state.getSubWords().keySet());
+        int players = 8;
+        Map<String, Integer> founds = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int ix = 0; ix < players; ix += 1) {
+            String player = "p" + ix;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (String word : words) {
+                    if (room.guess(player, word) == GameRoom.Result.FOUND) {
+                        founds.merge(word, 1, Integer::sum);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(words.size(), founds.size());
+        assertTrue(founds.values().stream().allMatch(count -> count == 1), "founds=" + founds);
+        assertEquals(0, room.getRemainingWords());
+        assertEquals(words.size(), room.getVersion());
+        assertEquals(words.size(), room.getFinders().size());
+        assertEquals(GameRoom.Result.ALREADY, room.guess("late", words.get(0)));
+        assertEquals(GameRoom.Result.INCORRECT, room.guess("late", "zzzzzz"));
+        assertNull(room.getFinder("zzzzzz"));
+    }
+
+}
@@ -0,0 +1,46 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GameTokenCodecTest {
+
+    JumbleEngine engine = new JumbleEngine();
+
+    @Test
+    void givenGuessedGame_whenTokenRoundTrip_thenSameGame() {
+        GameTokenCodec codec = new GameTokenCodec(engine, "secret".getBytes());
+        GameState state = engine.createGameState(6, 3, null, 11L);
+        List<String> words = new ArrayList<>(state.getSubWords().keySet());
+        state.updateGuessWord(words.get(0));
+        state.updateGuessWord(words.get(words.size() - 1));
+
+        String token = codec.encode(state, 3);
+        GameState decoded = codec.decode(token);
+
+        assertNotNull(decoded, "token=" + token);
+        assertEquals(state.getOriginal(), decoded.getOriginal());
+        assertEquals(state.getScramble(), decoded.getScramble());
+        assertEquals(state.getSubWords(), decoded.getSubWords());
+        assertEquals(token, codec.encode(decoded, 3));
+    }
+
+    @Test
+    void givenTamperedOrForeignToken_whenDecode_thenNull() {
+        GameTokenCodec codec = new GameTokenCodec(engine, "secret".getBytes());
+        String token = codec.encode(engine.createGameState(6, 3, null, 12L), 3);
+        char last = token.charAt(20);
+        String tampered = token.substring(0, 20) + (last == 'A' ? 'B' : 'A') + token.substring(21);
+
+        assertNull(codec.decode(tampered), "tampered");
+        assertNull(new GameTokenCodec(engine, "other".getBytes()).decode(token), "other key");
+        assertNull(codec.decode("not a token"), "malformed");
+        assertNull(codec.decode(""), "empty");
+        assertNotNull(new GameTokenCodec(new JumbleEngine(), "secret".getBytes()).decode(token), "other node");
+    }
+
+}
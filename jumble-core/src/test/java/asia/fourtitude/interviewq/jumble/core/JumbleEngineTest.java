@@ -0,0 +1,498 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class JumbleEngineTest {
+
+    JumbleEngine engine = new JumbleEngine();
+
+    @Test
+    void accessResource() {
+        assertNotNull(this.getClass().getClassLoader().getResourceAsStream("words.txt"), "accessWordList");
+    }
+
+    @Test
+    void scramble() {
+        String word = "elephant";
+        String actual = engine.scramble(word);
+        assertNotEquals(actual, word);
+
+        word = "egg";
+        for (int ix = 0; ix < 100; ix += 1) {
+            String scrambled = engine.scramble(word);
+            assertNotEquals(scrambled, word);
+        }
+    }
+
+    @Test
+    void palindrome() {
+        assertEquals(61, engine.retrievePalindromeWords().size(), "retrievePalindromeWords.size()");
+    }
+
+    @Test
+    void randomWord() {
+        assertNotNull(engine.pickOneRandomWord(null), "length=null");
+        assertEquals(3, engine.pickOneRandomWord(3).length(), "length=3");
+        assertEquals(4, engine.pickOneRandomWord(4).length(), "length=4");
+        assertEquals(5, engine.pickOneRandomWord(5).length(), "length=5");
+        assertEquals(6, engine.pickOneRandomWord(6).length(), "length=6");
+        assertEquals(7, engine.pickOneRandomWord(7).length(), "length=7");
+        assertEquals(8, engine.pickOneRandomWord(8).length(), "length=8");
+        assertNull(engine.pickOneRandomWord(99), "length=99");
+    }
+
+    @Test
+    void givenEmptyInvalidWord_thenExpectNotExists() {
+        assertFalse(engine.exists(null), "word=null");
+        assertFalse(engine.exists(""), "word=<EMPTY>");
+        assertFalse(engine.exists(" "), "word=<BLANK>");
+        assertFalse(engine.exists("not-valid"), "word=not-valid");
+        assertFalse(engine.exists("fourtitude"), "word=fourtitude");
+    }
+
+    @Test
+    void givenValidWord_thenExpectExists() {
+        assertTrue(engine.exists("Panda"), "word=Panda");
+        assertTrue(engine.exists("kangaroo"), "word=kangaroo");
+        assertTrue(engine.exists("MaNGoS"), "word=MaNGoS");
+    }
+
+    @Test
+    void givenInvalidPrefix_thenEmptyList() {
+        assertEquals(0, engine.wordsMatchingPrefix(null).size(), "prefix=null");
+        assertEquals(0, engine.wordsMatchingPrefix("").size(), "prefix=<EMPTY>");
+        assertEquals(0, engine.wordsMatchingPrefix(" ").size(), "prefix=<BLANK>");
+        assertEquals(0, engine.wordsMatchingPrefix("!").size(), "prefix=<PUNCT>");
+    }
+
+    @Test
+    void givenValidPrefix_thenSomeWords() {
+        assertEquals(5234, engine.wordsMatchingPrefix("p").size(), "prefix=p");
+        assertEquals(714, engine.wordsMatchingPrefix("pe").size(), "prefix=pe");
+        assertEquals(96, engine.wordsMatchingPrefix("pen").size(), "prefix=pen");
+        assertEquals(7, engine.wordsMatchingPrefix("pend").size(), "prefix=pend");
+        assertEquals(3, engine.wordsMatchingPrefix("pendu").size(), "prefix=pendu");
+        assertEquals(3, engine.wordsMatchingPrefix("pendul").size(), "prefix=pendul");
+        assertEquals(2, engine.wordsMatchingPrefix("pendulu").size(), "prefix=pendulu");
+        assertEquals(2, engine.wordsMatchingPrefix("pendulum").size(), "prefix=pendulum");
+        assertEquals(1, engine.wordsMatchingPrefix("pendulums").size(), "prefix=pendulums");
+        assertEquals(0, engine.wordsMatchingPrefix("pendulumss").size(), "prefix=pendulumss");
+    }
+
+    @Test
+    void givenValidPrefixCaseInsensitive_thenSomeWords() {
+        assertEquals(engine.wordsMatchingPrefix("PeN").size(), engine.wordsMatchingPrefix("pen").size(), "prefix=CASE_INSENSITIVE");
+    }
+
+    @Test
+    void givenInvalidPattern_thenEmptyList() {
+        assertEquals(0, engine.wordsMatchingPattern(null, null).size(), "pattern=null");
+        assertEquals(0, engine.wordsMatchingPattern("", null).size(), "pattern=<EMPTY>");
+        assertEquals(0, engine.wordsMatchingPattern(" ", null).size(), "pattern=<BLANK>");
+        assertEquals(0, engine.wordsMatchingPattern("c?t!", null).size(), "pattern=<PUNCT>");
+        assertEquals(0, engine.wordsMatchingPattern("c?t*", 0).size(), "pattern=c?t*;limit=0");
+    }
+
+    @Test
+    void givenValidPattern_thenSomeWords() {
+        assertEquals(List.of("cat", "cot", "cut"), engine.wordsMatchingPattern("c?t", null), "pattern=c?t");
+        assertEquals(204, engine.wordsMatchingPattern("c?t*", null).size(), "pattern=c?t*");
+        assertEquals(64662, engine.wordsMatchingPattern("*", null).size(), "pattern=*");
+        assertEquals(4, engine.wordsMatchingPattern("?", null).size(), "pattern=?");
+        assertEquals(56, engine.wordsMatchingPattern("a*a", null).size(), "pattern=a*a");
+        assertEquals(6429, engine.wordsMatchingPattern("*ing", null).size(), "pattern=*ing");
+        assertEquals(987, engine.wordsMatchingPattern("*q**u*", null).size(), "pattern=*q**u*");
+        assertEquals(List.of("pendulum", "pendulums"), engine.wordsMatchingPattern("P?N*ULUM*", null), "pattern=P?N*ULUM*");
+        assertEquals(2, engine.wordsMatchingPattern("??????????????????????", null).size(), "pattern=?x22");
+        assertEquals(0, engine.wordsMatchingPattern("x*z", null).size(), "pattern=x*z");
+    }
+
+    @Test
+    void givenValidPatternWithLimit_thenFirstWords() {
+        assertEquals(List.of("cat", "cataclysm", "cataclysmic"), engine.wordsMatchingPattern("c?t*", 3), "pattern=c?t*;limit=3");
+    }
+
+    @Test
+    void givenEmptyRegex_thenEmptyList() {
+        assertEquals(0, engine.wordsMatchingRegex(null, null).size(), "regex=null");
+        assertEquals(0, engine.wordsMatchingRegex("", null).size(), "regex=<EMPTY>");
+        assertEquals(0, engine.wordsMatchingRegex(" ", null).size(), "regex=<BLANK>");
+    }
+
+    @Test
+    void givenInvalidRegex_thenIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingRegex("c[at", null), "regex=c[at");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingRegex("(cat", null), "regex=(cat");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingRegex("c\\d", null), "regex=c\\d");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingRegex("a{99}", null), "regex=a{99}");
+    }
+
+    @Test
+    void givenPathologicalRegex_thenStateLimit() {
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsMatchingRegex("[ab]*a[ab]{20}", null), "regex=[ab]*a[ab]{20}");
+    }
+
+    @Test
+    void givenValidRegex_thenSomeWords() {
+        assertEquals(List.of("cat", "cot", "cut"), engine.wordsMatchingRegex("c[aeiou]t", null), "regex=c[aeiou]t");
+        assertEquals(List.of("color", "colour"), engine.wordsMatchingRegex("^COLOU?R$", null), "regex=^COLOU?R$");
+        assertEquals(List.of("ace"), engine.wordsMatchingRegex("a(b|c|d|)e", null), "regex=a(b|c|d|)e");
+        assertEquals(List.of("qwerty"), engine.wordsMatchingRegex("q[^u].*", null), "regex=q[^u].*");
+        assertEquals(25, engine.wordsMatchingRegex("[^aeiou]*y", null).size(), "regex=[^aeiou]*y");
+        assertEquals(8, engine.wordsMatchingRegex("(?:un|re)[a-z]{3}able", null).size(), "regex=(?:un|re)[a-z]{3}able");
+        assertEquals(1136, engine.wordsMatchingRegex(".*(ss|zz)", null).size(), "regex=.*(ss|zz)");
+        assertEquals(63, engine.wordsMatchingRegex("[a-f]+", null).size(), "regex=[a-f]+");
+        assertEquals(64662, engine.wordsMatchingRegex(".*", null).size(), "regex=.*");
+        assertEquals(0, engine.wordsMatchingRegex("x{2,}", null).size(), "regex=x{2,}");
+        assertEquals(List.of("by", "cry"), engine.wordsMatchingRegex("[^aeiou]*y", 2), "regex=[^aeiou]*y;limit=2");
+    }
+
+    @Test
+    void givenInvalidLetters_thenNoAnagrams() {
+        assertEquals(0, engine.anagrams(null).size(), "letters=null");
+        assertEquals(0, engine.anagrams("").size(), "letters=<EMPTY>");
+        assertEquals(0, engine.anagrams(" ").size(), "letters=<BLANK>");
+        assertEquals(0, engine.anagrams("list-en").size(), "letters=<PUNCT>");
+        assertEquals(0, engine.anagrams("xyzzy").size(), "letters=xyzzy");
+        assertEquals(0, engine.anagrams("eeeeeeeee").size(), "letters=e*9");
+    }
+
+    @Test
+    void givenValidLetters_thenAnagrams() {
+        assertEquals(List.of("enlist", "inlets", "listen", "silent", "tinsel"), engine.anagrams("listen"), "letters=listen");
+        assertEquals(engine.anagrams("listen"), engine.anagrams("Silent"), "letters=Silent");
+        assertEquals(List.of("opts", "post", "pots", "spot", "stop", "tops"), engine.anagrams(" Stop "), "letters=<PAD>Stop<PAD>");
+        assertEquals(7, engine.anagrams("aeprs").size(), "letters=aeprs");
+        assertEquals(List.of("a"), engine.anagrams("a"), "letters=a");
+    }
+
+    @Test
+    void givenInvalidPhrase_thenNoPhraseAnagrams() {
+        List<List<String>> solutions = new ArrayList<>();
+        assertEquals(PhraseAnagramSolver.Outcome.COMPLETE, engine.phraseAnagrams(null, null, 10, 1000, solutions::add), "phrase=null");
+        assertEquals(PhraseAnagramSolver.Outcome.COMPLETE, engine.phraseAnagrams(" - ", null, 10, 1000, solutions::add), "phrase=<PUNCT>");
+        assertEquals(PhraseAnagramSolver.Outcome.COMPLETE, engine.phraseAnagrams("xyzzy", null, 10, 1000, solutions::add), "phrase=xyzzy");
+        assertEquals(0, solutions.size(), "solutions");
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.phraseAnagrams("abcdefghijklmnopqrstuvwxyzabcdefghijklmnop", null, 10, 1000, solutions::add),
+                "phrase=<TOO_LONG>");
+    }
+
+    @Test
+    void givenValidPhrase_thenPhraseAnagrams() {
+        List<List<String>> solutions = new ArrayList<>();
+        assertEquals(PhraseAnagramSolver.Outcome.COMPLETE, engine.phraseAnagrams("Dormitory", null, 100, 5000, solutions::add), "phrase=Dormitory");
+        assertEquals(11, solutions.size(), "phrase=Dormitory");
+        assertTrue(solutions.contains(List.of("dirty", "room")), "phrase=Dormitory");
+        // each multiset of words once, never the single word
+        assertEquals(solutions.size(), new HashSet<>(solutions).size(), "phrase=Dormitory");
+        assertFalse(solutions.contains(List.of("dormitory")), "phrase=Dormitory");
+
+        solutions.clear();
+        assertEquals(PhraseAnagramSolver.Outcome.COMPLETE, engine.phraseAnagrams("the eyes", 3, 100, 5000, solutions::add), "phrase=the eyes");
+        assertEquals(4, solutions.size(), "phrase=the eyes");
+        assertTrue(solutions.contains(List.of("see", "they")), "phrase=the eyes");
+    }
+
+    @Test
+    void givenValidPhraseWithLimit_thenLimitedPhraseAnagrams() {
+        List<List<String>> solutions = new ArrayList<>();
+        assertEquals(PhraseAnagramSolver.Outcome.LIMIT, engine.phraseAnagrams("astronomer", 3, 5, 5000, solutions::add), "phrase=astronomer;limit=5");
+        assertEquals(5, solutions.size(), "phrase=astronomer;limit=5");
+    }
+
+    @Test
+    void givenInvalidLettersAt_thenEmptyListOrIllegalArgument() {
+        assertEquals(0, engine.wordsWithLettersAt(null, Map.of(1, 'a'), null).size(), "length=null");
+        assertEquals(0, engine.wordsWithLettersAt(0, null, null).size(), "length=0");
+        assertEquals(0, engine.wordsWithLettersAt(99, null, null).size(), "length=99");
+        assertEquals(0, engine.wordsWithLettersAt(5, Map.of(1, 'q'), 0).size(), "length=5;1=q;limit=0");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsWithLettersAt(5, Map.of(6, 'a'), null), "length=5;6=a");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsWithLettersAt(5, Map.of(0, 'a'), null), "length=5;0=a");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordsWithLettersAt(5, Map.of(1, '7'), null), "length=5;1=7");
+    }
+
+    @Test
+    void givenValidLettersAt_thenSomeWords() {
+        assertEquals(40, engine.wordsWithLettersAt(7, Map.of(2, 'r', 5, 'n'), null).size(), "length=7;2=r;5=n");
+        assertEquals(List.of("arrange", "arsenal", "arsenic"), engine.wordsWithLettersAt(7, Map.of(2, 'R', 5, 'n'), 3), "length=7;2=R;5=n;limit=3");
+        assertEquals(List.of("caeca", "paean"), engine.wordsWithLettersAt(5, Map.of(2, 'a', 3, 'e'), null), "length=5;2=a;3=e");
+        assertEquals(31, engine.wordsWithLettersAt(5, Map.of(1, 'q'), null).size(), "length=5;1=q");
+        assertEquals(List.of("xylophone"), engine.wordsWithLettersAt(9, Map.of(1, 'x'), null), "length=9;1=x");
+        assertEquals(7352, engine.wordsWithLettersAt(6, Map.of(), null).size(), "length=6");
+        assertEquals(0, engine.wordsWithLettersAt(5, Map.of(1, 'x', 2, 'x'), null).size(), "length=5;1=x;2=x");
+    }
+
+    @Test
+    void givenInvalidWord_whenDidYouMean_thenEmptyListOrIllegalArgument() {
+        assertEquals(0, engine.didYouMean(null, null, null).size(), "word=null");
+        assertEquals(0, engine.didYouMean(" ", null, null).size(), "word=<BLANK>");
+        assertEquals(0, engine.didYouMean("wrod", null, 0).size(), "word=wrod;limit=0");
+        assertEquals(0, engine.didYouMean("internationalisations", null, null).size(), "word=<TOO_LONG>");
+        assertThrows(IllegalArgumentException.class, () -> engine.didYouMean("wrod", 0, null), "word=wrod;maxDistance=0");
+        assertThrows(IllegalArgumentException.class, () -> engine.didYouMean("wrod", 3, null), "word=wrod;maxDistance=3");
+    }
+
+    @Test
+    void givenMisspelledWord_whenDidYouMean_thenClosestWords() {
+        assertEquals(List.of("prod", "rod", "trod", "wood"), engine.didYouMean("wrod", 1, null), "word=wrod;maxDistance=1");
+        assertEquals(List.of("prod", "rod", "trod", "wood", "arid", "bod"), engine.didYouMean("wrod", null, 6), "word=wrod;limit=6");
+        assertTrue(engine.didYouMean("wrod", null, null).contains("word"), "word=wrod");
+        assertEquals(List.of("tomato", "tomatoes"), engine.didYouMean("Tomatoe", 1, null), "word=Tomatoe;maxDistance=1");
+        assertFalse(engine.didYouMean("tomato", 1, null).contains("tomato"), "word=tomato;maxDistance=1");
+    }
+
+    @Test
+    void givenIncorrectGuess_whenSuggestWords_thenClosestSubWords() {
+        Map<String, Boolean> subWords = new HashMap<>();
+        for (String word : List.of("tomato", "motto", "atom", "moat", "mott", "tom")) {
+            subWords.put(word, Boolean.FALSE);
+        }
+        GameState state = new GameState("tomato", "otmato", subWords);
+        assertTrue(state.updateGuessWord("atom"), "guess=atom");
+        assertEquals(List.of("mott", "motto", "moat"), state.suggestWords("moto", 5), "word=moto");
+        assertEquals(List.of("mott"), state.suggestWords("moto", 1), "word=moto;limit=1");
+        // guessed already
+        assertEquals(List.of("tom"), state.suggestWords("atoms", 5), "word=atoms");
+        assertEquals(0, state.suggestWords("zzzzz", 5).size(), "word=zzzzz");
+        assertEquals(0, state.suggestWords(null, 5).size(), "word=null");
+    }
+
+    @Test
+    void givenInvalidInput_whenWordle_thenExpectException() {
+        assertThrows(IllegalArgumentException.class, () -> engine.wordle(null, null, null, null), "length=null");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordle(1, null, null, null), "length=1");
+        assertThrows(IllegalArgumentException.class, () -> engine.wordle(11, null, null, null), "length=11");
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.wordle(5, List.of("crane"), List.of(), null), "crane;feedback=<NONE>");
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.wordle(5, List.of("crane"), List.of("gyyb"), null), "crane;feedback=gyyb");
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.wordle(5, List.of("crane"), List.of("gyyxb"), null), "crane;feedback=gyyxb");
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.wordle(5, List.of("cr4ne"), List.of("gyybb"), null), "cr4ne;feedback=gyybb");
+    }
+
+    @Test
+    void givenValidInput_whenWordle_thenCandidatesAndSuggestions() {
+        WordleSolver.Result first = engine.wordle(5, null, null, 3);
+        assertEquals(3, first.getSuggestions().size(), "length=5;limit=3");
+        assertEquals("tares", first.getSuggestions().get(0).getWord(), "length=5;limit=3");
+
+        WordleSolver.Result result = engine.wordle(5, List.of("Crane"), List.of("GYYBB"), null);
+        assertEquals(14, result.getCandidates().size(), "crane=gyybb");
+        assertTrue(result.getCandidates().contains("cigar"), "crane=gyybb");
+        assertEquals(10, result.getSuggestions().size(), "crane=gyybb");
+        for (String candidate : result.getCandidates()) {
+            assertEquals('c', candidate.charAt(0), "crane=gyybb;candidate=" + candidate);
+        }
+
+        result = engine.wordle(5, List.of("crane", "cigar"), List.of("gyybb", "ggggg"), 1);
+        assertEquals(List.of("cigar"), result.getCandidates(), "crane=gyybb;cigar=ggggg");
+        assertEquals("cigar", result.getSuggestions().get(0).getWord(), "crane=gyybb;cigar=ggggg");
+        assertTrue(result.getSuggestions().get(0).isCandidate(), "crane=gyybb;cigar=ggggg");
+
+        // inconsistent history
+        assertEquals(0, engine.wordle(5, List.of("cigar", "cigar"), List.of("ggggg", "bbbbb"), null).getCandidates().size(), "cigar=ggggg;cigar=bbbbb");
+    }
+
+    @Test
+    void givenAllEmptyAndOrInvalidInputs_thenEmptyList() {
+        assertEquals(0, engine.searchWords(null, null, null).size(), "start=null;end=null;length=null");
+        assertEquals(0, engine.searchWords(' ', '$', 0).size(), "start=<SPACE>;end=<PUNCT>;length=0");
+        assertEquals(0, engine.searchWords('\t', '7', -123).size(), "start=<CONTROL>;end=<NUMBER>;length=<NEGATIVE>");
+    }
+
+    @Test
+    void givenValidStartCharOnly_thenSomeWords() {
+        // uppercase, lowercase
+        assertEquals(3478, engine.searchWords('a', null, null).size(), "start=a;end=null;length=null");
+        assertEquals(3911, engine.searchWords('B', null, null).size(), "start=B;end=null;length=null");
+    }
+
+    @Test
+    void givenValidEndCharOnly_thenSomeWords() {
+        // uppercase, lowercase
+        assertEquals(677, engine.searchWords(null, 'c', null).size(), "start=null;end=c;length=null");
+        assertEquals(7654, engine.searchWords(null, 'D', null).size(), "start=null;end=D;length=null");
+    }
+
+    @Test
+    void givenValidLengthOnly_thenSomeWords() {
+        // length less than MAX
+        assertEquals(4, engine.searchWords(null, null, 1).size(), "start=null;end=null;length=1");
+        assertEquals(61, engine.searchWords(null, null, 2).size(), "start=null;end=null;length=2");
+        assertEquals(649, engine.searchWords(null, null, 3).size(), "start=null;end=null;length=3");
+        assertEquals(2446, engine.searchWords(null, null, 4).size(), "start=null;end=null;length=4");
+        assertEquals(4680, engine.searchWords(null, null, 5).size(), "start=null;end=null;length=5");
+        assertEquals(7352, engine.searchWords(null, null, 6).size(), "start=null;end=null;length=6");
+        assertEquals(9878, engine.searchWords(null, null, 7).size(), "start=null;end=null;length=7");
+        assertEquals(10466, engine.searchWords(null, null, 8).size(), "start=null;end=null;length=8");
+        assertEquals(9412, engine.searchWords(null, null, 9).size(), "start=null;end=null;length=9");
+        assertEquals(7569, engine.searchWords(null, null, 10).size(), "start=null;end=null;length=10");
+        assertEquals(5250, engine.searchWords(null, null, 11).size(), "start=null;end=null;length=11");
+        assertEquals(3383, engine.searchWords(null, null, 12).size(), "start=null;end=null;length=12");
+        assertEquals(1885, engine.searchWords(null, null, 13).size(), "start=null;end=null;length=13");
+        assertEquals(891, engine.searchWords(null, null, 14).size(), "start=null;end=null;length=14");
+        assertEquals(434, engine.searchWords(null, null, 15).size(), "start=null;end=null;length=15");
+        assertEquals(176, engine.searchWords(null, null, 16).size(), "start=null;end=null;length=16");
+        assertEquals(84, engine.searchWords(null, null, 17).size(), "start=null;end=null;length=17");
+        assertEquals(21, engine.searchWords(null, null, 18).size(), "start=null;end=null;length=18");
+        assertEquals(10, engine.searchWords(null, null, 19).size(), "start=null;end=null;length=19");
+        assertEquals(7, engine.searchWords(null, null, 20).size(), "start=null;end=null;length=20");
+        assertEquals(2, engine.searchWords(null, null, 21).size(), "start=null;end=null;length=21");
+        assertEquals(2, engine.searchWords(null, null, 22).size(), "start=null;end=null;length=22");
+    }
+
+    @Test
+    void givenValidStartCharAndValidEndCharAndValidLength_thenSomeWords() {
+        assertEquals(307, engine.searchWords('F', 'G', null).size(), "start=F;end=G;length=null");
+        assertEquals(377, engine.searchWords('h', null, 7).size(), "start=h;end=null;length=7");
+        assertEquals(30, engine.searchWords(null, 'i', 8).size(), "start=null;end=i;length=8");
+        assertEquals(17, engine.searchWords('M', 'N', 9).size(), "start=M;end=N;length=9");
+
+        Collection<String> words = engine.searchWords('f', 'r', 6);
+        assertTrue(words.contains("flower"), "start=f;end=r;length=6;word=flower");
+    }
+
+    @Test
+    void givenValidStartCharAndValidEndCharAndValidLength_thenEmptyList() {
+        // length too large
+        // wrong combo of startChar and endChar
+        assertEquals(0, engine.searchWords('m', 'n', 19).size(), "start=m;end=n;length=19");
+        assertEquals(0, engine.searchWords('K', 'q', null).size(), "start=K;end=q;length=null");
+    }
+
+    @Test
+    void whenInvalidWord_thenEmptyList() {
+        assertEquals(0, engine.generateSubWords(null, null).size(), "word=null;len=null");
+        assertEquals(0, engine.generateSubWords("", null).size(), "word=<EMPTY>;len=null");
+        assertEquals(0, engine.generateSubWords(" ", null).size(), "word=<BLANK>;len=null");
+        assertEquals(0, engine.generateSubWords("@", null).size(), "word=<PUNCT>;len=null");
+        assertEquals(0, engine.generateSubWords("fusion", 6).size(), "word=fusion;len=6");
+        assertEquals(0, engine.generateSubWords("fusion", 5).size(), "word=fusion;len=5");
+    }
+
+    @Test
+    void whenValidWord_thenSomeWord() {
+        assertEquals(16, engine.generateSubWords("fusion", null).size(), "word=fusion;len=null");
+        assertEquals(0, engine.generateSubWords("fusion", 0).size(), "word=fusion;len=0");
+        assertEquals(27, engine.generateSubWords("fusion", 1).size(), "word=fusion;len=1");
+        assertEquals(25, engine.generateSubWords("fusion", 2).size(), "word=fusion;len=2");
+        assertEquals(16, engine.generateSubWords("fusion", 3).size(), "word=fusion;len=3");
+        assertEquals(6, engine.generateSubWords("fusion", 4).size(), "word=fusion;len=4");
+        assertEquals(0, engine.generateSubWords("fusion", 5).size(), "word=fusion;len=5");
+    }
+
+    @Test
+    void givenValidInput_whenCreateGameState_thenExpectSuccess() {
+        assertNotNull(engine.createGameState(3, null), "length=3;minLength=null");
+        assertNotNull(engine.createGameState(4, null), "length=4;minLength=null");
+        assertNotNull(engine.createGameState(4, 3), "length=4;minLength=3");
+        assertNotNull(engine.createGameState(5, 3), "length=5;minLength=3");
+        assertNotNull(engine.createGameState(6, 5), "length=6;minLength=5");
+        assertNotNull(engine.createGameState(6, 6), "length=6;minLength=6");
+    }
+
+    @Test
+    void givenInvalidInput_whenCreateGameState_thenExpectException() {
+        assertThrows(NullPointerException.class, () -> {
+            engine.createGameState(null, null);
+        }, "length=null;minLength=null");
+        assertThrows(IllegalArgumentException.class, () -> {
+            engine.createGameState(1, null);
+        }, "length=1;minLength=null");
+        assertThrows(IllegalArgumentException.class, () -> {
+            engine.createGameState(2, null);
+        }, "length=2;minLength=null");
+        assertThrows(IllegalArgumentException.class, () -> {
+            engine.createGameState(4, 5);
+        }, "length=4;minLength=5");
+    }
+
+    @Test
+    void givenDifficulty_whenCreateGameState_thenSeedInBand() {
+        SeedIndex seeds = engine.getDictionary().getSeedIndex();
+        for (SeedIndex.Difficulty difficulty : SeedIndex.Difficulty.values()) {
+            GameState state = engine.createGameState(6, 3, difficulty);
+            String seed = state.getOriginal();
+            assertEquals(6, seed.length(), "difficulty=" + difficulty);
+            assertTrue(state.getSubWords().size() >= SeedIndex.MIN_SUB_WORDS, "difficulty=" + difficulty);
+            assertEquals(state.getSubWords().size(), seeds.subWordCount(seed, 3), "seed=" + seed);
+            double score = seeds.difficulty(seed, 3);
+            assertTrue(score >= difficulty.ordinal() / 3.0 - 0.01 && score <= (difficulty.ordinal() + 1) / 3.0 + 0.01,
+                    "seed=" + seed + ";score=" + score);
+        }
+        assertEquals(9, engine.createGameState(9, 3, SeedIndex.Difficulty.EASY).getOriginal().length(), "unrated length=9");
+    }
+
+    @Test
+    void givenSeedIndex_whenSubWordCount_thenMatchesGenerateSubWords() {
+        SeedIndex seeds = engine.getDictionary().getSeedIndex();
+        assertEquals(16, seeds.subWordCount("fusion", 3), "word=fusion;len=3");
+        assertEquals(6, seeds.subWordCount("fusion", 4), "word=fusion;len=4");
+        assertEquals(-1, seeds.subWordCount("fusion", 7), "word=fusion;len=7");
+        assertTrue(seeds.size(6, 3) > 0);
+        assertNull(seeds.sample(2, 1, null, new SplittableRandom()));
+    }
+
+    @Test
+    void givenDifficultyName_whenParse_thenExpectDifficulty() {
+        assertEquals(SeedIndex.Difficulty.EASY, SeedIndex.Difficulty.parse("easy"));
+        assertEquals(SeedIndex.Difficulty.HARD, SeedIndex.Difficulty.parse(" Hard "));
+        assertNull(SeedIndex.Difficulty.parse(""));
+        assertNull(SeedIndex.Difficulty.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> SeedIndex.Difficulty.parse("tough"));
+    }
+
+    @Test
+    void givenSeed_whenCreateGameState_thenSameGame() {
+        JumbleEngine other = new JumbleEngine();
+        for (long seed = 20000L; seed < 20010L; seed += 1) {
+            GameState expected = engine.createGameState(6, 3, SeedIndex.Difficulty.MEDIUM, seed);
+            GameState actual = other.createGameState(6, 3, SeedIndex.Difficulty.MEDIUM, seed);
+            assertEquals(expected.getOriginal(), actual.getOriginal(), "seed=" + seed);
+            assertEquals(expected.getScramble(), actual.getScramble(), "seed=" + seed);
+            assertEquals(expected.getSubWords(), actual.getSubWords(), "seed=" + seed);
+            assertNotEquals(expected.getOriginal(), expected.getScramble(), "seed=" + seed);
+        }
+        Set<String> words = new HashSet<>();
+        for (long seed = 0L; seed < 10L; seed += 1) {
+            words.add(engine.createGameState(6, 3, null, seed).getOriginal());
+        }
+        assertTrue(words.size() > 1, "words=" + words);
+    }
+
+    @Test
+    void givenSeededRandom_whenScramble_thenReproducible() {
+        assertEquals(engine.scramble("elephant", new SplittableRandom(42L)),
+                engine.scramble("elephant", new SplittableRandom(42L)));
+        assertNotEquals("elephant", engine.scramble("elephant", new SplittableRandom(42L)));
+        assertEquals("aaa", engine.scramble("aaa"));
+    }
+
+    @Test
+    void givenGuessedGame_whenCopy_thenNothingGuessed() {
+        GameState state = engine.createGameState(6, 3, null, 7L);
+        String word = state.getSubWords().keySet().iterator().next();
+        assertTrue(state.updateGuessWord(word));
+        GameState copy = state.copy();
+        assertEquals(state.getOriginal(), copy.getOriginal());
+        assertEquals(state.getScramble(), copy.getScramble());
+        assertEquals(state.getSubWords().keySet(), copy.getSubWords().keySet());
+        assertTrue(copy.getGuessedWords().isEmpty());
+        assertEquals(1, state.getGuessedWords().size());
+    }
+
+}
@@ -0,0 +1,86 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class LeaderboardTest {
+
+    @Test
+    void givenLeaderboard_whenSubmit_thenBestScoreRanked() {
+        Leaderboard board = new Leaderboard();
+        assertTrue(board.submit("alice", 300));
+        assertTrue(board.submit("bob", 500));
+        assertTrue(board.submit("carol", 300));
+        assertFalse(board.submit("alice", 200));
+        assertTrue(board.submit("dave", 100));
+
+        assertEquals(4, board.size());
+        assertEquals(300, board.getScore("alice"));
+        assertEquals(1L, board.getEntry("bob").getRank());
+        assertEquals(2L, board.getEntry("alice").getRank());
+        assertEquals(2L, board.getEntry("carol").getRank());
+        assertEquals(4L, board.getEntry("dave").getRank());
+        assertNull(board.getEntry("eve"));
+
+        assertTrue(board.submit("dave", 600));
+        List<Leaderboard.Entry> top = board.top(3);
+        assertEquals(3, top.size());
+        assertEquals("dave", top.get(0).getPlayer());
+        assertEquals(1L, top.get(0).getRank());
+        assertEquals("bob", top.get(1).getPlayer());
+        assertEquals("alice", top.get(2).getPlayer());
+        assertEquals(3L, top.get(2).getRank());
+        assertEquals(4, board.size());
+
+        board.submit("max", Integer.MAX_VALUE);
+        assertEquals(Leaderboard.MAX_SCORE, board.getScore("max"));
+    }
+
+    @Test
+    void givenLeaderboard_whenConcurrentSubmits_thenConsistent() throws Exception {
+        Leaderboard board = new Leaderboard();
+        int players = 50;
+        int threadCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int ix = 0; ix < threadCount; ix += 1) {
+            long seed = ix;
+            Thread thread = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int round = 0; round < 2000; round += 1) {
+                    board.submit("p" + random.nextInt(players), random.nextInt(1000));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<Leaderboard.Entry> top = board.top(players + 1);
+        assertEquals(players, board.size());
+        assertEquals(players, top.size());
+        for (int ix = 0; ix < top.size(); ix += 1) {
+            Leaderboard.Entry entry = top.get(ix);
+            assertEquals(board.getScore(entry.getPlayer()), entry.getScore());
+            assertEquals(board.getEntry(entry.getPlayer()).getRank(), entry.getRank());
+            if (ix > 0) {
+                assertTrue(top.get(ix - 1).getScore() >= entry.getScore());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package asia.fourtitude.interviewq.jumble.core.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import asia.fourtitude.interviewq.jumble.core.Dictionary;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JumbleEventTest {
+
+    static final String PREFIX = "asia.fourtitude.interviewq.jumble.";
+
+    static List<RecordedEvent> record(Runnable runnable, String... events) throws IOException {
+        Path file = Files.createTempFile("jumble", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : events) {
+                recording.enable(PREFIX + event).withThreshold(Duration.ZERO).withoutStackTrace();
+            }
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith(PREFIX))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void whenDictionaryLoaded_thenLoadAndIndexBuildEvents() throws IOException {
+        JumbleEngine engine = new JumbleEngine();
+        List<RecordedEvent> events = record(engine::getDictionary, "DictionaryLoad", "IndexBuild");
+
+        assertEquals(2, events.size(), "indexes built on first use");
+        RecordedEvent load = events.get(0);
+        assertEquals(PREFIX + "DictionaryLoad", load.getEventType().getName());
+        assertEquals("words.txt", load.getString("resource"));
+        assertEquals(engine.getDictionary().size(), load.getInt("resultSize"));
+        assertEquals(engine.getDictionaryVersion(), load.getLong("dictionaryVersion"));
+        RecordedEvent index = events.get(1);
+        assertEquals(PREFIX + "IndexBuild", index.getEventType().getName());
+        assertEquals("sorted", index.getString("index"));
+        assertTrue(index.getLong("bytes") > 0);
+
+        events = record(() -> {
+            Dictionary dictionary = engine.getDictionary();
+            dictionary.getSubWordIndex();
+            dictionary.getTrie();
+            dictionary.getPositionIndex();
+            dictionary.getSeedIndex();
+            dictionary.getAnagramIndex();
+        }, "IndexBuild");
+        assertEquals(5, events.size());
+        RecordedEvent subWords = events.get(0);
+        assertEquals(PREFIX + "IndexBuild", subWords.getEventType().getName());
+        assertEquals("letter-counts", subWords.getString("index"));
+        assertTrue(subWords.getLong("bytes") > 0);
+        RecordedEvent trie = events.get(1);
+        assertEquals("trie", trie.getString("index"));
+        assertTrue(trie.getLong("bytes") > 0);
+        RecordedEvent positions = events.get(2);
+        assertEquals("positions", positions.getString("index"));
+        assertTrue(positions.getLong("bytes") > 0);
+        RecordedEvent anagrams = events.get(3);
+        assertEquals("anagrams", anagrams.getString("index"), "built for the seeds");
+        assertTrue(anagrams.getLong("bytes") > 0);
+        RecordedEvent seeds = events.get(4);
+        assertEquals("seeds", seeds.getString("index"));
+        assertEquals(engine.getDictionary().getSeedIndex().size(), seeds.getInt("resultSize"));
+        assertTrue(seeds.getLong("bytes") > 0);
+    }
+
+    @Test
+    void whenBuildIndexes_thenEachIndexBuiltOnce() throws IOException {
+        JumbleEngine engine = new JumbleEngine();
+        long loaded = engine.getDictionary().getEstimatedBytes();
+        List<RecordedEvent> events = record(() -> engine.getDictionary().buildIndexes().getSeedIndex(),
+                "IndexBuild");
+
+        assertEquals(List.of("anagrams", "letter-counts", "positions", "seeds", "trie"), events.stream()
+                .map(event -> event.getString("index")).sorted().collect(Collectors.toList()));
+        assertTrue(engine.getDictionary().getEstimatedBytes() > loaded);
+    }
+
+    @Test
+    void whenPrefixQueried_thenPrefixQueryEvent() throws IOException {
+        JumbleEngine engine = new JumbleEngine();
+        engine.getDictionary();
+        List<RecordedEvent> events = record(() -> engine.wordsMatchingPrefix("awe"), "PrefixQuery");
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("awe", event.getString("prefix"));
+        assertEquals(3, event.getInt("inputSize"));
+        assertEquals(7, event.getInt("resultSize"));
+        assertEquals(engine.getDictionaryVersion(), event.getLong("dictionaryVersion"));
+    }
+
+    @Test
+    void givenDefaultThreshold_whenFastQuery_thenNotCommitted() throws IOException {
+        JumbleEngine engine = new JumbleEngine();
+        engine.getDictionary();
+        Path file = Files.createTempFile("jumble", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "PrefixQuery");
+            recording.start();
+            engine.wordsMatchingPrefix("awe");
+            recording.stop();
+            recording.dump(file);
+            long count = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(PREFIX + "PrefixQuery"))
+                    .count();
+            assertEquals(0, count, "faster than default threshold of 1 ms");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
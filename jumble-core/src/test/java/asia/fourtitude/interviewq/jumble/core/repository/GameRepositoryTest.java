@@ -0,0 +1,181 @@
+package asia.fourtitude.interviewq.jumble.core.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+
+/**
+ * Conformance of every {@link GameRepository} backend.
+ */
+class GameRepositoryTest {
+
+    static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @TempDir
+    Path dir;
+
+    GameRepository open(String backend) {
+        switch (backend) {
+        case "memory":
+            return new MemoryGameRepository();
+        case "file":
+            return new MappedFileGameRepository(dir.resolve("games.dat"), 64, 1024);
+        case "h2":
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:games" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+            return new JdbcGameRepository(dataSource);
+        default:
+            throw new IllegalArgumentException(backend);
+        }
+    }
+
+    static GameRecord record(String id, long version) {
+        Map<String, Boolean> subWords = new TreeMap<>();
+        subWords.put("ant", Boolean.FALSE);
+        subWords.put("tan", Boolean.TRUE);
+        subWords.put("tar", Boolean.FALSE);
+        return new GameRecord(id, version, 1000L, 2000L + version, new GameState("rant", "tnar", subWords));
+    }
+
+    static void assertSameRecord(GameRecord expected, GameRecord actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getModifiedAt(), actual.getModifiedAt());
+        assertEquals(expected.getState().getOriginal(), actual.getState().getOriginal());
+        assertEquals(expected.getState().getScramble(), actual.getState().getScramble());
+        assertEquals(expected.getState().getSubWords(), actual.getState().getSubWords());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "memory", "file", "h2" })
+    void givenCreated_whenGet_thenCopyOfRecord(String backend) {
+        try (GameRepository repository = open(backend)) {
+            GameRecord record = record("g1", 0L);
+            assertTrue(repository.create(record));
+            assertFalse(repository.create(record("g1", 5L)), "duplicate id");
+            assertNull(repository.get("g2"));
+
+            GameRecord found = repository.get("g1");
+            assertSameRecord(record, found);
+            found.getState().updateGuessWord("ant");
+            assertEquals(Boolean.FALSE, repository.get("g1").getState().getSubWords().get("ant"), "copy");
+            assertEquals(1, repository.size());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "memory", "file", "h2" })
+    void givenVersion_whenCompareAndSet_thenOnlyIfUnchanged(String backend) {
+        try (GameRepository repository = open(backend)) {
+            repository.create(record("g1", 0L));
+
+            assertTrue(repository.compareAndSet(0L, record("g1", 1L)));
+            assertFalse(repository.compareAndSet(0L, record("g1", 1L)), "stale version");
+            assertFalse(repository.compareAndSet(0L, record("g2", 1L)), "not found");
+            assertSameRecord(record("g1", 1L), repository.get("g1"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "memory", "file", "h2" })
+    void givenRecords_whenEvictAndScan_thenRemaining(String backend) {
+        try (GameRepository repository = open(backend)) {
+            for (int ix = 0; ix < 10; ix += 1) {
+                assertTrue(repository.create(record("g" + ix, 0L)));
+            }
+            assertTrue(repository.evict("g3"));
+            assertFalse(repository.evict("g3"));
+            assertNull(repository.get("g3"));
+            assertFalse(repository.compareAndSet(0L, record("g3", 1L)));
+
+            Set<String> ids = new HashSet<>();
+            repository.scan(record -> ids.add(record.getId()));
+            assertEquals(9, ids.size());
+            assertFalse(ids.contains("g3"));
+            assertEquals(9, repository.size());
+            assertTrue(repository.create(record("g3", 0L)), "re-created after evict");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "memory", "file", "h2" })
+    void givenConcurrentUpdates_whenCompareAndSetRetried_thenNoneLost(String backend) throws Exception {
+        int threads = 4;
+        int updates = 50;
+        try (GameRepository repository = open(backend)) {
+            repository.create(record("g1", 0L));
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int ix = 0; ix < threads; ix += 1) {
+                    futures.add(executor.submit(() -> {
+                        for (int update = 0; update < updates; update += 1) {
+                            GameRecord current;
+                            do {
+                                current = repository.get("g1");
+                            } while (!repository.compareAndSet(current.getVersion(),
+                                    record("g1", current.getVersion() + 1)));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(threads * updates, repository.get("g1").getVersion());
+        }
+    }
+
+    @Test
+    void givenFileRepository_whenReopened_thenRecordsKept() throws IOException {
+        Path file = dir.resolve("reopen.dat");
+        try (GameRepository repository = new MappedFileGameRepository(file, 4, 1024)) {
+            repository.create(record("g1", 0L));
+            repository.create(record("g2", 0L));
+            repository.compareAndSet(0L, record("g2", 1L));
+            repository.evict("g1");
+        }
+        assertTrue(Files.size(file) > 0);
+        try (GameRepository repository = new MappedFileGameRepository(file, 4, 1024)) {
+            assertEquals(1, repository.size());
+            assertNull(repository.get("g1"));
+            assertSameRecord(record("g2", 1L), repository.get("g2"));
+        }
+    }
+
+    @Test
+    void givenFullFileRepository_whenCreate_thenException() {
+        try (GameRepository repository = new MappedFileGameRepository(dir.resolve("full.dat"), 2, 1024)) {
+            repository.create(record("g1", 0L));
+            repository.create(record("g2", 0L));
+            assertThrows(IllegalStateException.class, () -> repository.create(record("g3", 0L)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new MappedFileGameRepository(dir.resolve("small.dat"), 2, 8));
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+/**
+ * Endpoint whose latency is recorded separately.
+ */
+enum Endpoint {
+
+    GAME_NEW("game.new", "GET /api/game/new"),
+
+    GAME_GUESS("game.guess", "POST /api/game/guess"),
+
+    WORD_PREFIX("word.prefix", "GET /api/word/{prefix}"),
+
+    WEB_SEARCH("web.search", "POST /search"),
+
+    WEB_SUB_WORDS("web.subWords", "POST /subWords");
+
+    private final String tag;
+
+    private final String label;
+
+    Endpoint(String tag, String label) {
+        this.tag = tag;
+        this.label = label;
+    }
+
+    /**
+     * Short name, usable as file name and as histogram log tag.
+     */
+    String getTag() {
+        return tag;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+}
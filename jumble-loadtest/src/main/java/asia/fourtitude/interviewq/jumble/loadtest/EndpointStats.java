@@ -0,0 +1,107 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency of one endpoint within one stage, in microseconds.
+ * <p>
+ * Two histograms are kept:
+ * <ul>
+ * <li>`latency` is measured from the <em>intended</em> start time (as
+ * scheduled by the arrival process), so time spent queued behind a slow
+ * server, or behind a late load generator, is counted. This is the
+ * coordinated-omission-correct response time that users observe.</li>
+ * <li>`service` is measured from when the request was actually sent,
+ * which is what most load tools report; the gap between the two shows
+ * how much queueing is hidden by it.</li>
+ * </ul>
+ * Responses throttled by the server's rate limit (429) are counted apart,
+ * neither as latency nor as errors.
+ */
+final class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Endpoint endpoint;
+
+    private final Recorder latencyRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final Recorder serviceRecorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+
+    private final Histogram service = new Histogram(SIGNIFICANT_DIGITS);
+
+    private Histogram latencyInterval;
+
+    private Histogram serviceInterval;
+
+    EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+        this.latency.setTag(endpoint.getTag());
+    }
+
+    Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    void throttle() {
+        throttled.increment();
+    }
+
+    void record(long intendedNanos, long sentNanos, long doneNanos, boolean success) {
+        latencyRecorder.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(doneNanos - intendedNanos)));
+        serviceRecorder.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos)));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Moves what was recorded since the last call into the totals, and
+     * writes it as one interval of the histogram log. Called from a single
+     * (reporting) thread.
+     */
+    void sample(HistogramLogWriter log, long intervalStartMillis, long intervalEndMillis) {
+        latencyInterval = latencyRecorder.getIntervalHistogram(latencyInterval);
+        serviceInterval = serviceRecorder.getIntervalHistogram(serviceInterval);
+        latency.add(latencyInterval);
+        service.add(serviceInterval);
+        if (log != null && latencyInterval.getTotalCount() > 0) {
+            latencyInterval.setTag(endpoint.getTag());
+            latencyInterval.setStartTimeStamp(intervalStartMillis);
+            latencyInterval.setEndTimeStamp(intervalEndMillis);
+            log.outputIntervalHistogram(latencyInterval);
+        }
+    }
+
+    Histogram getLatency() {
+        return latency;
+    }
+
+    Histogram getService() {
+        return service;
+    }
+
+    long getCount() {
+        return latency.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    long getThrottled() {
+        return throttled.sum();
+    }
+
+}
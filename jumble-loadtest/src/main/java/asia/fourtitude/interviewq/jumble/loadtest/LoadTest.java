@@ -0,0 +1,103 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+import org.HdrHistogram.HistogramLogWriter;
+
+import asia.fourtitude.interviewq.jumble.core.Dictionary;
+
+/**
+ * Open-model HTTP load generator for a running Jumble web app.
+ * <p>
+ * Replays a weighted mix of sessions (new game bursts, guess streams,
+ * autocomplete typing, `/search` and `/subWords` form posts) at each of the
+ * given arrival rates in turn, recording coordinated-omission-correct
+ * latency per endpoint. Rates are stepped up until a stage misses its
+ * objectives (p99 latency, error ratio): that is the saturation point of
+ * the node, and later stages are skipped.
+ * <p>
+ * Usage:
+ * <pre>
+ * ./mvnw -pl jumble-web spring-boot:run
+ * java -jar jumble-loadtest/target/loadtest.jar --rates 10,20,40,80 --duration 30
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final DateTimeFormatter RUN_ID = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            if (!e.getMessage().isEmpty()) {
+                System.err.println(e.getMessage());
+            }
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        run(options, System.out);
+    }
+
+    static void run(LoadTestOptions options, PrintStream out) throws IOException {
+        String runId = LocalDateTime.now().format(RUN_ID) + (options.label == null ? "" : "-" + options.label);
+        Path directory = Files.createDirectories(options.out.resolve(runId));
+        out.println("Load test: " + options);
+
+        Workload workload = new Workload(options, Dictionary.load(Dictionary.DEFAULT_RESOURCE));
+        Report report = new Report(options, directory);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(options.timeoutMillis))
+                .executor(Executors.newCachedThreadPool(daemon("loadtest-http")))
+                .build();
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), daemon("loadtest-scheduler"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        SplittableRandom random = new SplittableRandom(options.seed);
+        try {
+            for (double rate : options.rates) {
+                Stage stage = new Stage(rate, options, client, scheduler, workload);
+                Path hlog = directory.resolve("rate-" + Report.format(rate) + ".hlog");
+                try (PrintStream file = new PrintStream(Files.newOutputStream(hlog), false, StandardCharsets.UTF_8)) {
+                    HistogramLogWriter log = new HistogramLogWriter(file);
+                    long now = System.currentTimeMillis();
+                    log.outputStartTime(now);
+                    log.setBaseTime(now);
+                    log.outputBaseTime(now);
+                    log.outputLegend();
+                    stage.run(log, random.split());
+                }
+                if (!report.add(stage, out)) {
+                    break;
+                }
+            }
+        } finally {
+            scheduler.shutdownNow();
+        }
+        report.write(out);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,206 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of the load test.
+ * <p>
+ * Rates are session arrivals per second (open model): each arrival starts
+ * one session of the scenario picked by `--mix`, regardless of how many
+ * earlier sessions are still waiting for responses.
+ */
+final class LoadTestOptions {
+
+    static final String USAGE = "Usage: java -jar loadtest.jar [options]\n"
+            + "  --url URL            base URL of running app (default http://localhost:8080)\n"
+            + "  --rates R1,R2,...    session arrivals/second, one stage per rate (default 20)\n"
+            + "  --warmup SECONDS     warmup per stage, not recorded (default 5)\n"
+            + "  --duration SECONDS   measurement per stage (default 30)\n"
+            + "  --mix K=W,...        scenario weights of new,guess,type,search,subwords\n"
+            + "                       (default new=1,guess=4,type=4,search=1,subwords=1)\n"
+            + "  --arrival TYPE       poisson or uniform inter-arrival times (default poisson)\n"
+            + "  --burst N            new games per new-game burst (default 5)\n"
+            + "  --guesses N          guesses per guess session (default 8)\n"
+            + "  --think-ms MS        pause between guesses (default 400)\n"
+            + "  --keystroke-ms MS    pause between typed letters (default 150)\n"
+            + "  --limit N            autocomplete `limit` parameter (default 10)\n"
+            + "  --timeout-ms MS      request timeout (default 5000)\n"
+            + "  --slo-p99-ms MS      p99 latency objective, for saturation (default 200)\n"
+            + "  --max-error-ratio R  error ratio objective, for saturation (default 0.01)\n"
+            + "  --seed N             workload random seed (default 1)\n"
+            + "  --label NAME         suffix of the report directory\n"
+            + "  --out DIR            report parent directory (default loadtest-reports)\n"
+            + "  --baseline FILE      summary.csv of an earlier run to compare against\n";
+
+    URI url = URI.create("http://localhost:8080");
+
+    List<Double> rates = new ArrayList<>(List.of(20.0));
+
+    int warmupSeconds = 5;
+
+    int durationSeconds = 30;
+
+    Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+
+    boolean poisson = true;
+
+    int burst = 5;
+
+    int guesses = 8;
+
+    long thinkMillis = 400;
+
+    long keystrokeMillis = 150;
+
+    int limit = 10;
+
+    long timeoutMillis = 5000;
+
+    double sloP99Millis = 200;
+
+    double maxErrorRatio = 0.01;
+
+    long seed = 1;
+
+    String label;
+
+    Path out = Paths.get("loadtest-reports");
+
+    Path baseline;
+
+    LoadTestOptions() {
+        mix.put(Scenario.NEW_GAME, 1);
+        mix.put(Scenario.GUESS, 4);
+        mix.put(Scenario.TYPE, 4);
+        mix.put(Scenario.SEARCH, 1);
+        mix.put(Scenario.SUB_WORDS, 1);
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (int ix = 0; ix < args.length; ix += 1) {
+            String name = args[ix];
+            if ("--help".equals(name) || "-h".equals(name)) {
+                throw new IllegalArgumentException("");
+            }
+            if (ix + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of option=[" + name + "]");
+            }
+            String value = args[++ix];
+            switch (name) {
+            case "--url":
+                options.url = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                break;
+            case "--rates":
+                options.rates.clear();
+                for (String rate : value.split(",")) {
+                    options.rates.add(positive(name, Double.parseDouble(rate.trim())));
+                }
+                break;
+            case "--warmup":
+                options.warmupSeconds = Integer.parseInt(value);
+                break;
+            case "--duration":
+                options.durationSeconds = (int) positive(name, Integer.parseInt(value));
+                break;
+            case "--mix":
+                options.mix.clear();
+                for (String pair : value.split(",")) {
+                    String[] kv = pair.split("=");
+                    options.mix.put(Scenario.of(kv[0].trim()), Integer.parseInt(kv[1].trim()));
+                }
+                break;
+            case "--arrival":
+                if (!"poisson".equals(value) && !"uniform".equals(value)) {
+                    throw new IllegalArgumentException("Invalid arrival=[" + value + "]");
+                }
+                options.poisson = "poisson".equals(value);
+                break;
+            case "--burst":
+                options.burst = (int) positive(name, Integer.parseInt(value));
+                break;
+            case "--guesses":
+                options.guesses = (int) positive(name, Integer.parseInt(value));
+                break;
+            case "--think-ms":
+                options.thinkMillis = Long.parseLong(value);
+                break;
+            case "--keystroke-ms":
+                options.keystrokeMillis = Long.parseLong(value);
+                break;
+            case "--limit":
+                options.limit = Integer.parseInt(value);
+                break;
+            case "--timeout-ms":
+                options.timeoutMillis = (long) positive(name, Long.parseLong(value));
+                break;
+            case "--slo-p99-ms":
+                options.sloP99Millis = positive(name, Double.parseDouble(value));
+                break;
+            case "--max-error-ratio":
+                options.maxErrorRatio = Double.parseDouble(value);
+                break;
+            case "--seed":
+                options.seed = Long.parseLong(value);
+                break;
+            case "--label":
+                options.label = value;
+                break;
+            case "--out":
+                options.out = Paths.get(value);
+                break;
+            case "--baseline":
+                options.baseline = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option=[" + name + "]");
+            }
+        }
+        int total = 0;
+        for (int weight : options.mix.values()) {
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Empty mix");
+        }
+        return options;
+    }
+
+    private static double positive(String name, double value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Option=[" + name + "] must be positive");
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("url=[").append(url).append(']');
+        sb.append(", rates=[").append(rates).append(']');
+        sb.append(", warmup=[").append(warmupSeconds).append("s]");
+        sb.append(", duration=[").append(durationSeconds).append("s]");
+        sb.append(", mix=[").append(mix).append(']');
+        sb.append(", arrival=[").append(poisson ? "poisson" : "uniform").append(']');
+        sb.append(", burst=[").append(burst).append(']');
+        sb.append(", guesses=[").append(guesses).append(']');
+        sb.append(", think=[").append(thinkMillis).append("ms]");
+        sb.append(", keystroke=[").append(keystrokeMillis).append("ms]");
+        sb.append(", limit=[").append(limit).append(']');
+        sb.append(", timeout=[").append(timeoutMillis).append("ms]");
+        sb.append(", sloP99=[").append(sloP99Millis).append("ms]");
+        sb.append(", maxErrorRatio=[").append(maxErrorRatio).append(']');
+        sb.append(", seed=[").append(seed).append(']');
+        if (label != null) {
+            sb.append(", label=[").append(label).append(']');
+        }
+        return sb.toString();
+    }
+
+}
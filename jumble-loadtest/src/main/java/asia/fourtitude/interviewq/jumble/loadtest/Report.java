@@ -0,0 +1,197 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Report of one run, written into its own directory:
+ * <ul>
+ * <li>`summary.csv`: one line per (stage rate, endpoint), stable columns so
+ * that runs can be diffed or compared with `--baseline`;</li>
+ * <li>`rate-R.hlog`: per-second latency histograms of stage R, tagged by
+ * endpoint (HdrHistogram log format, for plotting over time);</li>
+ * <li>`rate-R-ENDPOINT.hgrm`: full percentile distribution;</li>
+ * <li>`run.txt`: options and verdict of the run.</li>
+ * </ul>
+ * Latencies are in milliseconds, from intended start time. Responses
+ * throttled (429) by the server's rate limit are in their own column, last
+ * so that older summaries still compare, and not in the error ratio.
+ */
+final class Report {
+
+    static final String HEADER = "rate,endpoint,count,errors,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms,"
+            + "throttled";
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestOptions options;
+
+    private final Path directory;
+
+    private final List<String> lines = new ArrayList<>();
+
+    private final List<String> verdicts = new ArrayList<>();
+
+    private Double sustainableRate;
+
+    private Double saturatedRate;
+
+    Report(LoadTestOptions options, Path directory) {
+        this.options = options;
+        this.directory = directory;
+        lines.add(HEADER);
+    }
+
+    /**
+     * Adds the stage to the report, and prints its summary. Returns `false`
+     * when the stage missed an objective (p99 latency or error ratio).
+     */
+    boolean add(Stage stage, PrintStream out) throws IOException {
+        String rate = format(stage.getRate());
+        out.printf("%nStage rate=%s sessions/s, arrivals=%d, generator max lag=%dms%n",
+                rate, stage.getArrivals(), stage.getLateMillis());
+        out.printf("%-24s %8s %7s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Count", "Errors", "Req/s", "p50", "p90", "p99", "p99.9", "Max", "Svc p99", "Throttled");
+
+        List<String> violations = new ArrayList<>();
+        long throttled = 0;
+        for (EndpointStats stats : stage.getStats().values()) {
+            if (stats.getCount() == 0 && stats.getThrottled() == 0) {
+                continue;
+            }
+            throttled += stats.getThrottled();
+            Histogram latency = stats.getLatency();
+            double throughput = stats.getCount() / (double) options.durationSeconds;
+            double p99 = millis(latency.getValueAtPercentile(99.0));
+            String[] columns = {
+                    rate,
+                    stats.getEndpoint().getTag(),
+                    Long.toString(stats.getCount()),
+                    Long.toString(stats.getErrors()),
+                    format(throughput),
+                    format(millis(latency.getValueAtPercentile(50.0))),
+                    format(millis(latency.getValueAtPercentile(90.0))),
+                    format(p99),
+                    format(millis(latency.getValueAtPercentile(99.9))),
+                    format(millis(latency.getMaxValue())),
+                    format(millis(stats.getService().getValueAtPercentile(99.0))),
+                    Long.toString(stats.getThrottled()) };
+            lines.add(String.join(",", columns));
+            out.printf("%-24s %8s %7s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                    stats.getEndpoint().getLabel(), columns[2], columns[3], columns[4], columns[5],
+                    columns[6], columns[7], columns[8], columns[9], columns[10], columns[11]);
+
+            Path hgrm = directory.resolve("rate-" + rate + "-" + stats.getEndpoint().getTag() + ".hgrm");
+            try (PrintStream file = new PrintStream(Files.newOutputStream(hgrm), false, StandardCharsets.UTF_8)) {
+                latency.outputPercentileDistribution(file, MICROS_PER_MILLI);
+            }
+
+            if (p99 > options.sloP99Millis) {
+                violations.add(stats.getEndpoint().getTag() + " p99=" + format(p99) + "ms");
+            }
+            double errorRatio = stats.getCount() == 0 ? 0.0 : stats.getErrors() / (double) stats.getCount();
+            if (errorRatio > options.maxErrorRatio) {
+                violations.add(stats.getEndpoint().getTag() + " errors=" + format(errorRatio * 100.0) + "%");
+            }
+        }
+
+        if (throttled > 0) {
+            out.println("Throttled: " + throttled + " responses 429, run jumble-web with profile loadtest"
+                    + " (or jumble.ratelimit.costs= empty) to measure capacity");
+        }
+        String verdict = violations.isEmpty() ? "OK" : "SATURATED " + violations;
+        verdicts.add("rate=" + rate + ": " + verdict);
+        out.println("Verdict: " + verdict);
+        if (violations.isEmpty()) {
+            if (saturatedRate == null) {
+                sustainableRate = stage.getRate();
+            }
+        } else if (saturatedRate == null) {
+            saturatedRate = stage.getRate();
+        }
+        return violations.isEmpty();
+    }
+
+    void write(PrintStream out) throws IOException {
+        Files.write(directory.resolve("summary.csv"), lines, StandardCharsets.UTF_8);
+        List<String> run = new ArrayList<>();
+        run.add("options: " + options);
+        run.addAll(verdicts);
+        run.add("sustainable rate: " + (sustainableRate == null ? "-" : format(sustainableRate)));
+        run.add("saturated rate: " + (saturatedRate == null ? "-" : format(saturatedRate)));
+        Files.write(directory.resolve("run.txt"), run, StandardCharsets.UTF_8);
+
+        out.println();
+        out.println("Highest rate within objectives: "
+                + (sustainableRate == null ? "none" : format(sustainableRate) + " sessions/s"));
+        if (saturatedRate != null) {
+            out.println("First saturated rate: " + format(saturatedRate) + " sessions/s");
+        }
+        out.println("Report: " + directory.toAbsolutePath());
+
+        if (options.baseline != null) {
+            compare(read(options.baseline), read(directory.resolve("summary.csv")), out);
+        }
+    }
+
+    /*
+     * Key is "rate endpoint", value is the columns after them.
+     */
+    static Map<String, String[]> read(Path file) throws IOException {
+        Map<String, String[]> rows = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            // header, of this or an older version
+            if (line.isEmpty() || line.startsWith("rate,")) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            String[] values = new String[columns.length - 2];
+            System.arraycopy(columns, 2, values, 0, values.length);
+            rows.put(columns[0] + ' ' + columns[1], values);
+        }
+        return rows;
+    }
+
+    static void compare(Map<String, String[]> baseline, Map<String, String[]> current, PrintStream out) {
+        out.println();
+        out.println("Comparison against baseline (delta = current / baseline - 1)");
+        out.printf("%-28s %11s %11s %9s %11s %11s %9s%n",
+                "Rate Endpoint", "Base req/s", "Req/s", "Delta", "Base p99", "p99", "Delta");
+        for (Map.Entry<String, String[]> entry : current.entrySet()) {
+            String[] now = entry.getValue();
+            String[] before = baseline.get(entry.getKey());
+            if (before == null) {
+                out.printf("%-28s %11s %11s %9s %11s %11s %9s%n", entry.getKey(), "-", now[2], "new", "-", now[5], "new");
+                continue;
+            }
+            out.printf("%-28s %11s %11s %9s %11s %11s %9s%n", entry.getKey(),
+                    before[2], now[2], delta(before[2], now[2]),
+                    before[5], now[5], delta(before[5], now[5]));
+        }
+    }
+
+    private static String delta(String was, String is) {
+        double before = Double.parseDouble(was);
+        double after = Double.parseDouble(is);
+        return before == 0.0 ? "-" : String.format(Locale.ROOT, "%+8.1f%%", (after / before - 1.0) * 100.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value).replaceAll("\\.?0+$", "");
+    }
+
+}
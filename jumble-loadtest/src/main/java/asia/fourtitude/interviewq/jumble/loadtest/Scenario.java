@@ -0,0 +1,47 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+/**
+ * Kind of user session started by one arrival.
+ */
+enum Scenario {
+
+    /** Burst of `--burst` concurrent new games. */
+    NEW_GAME("new"),
+
+    /** New game, then a stream of `--guesses` guesses `--think-ms` apart. */
+    GUESS("guess"),
+
+    /** Typing a word letter by letter, autocomplete from the 3rd letter. */
+    TYPE("type"),
+
+    /** Web form post to `/search`. */
+    SEARCH("search"),
+
+    /** Web form post to `/subWords`. */
+    SUB_WORDS("subwords");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    static Scenario of(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario=[" + key + "]");
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+}
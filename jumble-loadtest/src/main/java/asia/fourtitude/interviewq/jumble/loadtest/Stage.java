@@ -0,0 +1,176 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.HdrHistogram.HistogramLogWriter;
+
+/**
+ * One constant-rate step of the load test: warmup, then measurement.
+ * <p>
+ * Arrivals are generated on their own schedule (open model), and every
+ * request of a session is sent at a precomputed intended time. A request
+ * is recorded only when its intended time falls within the measurement
+ * window, and its latency is counted from that intended time.
+ */
+final class Stage {
+
+    private static final long SAMPLE_MILLIS = 1000;
+
+    /* rejected by the server's rate limit */
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final double rate;
+
+    private final LoadTestOptions options;
+
+    private final HttpClient client;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Workload workload;
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    /** Requests sent and not yet completed, plus steps scheduled and not yet sent. */
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong arrivals = new AtomicLong();
+
+    private volatile long measureFromNanos = Long.MAX_VALUE;
+
+    private volatile long measureToNanos = Long.MAX_VALUE;
+
+    private long lateNanos;
+
+    Stage(double rate, LoadTestOptions options, HttpClient client, ScheduledExecutorService scheduler,
+            Workload workload) {
+        this.rate = rate;
+        this.options = options;
+        this.client = client;
+        this.scheduler = scheduler;
+        this.workload = workload;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+    }
+
+    double getRate() {
+        return rate;
+    }
+
+    Map<Endpoint, EndpointStats> getStats() {
+        return stats;
+    }
+
+    /**
+     * Sessions started within the measurement window.
+     */
+    long getArrivals() {
+        return arrivals.get();
+    }
+
+    /**
+     * Worst lag of the arrival thread behind schedule; large values mean the
+     * load generator itself could not keep up with the rate.
+     */
+    long getLateMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lateNanos);
+    }
+
+    void run(HistogramLogWriter log, SplittableRandom random) {
+        long startNanos = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        measureToNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        long[] sampledAt = { startMillis };
+        ScheduledFuture<?> sampler = scheduler.scheduleAtFixedRate(() -> sample(log, sampledAt),
+                SAMPLE_MILLIS, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long next = startNanos;
+        while (next < measureToNanos) {
+            long now = System.nanoTime();
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+            lateNanos = Math.max(lateNanos, now - next);
+            if (next >= measureFromNanos) {
+                arrivals.incrementAndGet();
+            }
+            workload.start(this, next, random.split());
+            double gap = options.poisson ? -Math.log(1.0 - random.nextDouble()) * meanGapNanos : meanGapNanos;
+            next += (long) gap;
+        }
+
+        // let sessions started in the window finish, bounded by the request timeout
+        long drainUntil = System.nanoTime() + workload.maxSessionNanos() + TimeUnit.MILLISECONDS.toNanos(options.timeoutMillis);
+        while (pending.get() > 0 && System.nanoTime() < drainUntil) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        sampler.cancel(false);
+        sample(log, sampledAt);
+    }
+
+    private synchronized void sample(HistogramLogWriter log, long[] sampledAt) {
+        long now = System.currentTimeMillis();
+        for (EndpointStats endpointStats : stats.values()) {
+            endpointStats.sample(log, sampledAt[0], now);
+        }
+        sampledAt[0] = now;
+    }
+
+    /**
+     * Runs `task` at `intendedNanos` (or now, if already late).
+     */
+    void at(long intendedNanos, Runnable task) {
+        pending.incrementAndGet();
+        scheduler.schedule(() -> {
+            try {
+                task.run();
+            } finally {
+                pending.decrementAndGet();
+            }
+        }, Math.max(0L, intendedNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sends `request` now, recording its latency from `intendedNanos`, and
+     * passes the body of a successful response to `onSuccess`.
+     */
+    void send(Endpoint endpoint, HttpRequest request, long intendedNanos, Consumer<String> onSuccess) {
+        long sentNanos = System.nanoTime();
+        pending.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            try {
+                long doneNanos = System.nanoTime();
+                boolean success = error == null && response.statusCode() < 400;
+                boolean throttled = error == null && response.statusCode() == TOO_MANY_REQUESTS;
+                if (intendedNanos >= measureFromNanos && intendedNanos < measureToNanos) {
+                    if (throttled) {
+                        stats.get(endpoint).throttle();
+                    } else {
+                        stats.get(endpoint).record(intendedNanos, sentNanos, doneNanos, success);
+                    }
+                }
+                if (success && onSuccess != null) {
+                    onSuccess.accept(response.body());
+                }
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+}
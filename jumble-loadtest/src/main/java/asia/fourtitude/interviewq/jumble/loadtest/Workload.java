@@ -0,0 +1,245 @@
+package asia.fourtitude.interviewq.jumble.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import asia.fourtitude.interviewq.jumble.core.Dictionary;
+
+/**
+ * The scenarios replayed by the load test, and the dictionary data used to
+ * make their inputs realistic (typed words, guesses that can be correct).
+ */
+final class Workload {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final Pattern SCRAMBLE_WORD = Pattern.compile("\"scramble_word\"\\s*:\\s*\"([a-z]+)\"");
+
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private static final int MAX_GUESS_LENGTH = 6;
+
+    private final LoadTestOptions options;
+
+    private final Scenario[] scenarios;
+
+    private final int[] cumulativeWeights;
+
+    /** Words typed in autocomplete sessions. */
+    private final String[] typedWords;
+
+    /** Words of 6-12 letters, posted to `/subWords`. */
+    private final String[] subWordsSeeds;
+
+    /** Words of 3 to 6 letters, the candidates of guesses. */
+    private final String[] guessWords;
+
+    Workload(LoadTestOptions options, Dictionary dictionary) {
+        this.options = options;
+        List<Scenario> list = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Scenario, Integer> entry : options.mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                total += entry.getValue();
+                list.add(entry.getKey());
+                weights.add(total);
+            }
+        }
+        this.scenarios = list.toArray(new Scenario[0]);
+        this.cumulativeWeights = new int[weights.size()];
+        for (int ix = 0; ix < weights.size(); ix += 1) {
+            cumulativeWeights[ix] = weights.get(ix);
+        }
+
+        List<String> typed = new ArrayList<>();
+        List<String> seeds = new ArrayList<>();
+        List<String> guesses = new ArrayList<>();
+        for (String word : dictionary.getWords()) {
+            int length = word.length();
+            if (length >= 5 && length <= 10) {
+                typed.add(word);
+            }
+            if (length >= 6 && length <= 12) {
+                seeds.add(word);
+            }
+            if (length >= MIN_PREFIX_LENGTH && length <= MAX_GUESS_LENGTH) {
+                guesses.add(word);
+            }
+        }
+        this.typedWords = typed.toArray(new String[0]);
+        this.subWordsSeeds = seeds.toArray(new String[0]);
+        this.guessWords = guesses.toArray(new String[0]);
+    }
+
+    /**
+     * Longest time a session keeps sending after it started (excluding
+     * response times).
+     */
+    long maxSessionNanos() {
+        long guess = options.guesses * options.thinkMillis;
+        long type = 10L * options.keystrokeMillis;
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(guess, type));
+    }
+
+    /**
+     * Starts one session, whose first request is intended at `startNanos`.
+     */
+    void start(Stage stage, long startNanos, SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int ix = 0;
+        while (pick >= cumulativeWeights[ix]) {
+            ix += 1;
+        }
+        switch (scenarios[ix]) {
+        case NEW_GAME:
+            for (int burst = 0; burst < options.burst; burst += 1) {
+                stage.at(startNanos, () -> stage.send(Endpoint.GAME_NEW, newGame(), startNanos, null));
+            }
+            break;
+        case GUESS:
+            stage.at(startNanos, () -> stage.send(Endpoint.GAME_NEW, newGame(), startNanos,
+                    body -> guessStream(stage, body, random)));
+            break;
+        case TYPE:
+            String word = typedWords[random.nextInt(typedWords.length)];
+            long keystrokeNanos = TimeUnit.MILLISECONDS.toNanos(options.keystrokeMillis);
+            for (int length = MIN_PREFIX_LENGTH; length <= word.length(); length += 1) {
+                String prefix = word.substring(0, length);
+                long intended = startNanos + (length - MIN_PREFIX_LENGTH) * keystrokeNanos;
+                stage.at(intended, () -> stage.send(Endpoint.WORD_PREFIX, autoComplete(prefix), intended, null));
+            }
+            break;
+        case SEARCH:
+            HttpRequest search = search(random);
+            stage.at(startNanos, () -> stage.send(Endpoint.WEB_SEARCH, search, startNanos, null));
+            break;
+        case SUB_WORDS:
+            HttpRequest subWords = form("/subWords",
+                    "word=" + subWordsSeeds[random.nextInt(subWordsSeeds.length)] + "&minLength=3");
+            stage.at(startNanos, () -> stage.send(Endpoint.WEB_SUB_WORDS, subWords, startNanos, null));
+            break;
+        default:
+            throw new IllegalStateException("Unhandled scenario=[" + scenarios[ix] + "]");
+        }
+    }
+
+    /*
+     * The player sees the board when the new game response arrives, then
+     * guesses every `think` from there on. Guesses are mostly words that
+     * can be made from the scrambled letters, some repeated, some wrong.
+     */
+    private void guessStream(Stage stage, String body, SplittableRandom random) {
+        Matcher id = ID.matcher(body);
+        Matcher scramble = SCRAMBLE_WORD.matcher(body);
+        if (!id.find() || !scramble.find()) {
+            return;
+        }
+        String gameId = id.group(1);
+        List<String> candidates = candidates(scramble.group(1));
+        long shownNanos = System.nanoTime();
+        long thinkNanos = TimeUnit.MILLISECONDS.toNanos(options.thinkMillis);
+        List<String> guessed = new ArrayList<>();
+        for (int ix = 1; ix <= options.guesses; ix += 1) {
+            String word;
+            int dice = random.nextInt(10);
+            if (dice < 7 && !candidates.isEmpty()) {
+                word = candidates.get(random.nextInt(candidates.size()));
+            } else if (dice < 9 && !guessed.isEmpty()) {
+                word = guessed.get(random.nextInt(guessed.size()));
+            } else {
+                word = guessWords[random.nextInt(guessWords.length)];
+            }
+            guessed.add(word);
+            HttpRequest request = guess(gameId, word);
+            long intended = shownNanos + ix * thinkNanos;
+            stage.at(intended, () -> stage.send(Endpoint.GAME_GUESS, request, intended, null));
+        }
+    }
+
+    /*
+     * Dictionary words whose letters are a sub-multiset of `letters`.
+     */
+    List<String> candidates(String letters) {
+        int[] available = new int[26];
+        for (int ix = 0; ix < letters.length(); ix += 1) {
+            available[letters.charAt(ix) - 'a'] += 1;
+        }
+        List<String> candidates = new ArrayList<>();
+        int[] used = new int[26];
+        for (String word : guessWords) {
+            if (word.length() > letters.length()) {
+                continue;
+            }
+            boolean fits = true;
+            for (int ix = 0; ix < word.length() && fits; ix += 1) {
+                int letter = word.charAt(ix) - 'a';
+                used[letter] += 1;
+                fits = used[letter] <= available[letter];
+            }
+            for (int ix = 0; ix < word.length(); ix += 1) {
+                used[word.charAt(ix) - 'a'] = 0;
+            }
+            if (fits) {
+                candidates.add(word);
+            }
+        }
+        return candidates;
+    }
+
+    private HttpRequest search(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder();
+        int criteria = 1 + random.nextInt(7);
+        if ((criteria & 1) != 0) {
+            sb.append("startChar=").append((char) ('a' + random.nextInt(26)));
+        }
+        if ((criteria & 2) != 0) {
+            sb.append(sb.length() == 0 ? "" : "&").append("endChar=").append((char) ('a' + random.nextInt(26)));
+        }
+        sb.append(sb.length() == 0 ? "" : "&").append("length=").append(3 + random.nextInt(8));
+        return form("/search", sb.toString());
+    }
+
+    private HttpRequest newGame() {
+        return request("/api/game/new").GET().build();
+    }
+
+    private HttpRequest guess(String gameId, String word) {
+        String json = "{\"id\":\"" + gameId + "\",\"word\":\"" + word + "\"}";
+        return request("/api/game/guess")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest autoComplete(String prefix) {
+        String path = "/api/word/" + URLEncoder.encode(prefix, StandardCharsets.UTF_8);
+        if (options.limit > 0) {
+            path += "?limit=" + options.limit;
+        }
+        return request(path).GET().build();
+    }
+
+    private HttpRequest form(String path, String body) {
+        return request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(options.url + path))
+                .timeout(Duration.ofMillis(options.timeoutMillis));
+    }
+
+}
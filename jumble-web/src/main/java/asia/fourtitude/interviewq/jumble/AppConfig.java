@@ -0,0 +1,183 @@
+package asia.fourtitude.interviewq.jumble;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.bulkhead.Bulkhead;
+import asia.fourtitude.interviewq.jumble.cache.AutoCompleteCache;
+import asia.fourtitude.interviewq.jumble.cache.SeededGameCache;
+import asia.fourtitude.interviewq.jumble.core.GameTokenCodec;
+import asia.fourtitude.interviewq.jumble.core.Dictionary;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.repository.GameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.JdbcGameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MappedFileGameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MemoryGameRepository;
+import asia.fourtitude.interviewq.jumble.metrics.MeteredJumbleEngine;
+import asia.fourtitude.interviewq.jumble.perf.PerfRecorder;
+import asia.fourtitude.interviewq.jumble.ratelimit.TokenBucketLimiter;
+import asia.fourtitude.interviewq.jumble.service.GameService;
+import asia.fourtitude.interviewq.jumble.service.GameWatchers;
+import asia.fourtitude.interviewq.jumble.service.LeaderboardService;
+import asia.fourtitude.interviewq.jumble.service.RoomService;
+import asia.fourtitude.interviewq.jumble.service.WordService;
+
+@Configuration
+public class AppConfig {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppConfig.class);
+
+    @Bean
+    public PerfRecorder perfRecorder(
+            @Value("${jumble.perf.slot-seconds:10}") int slotSeconds,
+            @Value("${jumble.perf.slots:30}") int slots) {
+        return new PerfRecorder(slotSeconds, slots);
+    }
+
+    @Bean
+    public JumbleEngine jumbleEngine(MeterRegistry meterRegistry, PerfRecorder perfRecorder,
+            @Value("${jumble.subwords.parallel-threshold:12}") int parallelThreshold,
+            @Value("${jumble.regex.max-states:1000}") int maxRegexStates) {
+        JumbleEngine jumbleEngine = new MeteredJumbleEngine(meterRegistry, perfRecorder);
+        jumbleEngine.setParallelThreshold(parallelThreshold);
+        jumbleEngine.setMaxRegexStates(maxRegexStates);
+        // at startup: game creation and the event loop lookups must not build an index
+        long start = System.nanoTime();
+        Dictionary dictionary = jumbleEngine.getDictionary().buildIndexes();
+        LOG.info("jumbleEngine: indexes built in {} ms, estimatedBytes=[{}]",
+                (System.nanoTime() - start) / 1_000_000L, dictionary.getEstimatedBytes());
+        return jumbleEngine;
+    }
+
+    @Bean
+    public AutoCompleteCache autoCompleteCache(
+            @Value("${jumble.autocomplete.cache.maximum-size:512}") int maximumSize) {
+        return new AutoCompleteCache(maximumSize);
+    }
+
+    @Bean
+    public WordService wordService(JumbleEngine jumbleEngine, AutoCompleteCache autoCompleteCache,
+            ObjectMapper objectMapper) {
+        return new WordService(jumbleEngine, autoCompleteCache, objectMapper);
+    }
+
+    @Bean
+    public SeededGameCache seededGameCache(
+            @Value("${jumble.daily.cache.maximum-size:64}") int maximumSize) {
+        return new SeededGameCache(maximumSize);
+    }
+
+    @Bean
+    public GameRepository gameRepository(
+            @Value("${jumble.game.repository:memory}") String repository,
+            @Value("${jumble.game.repository.file.path:jumble-games.dat}") String filePath,
+            @Value("${jumble.game.repository.file.capacity:10000}") int fileCapacity,
+            @Value("${jumble.game.repository.file.slot-bytes:4096}") int fileSlotBytes,
+            @Value("${jumble.game.repository.h2.url:jdbc:h2:mem:jumble-games;DB_CLOSE_DELAY=-1}") String h2Url) {
+        switch (repository.trim()) {
+        case "memory":
+            return new MemoryGameRepository();
+        case "file":
+            return new MappedFileGameRepository(Paths.get(filePath), fileCapacity, fileSlotBytes);
+        case "h2":
+            JdbcConnectionPool pool = JdbcConnectionPool.create(h2Url, "sa", "");
+            return new JdbcGameRepository(pool) {
+                @Override
+                public void close() {
+                    pool.dispose();
+                }
+            };
+        default:
+            throw new IllegalArgumentException("Invalid jumble.game.repository=[" + repository
+                    + "], expect memory, file or h2");
+        }
+    }
+
+    @Bean
+    public GameWatchers gameWatchers(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${jumble.game.watch.sender-threads:8}") int senderThreads,
+            @Value("${jumble.game.watch.max-watchers:100000}") int maxWatchers,
+            @Value("${jumble.game.watch.max-pending:32}") int maxPending) {
+        GameWatchers gameWatchers = new GameWatchers(objectMapper, meterRegistry, senderThreads, maxWatchers);
+        gameWatchers.setMaxPending(maxPending);
+        return gameWatchers;
+    }
+
+    @Bean
+    public GameService gameService(JumbleEngine jumbleEngine, SeededGameCache seededGameCache,
+            GameRepository gameRepository, GameWatchers gameWatchers, MeterRegistry meterRegistry,
+            @Value("${jumble.game.stateless:false}") boolean stateless,
+            @Value("${jumble.game.token-key:}") String tokenKey,
+            @Value("${jumble.game.idle-minutes:30}") long idleMinutes) {
+        GameService gameService = new GameService(jumbleEngine, seededGameCache, gameRepository, meterRegistry);
+        gameService.setIdleMillis(TimeUnit.MINUTES.toMillis(idleMinutes));
+        gameService.setGameWatchers(gameWatchers);
+        if (stateless) {
+            byte[] key = tokenKey.getBytes(StandardCharsets.UTF_8);
+            if (key.length == 0) {
+                LOG.warn("jumble.game.token-key is not set, game tokens are only valid on this node");
+                key = new byte[32];
+                new SecureRandom().nextBytes(key);
+            }
+            gameService.setGameTokenCodec(new GameTokenCodec(jumbleEngine, key));
+        }
+        return gameService;
+    }
+
+    @Bean
+    public LeaderboardService leaderboardService(MeterRegistry meterRegistry,
+            @Value("${jumble.leaderboard.retain-days:7}") int retainDays) {
+        return new LeaderboardService(meterRegistry, retainDays);
+    }
+
+    @Bean
+    public Bulkhead wordBulkhead(MeterRegistry meterRegistry,
+            @Value("${jumble.bulkhead.word.threads:4}") int threads,
+            @Value("${jumble.bulkhead.word.queue:64}") int queue) {
+        return new Bulkhead("word", meterRegistry, threads, queue);
+    }
+
+    @Bean
+    public Bulkhead gameBulkhead(MeterRegistry meterRegistry,
+            @Value("${jumble.bulkhead.game.threads:4}") int threads,
+            @Value("${jumble.bulkhead.game.queue:128}") int queue) {
+        return new Bulkhead("game", meterRegistry, threads, queue);
+    }
+
+    @Bean
+    public TokenBucketLimiter tokenBucketLimiter(MeterRegistry meterRegistry,
+            @Value("${jumble.ratelimit.tokens-per-second:10}") double tokensPerSecond,
+            @Value("${jumble.ratelimit.burst:40}") int burst,
+            @Value("${jumble.ratelimit.max-clients:100000}") int maxClients,
+            @Value("${jumble.ratelimit.costs:}") String costs) {
+        return new TokenBucketLimiter(meterRegistry, tokensPerSecond, burst, maxClients,
+                TokenBucketLimiter.parseCosts(costs));
+    }
+
+    @Bean
+    public RoomService roomService(JumbleEngine jumbleEngine, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${jumble.room.broadcast-threads:8}") int broadcastThreads,
+            @Value("${jumble.room.coalesce-millis:50}") long coalesceMillis,
+            @Value("${jumble.room.max-rooms:10000}") int maxRooms,
+            @Value("${jumble.room.idle-minutes:30}") long idleMinutes) {
+        RoomService roomService = new RoomService(jumbleEngine, objectMapper, meterRegistry, broadcastThreads,
+                coalesceMillis);
+        roomService.setMaxRooms(maxRooms);
+        roomService.setIdleMillis(TimeUnit.MINUTES.toMillis(idleMinutes));
+        return roomService;
+    }
+
+}
@@ -1,6 +1,8 @@
 package asia.fourtitude.interviewq.jumble;
 
 import org.springframework.beans.BeansException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
@@ -20,7 +22,13 @@ import org.thymeleaf.templateresolver.ITemplateResolver;
 import nz.net.ultraq.thymeleaf.layoutdialect.LayoutDialect;
 import nz.net.ultraq.thymeleaf.layoutdialect.decorators.strategies.GroupingStrategy;
 
+import asia.fourtitude.interviewq.jumble.perf.PerfFilter;
+import asia.fourtitude.interviewq.jumble.perf.PerfRecorder;
+import asia.fourtitude.interviewq.jumble.ratelimit.RateLimitFilter;
+import asia.fourtitude.interviewq.jumble.ratelimit.TokenBucketLimiter;
+
 @Configuration
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer, ApplicationContextAware {
 
@@ -78,6 +86,16 @@ public class WebConfig implements WebMvcConfigurer, ApplicationContextAware {
         return resolver;
     }
 
+    @Bean
+    public PerfFilter perfFilter(PerfRecorder perfRecorder) {
+        return new PerfFilter(perfRecorder);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(TokenBucketLimiter tokenBucketLimiter) {
+        return new RateLimitFilter(tokenBucketLimiter);
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // https://stackoverflow.com/a/65269556
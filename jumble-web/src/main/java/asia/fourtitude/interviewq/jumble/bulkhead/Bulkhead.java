@@ -0,0 +1,97 @@
+package asia.fourtitude.interviewq.jumble.bulkhead;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * A bounded executor for one class of heavy work (e.g. dictionary scans),
+ * so that a burst of it waits in its own queue, on its own threads, instead
+ * of holding the servlet threads that cheap requests need.
+ * <p>
+ * When the `threads` are busy and the `queue` is full, work is rejected at
+ * once ({@link RejectedExecutionException}, thrown by
+ * {@link #supplyAsync(Supplier)}), for the caller to answer 503 rather than
+ * pile up.
+ */
+public class Bulkhead implements AutoCloseable {
+
+    public static final String METRIC_BULKHEAD_ACTIVE = "jumble.bulkhead.active";
+
+    public static final String METRIC_BULKHEAD_QUEUED = "jumble.bulkhead.queued";
+
+    public static final String METRIC_BULKHEAD_REJECTED = "jumble.bulkhead.rejected";
+
+    private final String name;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Counter rejected;
+
+    /**
+     * @param name     The name, of threads and metrics tag.
+     * @param registry The metrics registry.
+     * @param threads  The number of threads.
+     * @param queue    The maximum number of waiting tasks.
+     */
+    public Bulkhead(String name, MeterRegistry registry, int threads, int queue) {
+        if (threads <= 0 || queue <= 0) {
+            throw new IllegalArgumentException("Invalid threads=[" + threads + "], queue=[" + queue + "]");
+        }
+        this.name = name;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queue), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-bulkhead-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder(METRIC_BULKHEAD_ACTIVE, this.executor, ThreadPoolExecutor::getActiveCount)
+                .description("Bulkhead tasks running")
+                .tag("bulkhead", name)
+                .register(registry);
+        Gauge.builder(METRIC_BULKHEAD_QUEUED, this.executor, pool -> pool.getQueue().size())
+                .description("Bulkhead tasks waiting")
+                .tag("bulkhead", name)
+                .register(registry);
+        this.rejected = Counter.builder(METRIC_BULKHEAD_REJECTED)
+                .description("Bulkhead tasks rejected, the queue being full")
+                .tag("bulkhead", name)
+                .register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs `supplier` on this bulkhead.
+     *
+     * @param <T>      The result type.
+     * @param supplier The work.
+     * @return The result, completed on a thread of this bulkhead.
+     * @throws RejectedExecutionException If the queue is full, or closed.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, this.executor);
+        } catch (RejectedExecutionException e) {
+            this.rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,195 @@
+package asia.fourtitude.interviewq.jumble.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the encoded (JSON) response bytes of auto complete,
+ * keyed by (dictionary version, prefix, limit).
+ * <p>
+ * Lookups are lock-free. Admission follows TinyLFU: a new entry is only
+ * admitted when the prefix has been requested at least twice recently, and
+ * when the cache is full, only if it is requested more often than a victim
+ * sampled from the cache. So one-off prefixes never push out the hot ones.
+ */
+public class AutoCompleteCache {
+
+    private static final int MIN_ADMIT_FREQUENCY = 2;
+
+    private static final int EVICTION_SAMPLES = 8;
+
+    private final int maximumSize;
+
+    private final Map<Key, Entry> entries;
+
+    private final Entry[] slots;
+
+    private final FrequencySketch sketch;
+
+    private int used;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder admissions = new LongAdder();
+
+    private final LongAdder rejections = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public AutoCompleteCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Invalid maximumSize=[" + maximumSize + "], expect positive integer");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(maximumSize * 2);
+        this.slots = new Entry[maximumSize];
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Looks up the cached response, and records the request for admission.
+     *
+     * @param key The cache key.
+     * @return The encoded response, or null if not cached.
+     */
+    public byte[] get(Key key) {
+        sketch.increment(key.hashCode());
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.body;
+    }
+
+    /**
+     * Offers the encoded response of `key` to the cache. It may be rejected
+     * when the key is not (yet) popular enough.
+     *
+     * @param key  The cache key.
+     * @param body The encoded response.
+     * @return true if admitted into the cache.
+     */
+    public boolean put(Key key, byte[] body) {
+        Objects.requireNonNull(body, "body must not be null");
+        int frequency = sketch.frequency(key.hashCode());
+        if (frequency < MIN_ADMIT_FREQUENCY) {
+            rejections.increment();
+            return false;
+        }
+        synchronized (slots) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return true;
+            }
+            int slot;
+            if (used < maximumSize) {
+                slot = used;
+                used += 1;
+            } else {
+                slot = sampleVictim();
+                Entry victim = slots[slot];
+                if (frequency <= sketch.frequency(victim.key.hashCode())) {
+                    rejections.increment();
+                    return false;
+                }
+                entries.remove(victim.key);
+                evictions.increment();
+            }
+            Entry entry = new Entry(key, body);
+            slots[slot] = entry;
+            entries.put(key, entry);
+        }
+        admissions.increment();
+        return true;
+    }
+
+    private int sampleVictim() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int victim = random.nextInt(maximumSize);
+        int victimFrequency = sketch.frequency(slots[victim].key.hashCode());
+        for (int ix = 1; ix < EVICTION_SAMPLES; ix += 1) {
+            int slot = random.nextInt(maximumSize);
+            int frequency = sketch.frequency(slots[slot].key.hashCode());
+            if (frequency < victimFrequency) {
+                victim = slot;
+                victimFrequency = frequency;
+            }
+        }
+        return victim;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), admissions.sum(), rejections.sum(), evictions.sum(),
+                entries.size(), maximumSize);
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+
+        private final byte[] body;
+
+        private Entry(Key key, byte[] body) {
+            this.key = key;
+            this.body = body;
+        }
+
+    }
+
+    /**
+     * Cache key of (dictionary version, prefix, limit).
+     * The `prefix` is expected to be normalized (lower case) by the caller.
+     */
+    public static final class Key {
+
+        private final long version;
+
+        private final String prefix;
+
+        private final int limit;
+
+        private final int hash;
+
+        public Key(long version, String prefix, int limit) {
+            this.version = version;
+            this.prefix = Objects.requireNonNull(prefix, "prefix must not be null");
+            this.limit = limit;
+            this.hash = 31 * (31 * Long.hashCode(version) + prefix.hashCode()) + limit;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return version == other.version && limit == other.limit && prefix.equals(other.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "version=[" + Long.toHexString(version) + "], prefix=[" + prefix + "], limit=[" + limit + ']';
+        }
+
+    }
+
+}
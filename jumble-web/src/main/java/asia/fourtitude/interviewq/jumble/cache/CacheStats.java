@@ -0,0 +1,83 @@
+package asia.fourtitude.interviewq.jumble.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Point in time snapshot of cache statistics.
+ */
+public class CacheStats {
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long admissions;
+
+    private final long rejections;
+
+    private final long evictions;
+
+    private final int size;
+
+    private final int maximumSize;
+
+    public CacheStats(long hits, long misses, long admissions, long rejections, long evictions,
+            int size, int maximumSize) {
+        this.hits = hits;
+        this.misses = misses;
+        this.admissions = admissions;
+        this.rejections = rejections;
+        this.evictions = evictions;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getAdmissions() {
+        return admissions;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @JsonProperty(value = "maximum_size")
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @JsonProperty(value = "hit_ratio")
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("hits=[").append(hits).append(']');
+        sb.append(", misses=[").append(misses).append(']');
+        sb.append(", hitRatio=[").append(getHitRatio()).append(']');
+        sb.append(", admissions=[").append(admissions).append(']');
+        sb.append(", rejections=[").append(rejections).append(']');
+        sb.append(", evictions=[").append(evictions).append(']');
+        sb.append(", size=[").append(size).append('/').append(maximumSize).append(']');
+        return sb.toString();
+    }
+
+}
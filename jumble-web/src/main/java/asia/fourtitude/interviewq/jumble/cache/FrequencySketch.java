@@ -0,0 +1,77 @@
+package asia.fourtitude.interviewq.jumble.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min sketch that estimates how often a key was requested recently.
+ * <p>
+ * Counters saturate at 15 and are halved once the number of recorded
+ * requests reaches the sample size, so that old popularity fades away
+ * (TinyLFU aging). Updates are lock-free; concurrent halving may lose a few
+ * increments, which is acceptable for an estimate.
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+
+    private static final int MAX_COUNT = 15;
+
+    private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+    private final AtomicIntegerArray table;
+
+    private final int mask;
+
+    private final int sampleSize;
+
+    private final AtomicInteger additions = new AtomicInteger();
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(maximumSize, 16) * 4 - 1) << 1;
+        this.table = new AtomicIntegerArray(width * DEPTH);
+        this.mask = width - 1;
+        this.sampleSize = Math.max(maximumSize, 16) * 10;
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        h ^= h >>> 16;
+        return row * (mask + 1) + (h & mask);
+    }
+
+    /**
+     * Records one request of the key with `hash`.
+     */
+    void increment(int hash) {
+        for (int row = 0; row < DEPTH; row += 1) {
+            int ix = indexOf(hash, row);
+            int count = table.get(ix);
+            if (count < MAX_COUNT) {
+                table.compareAndSet(ix, count, count + 1);
+            }
+        }
+        if (additions.incrementAndGet() == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimated number of recent requests of the key with `hash`.
+     */
+    int frequency(int hash) {
+        int min = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row += 1) {
+            min = Math.min(min, table.get(indexOf(hash, row)));
+        }
+        return min;
+    }
+
+    private void reset() {
+        additions.set(0);
+        for (int ix = 0; ix < table.length(); ix += 1) {
+            table.set(ix, table.get(ix) >>> 1);
+        }
+    }
+
+}
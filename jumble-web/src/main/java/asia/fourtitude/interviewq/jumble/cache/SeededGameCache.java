@@ -0,0 +1,160 @@
+package asia.fourtitude.interviewq.jumble.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+
+/**
+ * Bounded cache of seeded (e.g. daily) games, keyed by (dictionary version,
+ * seed, length, minLength, difficulty).
+ * <p>
+ * A seeded game is the same on every node, so each node computes it once:
+ * concurrent first requests of a key wait for the one computation, rather
+ * than each generating the sub words. The cached games are templates, to be
+ * copied ({@link GameState#copy()}) per player. Few keys are live at a time
+ * (today's puzzles), so the oldest cached is evicted first.
+ */
+public class SeededGameCache {
+
+    private final int maximumSize;
+
+    private final Map<Key, GameState> entries;
+
+    private final Queue<Key> order = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public SeededGameCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Invalid maximumSize=[" + maximumSize + "], expect positive integer");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(maximumSize * 2);
+    }
+
+    /**
+     * Looks up the game of `key`, computing it on first request.
+     *
+     * @param key    The cache key.
+     * @param loader Computes the game of `key`.
+     * @return The cached game (template, not to be played directly).
+     */
+    public GameState get(Key key, Function<Key, GameState> loader) {
+        GameState state = entries.get(key);
+        if (state != null) {
+            hits.increment();
+            return state;
+        }
+        boolean[] loaded = new boolean[1];
+        state = entries.computeIfAbsent(key, k -> {
+            loaded[0] = true;
+            return Objects.requireNonNull(loader.apply(k), "loaded game must not be null");
+        });
+        if (loaded[0]) {
+            misses.increment();
+            order.add(key);
+            while (entries.size() > maximumSize) {
+                Key oldest = order.poll();
+                if (oldest == null) {
+                    break;
+                }
+                if (entries.remove(oldest) != null) {
+                    evictions.increment();
+                }
+            }
+        } else {
+            hits.increment();
+        }
+        return state;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        long loads = misses.sum();
+        return new CacheStats(hits.sum(), loads, loads, 0L, evictions.sum(), entries.size(), maximumSize);
+    }
+
+    /**
+     * Cache key of (dictionary version, seed, length, minLength, difficulty).
+     */
+    public static final class Key {
+
+        private final long version;
+
+        private final long seed;
+
+        private final int length;
+
+        private final int minLength;
+
+        private final SeedIndex.Difficulty difficulty;
+
+        private final int hash;
+
+        public Key(long version, long seed, int length, int minLength, SeedIndex.Difficulty difficulty) {
+            this.version = version;
+            this.seed = seed;
+            this.length = length;
+            this.minLength = minLength;
+            this.difficulty = difficulty;
+            this.hash = 31 * (31 * (31 * (31 * Long.hashCode(version) + Long.hashCode(seed)) + length) + minLength)
+                    + (difficulty == null ? 0 : difficulty.ordinal() + 1);
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public int getMinLength() {
+            return minLength;
+        }
+
+        public SeedIndex.Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return version == other.version && seed == other.seed && length == other.length
+                    && minLength == other.minLength && difficulty == other.difficulty;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "version=[" + Long.toHexString(version) + "], seed=[" + seed + "], length=[" + length
+                    + "], minLength=[" + minLength + "], difficulty=[" + difficulty + ']';
+        }
+
+    }
+
+}
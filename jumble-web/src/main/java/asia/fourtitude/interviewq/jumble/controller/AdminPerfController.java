@@ -0,0 +1,94 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import asia.fourtitude.interviewq.jumble.perf.LatencySnapshot;
+import asia.fourtitude.interviewq.jumble.perf.PerfRecorder;
+
+@Controller
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping(path = "/admin")
+public class AdminPerfController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdminPerfController.class);
+
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final PerfRecorder perfRecorder;
+
+    @Autowired(required = true)
+    public AdminPerfController(PerfRecorder perfRecorder) {
+        this.perfRecorder = perfRecorder;
+    }
+
+    /*
+     * Window label to number of slots: the latest slot, about a minute (the
+     * default), and all kept slots.
+     */
+    private Map<String, Integer> windows() {
+        int slotSeconds = perfRecorder.getSlotSeconds();
+        int slots = perfRecorder.getSlots();
+        int minute = Math.max(1, Math.min(slots, 60 / slotSeconds));
+        Map<String, Integer> windows = new LinkedHashMap<>();
+        windows.put(label(minute * slotSeconds), minute);
+        windows.putIfAbsent(label(slotSeconds), 1);
+        windows.putIfAbsent(label(slots * slotSeconds), slots);
+        return windows;
+    }
+
+    private static String label(int seconds) {
+        return seconds % 60 == 0 ? (seconds / 60) + "m" : seconds + "s";
+    }
+
+    @GetMapping("perf")
+    public String perf(@RequestParam(name = "window", required = false) String window, Model model) {
+        Map<String, Integer> windows = windows();
+        if (window == null || !windows.containsKey(window)) {
+            window = windows.keySet().iterator().next();
+        }
+        int slots = windows.get(window);
+        long windowMillis = perfRecorder.windowMillis(slots);
+        List<LatencySnapshot> collectors = perfRecorder.collectors(slots);
+        double gcMillis = 0.0;
+        for (LatencySnapshot collector : collectors) {
+            gcMillis += collector.getTotal();
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        LOG.debug("perf: window={}, slots={}, windowMillis={}", window, slots, windowMillis);
+
+        List<String> labels = new ArrayList<>(windows.keySet());
+        labels.sort(Comparator.comparing(windows::get));
+        model.addAttribute("windows", labels);
+        model.addAttribute("window", window);
+        model.addAttribute("windowSeconds", windowMillis / 1000);
+        Map<String, List<LatencySnapshot>> sections = new LinkedHashMap<>();
+        sections.put("Endpoints", perfRecorder.endpoints(slots));
+        sections.put("Engine Operations", perfRecorder.operations(slots));
+        sections.put("GC (by collector)", collectors);
+        model.addAttribute("sections", sections);
+        model.addAttribute("gcPercent", windowMillis == 0 ? 0.0 : gcMillis * 100.0 / windowMillis);
+        model.addAttribute("allocationRate", perfRecorder.allocationRate(slots) / BYTES_PER_MB);
+        model.addAttribute("heapUsed", heap.getUsed() / BYTES_PER_MB);
+        model.addAttribute("heapCommitted", heap.getCommitted() / BYTES_PER_MB);
+        model.addAttribute("heapMax", heap.getMax() < 0 ? null : heap.getMax() / BYTES_PER_MB);
+        return "admin/perf";
+    }
+
+}
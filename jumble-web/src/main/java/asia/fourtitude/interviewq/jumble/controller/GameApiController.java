@@ -0,0 +1,485 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import asia.fourtitude.interviewq.jumble.bulkhead.Bulkhead;
+import asia.fourtitude.interviewq.jumble.cache.CacheStats;
+import asia.fourtitude.interviewq.jumble.model.GameEventOutput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessInput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.model.GameGuessOutput;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardEntryOutput;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardOutput;
+import asia.fourtitude.interviewq.jumble.service.EventSubscriber;
+import asia.fourtitude.interviewq.jumble.service.GameService;
+import asia.fourtitude.interviewq.jumble.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@Tag(name = "Game API", description = "Guessing words game REST API endpoint.")
+@RequestMapping(path = "/api/game")
+public class GameApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameApiController.class);
+
+    static final String EVENT_NAME = "game";
+
+    static final String RESULT_BUSY = "Too busy, retry later.";
+
+    private final GameService gameService;
+
+    private final LeaderboardService leaderboardService;
+
+    private final Bulkhead gameBulkhead;
+
+    private final long emitterTimeoutMillis;
+
+    @Autowired(required = true)
+    public GameApiController(GameService gameService, LeaderboardService leaderboardService,
+            @Qualifier("gameBulkhead") Bulkhead gameBulkhead,
+            @Value("${jumble.game.watch.emitter-timeout-millis:1800000}") long emitterTimeoutMillis) {
+        this.gameService = gameService;
+        this.leaderboardService = leaderboardService;
+        this.gameBulkhead = gameBulkhead;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @Operation(
+            summary = "Creates new game board/state",
+            description = "Creates a new game board/state and registered into game engine referenced by `id`. All subsequent operation/play is tied to `id`. The word is picked by `difficulty`, rated by its number of sub words.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "Created a new game/board and registered into system.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Created new game.\",\n" +
+                                                            "  \"id\": \"65e0d7a4-59bf-4065-beb1-3c2220d87e1e\",\n" +
+                                                            "  \"original_word\": \"titans\",\n" +
+                                                            "  \"scramble_word\": \"nisatt\",\n" +
+                                                            "  \"total_words\": 29,\n" +
+                                                            "  \"remaining_words\": 29,\n" +
+                                                            "  \"guessed_words\": []\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid Difficulty",
+                                                    description = "The `difficulty` is not easy, medium or hard.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid difficulty=[tough], expect easy, medium or hard\"\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Service Unavailable, too many games being created, or the game repository is full, retry after `Retry-After` seconds",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class))) })
+    @GetMapping(value = "/new", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<GameGuessOutput>> newGame(
+            @Parameter(
+                    description = "The difficulty: `easy` (most sub words), `medium` or `hard` (fewest sub words). Any difficulty if not given.",
+                    example = "easy")
+            @RequestParam(name = "difficulty", required = false) String difficulty) {
+        return createGame(() -> this.gameService.newGame(difficulty));
+    }
+
+    @Operation(
+            summary = "Creates new game board/state of the daily puzzle",
+            description = "Creates a new game board/state of the daily puzzle of `date`, referenced by `id`. All players of the same `date` and `difficulty` get the same word and scramble, on any node.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid Date",
+                                                    description = "The `date` is not of yyyy-MM-dd.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid date=[19/10/2026], expect yyyy-MM-dd\"\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Service Unavailable, too many games being created, or the game repository is full, retry after `Retry-After` seconds",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class))) })
+    @GetMapping(value = "/daily", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<GameGuessOutput>> dailyGame(
+            @Parameter(
+                    description = "The date (yyyy-MM-dd) of the puzzle. Today (UTC) if not given.",
+                    example = "2026-10-19")
+            @RequestParam(name = "date", required = false) String date,
+            @Parameter(
+                    description = "The difficulty: `easy`, `medium` or `hard`. Any difficulty if not given.",
+                    example = "medium")
+            @RequestParam(name = "difficulty", required = false) String difficulty) {
+        return createGame(() -> this.gameService.dailyGame(date, difficulty));
+    }
+
+    /*
+     * On the game bulkhead: creation generates the sub words of the word,
+     * which guesses (on the request thread) must not queue behind.
+     */
+    private CompletableFuture<ResponseEntity<GameGuessOutput>> createGame(Supplier<GameGuessModel> creator) {
+        try {
+            return this.gameBulkhead.supplyAsync(() -> {
+                GameGuessModel model;
+                try {
+                    model = creator.get();
+                } catch (IllegalArgumentException e) {
+                    GameGuessOutput output = new GameGuessOutput();
+                    output.setResult(e.getMessage());
+                    return new ResponseEntity<>(output, HttpStatus.BAD_REQUEST);
+                } catch (IllegalStateException e) {
+                    // repository full
+                    return busy(e.getMessage());
+                }
+                LOG.debug("createGame: {}", model);
+                GameGuessOutput output = this.gameService.toOutput(model, GameService.RESULT_CREATED);
+                return new ResponseEntity<>(output, HttpStatus.OK);
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy(RESULT_BUSY));
+        }
+    }
+
+    private static ResponseEntity<GameGuessOutput> busy(String result) {
+        GameGuessOutput output = new GameGuessOutput();
+        output.setResult(result);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(output);
+    }
+
+    @Operation(
+            summary = "Daily puzzle cache statistics",
+            description = "Returns the hit ratio of the daily (seeded) game cache.")
+    @GetMapping(value = "/daily/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CacheStats> seededGameCacheStats() {
+        return new ResponseEntity<>(this.gameService.seededGameCacheStats(), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Submits word to play the game",
+            description = "Submits a guessed `word`, along with `id` to play the game. When all words are guessed by a `player`, the game `score` is ranked in the leaderboards (not in stateless mode).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Guessed Correctly First Time",
+                                                    description = "Guessed correctly the first time.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed correctly.\",\n" +
+                                                            "  \"id\": \"88b4278c-5141-42af-86e6-2a1d4cfa5f3b\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"nekarr\",\n" +
+                                                            "  \"guess_word\": \"rank\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 14,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"rank\"\n" +
+                                                            "  ]\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Guessed Correctly Subsequent",
+                                                    description = "Guessed correctly with subsequent word.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed correctly.\",\n" +
+                                                            "  \"id\": \"e23a268c-e4af-4123-a610-755e34ac201c\",\n" +
+                                                            "  \"original_word\": \"burger\",\n" +
+                                                            "  \"scramble_word\": \"rerugb\",\n" +
+                                                            "  \"guess_word\": \"rug\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 7,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"bug\",\n" +
+                                                            "    \"bur\",\n" +
+                                                            "    \"err\",\n" +
+                                                            "    \"rug\",\n" +
+                                                            "    \"burr\",\n" +
+                                                            "    \"grub\",\n" +
+                                                            "    \"rube\",\n" +
+                                                            "    \"urge\"\n" +
+                                                            "  ]\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Guessed Incorrectly",
+                                                    description = "Guessed with incorrect word.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed incorrectly.\",\n" +
+                                                            "  \"id\": \"88b4278c-5141-42af-86e6-2a1d4cfa5f3b\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"rnraek\",\n" +
+                                                            "  \"guess_word\": \"answer\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 15,\n" +
+                                                            "  \"guessed_words\": []\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "All Guessed",
+                                                    description = "All words guessed.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"All words guessed.\",\n" +
+                                                            "  \"id\": \"353ee769-a472-4704-a5f2-d525f181a03e\",\n" +
+                                                            "  \"original_word\": \"gloomy\",\n" +
+                                                            "  \"scramble_word\": \"gomlyo\",\n" +
+                                                            "  \"guess_word\": \"moo\",\n" +
+                                                            "  \"total_words\": 9,\n" +
+                                                            "  \"remaining_words\": 0,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"goo\",\n" +
+                                                            "    \"gym\",\n" +
+                                                            "    \"log\",\n" +
+                                                            "    \"loo\",\n" +
+                                                            "    \"moo\",\n" +
+                                                            "    \"glom\",\n" +
+                                                            "    \"logo\",\n" +
+                                                            "    \"loom\",\n" +
+                                                            "    \"gloom\"\n" +
+                                                            "  ]\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid ID",
+                                                    description = "The input `ID` is invalid.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid Game ID.\"\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Record not found",
+                                                    description = "The `ID` is correct format, but game board/state is not found in system.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Game board/state not found.\"\n" +
+                                                            "}") })) })
+    @PostMapping(value = "/guess", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> playGame(
+            @Parameter(
+                    description = "Submits the `word` to guess.",
+                    required = true,
+                    schema = @Schema(implementation = GameGuessInput.class),
+                    example = "{\n" +
+                            "  \"id\": \"4579256c-326f-4169-9b56-6d1d1a2c11f0\",\n" +
+                            "  \"word\": \"answer\"\n" +
+                            "}")
+            @RequestBody(required = false) GameGuessInput input) {
+        GameGuessOutput output = new GameGuessOutput();
+        if (input == null || input.getId() == null || input.getId().isBlank()) {
+            output.setResult(GameService.RESULT_INVALID_ID);
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        GameGuessModel model = this.gameService.getGame(input.getId());
+        if (model == null) {
+            output.setResult(GameService.RESULT_NOT_FOUND);
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        output = this.gameService.guess(model, input.getWord());
+        /*
+         * Not in stateless mode: the token has no creation time, and a
+         * completed token could be replayed.
+         */
+        if (GameService.RESULT_ALL_GUESSED.equals(output.getResult()) && StringUtils.isNotBlank(input.getPlayer())
+                && !this.gameService.isStateless()) {
+            int score = this.leaderboardService.submit(input.getPlayer(), output.getGuessedWords(),
+                    model.getCreatedAt().getTime(), System.currentTimeMillis());
+            output.setScore(score);
+            LOG.debug("playGame: completed, player={}, score={}", input.getPlayer(), score);
+        }
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Leaderboard",
+            description = "Returns the best players of `board` (all-time, or of a day), highest score first. A player is ranked by their best game: 10 points per letter of the words guessed, plus 600 less the seconds taken.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = LeaderboardOutput.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request, invalid `board` or `limit`") })
+    @GetMapping(value = "/leaderboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LeaderboardOutput> leaderboard(
+            @Parameter(
+                    description = "The board: `all`, `today` (UTC) or a date (yyyy-MM-dd). All-time if not given.",
+                    example = "today")
+            @RequestParam(name = "board", required = false) String board,
+            @Parameter(
+                    description = "The maximum number of players, 1 to 1000. 10 if not given.",
+                    example = "10")
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        try {
+            return new ResponseEntity<>(this.leaderboardService.top(board, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(
+            summary = "Leaderboard rank of player",
+            description = "Returns the rank and best score of `player` in `board`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = LeaderboardEntryOutput.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request, invalid `board`"),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, player not ranked in `board`") })
+    @GetMapping(value = "/leaderboard/rank", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LeaderboardEntryOutput> leaderboardRank(
+            @Parameter(
+                    description = "The player.",
+                    required = true,
+                    example = "alice")
+            @RequestParam(name = "player") String player,
+            @Parameter(
+                    description = "The board: `all`, `today` (UTC) or a date (yyyy-MM-dd). All-time if not given.",
+                    example = "all")
+            @RequestParam(name = "board", required = false) String board) {
+        LeaderboardEntryOutput output;
+        try {
+            output = this.leaderboardService.entry(board, player);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (output == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Game event stream",
+            description = "Server-sent events (event `game`, id of the game version) of the game `id`: its current state first, then a delta on every guess, with the word newly guessed (if any), the remaining count and the new scramble. Replaces polling of the game board. A client too far behind is disconnected, to reconnect. Not available in stateless mode.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = GameEventOutput.class))),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, or stateless mode"),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Service Unavailable, too many watchers") })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable("id") String id) {
+        SseEmitter emitter = new SseEmitter(this.emitterTimeoutMillis);
+        EventSubscriber subscriber = new EventSubscriber() {
+
+            @Override
+            public boolean send(long version, String frame) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .id(Long.toString(version))
+                            .data(frame, MediaType.APPLICATION_JSON));
+                    return true;
+                } catch (IOException | IllegalStateException e) {
+                    // disconnected, or completed
+                    return false;
+                }
+            }
+
+            @Override
+            public void close() {
+                // too slow, the client reconnects
+                emitter.complete();
+            }
+
+        };
+        try {
+            if (!this.gameService.watchGame(id, subscriber)) {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        Runnable unwatch = () -> this.gameService.unwatchGame(id, subscriber);
+        emitter.onCompletion(unwatch);
+        emitter.onTimeout(unwatch);
+        emitter.onError(e -> unwatch.run());
+        return new ResponseEntity<>(emitter, HttpStatus.OK);
+    }
+
+}
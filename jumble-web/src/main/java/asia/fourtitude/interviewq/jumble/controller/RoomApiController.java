@@ -0,0 +1,200 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import asia.fourtitude.interviewq.jumble.bulkhead.Bulkhead;
+import asia.fourtitude.interviewq.jumble.model.RoomGuessInput;
+import asia.fourtitude.interviewq.jumble.model.RoomOutput;
+import asia.fourtitude.interviewq.jumble.service.EventSubscriber;
+import asia.fourtitude.interviewq.jumble.service.RoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@Tag(name = "Room API", description = "Multiplayer guessing words game REST API endpoint.")
+@RequestMapping(path = "/api/room")
+public class RoomApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoomApiController.class);
+
+    static final String EVENT_NAME = "room";
+
+    static final String RESULT_BUSY = "Too busy, retry later.";
+
+    private final RoomService roomService;
+
+    private final Bulkhead gameBulkhead;
+
+    private final long emitterTimeoutMillis;
+
+    @Autowired(required = true)
+    public RoomApiController(RoomService roomService, @Qualifier("gameBulkhead") Bulkhead gameBulkhead,
+            @Value("${jumble.room.emitter-timeout-millis:1800000}") long emitterTimeoutMillis) {
+        this.roomService = roomService;
+        this.gameBulkhead = gameBulkhead;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @Operation(
+            summary = "Creates new room",
+            description = "Creates a new room (multiplayer game), referenced by `id`. Players subscribe to `/api/room/{id}/events` and guess with `/api/room/guess`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = RoomOutput.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request, invalid `difficulty`",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = RoomOutput.class))),
+                    @ApiResponse(
+                            responseCode = "503",
+                            description = "Service Unavailable, too many rooms, or too many being created",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = RoomOutput.class))) })
+    @GetMapping(value = "/new", produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<RoomOutput>> newRoom(
+            @Parameter(
+                    description = "The difficulty: `easy` (most sub words), `medium` or `hard` (fewest sub words). Any difficulty if not given.",
+                    example = "easy")
+            @RequestParam(name = "difficulty", required = false) String difficulty) {
+        try {
+            return this.gameBulkhead.supplyAsync(() -> {
+                try {
+                    return new ResponseEntity<>(this.roomService.newRoom(difficulty), HttpStatus.OK);
+                } catch (IllegalArgumentException e) {
+                    return error(e.getMessage(), HttpStatus.BAD_REQUEST);
+                } catch (IllegalStateException e) {
+                    return error(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(error(RESULT_BUSY, HttpStatus.SERVICE_UNAVAILABLE));
+        }
+    }
+
+    @Operation(
+            summary = "Room state",
+            description = "Returns the room state: scramble, words found and by whom.")
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RoomOutput> getRoom(@PathVariable("id") String id) {
+        RoomOutput output = this.roomService.getRoom(id);
+        if (output == null) {
+            return error(RoomService.RESULT_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Room event stream",
+            description = "Server-sent events of the room state (JSON of the room, event `room`, id of the room version), sent when words are found or players join or leave. A burst of changes is sent as one event.")
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable("id") String id) {
+        SseEmitter emitter = new SseEmitter(this.emitterTimeoutMillis);
+        EventSubscriber subscriber = (version, frame) -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(Long.toString(version))
+                        .data(frame, MediaType.APPLICATION_JSON));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // disconnected, or completed
+                return false;
+            }
+        };
+        if (!this.roomService.subscribe(id, subscriber)) {
+            return ResponseEntity.notFound().build();
+        }
+        Runnable unsubscribe = () -> this.roomService.unsubscribe(id, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return new ResponseEntity<>(emitter, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Submits word to play in a room",
+            description = "Submits a guessed `word` as `player` in room `id`. The first player to find a word gets it; other players see it on the event stream.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = RoomOutput.class))),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request, missing `player`",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = RoomOutput.class))),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, invalid or unknown `id`",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = RoomOutput.class))) })
+    @PostMapping(value = "/guess", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RoomOutput> guess(
+            @Parameter(
+                    description = "Submits the `word` to guess, as `player`.",
+                    required = true,
+                    schema = @Schema(implementation = RoomGuessInput.class))
+            @RequestBody(required = false) RoomGuessInput input) {
+        if (input == null || StringUtils.isBlank(input.getId())) {
+            return error(RoomService.RESULT_INVALID_ID, HttpStatus.NOT_FOUND);
+        }
+        if (StringUtils.isBlank(input.getPlayer())) {
+            return error(RoomService.RESULT_INVALID_PLAYER, HttpStatus.BAD_REQUEST);
+        }
+        RoomOutput output = this.roomService.guess(input.getId(), input.getPlayer(), input.getWord());
+        if (output == null) {
+            return error(RoomService.RESULT_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+        LOG.debug("guess: {}", output);
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    private static ResponseEntity<RoomOutput> error(String result, HttpStatus status) {
+        RoomOutput output = new RoomOutput();
+        output.setResult(result);
+        return new ResponseEntity<>(output, status);
+    }
+
+}
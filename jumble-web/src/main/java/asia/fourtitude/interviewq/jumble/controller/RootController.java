@@ -3,37 +3,55 @@ package asia.fourtitude.interviewq.jumble.controller;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import asia.fourtitude.interviewq.jumble.util.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import asia.fourtitude.interviewq.jumble.bulkhead.Bulkhead;
 import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
 import asia.fourtitude.interviewq.jumble.model.ExistsForm;
+import asia.fourtitude.interviewq.jumble.model.PatternForm;
 import asia.fourtitude.interviewq.jumble.model.PrefixForm;
 import asia.fourtitude.interviewq.jumble.model.ScrambleForm;
 import asia.fourtitude.interviewq.jumble.model.SearchForm;
 import asia.fourtitude.interviewq.jumble.model.SubWordsForm;
 
 @Controller
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping(path = "/")
 public class RootController {
 
     private static final Logger LOG = LoggerFactory.getLogger(RootController.class);
 
+    private static final int DID_YOU_MEAN_LIMIT = 5;
+
     private final JumbleEngine jumbleEngine;
 
+    private final Bulkhead wordBulkhead;
+
     @Autowired(required = true)
-    public RootController(JumbleEngine jumbleEngine) {
+    public RootController(JumbleEngine jumbleEngine, @Qualifier("wordBulkhead") Bulkhead wordBulkhead) {
         this.jumbleEngine = jumbleEngine;
+        this.wordBulkhead = wordBulkhead;
     }
 
     @GetMapping
@@ -64,9 +82,12 @@ public class RootController {
     }
 
     @GetMapping("palindrome")
-    public String doGetPalindrome(Model model) {
-        model.addAttribute("words", this.jumbleEngine.retrievePalindromeWords());
-        return "palindrome";
+    public CompletableFuture<String> doGetPalindrome(Model model) {
+        return this.wordBulkhead.supplyAsync(this.jumbleEngine::retrievePalindromeWords)
+                .thenApply(words -> {
+                    model.addAttribute("words", words);
+                    return "palindrome";
+                });
     }
 
     @GetMapping("exists")
@@ -91,6 +112,9 @@ public class RootController {
 
         // c) Prepare the response in the form
         form.setExists(exists); // Assuming ExistsForm has a setExists method
+        if (!exists) {
+            form.setDidYouMean(jumbleEngine.didYouMean(word, null, DID_YOU_MEAN_LIMIT));
+        }
         form.setWord(word); // Ensure the word is set in the form
 
         return "exists"; // Return the view to display the result
@@ -122,6 +146,31 @@ public class RootController {
         return "prefix"; // Return the view to display the result
     }
 
+    @GetMapping("pattern")
+    public String doGetPattern(Model model) {
+        model.addAttribute("form", new PatternForm());
+        return "pattern";
+    }
+
+    @PostMapping("pattern")
+    public String doPostPattern(
+            @ModelAttribute(name = "form") PatternForm form,
+            BindingResult bindingResult, Model model) {
+        String pattern = form.getPattern() == null ? "" : form.getPattern().trim();
+        if (pattern.isEmpty()) {
+            bindingResult.rejectValue("pattern", "error.pattern", "Pattern must not be empty");
+            return "pattern";
+        }
+        if (!pattern.matches("[a-zA-Z?*]+")) {
+            bindingResult.rejectValue("pattern", "error.pattern", "Pattern must be letters, '?' and '*' only");
+            return "pattern";
+        }
+
+        form.setPattern(pattern);
+        form.setWords(jumbleEngine.wordsMatchingPattern(pattern, null));
+        return "pattern";
+    }
+
     @GetMapping("search")
     public String doGetSearch(Model model) {
         model.addAttribute("form", new SearchForm());
@@ -129,7 +178,7 @@ public class RootController {
     }
 
     @PostMapping("search")
-    public String doPostSearch(
+    public CompletableFuture<String> doPostSearch(
             @ModelAttribute(name = "form") SearchForm form,
             BindingResult bindingResult, Model model) {
 
@@ -153,14 +202,14 @@ public class RootController {
 
         // If there are errors, return to the same view
         if (bindingResult.hasErrors()) {
-            return "search";
+            return CompletableFuture.completedFuture("search");
         }
 
-        // Assuming searchWords returns a Collection<String>
-        Collection<String> words = jumbleEngine.searchWords(startChar, endChar, length);
-        form.setWords(words); // Assuming SearchForm has a setWords method
-
-        return "search"; // Return to the same view to display results
+        return this.wordBulkhead.supplyAsync(() -> this.jumbleEngine.searchWords(startChar, endChar, length))
+                .thenApply(words -> {
+                    form.setWords(words);
+                    return "search"; // Return to the same view to display results
+                });
     }
 
     @GetMapping("subWords")
@@ -184,4 +233,13 @@ public class RootController {
         return "subWords";
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> busy(RejectedExecutionException e) {
+        LOG.debug("busy: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.TEXT_PLAIN)
+                .body("Too busy, retry later.");
+    }
+
 }
@@ -0,0 +1,420 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import asia.fourtitude.interviewq.jumble.cache.CacheStats;
+import asia.fourtitude.interviewq.jumble.service.WordService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@Tag(name = "Word API", description = "Word REST API endpoint.")
+@RequestMapping(path = "/api/word")
+public class WordApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WordApiController.class);
+
+    private final WordService wordService;
+
+    @Autowired(required = true)
+    public WordApiController(WordService wordService) {
+        this.wordService = wordService;
+    }
+
+    @Operation(
+            summary = "Auto complete based on prefix",
+            description = "Returns a list of words matching the input `prefix` (of at least 3 letters). "
+                    + "When `limit` is given, returns at most `limit` words in alphabetical order.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = String.class)),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `prefix`.",
+                                                    value = "[\n" +
+                                                            "  \"awe\",\n" +
+                                                            "  \"awed\",\n" +
+                                                            "  \"awes\",\n" +
+                                                            "  \"awesome\",\n" +
+                                                            "  \"awesomely\",\n" +
+                                                            "  \"awesomeness\",\n" +
+                                                            "  \"awestruck\"\n" +
+                                                            "]") })) })
+    @GetMapping(value = "/{prefix}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> autoComplete(
+            @Parameter(
+                    description = "The prefix.",
+                    required = true,
+                    example = "awe")
+            @PathVariable String prefix,
+            @Parameter(
+                    description = "The maximum number of words to return.",
+                    required = false,
+                    example = "10")
+            @RequestParam(required = false) Integer limit) {
+        return jsonResponse(this.wordService.autoComplete(prefix, limit));
+    }
+
+    @Operation(
+            summary = "Anagrams of letters",
+            description = "Returns the words using exactly the input `letters`, in any order, "
+                    + "in alphabetical order.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = String.class)),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of anagrams of the `letters`.",
+                                                    value = "[\n" +
+                                                            "  \"enlist\",\n" +
+                                                            "  \"inlets\",\n" +
+                                                            "  \"listen\",\n" +
+                                                            "  \"silent\",\n" +
+                                                            "  \"tinsel\"\n" +
+                                                            "]") })) })
+    @GetMapping(value = "/anagrams/{letters}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> anagrams(
+            @Parameter(
+                    description = "The letters.",
+                    required = true,
+                    example = "listen")
+            @PathVariable String letters) {
+        return jsonResponse(this.wordService.anagrams(letters));
+    }
+
+    @Operation(
+            summary = "Words matching wildcard pattern",
+            description = "Returns the words matching the `pattern` of letters, `?` (any single letter) "
+                    + "and `*` (any run of letters, including none), in alphabetical order. "
+                    + "When `limit` is given, returns at most `limit` words.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = String.class)),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `pattern`.",
+                                                    value = "[\n" +
+                                                            "  \"cat\",\n" +
+                                                            "  \"cot\",\n" +
+                                                            "  \"cut\"\n" +
+                                                            "]") })) })
+    @GetMapping(value = "/pattern", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> pattern(
+            @Parameter(
+                    description = "The wildcard pattern.",
+                    required = true,
+                    example = "c?t")
+            @RequestParam String pattern,
+            @Parameter(
+                    description = "The maximum number of words to return.",
+                    required = false,
+                    example = "10")
+            @RequestParam(required = false) Integer limit) {
+        return jsonResponse(this.wordService.pattern(pattern, limit));
+    }
+
+    @Operation(
+            summary = "Words matching regular expression",
+            description = "Returns the words fully matching the `regex`, in alphabetical order. "
+                    + "Supports letters, `.`, classes (`[aeiou]`, `[a-m]`, `[^aeiou]`), groups, `|`, "
+                    + "and quantifiers `*`, `+`, `?`, `{n,m}`. "
+                    + "When `limit` is given, returns at most `limit` words.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = String.class)),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `regex`.",
+                                                    value = "[\n" +
+                                                            "  \"color\",\n" +
+                                                            "  \"colour\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid, unsupported or too complex `regex`.",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid",
+                                                    value = "{\n" +
+                                                            "  \"error\": \"Invalid regex=[colo(u?r], expect ')'\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/regex", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> regex(
+            @Parameter(
+                    description = "The regular expression.",
+                    required = true,
+                    example = "colou?r")
+            @RequestParam String regex,
+            @Parameter(
+                    description = "The maximum number of words to return.",
+                    required = false,
+                    example = "10")
+            @RequestParam(required = false) Integer limit) {
+        return jsonResponse(this.wordService.regex(regex, limit));
+    }
+
+    @Operation(
+            summary = "Crossword style lookup",
+            description = "Returns the words of `length` having the given letters at the given positions, "
+                    + "in alphabetical order. Each `at` is a position (1 based) followed by its letter, "
+                    + "e.g. `at=2r&at=5n` (or `at=2r,5n`) for the 2nd letter 'r' and the 5th 'n'. "
+                    + "When `limit` is given, returns at most `limit` words.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = String.class)),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words with the letters at the positions.",
+                                                    value = "[\n" +
+                                                            "  \"arrange\",\n" +
+                                                            "  \"arsenal\",\n" +
+                                                            "  \"arsenic\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid `at`, or position out of `length`.",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid",
+                                                    value = "{\n" +
+                                                            "  \"error\": \"Invalid position=[9], expect 1 to 7\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/crossword", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> crossword(
+            @Parameter(
+                    description = "The length of words.",
+                    required = true,
+                    example = "7")
+            @RequestParam Integer length,
+            @Parameter(
+                    description = "The letters at positions, e.g. `2r`.",
+                    required = false,
+                    example = "2r")
+            @RequestParam(required = false) List<String> at,
+            @Parameter(
+                    description = "The maximum number of words to return.",
+                    required = false,
+                    example = "10")
+            @RequestParam(required = false) Integer limit) {
+        return jsonResponse(this.wordService.crossword(length, at, limit));
+    }
+
+    @Operation(
+            summary = "Wordle style solver",
+            description = "From the guesses so far, returns the remaining candidate words of `length` "
+                    + "(`candidate_count`, and the first 100 in alphabetical order), and the next guesses "
+                    + "ranked by expected information in `bits` (`candidate` if the guess could be the answer). "
+                    + "Each `guess` is a word and its feedback, a letter per position: `g` (green, right position), "
+                    + "`y` (yellow, elsewhere in the word) or `b` (gray, not in the word), "
+                    + "e.g. `guess=crane:gyybb&guess=cobra:gbbby`. Without `guess`, ranks the first guess. "
+                    + "Returns at most `limit` suggestions (default 10).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The candidates and suggestions.",
+                                                    value = "{\n" +
+                                                            "  \"length\": 5,\n" +
+                                                            "  \"candidate_count\": 14,\n" +
+                                                            "  \"candidates\": [\"carat\", \"carbs\", \"cards\", \"..\"],\n" +
+                                                            "  \"suggestions\": [\n" +
+                                                            "    {\"word\": \"bigot\", \"bits\": 3.325, \"candidate\": false}\n" +
+                                                            "  ]\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid `length`, guess or feedback.",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid",
+                                                    value = "{\n" +
+                                                            "  \"error\": \"Invalid feedback=[gyyxb], expect 5 of 'g', 'y' or 'b'\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/wordle", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> wordle(
+            @Parameter(
+                    description = "The length of words.",
+                    required = true,
+                    example = "5")
+            @RequestParam Integer length,
+            @Parameter(
+                    description = "The guesses and their feedback, e.g. `crane:gyybb`.",
+                    required = false,
+                    example = "crane:gyybb")
+            @RequestParam(required = false) List<String> guess,
+            @Parameter(
+                    description = "The maximum number of suggestions to return.",
+                    required = false,
+                    example = "10")
+            @RequestParam(required = false) Integer limit) {
+        return jsonResponse(this.wordService.wordle(length, guess, limit));
+    }
+
+    @Operation(
+            summary = "Phrase anagrams",
+            description = "Streams the ways to split the letters of `phrase` (of at most 32 letters, "
+                    + "spaces and punctuation ignored) into two or more words, each of at least `min_length` letters. "
+                    + "Responds with NDJSON: a `{\"words\": [..]}` line per solution as it is found, "
+                    + "then a last line with the `outcome` (`complete`, `limit` or `budget`) and the number of `solutions`. "
+                    + "Stops at `limit` solutions (default 100, at most 10000) "
+                    + "or after `budget_ms` milliseconds (default 1000, at most 5000).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The solutions of the `phrase`, one per line.",
+                                                    value = "{\"words\":[\"dirty\",\"moor\"]}\n" +
+                                                            "{\"words\":[\"dirty\",\"room\"]}\n" +
+                                                            "{\"outcome\":\"limit\",\"solutions\":2}") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Too long `phrase`.",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid",
+                                                    value = "{\n" +
+                                                            "  \"error\": \"Invalid phrase=[..], expect at most 32 letters\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/phrase-anagrams", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> phraseAnagrams(
+            @Parameter(
+                    description = "The phrase.",
+                    required = true,
+                    example = "dormitory")
+            @RequestParam String phrase,
+            @Parameter(
+                    description = "The minimum length of words.",
+                    required = false,
+                    example = "3")
+            @RequestParam(name = "min_length", required = false) Integer minLength,
+            @Parameter(
+                    description = "The maximum number of solutions.",
+                    required = false,
+                    example = "100")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(
+                    description = "The time budget in milliseconds.",
+                    required = false,
+                    example = "1000")
+            @RequestParam(name = "budget_ms", required = false) Long budgetMillis) {
+        this.wordService.checkPhrase(phrase);
+        StreamingResponseBody body = out -> {
+            try {
+                this.wordService.phraseAnagrams(phrase, minLength, limit, budgetMillis, line -> {
+                    try {
+                        out.write(line);
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                LOG.debug("phraseAnagrams: phrase=[{}], stopped: {}", phrase, e.getMessage());
+            }
+        };
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Auto complete cache statistics",
+            description = "Returns the hit ratio and admission statistics of the auto complete response cache.")
+    @GetMapping(value = "/cache/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CacheStats> autoCompleteCacheStats() {
+        return new ResponseEntity<>(this.wordService.autoCompleteCacheStats(), HttpStatus.OK);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> invalidArgument(IllegalArgumentException e) {
+        LOG.debug("invalidArgument: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Collections.singletonMap("error", e.getMessage()));
+    }
+
+    private static ResponseEntity<byte[]> jsonResponse(byte[] body) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+}
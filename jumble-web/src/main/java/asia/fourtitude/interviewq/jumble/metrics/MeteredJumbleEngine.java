@@ -0,0 +1,217 @@
+package asia.fourtitude.interviewq.jumble.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.PhraseAnagramSolver;
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+import asia.fourtitude.interviewq.jumble.core.WordleSolver;
+import asia.fourtitude.interviewq.jumble.perf.PerfRecorder;
+
+/**
+ * The engine with a timer (and percentile histogram) per operation, and
+ * gauges of dictionary size and index memory. Each timing is also recorded
+ * into the rolling windows of {@link PerfRecorder}, when given.
+ * <p>
+ * Kept in the web module, so that `jumble-core` stays dependency free.
+ * Operations calling each other (e.g. `createGameState` picking a word and
+ * generating its sub words) are timed at each level.
+ */
+public class MeteredJumbleEngine extends JumbleEngine {
+
+    public static final String TIMER = "jumble.engine";
+
+    public static final String DICTIONARY_WORDS = "jumble.dictionary.words";
+
+    public static final String INDEX_MEMORY = "jumble.index.memory";
+
+    private final Operation scrambleOperation;
+
+    private final Operation palindromeOperation;
+
+    private final Operation randomWordOperation;
+
+    private final Operation existsOperation;
+
+    private final Operation didYouMeanOperation;
+
+    private final Operation prefixOperation;
+
+    private final Operation patternOperation;
+
+    private final Operation regexOperation;
+
+    private final Operation positionsOperation;
+
+    private final Operation anagramsOperation;
+
+    private final Operation phraseAnagramsOperation;
+
+    private final Operation wordleOperation;
+
+    private final Operation searchOperation;
+
+    private final Operation subWordsOperation;
+
+    private final Operation gameStateOperation;
+
+    private final PerfRecorder perfRecorder;
+
+    public MeteredJumbleEngine(MeterRegistry registry) {
+        this(registry, null);
+    }
+
+    public MeteredJumbleEngine(MeterRegistry registry, PerfRecorder perfRecorder) {
+        this.perfRecorder = perfRecorder;
+        this.scrambleOperation = new Operation(registry, "scramble");
+        this.palindromeOperation = new Operation(registry, "retrievePalindromeWords");
+        this.randomWordOperation = new Operation(registry, "pickOneRandomWord");
+        this.existsOperation = new Operation(registry, "exists");
+        this.didYouMeanOperation = new Operation(registry, "didYouMean");
+        this.prefixOperation = new Operation(registry, "wordsMatchingPrefix");
+        this.patternOperation = new Operation(registry, "wordsMatchingPattern");
+        this.regexOperation = new Operation(registry, "wordsMatchingRegex");
+        this.positionsOperation = new Operation(registry, "wordsWithLettersAt");
+        this.anagramsOperation = new Operation(registry, "anagrams");
+        this.phraseAnagramsOperation = new Operation(registry, "phraseAnagrams");
+        this.wordleOperation = new Operation(registry, "wordle");
+        this.searchOperation = new Operation(registry, "searchWords");
+        this.subWordsOperation = new Operation(registry, "generateSubWords");
+        this.gameStateOperation = new Operation(registry, "createGameState");
+        Gauge.builder(DICTIONARY_WORDS, this, engine -> engine.getIndexBytes() == 0 ? 0 : engine.getDictionary().size())
+                .description("Words in the loaded dictionary")
+                .register(registry);
+        Gauge.builder(INDEX_MEMORY, this, JumbleEngine::getIndexBytes)
+                .description("Estimated heap of the dictionary and lookup indexes")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    private static final class Operation {
+
+        private final String name;
+
+        private final Timer timer;
+
+        Operation(MeterRegistry registry, String name) {
+            this.name = name;
+            this.timer = Timer.builder(TIMER)
+                    .description("Time of JumbleEngine operations")
+                    .tag("operation", name)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+    }
+
+    private <T> T record(Operation operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            operation.timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (perfRecorder != null) {
+                perfRecorder.recordOperation(operation.name, nanos);
+            }
+        }
+    }
+
+    @Override
+    public String scramble(String word) {
+        return record(scrambleOperation, () -> super.scramble(word));
+    }
+
+    @Override
+    public String scramble(String word, SplittableRandom random) {
+        return record(scrambleOperation, () -> super.scramble(word, random));
+    }
+
+    @Override
+    public Collection<String> retrievePalindromeWords() {
+        return record(palindromeOperation, () -> super.retrievePalindromeWords());
+    }
+
+    @Override
+    public String pickOneRandomWord(Integer length) {
+        return record(randomWordOperation, () -> super.pickOneRandomWord(length));
+    }
+
+    @Override
+    public boolean exists(String word) {
+        return record(existsOperation, () -> super.exists(word));
+    }
+
+    @Override
+    public List<String> didYouMean(String word, Integer maxDistance, Integer limit) {
+        return record(didYouMeanOperation, () -> super.didYouMean(word, maxDistance, limit));
+    }
+
+    @Override
+    public Collection<String> wordsMatchingPrefix(String prefix) {
+        return record(prefixOperation, () -> super.wordsMatchingPrefix(prefix));
+    }
+
+    @Override
+    public List<String> wordsMatchingPattern(String pattern, Integer limit) {
+        return record(patternOperation, () -> super.wordsMatchingPattern(pattern, limit));
+    }
+
+    @Override
+    public List<String> wordsMatchingRegex(String regex, Integer limit) {
+        return record(regexOperation, () -> super.wordsMatchingRegex(regex, limit));
+    }
+
+    @Override
+    public List<String> wordsWithLettersAt(Integer length, Map<Integer, Character> lettersAt, Integer limit) {
+        return record(positionsOperation, () -> super.wordsWithLettersAt(length, lettersAt, limit));
+    }
+
+    @Override
+    public WordleSolver.Result wordle(Integer length, List<String> guesses, List<String> feedbacks, Integer limit) {
+        return record(wordleOperation, () -> super.wordle(length, guesses, feedbacks, limit));
+    }
+
+    @Override
+    public Collection<String> searchWords(Character startChar, Character endChar, Integer length) {
+        return record(searchOperation, () -> super.searchWords(startChar, endChar, length));
+    }
+
+    @Override
+    public List<String> anagrams(String letters) {
+        return record(anagramsOperation, () -> super.anagrams(letters));
+    }
+
+    @Override
+    public PhraseAnagramSolver.Outcome phraseAnagrams(String phrase, Integer minLength, int limit,
+            long budgetMillis, Consumer<List<String>> consumer) {
+        return record(phraseAnagramsOperation,
+                () -> super.phraseAnagrams(phrase, minLength, limit, budgetMillis, consumer));
+    }
+
+    @Override
+    public List<String> generateSubWords(String word, Integer minLength) {
+        return record(subWordsOperation, () -> super.generateSubWords(word, minLength));
+    }
+
+    /*
+     * The narrower overloads delegate here, so are timed once.
+     */
+    @Override
+    public GameState createGameState(Integer length, Integer minLength, SeedIndex.Difficulty difficulty, Long seed) {
+        return record(gameStateOperation, () -> super.createGameState(length, minLength, difficulty, seed));
+    }
+
+}
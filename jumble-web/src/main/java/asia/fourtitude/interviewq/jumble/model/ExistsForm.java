@@ -1,11 +1,15 @@
 package asia.fourtitude.interviewq.jumble.model;
 
+import java.util.List;
+
 public class ExistsForm {
 
     private String word;
 
     private Boolean exists;
 
+    private List<String> didYouMean;
+
     public String getWord() {
         return word;
     }
@@ -22,6 +26,14 @@ public class ExistsForm {
         this.exists = exists;
     }
 
+    public List<String> getDidYouMean() {
+        return didYouMean;
+    }
+
+    public void setDidYouMean(List<String> didYouMean) {
+        this.didYouMean = didYouMean;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -31,6 +43,9 @@ public class ExistsForm {
         if (exists != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("exists=[").append(exists).append(']');
         }
+        if (didYouMean != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("didYouMean=[").append(didYouMean).append(']');
+        }
         return sb.toString();
     }
 
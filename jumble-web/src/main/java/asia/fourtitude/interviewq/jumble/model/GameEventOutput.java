@@ -0,0 +1,109 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+/**
+ * A change of a game, pushed to its watchers as a server-sent event: only
+ * what changed, not the whole board.
+ */
+@JsonInclude(Include.NON_NULL)
+public class GameEventOutput {
+
+    @Schema(
+            title = "ID",
+            description = "Unique identifier of the game state.",
+            example = "4579256c-326f-4169-9b56-6d1d1a2c11f0",
+            requiredMode = RequiredMode.AUTO)
+    private String id;
+
+    @Schema(
+            description = "The game version, bumped on every guess. Events of concurrent guesses may arrive "
+                    + "out of order: the scramble and remaining words of a lower version are stale, its guessed word not.",
+            example = "3",
+            requiredMode = RequiredMode.AUTO)
+    private long version;
+
+    @Schema(
+            description = "The word newly guessed correctly, if any.",
+            example = "motto",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "guessed_word")
+    private String guessedWord;
+
+    @Schema(
+            description = "The new scramble letters of the word in game.",
+            example = "amotto",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "scramble_word")
+    private String scrambleWord;
+
+    @Schema(
+            description = "The numbers of remaining smaller/sub words to guess.",
+            example = "23",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "remaining_words")
+    private int remainingWords;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getGuessedWord() {
+        return guessedWord;
+    }
+
+    public void setGuessedWord(String guessedWord) {
+        this.guessedWord = guessedWord;
+    }
+
+    public String getScrambleWord() {
+        return scrambleWord;
+    }
+
+    public void setScrambleWord(String scrambleWord) {
+        this.scrambleWord = scrambleWord;
+    }
+
+    public int getRemainingWords() {
+        return remainingWords;
+    }
+
+    public void setRemainingWords(int remainingWords) {
+        this.remainingWords = remainingWords;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("id=[").append(id).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("version=[").append(version).append(']');
+        if (guessedWord != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("guessedWord=[").append(guessedWord).append(']');
+        }
+        if (scrambleWord != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("scrambleWord=[").append(scrambleWord).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("remainingWords=[").append(remainingWords).append(']');
+        return sb.toString();
+    }
+
+}
@@ -34,6 +34,15 @@ public class GameGuessInput {
     @Size(min = 3, max = 30)
     private String word;
 
+    @Schema(
+            title = "Player",
+            description = "The player, ranked in the leaderboards when all words are guessed. Not ranked if not given.",
+            example = "alice",
+            maxLength = 64,
+            requiredMode = RequiredMode.NOT_REQUIRED)
+    @Size(max = 64)
+    private String player;
+
     public String getId() {
         return id;
     }
@@ -50,6 +59,14 @@ public class GameGuessInput {
         this.word = word;
     }
 
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(String player) {
+        this.player = player;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -59,6 +76,9 @@ public class GameGuessInput {
         if (word != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("word=[").append(word).append(']');
         }
+        if (player != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("player=[").append(player).append(']');
+        }
         return sb.toString();
     }
 
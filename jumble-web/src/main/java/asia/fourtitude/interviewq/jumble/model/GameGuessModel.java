@@ -8,6 +8,8 @@ public class GameGuessModel {
 
     private String id;
 
+    private long version;
+
     private Date createdAt;
 
     private Date modifiedAt;
@@ -22,6 +24,14 @@ public class GameGuessModel {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Date getCreatedAt() {
         return createdAt;
     }
@@ -52,6 +62,7 @@ public class GameGuessModel {
         if (id != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("id=[").append(id).append(']');
         }
+        sb.append(sb.length() == 0 ? "" : ", ").append("version=[").append(version).append(']');
         if (createdAt != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("createdAt=[").append(createdAt.toInstant()).append(']');
         }
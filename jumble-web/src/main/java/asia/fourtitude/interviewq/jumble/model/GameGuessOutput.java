@@ -82,6 +82,19 @@ public class GameGuessOutput {
     @JsonProperty(value = "guessed_words")
     private List<String> guessedWords;
 
+    @Schema(
+            description = "The closest words not guessed yet, when guessed incorrectly, if any.",
+            example = "[\"motto\"]",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "did_you_mean")
+    private List<String> didYouMean;
+
+    @Schema(
+            description = "The score of the game, when all words are guessed by a `player`.",
+            example = "1230",
+            requiredMode = RequiredMode.AUTO)
+    private Integer score;
+
     public String getId() {
         return id;
     }
@@ -149,6 +162,22 @@ public class GameGuessOutput {
         this.guessedWords = guessedWords;
     }
 
+    public List<String> getDidYouMean() {
+        return didYouMean;
+    }
+
+    public void setDidYouMean(List<String> didYouMean) {
+        this.didYouMean = didYouMean;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -172,6 +201,12 @@ public class GameGuessOutput {
         if (guessedWords != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("guessedWords.size=[").append(guessedWords.size()).append(']');
         }
+        if (didYouMean != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("didYouMean=[").append(didYouMean).append(']');
+        }
+        if (score != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("score=[").append(score).append(']');
+        }
         return sb.toString();
     }
 
@@ -0,0 +1,65 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class LeaderboardEntryOutput {
+
+    @Schema(
+            description = "1 + the number of players of a higher score; tied players share the rank.",
+            example = "1",
+            requiredMode = RequiredMode.AUTO)
+    private long rank;
+
+    @Schema(
+            description = "The player.",
+            example = "alice",
+            requiredMode = RequiredMode.AUTO)
+    private String player;
+
+    @Schema(
+            description = "The best score of the player.",
+            example = "1230",
+            requiredMode = RequiredMode.AUTO)
+    private int score;
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(String player) {
+        this.player = player;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(sb.length() == 0 ? "" : ", ").append("rank=[").append(rank).append(']');
+        if (player != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("player=[").append(player).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("score=[").append(score).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,72 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class LeaderboardOutput {
+
+    @Schema(
+            description = "The board: `all`, or the date (yyyy-MM-dd, UTC) of a daily board.",
+            example = "2026-10-19",
+            requiredMode = RequiredMode.AUTO)
+    private String board;
+
+    @Schema(
+            description = "The number of players in the board.",
+            example = "42",
+            requiredMode = RequiredMode.AUTO)
+    private int players;
+
+    @Schema(
+            description = "The best players, highest score first.",
+            requiredMode = RequiredMode.AUTO)
+    private List<LeaderboardEntryOutput> entries;
+
+    public String getBoard() {
+        return board;
+    }
+
+    public void setBoard(String board) {
+        this.board = board;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(int players) {
+        this.players = players;
+    }
+
+    public List<LeaderboardEntryOutput> getEntries() {
+        if (entries == null) {
+            entries = new ArrayList<>();
+        }
+        return entries;
+    }
+
+    public void setEntries(List<LeaderboardEntryOutput> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (board != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("board=[").append(board).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("players=[").append(players).append(']');
+        if (entries != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("entries.size=[").append(entries.size()).append(']');
+        }
+        return sb.toString();
+    }
+
+}
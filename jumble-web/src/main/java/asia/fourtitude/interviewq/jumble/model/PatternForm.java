@@ -0,0 +1,39 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import java.util.Collection;
+
+public class PatternForm {
+
+    private String pattern;
+
+    private Collection<String> words;
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    public Collection<String> getWords() {
+        return words;
+    }
+
+    public void setWords(Collection<String> words) {
+        this.words = words;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (pattern != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("pattern=[").append(pattern).append(']');
+        }
+        if (words != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("words=[").append(words).append(']');
+        }
+        return sb.toString();
+    }
+
+}
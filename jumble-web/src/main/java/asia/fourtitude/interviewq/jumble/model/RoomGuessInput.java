@@ -0,0 +1,88 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class RoomGuessInput {
+
+    @Schema(
+            title = "ID",
+            description = "Unique identifier of the room.",
+            example = "0b7f3c1e-8a52-4c1b-9d0e-2f6a4b8c1d3e",
+            nullable = false,
+            requiredMode = RequiredMode.REQUIRED)
+    @NotNull
+    private String id;
+
+    @Schema(
+            title = "Player",
+            description = "The name of the player guessing.",
+            example = "alice",
+            minLength = 1,
+            maxLength = 30,
+            nullable = false,
+            requiredMode = RequiredMode.REQUIRED)
+    @NotBlank
+    @Size(min = 1, max = 30)
+    private String player;
+
+    @Schema(
+            title = "Word",
+            description = "The word to guess.",
+            example = "answer",
+            minLength = 3,
+            maxLength = 30,
+            nullable = false,
+            requiredMode = RequiredMode.REQUIRED)
+    @NotBlank
+    @Size(min = 3, max = 30)
+    private String word;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(String player) {
+        this.player = player;
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("id=[").append(id).append(']');
+        }
+        if (player != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("player=[").append(player).append(']');
+        }
+        if (word != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("word=[").append(word).append(']');
+        }
+        return sb.toString();
+    }
+
+}
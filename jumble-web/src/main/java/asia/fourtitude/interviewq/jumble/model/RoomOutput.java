@@ -0,0 +1,211 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+/**
+ * A room (multiplayer game) state, as returned by the room API and pushed
+ * to the room members as server-sent events.
+ */
+@JsonInclude(Include.NON_NULL)
+public class RoomOutput {
+
+    @Schema(
+            title = "Result",
+            description = "Result message, of the API response only.",
+            example = "AnyOf[\"Found first.\", \"Found already.\", \"Guessed incorrectly.\"]",
+            requiredMode = RequiredMode.AUTO)
+    private String result;
+
+    @Schema(
+            title = "ID",
+            description = "Unique identifier of the room.",
+            example = "0b7f3c1e-8a52-4c1b-9d0e-2f6a4b8c1d3e",
+            requiredMode = RequiredMode.AUTO)
+    private String id;
+
+    @Schema(
+            description = "The room version, bumped on every word found; events of a lower version are stale.",
+            example = "4",
+            requiredMode = RequiredMode.AUTO)
+    private long version;
+
+    @Schema(
+            description = "Original word in game.",
+            example = "tomato",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "original_word")
+    private String originalWord;
+
+    @Schema(
+            description = "Scramble letters of the word in game, re-scrambled on every word found.",
+            example = "amotto",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "scramble_word")
+    private String scrambleWord;
+
+    @Schema(
+            description = "The word guessed, of the API response only.",
+            example = "motto",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "guess_word")
+    private String guessWord;
+
+    @Schema(
+            description = "The player who found `guess_word` first, of the API response only.",
+            example = "alice",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "found_by")
+    private String foundBy;
+
+    @Schema(
+            description = "The number of players connected to the room event stream.",
+            example = "12",
+            requiredMode = RequiredMode.AUTO)
+    private int players;
+
+    @Schema(
+            description = "The numbers of smaller/sub words, constructed using the letters from `original_word`.",
+            example = "31",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "total_words")
+    private int totalWords;
+
+    @Schema(
+            description = "The numbers of remaining smaller/sub words to find.",
+            example = "23",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "remaining_words")
+    private int remainingWords;
+
+    @Schema(
+            description = "The words found, with the player who found each first.",
+            example = "{\"mat\": \"alice\", \"tomato\": \"bob\"}",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "found_words")
+    private Map<String, String> foundWords;
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getOriginalWord() {
+        return originalWord;
+    }
+
+    public void setOriginalWord(String originalWord) {
+        this.originalWord = originalWord;
+    }
+
+    public String getScrambleWord() {
+        return scrambleWord;
+    }
+
+    public void setScrambleWord(String scrambleWord) {
+        this.scrambleWord = scrambleWord;
+    }
+
+    public String getGuessWord() {
+        return guessWord;
+    }
+
+    public void setGuessWord(String guessWord) {
+        this.guessWord = guessWord;
+    }
+
+    public String getFoundBy() {
+        return foundBy;
+    }
+
+    public void setFoundBy(String foundBy) {
+        this.foundBy = foundBy;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(int players) {
+        this.players = players;
+    }
+
+    public int getTotalWords() {
+        return totalWords;
+    }
+
+    public void setTotalWords(int totalWords) {
+        this.totalWords = totalWords;
+    }
+
+    public int getRemainingWords() {
+        return remainingWords;
+    }
+
+    public void setRemainingWords(int remainingWords) {
+        this.remainingWords = remainingWords;
+    }
+
+    public Map<String, String> getFoundWords() {
+        if (foundWords == null) {
+            foundWords = new LinkedHashMap<>();
+        }
+        return foundWords;
+    }
+
+    public void setFoundWords(Map<String, String> foundWords) {
+        this.foundWords = foundWords;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("id=[").append(id).append(']');
+        }
+        if (result != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("result=[").append(result).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("version=[").append(version).append(']');
+        if (scrambleWord != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("scrambleWord=[").append(scrambleWord).append(']');
+        }
+        if (guessWord != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("guessWord=[").append(guessWord).append(']');
+        }
+        if (foundBy != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("foundBy=[").append(foundBy).append(']');
+        }
+        sb.append(sb.length() == 0 ? "" : ", ").append("players=[").append(players).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("remainingWords=[").append(remainingWords).append('/')
+                .append(totalWords).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,113 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * Listens to GC notifications of the platform MXBeans, recording each GC
+ * duration by collector, and the bytes allocated since the previous GC.
+ * <p>
+ * Allocation is derived the same way as Micrometer's JvmGcMetrics: the
+ * young generation (eden) usage before this GC, minus its usage after the
+ * previous GC. Collectors without a young pool (e.g. ZGC) use the whole
+ * heap. Allocation is therefore only observed when a GC happens.
+ */
+final class GcMonitor implements NotificationListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GcMonitor.class);
+
+    private final PerfRecorder recorder;
+
+    private final String youngPool;
+
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+
+    private long youngAfterLastGc;
+
+    GcMonitor(PerfRecorder recorder) {
+        this.recorder = recorder;
+        this.youngPool = findYoungPool();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) gc;
+                emitter.addNotificationListener(this, null, null);
+                emitters.add(emitter);
+            }
+        }
+        LOG.debug("GcMonitor: collectors={}, youngPool={}", emitters.size(), youngPool);
+    }
+
+    private static String findYoungPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getName().endsWith("Eden Space")) {
+                return pool.getName();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from(
+                (CompositeData) notification.getUserData());
+        long durationMillis = info.getGcInfo().getDuration();
+        recorder.recordGc(info.getGcName(), TimeUnit.MILLISECONDS.toNanos(durationMillis));
+
+        Map<String, MemoryUsage> before = info.getGcInfo().getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = info.getGcInfo().getMemoryUsageAfterGc();
+        long usedBefore = used(before);
+        long usedAfter = used(after);
+        synchronized (this) {
+            long allocated = usedBefore - youngAfterLastGc;
+            youngAfterLastGc = usedAfter;
+            if (allocated > 0) {
+                recorder.recordAllocation(allocated);
+            }
+        }
+    }
+
+    private long used(Map<String, MemoryUsage> usage) {
+        if (youngPool != null) {
+            MemoryUsage young = usage.get(youngPool);
+            return young == null ? 0L : young.getUsed();
+        }
+        long used = 0L;
+        for (MemoryUsage pool : usage.values()) {
+            used += pool.getUsed();
+        }
+        return used;
+    }
+
+    void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                LOG.debug("close: {}", e.getMessage());
+            }
+        }
+        emitters.clear();
+    }
+
+}
@@ -0,0 +1,87 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency percentiles of one endpoint/operation over a window, in
+ * milliseconds.
+ */
+public class LatencySnapshot {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final String name;
+
+    private final long count;
+
+    private final double ratePerSecond;
+
+    private final double p50;
+
+    private final double p99;
+
+    private final double p999;
+
+    private final double max;
+
+    private final double total;
+
+    LatencySnapshot(String name, Histogram histogram, long windowMillis) {
+        this.name = name;
+        this.count = histogram.getTotalCount();
+        this.ratePerSecond = windowMillis <= 0 ? 0.0 : count * 1000.0 / windowMillis;
+        this.p50 = histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI;
+        this.p99 = histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI;
+        this.p999 = histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI;
+        this.max = histogram.getMaxValue() / MICROS_PER_MILLI;
+        this.total = count == 0 ? 0.0 : histogram.getMean() * count / MICROS_PER_MILLI;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Approximate sum of all recorded latencies (mean x count).
+     */
+    public double getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("name=[").append(name).append(']');
+        sb.append(", count=[").append(count).append(']');
+        sb.append(", p50=[").append(p50).append(']');
+        sb.append(", p99=[").append(p99).append(']');
+        sb.append(", p999=[").append(p999).append(']');
+        sb.append(", max=[").append(max).append(']');
+        return sb.toString();
+    }
+
+}
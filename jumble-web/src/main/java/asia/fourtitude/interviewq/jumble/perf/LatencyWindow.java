@@ -0,0 +1,60 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Rolling latency histogram of one endpoint/operation, in microseconds.
+ * <p>
+ * Recording is lock free (HdrHistogram `Recorder`). Every slot period, the
+ * recorded interval is swapped out into a ring of `slots` histograms, and
+ * a window is the sum of the latest completed slots.
+ */
+final class LatencyWindow {
+
+    /*
+     * 2 significant digits (1% precision) keeps each histogram at a few
+     * kilobytes, as there is one per slot per name.
+     */
+    static final int SIGNIFICANT_DIGITS = 2;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final Histogram[] ring;
+
+    private int index;
+
+    LatencyWindow(int slots) {
+        this.ring = new Histogram[slots];
+    }
+
+    void record(long nanos) {
+        recorder.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * Closes the current slot, overwriting (and recycling) the oldest.
+     */
+    synchronized void rotate() {
+        ring[index] = recorder.getIntervalHistogram(ring[index]);
+        index = (index + 1) % ring.length;
+    }
+
+    /**
+     * Sum of the latest `slots` completed slots.
+     */
+    synchronized Histogram sum(int slots) {
+        Histogram sum = new Histogram(SIGNIFICANT_DIGITS);
+        int count = Math.min(slots, ring.length);
+        for (int ix = 1; ix <= count; ix += 1) {
+            Histogram slot = ring[(index - ix + ring.length) % ring.length];
+            if (slot != null) {
+                sum.add(slot);
+            }
+        }
+        return sum;
+    }
+
+}
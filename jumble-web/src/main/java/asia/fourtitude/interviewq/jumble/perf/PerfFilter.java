@@ -0,0 +1,81 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import java.io.IOException;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the latency of every request into {@link PerfRecorder}, by method
+ * and matched path pattern (e.g. "GET /api/word/{prefix}"), so that path
+ * variables don't explode the number of windows. Async requests are recorded
+ * when they complete, except event streams (e.g. "/api/game/{id}/events"),
+ * whose lifetime is not a latency.
+ */
+public class PerfFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final PerfRecorder perfRecorder;
+
+    public PerfFilter(PerfRecorder perfRecorder) {
+        this.perfRecorder = perfRecorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // completed on another thread (e.g. a bulkhead): record then
+                request.getAsyncContext().addListener(new AsyncListener() {
+
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        if (!isEventStream(response)) {
+                            record(request, start);
+                        }
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+
+                });
+            } else {
+                record(request, start);
+            }
+        }
+    }
+
+    private static boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private void record(HttpServletRequest request, long start) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String name = request.getMethod() + ' ' + (pattern == null ? UNMAPPED : pattern);
+        perfRecorder.recordEndpoint(name, System.nanoTime() - start);
+    }
+
+}
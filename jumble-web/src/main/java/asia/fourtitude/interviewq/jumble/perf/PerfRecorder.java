@@ -0,0 +1,167 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rolling latency windows (HdrHistogram) of endpoints, engine operations
+ * and GC, plus allocated bytes, for the "/admin/perf" page.
+ * <p>
+ * Time is divided into slots of `slotSeconds`; the latest `slots` slots are
+ * kept, and any window is a sum of the latest completed slots. A background
+ * thread closes a slot every `slotSeconds`, so recording stays lock free.
+ */
+public class PerfRecorder implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PerfRecorder.class);
+
+    private final int slotSeconds;
+
+    private final int slots;
+
+    private final ConcurrentMap<String, LatencyWindow> endpoints = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentMap<String, LatencyWindow> operations = new ConcurrentSkipListMap<>();
+
+    private final ConcurrentMap<String, LatencyWindow> collectors = new ConcurrentSkipListMap<>();
+
+    private final LongAdder allocated = new LongAdder();
+
+    /* guarded by this */
+    private final long[] allocatedRing;
+
+    /* guarded by this */
+    private int allocatedIndex;
+
+    /* guarded by this */
+    private int completedSlots;
+
+    private final ScheduledExecutorService rotator;
+
+    private final GcMonitor gcMonitor;
+
+    public PerfRecorder(int slotSeconds, int slots) {
+        if (slotSeconds <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("Invalid slotSeconds=[" + slotSeconds + "], slots=[" + slots + "]");
+        }
+        this.slotSeconds = slotSeconds;
+        this.slots = slots;
+        this.allocatedRing = new long[slots];
+        this.rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "perf-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.rotator.scheduleAtFixedRate(this::rotate, slotSeconds, slotSeconds, TimeUnit.SECONDS);
+        this.gcMonitor = new GcMonitor(this);
+        LOG.debug("PerfRecorder: slotSeconds={}, slots={}", slotSeconds, slots);
+    }
+
+    public int getSlotSeconds() {
+        return slotSeconds;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public void recordEndpoint(String name, long nanos) {
+        window(endpoints, name).record(nanos);
+    }
+
+    public void recordOperation(String name, long nanos) {
+        window(operations, name).record(nanos);
+    }
+
+    void recordGc(String collector, long nanos) {
+        window(collectors, collector).record(nanos);
+    }
+
+    void recordAllocation(long bytes) {
+        allocated.add(bytes);
+    }
+
+    private LatencyWindow window(ConcurrentMap<String, LatencyWindow> windows, String name) {
+        LatencyWindow window = windows.get(name);
+        if (window == null) {
+            window = windows.computeIfAbsent(name, key -> new LatencyWindow(slots));
+        }
+        return window;
+    }
+
+    /**
+     * Closes the current slot of every window.
+     */
+    synchronized void rotate() {
+        rotate(endpoints);
+        rotate(operations);
+        rotate(collectors);
+        allocatedRing[allocatedIndex] = allocated.sumThenReset();
+        allocatedIndex = (allocatedIndex + 1) % slots;
+        completedSlots = Math.min(slots, completedSlots + 1);
+    }
+
+    private static void rotate(Map<String, LatencyWindow> windows) {
+        for (LatencyWindow window : windows.values()) {
+            window.rotate();
+        }
+    }
+
+    public List<LatencySnapshot> endpoints(int windowSlots) {
+        return snapshots(endpoints, windowSlots);
+    }
+
+    public List<LatencySnapshot> operations(int windowSlots) {
+        return snapshots(operations, windowSlots);
+    }
+
+    public List<LatencySnapshot> collectors(int windowSlots) {
+        return snapshots(collectors, windowSlots);
+    }
+
+    private List<LatencySnapshot> snapshots(Map<String, LatencyWindow> windows, int windowSlots) {
+        long windowMillis = windowMillis(windowSlots);
+        List<LatencySnapshot> snapshots = new ArrayList<>(windows.size());
+        for (Map.Entry<String, LatencyWindow> entry : windows.entrySet()) {
+            snapshots.add(new LatencySnapshot(entry.getKey(), entry.getValue().sum(windowSlots), windowMillis));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Bytes allocated per second over the latest `windowSlots` slots (as
+     * observed at GC, see {@link GcMonitor}).
+     */
+    public synchronized double allocationRate(int windowSlots) {
+        int count = Math.min(windowSlots, completedSlots);
+        long bytes = 0L;
+        for (int ix = 1; ix <= count; ix += 1) {
+            bytes += allocatedRing[(allocatedIndex - ix + slots) % slots];
+        }
+        return count == 0 ? 0.0 : bytes * 1000.0 / windowMillis(count);
+    }
+
+    /**
+     * Duration covered by a window, shorter while the recorder is young.
+     */
+    public synchronized long windowMillis(int windowSlots) {
+        return TimeUnit.SECONDS.toMillis((long) slotSeconds * Math.min(windowSlots, completedSlots));
+    }
+
+    @Override
+    public void close() {
+        gcMonitor.close();
+        rotator.shutdownNow();
+    }
+
+}
@@ -0,0 +1,70 @@
+package asia.fourtitude.interviewq.jumble.ratelimit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Admission control of the endpoints limited by {@link TokenBucketLimiter},
+ * per client address, before the request reaches a controller (and so the
+ * engine).
+ * <p>
+ * A rejection is a 429 with `Retry-After` (seconds) and a one line JSON
+ * body, written without going through Spring MVC. Behind a proxy, set
+ * `server.forward-headers-strategy` so the client address is the forwarded
+ * one.
+ * <p>
+ * The endpoint is keyed on the path as Spring MVC matches it: decoded,
+ * without `;` parameters (e.g. `;jsessionid`) nor a trailing slash, so
+ * that "/subWords/" or "/sub%57ords" are charged as "/subWords".
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final TokenBucketLimiter limiter;
+
+    public RateLimitFilter(TokenBucketLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String endpoint = request.getMethod() + ' ' + path(request);
+        long wait = this.limiter.acquire(endpoint, request.getRemoteAddr());
+        if (wait == 0L) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1L) - 1L));
+        byte[] body = ("{\"error\":\"Too many requests, retry after " + seconds + " seconds\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    static String path(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end -= 1;
+        }
+        return path.substring(0, end);
+    }
+
+}
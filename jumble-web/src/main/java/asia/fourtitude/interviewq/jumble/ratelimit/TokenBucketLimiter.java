@@ -0,0 +1,216 @@
+package asia.fourtitude.interviewq.jumble.ratelimit;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-client token buckets, charged a cost per endpoint (e.g. "POST
+ * /subWords"). Endpoints without a cost are not limited.
+ * <p>
+ * Each client refills `tokensPerSecond` up to `burst` tokens. A bucket is
+ * one atomic long, its theoretical arrival time (GCRA): admitting a request
+ * of cost `c` moves it `c` intervals later, unless that is more than `burst`
+ * intervals ahead of now. So a decision is one CAS, and takes no lock.
+ * <p>
+ * The client table holds at most `maxClients` buckets. When full, buckets
+ * refilled to the brim are dropped, as they are no different from new
+ * ones; if none is, new clients share one overflow bucket until some are.
+ */
+public class TokenBucketLimiter {
+
+    public static final String METRIC_RATELIMIT_DECISIONS = "jumble.ratelimit.decisions";
+
+    public static final String METRIC_RATELIMIT_CLIENTS = "jumble.ratelimit.clients";
+
+    public static final String METRIC_RATELIMIT_OVERFLOW = "jumble.ratelimit.overflow";
+
+    static final class Endpoint {
+
+        final long increment;
+
+        final Counter admitted;
+
+        final Counter rejected;
+
+        Endpoint(long increment, Counter admitted, Counter rejected) {
+            this.increment = increment;
+            this.admitted = admitted;
+            this.rejected = rejected;
+        }
+
+    }
+
+    private final Map<String, Endpoint> endpoints;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicLong overflow;
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final long intervalNanos;
+
+    private final long toleranceNanos;
+
+    private final int maxClients;
+
+    private final Counter overflowed;
+
+    /**
+     * @param registry        The metrics registry.
+     * @param tokensPerSecond The refill rate of a client.
+     * @param burst           The capacity of a client, at least the highest
+     *                        cost.
+     * @param maxClients      The maximum number of client buckets.
+     * @param costs           The cost of each limited endpoint, as "METHOD
+     *                        /path", see {@link #parseCosts(String)}.
+     */
+    public TokenBucketLimiter(MeterRegistry registry, double tokensPerSecond, int burst, int maxClients,
+            Map<String, Integer> costs) {
+        if (!(tokensPerSecond > 0.0) || burst <= 0 || maxClients <= 0) {
+            throw new IllegalArgumentException("Invalid tokensPerSecond=[" + tokensPerSecond + "], burst=[" + burst
+                    + "], maxClients=[" + maxClients + "]");
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1L) / tokensPerSecond));
+        this.toleranceNanos = this.intervalNanos * burst;
+        this.maxClients = maxClients;
+        this.overflow = new AtomicLong(System.nanoTime());
+        Map<String, Endpoint> endpoints = new HashMap<>();
+        for (Map.Entry<String, Integer> cost : costs.entrySet()) {
+            if (cost.getValue() <= 0 || cost.getValue() > burst) {
+                throw new IllegalArgumentException("Invalid cost of [" + cost.getKey() + "]=[" + cost.getValue()
+                        + "], expect 1 to burst=[" + burst + "]");
+            }
+            endpoints.put(cost.getKey(), new Endpoint(this.intervalNanos * cost.getValue(),
+                    decisionCounter(registry, cost.getKey(), "admitted"),
+                    decisionCounter(registry, cost.getKey(), "rejected")));
+        }
+        this.endpoints = Collections.unmodifiableMap(endpoints);
+        this.overflowed = Counter.builder(METRIC_RATELIMIT_OVERFLOW)
+                .description("Decisions on the shared overflow bucket, the client table being full")
+                .register(registry);
+        Gauge.builder(METRIC_RATELIMIT_CLIENTS, this, TokenBucketLimiter::getClientCount)
+                .description("Client buckets of the rate limiter")
+                .register(registry);
+    }
+
+    private static Counter decisionCounter(MeterRegistry registry, String endpoint, String result) {
+        return Counter.builder(METRIC_RATELIMIT_DECISIONS)
+                .description("Rate limiter decisions, by endpoint and result")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Parses endpoint costs, e.g. "POST /subWords=4, GET /palindrome=4".
+     *
+     * @param spec The costs, comma separated, or null or blank for none.
+     * @return The cost of each endpoint.
+     * @throws IllegalArgumentException If `spec` is invalid.
+     */
+    public static Map<String, Integer> parseCosts(String spec) {
+        Map<String, Integer> costs = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return costs;
+        }
+        for (String item : spec.split(",")) {
+            int eq = item.lastIndexOf('=');
+            String[] endpoint = eq < 0 ? new String[0] : item.substring(0, eq).trim().split("\\s+");
+            if (endpoint.length != 2 || !endpoint[1].startsWith("/")) {
+                throw new IllegalArgumentException("Invalid cost=[" + item.trim() + "], expect METHOD /path=cost");
+            }
+            try {
+                int cost = Integer.parseInt(item.substring(eq + 1).trim());
+                costs.put(endpoint[0].toUpperCase() + ' ' + endpoint[1], cost);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cost=[" + item.trim() + "], expect METHOD /path=cost");
+            }
+        }
+        return costs;
+    }
+
+    public boolean isLimited(String endpoint) {
+        return this.endpoints.containsKey(endpoint);
+    }
+
+    public int getClientCount() {
+        return this.buckets.size();
+    }
+
+    /**
+     * Charges `client` the cost of `endpoint`.
+     *
+     * @param endpoint The endpoint, as "METHOD /path".
+     * @param client   The client, e.g. its address.
+     * @return 0 if admitted (or not limited), else the nanoseconds until
+     * the client has enough tokens.
+     */
+    public long acquire(String endpoint, String client) {
+        return acquire(endpoint, client, System.nanoTime());
+    }
+
+    long acquire(String endpoint, String client, long now) {
+        Endpoint limited = this.endpoints.get(endpoint);
+        if (limited == null) {
+            return 0L;
+        }
+        AtomicLong bucket = bucket(client, now);
+        while (true) {
+            long tat = bucket.get();
+            // nanoTime may wrap: compare by difference
+            long next = (tat - now > 0L ? tat : now) + limited.increment;
+            long wait = next - now - this.toleranceNanos;
+            if (wait > 0L) {
+                limited.rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                limited.admitted.increment();
+                return 0L;
+            }
+        }
+    }
+
+    private AtomicLong bucket(String client, long now) {
+        AtomicLong bucket = this.buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (this.buckets.size() >= this.maxClients) {
+            sweep(now);
+            if (this.buckets.size() >= this.maxClients) {
+                this.overflowed.increment();
+                return this.overflow;
+            }
+        }
+        return this.buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+    }
+
+    /*
+     * One sweeper at a time; the others go to the overflow bucket meanwhile.
+     * A request racing the removal charges the dropped bucket, which was
+     * full anyway.
+     */
+    void sweep(long now) {
+        if (!this.sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0L);
+        } finally {
+            this.sweeping.set(false);
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+package asia.fourtitude.interviewq.jumble.reactive;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import asia.fourtitude.interviewq.jumble.model.GameGuessInput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.model.GameGuessOutput;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardEntryOutput;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardOutput;
+import asia.fourtitude.interviewq.jumble.service.EventSubscriber;
+import asia.fourtitude.interviewq.jumble.service.GameService;
+import asia.fourtitude.interviewq.jumble.service.LeaderboardService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Reactive handler of "/api/game".
+ * <p>
+ * Creating a game generates all sub words of the picked word, so it is
+ * offloaded to the `heavyScheduler` (the daily puzzle is generated once,
+ * then copied from the cache); an invalid `date` or `difficulty` is a bad
+ * request. Guessing loads the game, and saves it with a compare-and-set
+ * retry loop: a map lookup when games are in memory, run on the event loop
+ * thread; otherwise (file or database repository, or stateless token) it
+ * is offloaded to the `heavyScheduler` too.
+ * <p>
+ * Leaderboards are in memory, and read on the event loop thread. A game
+ * event stream is fed through a bounded sink, so pushing a frame never
+ * blocks; a client more than `MAX_PENDING` frames behind is dropped.
+ */
+public class GameHandler {
+
+    static final String EVENT_NAME = "game";
+
+    static final int MAX_PENDING = 32;
+
+    private final GameService gameService;
+
+    private final LeaderboardService leaderboardService;
+
+    private final Scheduler heavyScheduler;
+
+    public GameHandler(GameService gameService, LeaderboardService leaderboardService, Scheduler heavyScheduler) {
+        this.gameService = gameService;
+        this.leaderboardService = leaderboardService;
+        this.heavyScheduler = heavyScheduler;
+    }
+
+    public Mono<ServerResponse> newGame(ServerRequest request) {
+        String difficulty = request.queryParam("difficulty").orElse(null);
+        return Mono.fromCallable(() -> {
+            GameGuessModel model = this.gameService.newGame(difficulty);
+            return this.gameService.toOutput(model, GameService.RESULT_CREATED);
+        }).subscribeOn(this.heavyScheduler)
+                .flatMap(output -> respond(HttpStatus.OK, output))
+                .onErrorResume(IllegalArgumentException.class, e -> badRequest(e.getMessage()))
+                .onErrorResume(IllegalStateException.class, e -> unavailable(e.getMessage()));
+    }
+
+    public Mono<ServerResponse> dailyGame(ServerRequest request) {
+        String date = request.queryParam("date").orElse(null);
+        String difficulty = request.queryParam("difficulty").orElse(null);
+        return Mono.fromCallable(() -> {
+            GameGuessModel model = this.gameService.dailyGame(date, difficulty);
+            return this.gameService.toOutput(model, GameService.RESULT_CREATED);
+        }).subscribeOn(this.heavyScheduler)
+                .flatMap(output -> respond(HttpStatus.OK, output))
+                .onErrorResume(IllegalArgumentException.class, e -> badRequest(e.getMessage()))
+                .onErrorResume(IllegalStateException.class, e -> unavailable(e.getMessage()));
+    }
+
+    public Mono<ServerResponse> seededGameCacheStats(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(this.gameService.seededGameCacheStats());
+    }
+
+    public Mono<ServerResponse> playGame(ServerRequest request) {
+        return request.bodyToMono(GameGuessInput.class)
+                .flatMap(this::guess)
+                .switchIfEmpty(Mono.defer(() -> notFound(GameService.RESULT_INVALID_ID)));
+    }
+
+    private Mono<ServerResponse> guess(GameGuessInput input) {
+        if (input.getId() == null || input.getId().isBlank()) {
+            return notFound(GameService.RESULT_INVALID_ID);
+        }
+        Mono<GameGuessOutput> guessed = Mono.fromCallable(() -> {
+            GameGuessModel model = this.gameService.getGame(input.getId());
+            if (model == null) {
+                return null;
+            }
+            GameGuessOutput output = this.gameService.guess(model, input.getWord());
+            // not in stateless mode, as GameApiController
+            if (GameService.RESULT_ALL_GUESSED.equals(output.getResult()) && StringUtils.isNotBlank(input.getPlayer())
+                    && !this.gameService.isStateless()) {
+                output.setScore(this.leaderboardService.submit(input.getPlayer(), output.getGuessedWords(),
+                        model.getCreatedAt().getTime(), System.currentTimeMillis()));
+            }
+            return output;
+        });
+        if (!this.gameService.isInMemory()) {
+            guessed = guessed.subscribeOn(this.heavyScheduler);
+        }
+        return guessed.flatMap(output -> respond(HttpStatus.OK, output))
+                .switchIfEmpty(Mono.defer(() -> notFound(GameService.RESULT_NOT_FOUND)));
+    }
+
+    public Mono<ServerResponse> leaderboard(ServerRequest request) {
+        String board = request.queryParam("board").orElse(null);
+        Integer limit;
+        LeaderboardOutput output;
+        try {
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+            output = this.leaderboardService.top(board, limit);
+        } catch (IllegalArgumentException e) {
+            // incl. NumberFormatException
+            return ServerResponse.badRequest().build();
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(output);
+    }
+
+    public Mono<ServerResponse> leaderboardRank(ServerRequest request) {
+        String player = request.queryParam("player").orElse(null);
+        if (player == null) {
+            return ServerResponse.badRequest().build();
+        }
+        LeaderboardEntryOutput output;
+        try {
+            output = this.leaderboardService.entry(request.queryParam("board").orElse(null), player);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest().build();
+        }
+        if (output == null) {
+            return ServerResponse.notFound().build();
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(output);
+    }
+
+    public Mono<ServerResponse> events(ServerRequest request) {
+        String id = request.pathVariable("id");
+        Sinks.Many<ServerSentEvent<String>> sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ServerSentEvent<String>>get(MAX_PENDING).get());
+        EventSubscriber subscriber = new EventSubscriber() {
+
+            @Override
+            public boolean send(long version, String frame) {
+                // fails if cancelled, or the buffer is full
+                return sink.tryEmitNext(ServerSentEvent.builder(frame)
+                        .event(EVENT_NAME)
+                        .id(Long.toString(version))
+                        .build()).isSuccess();
+            }
+
+            @Override
+            public void close() {
+                sink.tryEmitComplete();
+            }
+
+        };
+        Mono<Boolean> watching = Mono.fromCallable(() -> this.gameService.watchGame(id, subscriber));
+        if (!this.gameService.isInMemory()) {
+            watching = watching.subscribeOn(this.heavyScheduler);
+        }
+        return watching.flatMap(found -> {
+            if (!found) {
+                return ServerResponse.notFound().build();
+            }
+            Flux<ServerSentEvent<String>> events = sink.asFlux()
+                    .doFinally(signal -> this.gameService.unwatchGame(id, subscriber));
+            return ServerResponse.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(BodyInserters.fromServerSentEvents(events));
+        }).onErrorResume(IllegalStateException.class,
+                e -> ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    private static Mono<ServerResponse> badRequest(String result) {
+        GameGuessOutput output = new GameGuessOutput();
+        output.setResult(result);
+        return respond(HttpStatus.BAD_REQUEST, output);
+    }
+
+    /* the game repository is full */
+    private static Mono<ServerResponse> unavailable(String result) {
+        GameGuessOutput output = new GameGuessOutput();
+        output.setResult(result);
+        return respond(HttpStatus.SERVICE_UNAVAILABLE, output);
+    }
+
+    private static Mono<ServerResponse> notFound(String result) {
+        GameGuessOutput output = new GameGuessOutput();
+        output.setResult(result);
+        return respond(HttpStatus.NOT_FOUND, output);
+    }
+
+    private static Mono<ServerResponse> respond(HttpStatus status, GameGuessOutput output) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(output);
+    }
+
+}
@@ -0,0 +1,79 @@
+package asia.fourtitude.interviewq.jumble.reactive;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import asia.fourtitude.interviewq.jumble.service.GameService;
+import asia.fourtitude.interviewq.jumble.service.LeaderboardService;
+import asia.fourtitude.interviewq.jumble.service.WordService;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking (WebFlux on Netty) edition of "/api/word" and "/api/game",
+ * serving the same contracts as the servlet (MVC) controllers.
+ * <p>
+ * Enabled with Spring profile "reactive" (or Maven profile "reactive").
+ * Cheap index lookups run on the event loop threads. Heavy engine calls
+ * are offloaded to the bounded `jumbleHeavyScheduler`.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        /*
+         * Both Tomcat and Netty are in classpath, prefers Netty.
+         */
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jumbleHeavyScheduler(
+            @Value("${jumble.reactive.heavy.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${jumble.reactive.heavy.queue-size:1000}") int queueSize) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "jumble-heavy");
+    }
+
+    @Bean
+    public WordHandler wordHandler(WordService wordService, Scheduler jumbleHeavyScheduler) {
+        return new WordHandler(wordService, jumbleHeavyScheduler);
+    }
+
+    @Bean
+    public GameHandler gameHandler(GameService gameService, LeaderboardService leaderboardService,
+            Scheduler jumbleHeavyScheduler) {
+        return new GameHandler(gameService, leaderboardService, jumbleHeavyScheduler);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> jumbleApiRoutes(WordHandler wordHandler, GameHandler gameHandler) {
+        return route(GET("/api/word/cache/stats"), wordHandler::autoCompleteCacheStats)
+                .andRoute(GET("/api/word/anagrams/{letters}"), wordHandler::anagrams)
+                .andRoute(GET("/api/word/pattern"), wordHandler::pattern)
+                .andRoute(GET("/api/word/regex"), wordHandler::regex)
+                .andRoute(GET("/api/word/crossword"), wordHandler::crossword)
+                .andRoute(GET("/api/word/wordle"), wordHandler::wordle)
+                .andRoute(GET("/api/word/phrase-anagrams"), wordHandler::phraseAnagrams)
+                .andRoute(GET("/api/word/{prefix}"), wordHandler::autoComplete)
+                .andRoute(GET("/api/game/new"), gameHandler::newGame)
+                .andRoute(GET("/api/game/daily/stats"), gameHandler::seededGameCacheStats)
+                .andRoute(GET("/api/game/daily"), gameHandler::dailyGame)
+                .andRoute(POST("/api/game/guess"), gameHandler::playGame)
+                .andRoute(GET("/api/game/leaderboard"), gameHandler::leaderboard)
+                .andRoute(GET("/api/game/leaderboard/rank"), gameHandler::leaderboardRank)
+                .andRoute(GET("/api/game/{id}/events"), gameHandler::events);
+    }
+
+}
@@ -0,0 +1,205 @@
+package asia.fourtitude.interviewq.jumble.reactive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import asia.fourtitude.interviewq.jumble.service.WordService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Reactive handler of "/api/word".
+ * <p>
+ * Auto complete is a cached or binary search lookup over the in-memory
+ * dictionary, anagrams a hash lookup, and crossword lookups intersect
+ * small precomputed sets (the indexes are built at startup), so these run
+ * directly on the event loop thread.
+ * Patterns with a leading `*` walk most of the dictionary trie, so pattern
+ * and regex queries are offloaded to the `heavyScheduler`, as are phrase
+ * anagrams, streamed for up to their time budget, and Wordle rankings,
+ * which score every word of the length against every candidate.
+ */
+public class WordHandler {
+
+    private final WordService wordService;
+
+    private final Scheduler heavyScheduler;
+
+    public WordHandler(WordService wordService, Scheduler heavyScheduler) {
+        this.wordService = wordService;
+        this.heavyScheduler = heavyScheduler;
+    }
+
+    public Mono<ServerResponse> autoComplete(ServerRequest request) {
+        String prefix = request.pathVariable("prefix");
+        Integer limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        byte[] body = this.wordService.autoComplete(prefix, limit);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    public Mono<ServerResponse> anagrams(ServerRequest request) {
+        byte[] body = this.wordService.anagrams(request.pathVariable("letters"));
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    public Mono<ServerResponse> pattern(ServerRequest request) {
+        String pattern = request.queryParam("pattern").orElse(null);
+        Integer limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        if (pattern == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return Mono.fromCallable(() -> this.wordService.pattern(pattern, limit))
+                .subscribeOn(this.heavyScheduler)
+                .flatMap(body -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body));
+    }
+
+    public Mono<ServerResponse> regex(ServerRequest request) {
+        String regex = request.queryParam("regex").orElse(null);
+        Integer limit;
+        try {
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        if (regex == null) {
+            return ServerResponse.badRequest().build();
+        }
+        return Mono.fromCallable(() -> this.wordService.regex(regex, limit))
+                .subscribeOn(this.heavyScheduler)
+                .flatMap(body -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Collections.singletonMap("error", e.getMessage())));
+    }
+
+    public Mono<ServerResponse> crossword(ServerRequest request) {
+        Integer length;
+        Integer limit;
+        try {
+            length = request.queryParam("length").map(Integer::valueOf).orElse(null);
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        if (length == null) {
+            return ServerResponse.badRequest().build();
+        }
+        List<String> at = new ArrayList<>();
+        for (String param : request.queryParams().getOrDefault("at", Collections.emptyList())) {
+            at.addAll(Arrays.asList(param.split(",")));
+        }
+        byte[] body;
+        try {
+            body = this.wordService.crossword(length, at, limit);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Collections.singletonMap("error", e.getMessage()));
+        }
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body);
+    }
+
+    public Mono<ServerResponse> wordle(ServerRequest request) {
+        Integer length;
+        Integer limit;
+        try {
+            length = request.queryParam("length").map(Integer::valueOf).orElse(null);
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return ServerResponse.badRequest().build();
+        }
+        if (length == null) {
+            return ServerResponse.badRequest().build();
+        }
+        List<String> guess = new ArrayList<>();
+        for (String param : request.queryParams().getOrDefault("guess", Collections.emptyList())) {
+            guess.addAll(Arrays.asList(param.split(",")));
+        }
+        return Mono.fromCallable(() -> this.wordService.wordle(length, guess, limit))
+                .subscribeOn(this.heavyScheduler)
+                .flatMap(body -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(body))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(Collections.singletonMap("error", e.getMessage())));
+    }
+
+    public Mono<ServerResponse> phraseAnagrams(ServerRequest request) {
+        String phrase = request.queryParam("phrase").orElse(null);
+        Integer minLength;
+        Integer limit;
+        Long budgetMillis;
+        try {
+            minLength = request.queryParam("min_length").map(Integer::valueOf).orElse(null);
+            limit = request.queryParam("limit").map(Integer::valueOf).orElse(null);
+            budgetMillis = request.queryParam("budget_ms").map(Long::valueOf).orElse(null);
+            if (phrase == null) {
+                return ServerResponse.badRequest().build();
+            }
+            this.wordService.checkPhrase(phrase);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Collections.singletonMap("error", e.getMessage()));
+        }
+
+        /*
+         * Lines are pushed as the solver finds them, and a cancelled
+         * subscription (client gone) stops the search at the next solution.
+         */
+        Flux<byte[]> lines = Flux.<byte[]>create(sink -> {
+            try {
+                this.wordService.phraseAnagrams(phrase, minLength, limit, budgetMillis, line -> {
+                    if (sink.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    sink.next(line);
+                });
+                sink.complete();
+            } catch (CancellationException e) {
+                sink.complete();
+            } catch (RuntimeException e) {
+                sink.error(e);
+            }
+        }).subscribeOn(this.heavyScheduler);
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(lines, byte[].class);
+    }
+
+    public Mono<ServerResponse> autoCompleteCacheStats(ServerRequest request) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(this.wordService.autoCompleteCacheStats());
+    }
+
+}
@@ -0,0 +1,24 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+/**
+ * Receives the encoded frames (JSON) of an event stream, e.g. a server-sent
+ * event emitter of a room or a game watcher.
+ */
+@FunctionalInterface
+public interface EventSubscriber {
+
+    /**
+     * @param version The version of the frame, increasing within a stream.
+     * @param frame   The encoded JSON.
+     * @return false if gone, to be unsubscribed.
+     */
+    boolean send(long version, String frame);
+
+    /**
+     * Ends the stream, e.g. of a subscriber too slow to keep up, for the
+     * client to reconnect. Called on a sending thread, after its last frame.
+     */
+    default void close() {
+    }
+
+}
@@ -0,0 +1,510 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.cache.CacheStats;
+import asia.fourtitude.interviewq.jumble.cache.SeededGameCache;
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.GameTokenCodec;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+import asia.fourtitude.interviewq.jumble.core.jfr.GuessEvent;
+import asia.fourtitude.interviewq.jumble.core.repository.GameRecord;
+import asia.fourtitude.interviewq.jumble.core.repository.GameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MemoryGameRepository;
+import asia.fourtitude.interviewq.jumble.model.GameEventOutput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.model.GameGuessOutput;
+
+/**
+ * Game API operations shared by the servlet (MVC) and reactive (WebFlux)
+ * endpoints.
+ * <p>
+ * Games are kept in a {@link GameRepository}: in memory, so guesses must go
+ * to the node that created the game, or in a file or database. Guesses are
+ * compare-and-set on the game version, retried on a concurrent guess of the
+ * same game. With a {@link GameTokenCodec} (stateless mode), the game is kept
+ * by the client instead: its `id` is the signed token of the game state,
+ * renewed on every guess, so any node can serve it.
+ * <p>
+ * Changes of a game are pushed to its {@link GameWatchers}, if enabled.
+ * <p>
+ * Games not guessed for `idleMillis` are evicted from the repository, every
+ * minute, so that a bounded repository (e.g. a file of fixed slots) does not
+ * fill up with abandoned games.
+ */
+public class GameService implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameService.class);
+
+    public static final String RESULT_CREATED = "Created new game.";
+
+    public static final String RESULT_INVALID_ID = "Invalid Game ID.";
+
+    public static final String RESULT_NOT_FOUND = "Game board/state not found.";
+
+    public static final String RESULT_CORRECT = "Guessed correctly.";
+
+    public static final String RESULT_INCORRECT = "Guessed incorrectly.";
+
+    public static final String RESULT_ALREADY = "Guessed already.";
+
+    public static final String RESULT_ALL_GUESSED = "All words guessed.";
+
+    /**
+     * The maximum number of "did you mean" words of an incorrect guess.
+     */
+    public static final int DID_YOU_MEAN_LIMIT = 3;
+
+    /**
+     * The length of words, and the minimum length of sub words, of games.
+     */
+    public static final int WORD_LENGTH = 6;
+
+    public static final int MIN_LENGTH = 3;
+
+    public static final String METRIC_GAMES_ACTIVE = "jumble.games.active";
+
+    public static final String METRIC_GAMES_CREATED = "jumble.games.created";
+
+    public static final String METRIC_GAMES_COMPLETED = "jumble.games.completed";
+
+    public static final String METRIC_GAMES_EXPIRED = "jumble.games.expired";
+
+    public static final String METRIC_GUESSES = "jumble.game.guesses";
+
+    private final JumbleEngine jumbleEngine;
+
+    private final SeededGameCache seededGameCache;
+
+    private GameTokenCodec gameTokenCodec;
+
+    private GameWatchers gameWatchers;
+
+    /*
+     * Database/repository for all the game boards/states.
+     */
+    private final GameRepository gameRepository;
+
+    private final Counter gamesCreated;
+
+    private final Counter gamesCompleted;
+
+    private final Counter gamesExpired;
+
+    private final ScheduledExecutorService expirer;
+
+    private volatile long idleMillis = TimeUnit.MINUTES.toMillis(30);
+
+    private final Counter guessesCorrect;
+
+    private final Counter guessesIncorrect;
+
+    private final Counter guessesRepeat;
+
+    public GameService(JumbleEngine jumbleEngine, SeededGameCache seededGameCache, GameRepository gameRepository,
+            MeterRegistry registry) {
+        this.jumbleEngine = jumbleEngine;
+        this.seededGameCache = seededGameCache;
+        this.gameRepository = gameRepository;
+        Gauge.builder(METRIC_GAMES_ACTIVE, this, GameService::getGameCount)
+                .description("Game boards/states in repository")
+                .register(registry);
+        this.gamesCreated = Counter.builder(METRIC_GAMES_CREATED)
+                .description("Games created")
+                .register(registry);
+        this.gamesCompleted = Counter.builder(METRIC_GAMES_COMPLETED)
+                .description("Games with all words guessed")
+                .register(registry);
+        this.gamesExpired = Counter.builder(METRIC_GAMES_EXPIRED)
+                .description("Games evicted, not guessed for idleMillis")
+                .register(registry);
+        this.expirer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.expirer.scheduleWithFixedDelay(this::evictIdle, 1L, 1L, TimeUnit.MINUTES);
+        this.guessesCorrect = guessCounter(registry, "correct");
+        this.guessesIncorrect = guessCounter(registry, "incorrect");
+        this.guessesRepeat = guessCounter(registry, "repeat");
+    }
+
+    private static Counter guessCounter(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC_GUESSES)
+                .description("Guesses submitted, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Creates a new game board/state, and registers into repository.
+     *
+     * @return The created game board/state.
+     */
+    public GameGuessModel newGame() {
+        return newGame(null);
+    }
+
+    /**
+     * Creates a new game board/state of `difficulty`, and registers into
+     * repository.
+     *
+     * @param difficulty The difficulty (easy, medium or hard), or null or
+     *                   blank for any.
+     * @return The created game board/state.
+     * @throws IllegalArgumentException If `difficulty` is invalid.
+     * @throws IllegalStateException    If the repository is full.
+     */
+    public GameGuessModel newGame(String difficulty) {
+        GameState gameState = this.jumbleEngine.createGameState(WORD_LENGTH, MIN_LENGTH,
+                SeedIndex.Difficulty.parse(difficulty));
+        return register(gameState);
+    }
+
+    /**
+     * Creates a new game board/state of the daily puzzle of `date`, and
+     * registers into repository. The puzzle is seeded by the day, so all
+     * players (on any node) of the same date and difficulty get the same
+     * word; it is generated once per node, then copied from the cache.
+     *
+     * @param date       The date (yyyy-MM-dd), or null or blank for today (UTC).
+     * @param difficulty The difficulty (easy, medium or hard), or null or
+     *                   blank for any.
+     * @return The created game board/state.
+     * @throws IllegalArgumentException If `date` or `difficulty` is invalid.
+     * @throws IllegalStateException    If the repository is full.
+     */
+    public GameGuessModel dailyGame(String date, String difficulty) {
+        LocalDate day;
+        if (StringUtils.isBlank(date)) {
+            day = LocalDate.now(ZoneOffset.UTC);
+        } else {
+            try {
+                day = LocalDate.parse(date.trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date=[" + date + "], expect yyyy-MM-dd");
+            }
+        }
+        SeededGameCache.Key key = new SeededGameCache.Key(this.jumbleEngine.getDictionaryVersion(), day.toEpochDay(),
+                WORD_LENGTH, MIN_LENGTH, SeedIndex.Difficulty.parse(difficulty));
+        GameState daily = this.seededGameCache.get(key, k -> this.jumbleEngine.createGameState(
+                k.getLength(), k.getMinLength(), k.getDifficulty(), k.getSeed()));
+        return register(daily.copy());
+    }
+
+    private GameGuessModel register(GameState gameState) {
+        Date now = new Date();
+        GameGuessModel model = new GameGuessModel();
+        model.setCreatedAt(now);
+        model.setModifiedAt(now);
+        model.setGameState(gameState);
+        if (this.gameTokenCodec != null) {
+            model.setId(this.gameTokenCodec.encode(gameState, MIN_LENGTH));
+        } else {
+            model.setId(UUID.randomUUID().toString());
+            this.gameRepository.create(toRecord(model));
+        }
+        this.gamesCreated.increment();
+        return model;
+    }
+
+    /**
+     * Finds the game board/state by `id`, or in stateless mode, decodes it
+     * from the `id` token.
+     *
+     * @param id The game board ID.
+     * @return The game board/state, or null if `id` is blank, not found, or
+     * not a valid token.
+     */
+    public GameGuessModel getGame(String id) {
+        if (StringUtils.isBlank(id)) {
+            return null;
+        }
+        if (this.gameTokenCodec != null) {
+            GameState gameState = this.gameTokenCodec.decode(id.trim());
+            if (gameState == null) {
+                return null;
+            }
+            Date now = new Date();
+            GameGuessModel model = new GameGuessModel();
+            model.setId(id.trim());
+            model.setCreatedAt(now);
+            model.setModifiedAt(now);
+            model.setGameState(gameState);
+            return model;
+        }
+        GameRecord record = this.gameRepository.get(id.trim());
+        return record == null ? null : toModel(record);
+    }
+
+    /*
+     * A copy, as the repository may keep the record, while the model may be
+     * guessed again.
+     */
+    private static GameRecord toRecord(GameGuessModel model) {
+        return new GameRecord(model.getId(), model.getVersion(), model.getCreatedAt().getTime(),
+                model.getModifiedAt().getTime(), model.getGameState()).copy();
+    }
+
+    private static GameGuessModel toModel(GameRecord record) {
+        GameGuessModel model = new GameGuessModel();
+        model.setId(record.getId());
+        model.setVersion(record.getVersion());
+        model.setCreatedAt(new Date(record.getCreatedAt()));
+        model.setModifiedAt(new Date(record.getModifiedAt()));
+        model.setGameState(record.getState());
+        return model;
+    }
+
+    /**
+     * Switches to stateless mode, with games kept in signed tokens.
+     *
+     * @param gameTokenCodec The token codec, or null for games in memory.
+     */
+    public void setGameTokenCodec(GameTokenCodec gameTokenCodec) {
+        this.gameTokenCodec = gameTokenCodec;
+    }
+
+    /**
+     * @param idleMillis The time since the last guess after which a game is
+     *                   evicted.
+     */
+    public void setIdleMillis(long idleMillis) {
+        this.idleMillis = idleMillis;
+    }
+
+    /*
+     * The scan is of copies, so each idle game is read again before
+     * eviction: one guessed meanwhile is kept. A guess racing the eviction
+     * itself finds the game not found.
+     */
+    int evictIdle(long idleBefore) {
+        List<String> idle = new ArrayList<>();
+        this.gameRepository.scan(record -> {
+            if (record.getModifiedAt() < idleBefore) {
+                idle.add(record.getId());
+            }
+        });
+        int evicted = 0;
+        for (String id : idle) {
+            GameRecord latest = this.gameRepository.get(id);
+            if (latest != null && latest.getModifiedAt() < idleBefore && this.gameRepository.evict(id)) {
+                evicted += 1;
+            }
+        }
+        this.gamesExpired.increment(evicted);
+        return evicted;
+    }
+
+    void evictIdle() {
+        try {
+            int evicted = evictIdle(System.currentTimeMillis() - this.idleMillis);
+            LOG.debug("evictIdle: evicted={}, games={}", evicted, getGameCount());
+        } catch (RuntimeException e) {
+            // keep the schedule going
+            LOG.warn("evictIdle: failed", e);
+        }
+    }
+
+    public boolean isStateless() {
+        return this.gameTokenCodec != null;
+    }
+
+    /**
+     * @return true if games are held in this JVM's memory, so that getting
+     * and guessing one neither does I/O nor decodes a token.
+     */
+    public boolean isInMemory() {
+        return this.gameTokenCodec == null && this.gameRepository instanceof MemoryGameRepository;
+    }
+
+    /**
+     * Enables game event streams, see {@link #watchGame(String, EventSubscriber)}.
+     *
+     * @param gameWatchers The watchers, or null for none.
+     */
+    public void setGameWatchers(GameWatchers gameWatchers) {
+        this.gameWatchers = gameWatchers;
+    }
+
+    /**
+     * Pushes the changes of game `id` to `subscriber`, starting with its
+     * current state. Only guesses served by this node are pushed, and not
+     * in stateless mode, where the `id` changes on every guess.
+     *
+     * @param id         The game board ID.
+     * @param subscriber The subscriber.
+     * @return true if watching, false if not found, or not supported.
+     * @throws IllegalStateException If there are too many watchers.
+     */
+    public boolean watchGame(String id, EventSubscriber subscriber) {
+        if (this.gameWatchers == null || this.gameTokenCodec != null) {
+            return false;
+        }
+        GameGuessModel model = getGame(id);
+        if (model == null) {
+            return false;
+        }
+        return this.gameWatchers.watch(model.getId(), subscriber, () -> {
+            GameGuessModel latest = getGame(model.getId());
+            return latest == null ? null : toEvent(latest, null);
+        });
+    }
+
+    public void unwatchGame(String id, EventSubscriber subscriber) {
+        if (this.gameWatchers != null && id != null) {
+            this.gameWatchers.unwatch(id.trim(), subscriber);
+        }
+    }
+
+    public CacheStats seededGameCacheStats() {
+        return this.seededGameCache.stats();
+    }
+
+    public int getGameCount() {
+        return this.gameRepository.size();
+    }
+
+    /**
+     * Plays the game with guessing `word`, and updates the game board/state.
+     *
+     * @param model The game board/state.
+     * @param word  The guessing word.
+     * @return The updated game board/state, with the guessing result, and
+     * the closest words not guessed yet if guessed incorrectly.
+     */
+    public GameGuessOutput guess(GameGuessModel model, String word) {
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        String result;
+        List<String> didYouMean = null;
+        while (true) {
+            GameState state = model.getGameState();
+            String guess = word == null ? null : word.trim().toLowerCase();
+            didYouMean = null;
+            if (guess != null && state.getSubWords().get(guess) == Boolean.TRUE) {
+                result = RESULT_ALREADY;
+            } else if (state.updateGuessWord(guess)) {
+                result = remainingWords(state) == 0 ? RESULT_ALL_GUESSED : RESULT_CORRECT;
+            } else {
+                result = RESULT_INCORRECT;
+                didYouMean = state.suggestWords(guess, DID_YOU_MEAN_LIMIT);
+            }
+            state.setScramble(this.jumbleEngine.scramble(state.getOriginal()));
+            model.setModifiedAt(new Date());
+            if (this.gameTokenCodec != null) {
+                model.setId(this.gameTokenCodec.encode(state, MIN_LENGTH));
+                break;
+            }
+            long expectedVersion = model.getVersion();
+            model.setVersion(expectedVersion + 1);
+            if (this.gameRepository.compareAndSet(expectedVersion, toRecord(model))) {
+                break;
+            }
+            // guessed concurrently (or evicted): retry on the latest
+            GameRecord latest = this.gameRepository.get(model.getId());
+            if (latest == null) {
+                result = RESULT_NOT_FOUND;
+                didYouMean = null;
+                break;
+            }
+            model.setVersion(latest.getVersion());
+            model.setGameState(latest.getState());
+        }
+        if (result == RESULT_ALREADY) {
+            this.guessesRepeat.increment();
+        } else if (result == RESULT_INCORRECT) {
+            this.guessesIncorrect.increment();
+        } else if (result != RESULT_NOT_FOUND) {
+            this.guessesCorrect.increment();
+            if (result == RESULT_ALL_GUESSED) {
+                this.gamesCompleted.increment();
+            }
+        }
+        GameGuessOutput output = toOutput(model, result);
+        if (this.gameWatchers != null && this.gameTokenCodec == null && result != RESULT_NOT_FOUND) {
+            boolean guessed = result == RESULT_CORRECT || result == RESULT_ALL_GUESSED;
+            this.gameWatchers.publish(toEvent(model, guessed ? word.trim().toLowerCase() : null));
+        }
+        output.setGuessWord(word);
+        if (didYouMean != null && !didYouMean.isEmpty()) {
+            output.setDidYouMean(didYouMean);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setGameId(model.getId());
+            event.setWord(word);
+            event.setResult(result);
+            event.setInputSize(word == null ? 0 : word.length());
+            event.setResultSize(output.getRemainingWords());
+            event.setDictionaryVersion(this.jumbleEngine.getDictionaryVersion());
+            event.commit();
+        }
+        return output;
+    }
+
+    /**
+     * Converts the game board/state into API output.
+     *
+     * @param model  The game board/state.
+     * @param result The result message.
+     * @return The API output.
+     */
+    public GameGuessOutput toOutput(GameGuessModel model, String result) {
+        GameState state = model.getGameState();
+        List<String> guessedWords = state.getGuessedWords();
+        GameGuessOutput output = new GameGuessOutput();
+        output.setResult(result);
+        output.setId(model.getId());
+        output.setOriginalWord(state.getOriginal());
+        output.setScrambleWord(state.getScramble());
+        output.setTotalWords(state.getSubWords().size());
+        output.setRemainingWords(state.getSubWords().size() - guessedWords.size());
+        output.setGuessedWords(guessedWords);
+        return output;
+    }
+
+    private static GameEventOutput toEvent(GameGuessModel model, String guessedWord) {
+        GameEventOutput event = new GameEventOutput();
+        event.setId(model.getId());
+        event.setVersion(model.getVersion());
+        event.setGuessedWord(guessedWord);
+        event.setScrambleWord(model.getGameState().getScramble());
+        event.setRemainingWords(remainingWords(model.getGameState()));
+        return event;
+    }
+
+    private static int remainingWords(GameState state) {
+        int remaining = 0;
+        for (Boolean guessed : state.getSubWords().values()) {
+            if (guessed != Boolean.TRUE) {
+                remaining += 1;
+            }
+        }
+        return remaining;
+    }
+
+    @Override
+    public void close() {
+        this.expirer.shutdownNow();
+    }
+
+}
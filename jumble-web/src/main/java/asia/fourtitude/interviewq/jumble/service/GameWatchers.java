@@ -0,0 +1,333 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+import asia.fourtitude.interviewq.jumble.model.GameEventOutput;
+
+/**
+ * Watchers of games, pushed a {@link GameEventOutput} on every change, so
+ * that clients need not poll the board.
+ * <p>
+ * Watchers of a game are in a lock-free queue, under a concurrent map by
+ * game ID; a game without watcher costs one map lookup per change. Frames
+ * are encoded once, queued per watcher, and drained by one sender task at a
+ * time per watcher, so the guessing thread never writes to a connection, a
+ * watcher's frames are sent in order, and a slow watcher holds up only
+ * itself (and one sender thread).
+ * <p>
+ * A watcher more than `maxPending` frames behind is dropped, and its
+ * stream closed ({@link EventSubscriber#close()}), for the client to
+ * reconnect and start over from the current state.
+ * <p>
+ * A new watcher is registered before its current state is read, and that
+ * state is queued as its first frame. Changes queued before the first frame
+ * are held until it is sent, and then sent if newer than it; changes after
+ * it are sent if newer than it, in the order published (possibly not of
+ * version, of concurrent guesses). So no change is missed.
+ */
+public class GameWatchers implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameWatchers.class);
+
+    public static final String METRIC_GAME_WATCHERS = "jumble.game.watchers";
+
+    public static final String METRIC_GAME_WATCHERS_DROPPED = "jumble.game.watchers.dropped";
+
+    static final class Frame {
+
+        final long version;
+
+        final String json;
+
+        /* the current state of a new watcher, else a change */
+        final boolean first;
+
+        Frame(long version, String json, boolean first) {
+            this.version = version;
+            this.json = json;
+            this.first = first;
+        }
+
+    }
+
+    static final class Watcher {
+
+        final EventSubscriber subscriber;
+
+        final Queue<Frame> frames = new ConcurrentLinkedQueue<>();
+
+        final AtomicInteger pending = new AtomicInteger();
+
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        volatile boolean slow;
+
+        /* the version of the first frame, -1 before it is sent; by the drainer only */
+        long version = -1L;
+
+        /* changes queued before the first frame, still pending; by the drainer only */
+        final List<Frame> early = new ArrayList<>();
+
+        /* by the drainer only */
+        boolean closed;
+
+        Watcher(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+    }
+
+    static final class Watch {
+
+        final String id;
+
+        final Queue<Watcher> watchers = new ConcurrentLinkedQueue<>();
+
+        Watch(String id) {
+            this.id = id;
+        }
+
+    }
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, Watch> watches = new ConcurrentHashMap<>();
+
+    private final AtomicInteger watcherCount = new AtomicInteger();
+
+    private final ExecutorService sender;
+
+    private final int maxWatchers;
+
+    private volatile int maxPending = 32;
+
+    private final Counter dropped;
+
+    /**
+     * @param objectMapper  The JSON encoder of frames.
+     * @param registry      The metrics registry.
+     * @param senderThreads The number of threads sending frames.
+     * @param maxWatchers   The maximum number of watchers, of all games.
+     */
+    public GameWatchers(ObjectMapper objectMapper, MeterRegistry registry, int senderThreads, int maxWatchers) {
+        if (senderThreads <= 0 || maxWatchers <= 0) {
+            throw new IllegalArgumentException("Invalid senderThreads=[" + senderThreads + "], maxWatchers=["
+                    + maxWatchers + "]");
+        }
+        this.objectMapper = objectMapper;
+        this.maxWatchers = maxWatchers;
+        AtomicInteger threads = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "game-watch-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder(METRIC_GAME_WATCHERS, this, GameWatchers::getWatcherCount)
+                .description("Connections watching game events")
+                .register(registry);
+        this.dropped = Counter.builder(METRIC_GAME_WATCHERS_DROPPED)
+                .description("Watchers dropped, too many frames behind")
+                .register(registry);
+    }
+
+    /**
+     * @param maxPending The maximum number of frames queued for a watcher,
+     *                   beyond which it is dropped.
+     */
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    public int getWatcherCount() {
+        return this.watcherCount.get();
+    }
+
+    /**
+     * Watches game `id`: registers `subscriber`, then reads the `current`
+     * state and sends it first.
+     *
+     * @param id         The game ID.
+     * @param subscriber The subscriber.
+     * @param current    The current state, as an event, or null if the game
+     *                   is gone.
+     * @return false if the game is gone, else true.
+     * @throws IllegalStateException If there are `maxWatchers` watchers
+     *                               already.
+     */
+    public boolean watch(String id, EventSubscriber subscriber, Supplier<GameEventOutput> current) {
+        if (this.watcherCount.incrementAndGet() > this.maxWatchers) {
+            this.watcherCount.decrementAndGet();
+            throw new IllegalStateException("Too many game watchers");
+        }
+        Watcher watcher = new Watcher(subscriber);
+        Watch watch;
+        while (true) {
+            watch = this.watches.computeIfAbsent(id, Watch::new);
+            watch.watchers.add(watcher);
+            // else removed as empty meanwhile, retry on a new one
+            if (this.watches.get(id) == watch) {
+                break;
+            }
+            watch.watchers.remove(watcher);
+        }
+        // read after registering: a change meanwhile is in it, or published after
+        GameEventOutput event = current.get();
+        if (event == null) {
+            unwatch(id, subscriber);
+            return false;
+        }
+        offer(watch, watcher, new Frame(event.getVersion(), encode(event), true));
+        return true;
+    }
+
+    public void unwatch(String id, EventSubscriber subscriber) {
+        Watch watch = this.watches.get(id);
+        if (watch == null || !watch.watchers.removeIf(watcher -> watcher.subscriber == subscriber)) {
+            return;
+        }
+        this.watcherCount.decrementAndGet();
+        // under the bin lock, against a concurrent watch(), which re-checks
+        this.watches.computeIfPresent(id, (key, current) ->
+                current == watch && current.watchers.isEmpty() ? null : current);
+    }
+
+    /**
+     * Pushes `event` to the watchers of its game, if any. Never blocks.
+     *
+     * @param event The change.
+     */
+    public void publish(GameEventOutput event) {
+        Watch watch = this.watches.get(event.getId());
+        if (watch == null) {
+            return;
+        }
+        Frame frame = new Frame(event.getVersion(), encode(event), false);
+        for (Watcher watcher : watch.watchers) {
+            offer(watch, watcher, frame);
+        }
+    }
+
+    private void offer(Watch watch, Watcher watcher, Frame frame) {
+        if (watcher.slow) {
+            return;
+        }
+        if (watcher.pending.incrementAndGet() > this.maxPending) {
+            // too slow: its drainer closes it
+            watcher.pending.decrementAndGet();
+            watcher.slow = true;
+            unwatch(watch.id, watcher.subscriber);
+            this.dropped.increment();
+        } else {
+            watcher.frames.add(frame);
+        }
+        if (watcher.draining.compareAndSet(false, true)) {
+            try {
+                this.sender.execute(() -> drain(watch, watcher));
+            } catch (RejectedExecutionException e) {
+                // closed
+                watcher.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Watch watch, Watcher watcher) {
+        while (true) {
+            Frame frame;
+            while ((frame = watcher.frames.poll()) != null) {
+                if (watcher.slow) {
+                    watcher.pending.decrementAndGet();
+                } else if (frame.first) {
+                    watcher.pending.decrementAndGet();
+                    watcher.version = frame.version;
+                    deliver(watch, watcher, frame);
+                    watcher.early.sort(Comparator.comparingLong(early -> early.version));
+                    for (Frame early : watcher.early) {
+                        watcher.pending.decrementAndGet();
+                        deliver(watch, watcher, early);
+                    }
+                    watcher.early.clear();
+                } else if (watcher.version < 0L) {
+                    // published after registering, newer than the first frame maybe
+                    watcher.early.add(frame);
+                } else {
+                    watcher.pending.decrementAndGet();
+                    deliver(watch, watcher, frame);
+                }
+            }
+            if (watcher.slow && !watcher.closed) {
+                watcher.closed = true;
+                watcher.pending.addAndGet(-watcher.early.size());
+                watcher.early.clear();
+                close(watcher.subscriber);
+            }
+            watcher.draining.set(false);
+            // a frame queued after the poll, but before the reset, is ours
+            if (watcher.frames.isEmpty() || !watcher.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(Watch watch, Watcher watcher, Frame frame) {
+        if (!frame.first && frame.version <= watcher.version) {
+            // in the first frame already
+            return;
+        }
+        if (!send(watcher.subscriber, frame.version, frame.json)) {
+            unwatch(watch.id, watcher.subscriber);
+        }
+    }
+
+    private static void close(EventSubscriber subscriber) {
+        try {
+            subscriber.close();
+        } catch (RuntimeException e) {
+            LOG.debug("close: subscriber failed", e);
+        }
+    }
+
+    private static boolean send(EventSubscriber subscriber, long version, String json) {
+        try {
+            return subscriber.send(version, json);
+        } catch (RuntimeException e) {
+            LOG.debug("send: subscriber failed", e);
+            return false;
+        }
+    }
+
+    private String encode(GameEventOutput event) {
+        try {
+            return this.objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.sender.shutdownNow();
+    }
+
+}
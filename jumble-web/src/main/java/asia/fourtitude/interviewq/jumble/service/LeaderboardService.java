@@ -0,0 +1,185 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.core.Leaderboard;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardEntryOutput;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardOutput;
+
+/**
+ * All-time and per-day (UTC) leaderboards of completed games, see
+ * {@link Leaderboard}. Each player is ranked by their best game.
+ * <p>
+ * A game scores {@link #POINTS_PER_LETTER} per letter of the words guessed,
+ * plus a bonus of {@link #BONUS_SECONDS} less the seconds taken (if any
+ * left). Daily boards older than `retainDays` are dropped.
+ */
+public class LeaderboardService {
+
+    public static final String BOARD_ALL = "all";
+
+    public static final String BOARD_TODAY = "today";
+
+    public static final int POINTS_PER_LETTER = 10;
+
+    public static final int BONUS_SECONDS = 600;
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final int MAX_LIMIT = 1000;
+
+    public static final int MAX_PLAYER_LENGTH = 64;
+
+    public static final String METRIC_LEADERBOARD_PLAYERS = "jumble.leaderboard.players";
+
+    public static final String METRIC_LEADERBOARD_SUBMISSIONS = "jumble.leaderboard.submissions";
+
+    private final Leaderboard allTime = new Leaderboard();
+
+    private final ConcurrentHashMap<Long, Leaderboard> daily = new ConcurrentHashMap<>();
+
+    private final int retainDays;
+
+    private final Counter submissions;
+
+    public LeaderboardService(MeterRegistry registry, int retainDays) {
+        if (retainDays <= 0) {
+            throw new IllegalArgumentException("Invalid retainDays=[" + retainDays + "], expect positive integer");
+        }
+        this.retainDays = retainDays;
+        Gauge.builder(METRIC_LEADERBOARD_PLAYERS, this.allTime, Leaderboard::size)
+                .description("Players in the all-time leaderboard")
+                .register(registry);
+        this.submissions = Counter.builder(METRIC_LEADERBOARD_SUBMISSIONS)
+                .description("Completed games submitted to leaderboards")
+                .register(registry);
+    }
+
+    /**
+     * @param guessedWords The words guessed.
+     * @param millisTaken  The time taken.
+     * @return The score of a completed game.
+     */
+    public static int score(List<String> guessedWords, long millisTaken) {
+        int letters = 0;
+        for (String word : guessedWords) {
+            letters += word.length();
+        }
+        long seconds = TimeUnit.MILLISECONDS.toSeconds(Math.max(0L, millisTaken));
+        return letters * POINTS_PER_LETTER + (int) Math.max(0L, BONUS_SECONDS - seconds);
+    }
+
+    /**
+     * Records a completed game of `player` in the all-time board and the
+     * board of the day of `completedAt`.
+     *
+     * @param player       The player, cut to {@link #MAX_PLAYER_LENGTH}.
+     * @param guessedWords The words guessed.
+     * @param createdAt    The game creation time (epoch milliseconds).
+     * @param completedAt  The game completion time (epoch milliseconds).
+     * @return The score of the game.
+     */
+    public int submit(String player, List<String> guessedWords, long createdAt, long completedAt) {
+        int score = score(guessedWords, completedAt - createdAt);
+        String name = playerName(player);
+        long day = Instant.ofEpochMilli(completedAt).atZone(ZoneOffset.UTC).toLocalDate().toEpochDay();
+        this.allTime.submit(name, score);
+        Leaderboard board = this.daily.get(day);
+        if (board == null) {
+            board = this.daily.computeIfAbsent(day, key -> new Leaderboard());
+            this.daily.keySet().removeIf(key -> key <= day - this.retainDays);
+        }
+        board.submit(name, score);
+        this.submissions.increment();
+        return score;
+    }
+
+    /**
+     * @param board The board: `all`, `today` (UTC) or a date (yyyy-MM-dd),
+     *              or null or blank for `all`.
+     * @param limit The maximum number of entries, or null for
+     *              {@link #DEFAULT_LIMIT}.
+     * @return The best players of `board`.
+     * @throws IllegalArgumentException If `board` or `limit` is invalid.
+     */
+    public LeaderboardOutput top(String board, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size <= 0 || size > MAX_LIMIT) {
+            throw new IllegalArgumentException("Invalid limit=[" + limit + "], expect 1 to " + MAX_LIMIT);
+        }
+        String name = boardName(board);
+        Leaderboard leaderboard = find(name);
+        LeaderboardOutput output = new LeaderboardOutput();
+        output.setBoard(name);
+        List<LeaderboardEntryOutput> entries = new ArrayList<>();
+        if (leaderboard != null) {
+            output.setPlayers(leaderboard.size());
+            for (Leaderboard.Entry entry : leaderboard.top(size)) {
+                entries.add(toOutput(entry));
+            }
+        }
+        output.setEntries(entries);
+        return output;
+    }
+
+    /**
+     * @param board  The board, as {@link #top(String, Integer)}.
+     * @param player The player, cut to {@link #MAX_PLAYER_LENGTH}.
+     * @return The rank and best score of `player`, or null if not ranked.
+     * @throws IllegalArgumentException If `board` is invalid.
+     */
+    public LeaderboardEntryOutput entry(String board, String player) {
+        Leaderboard leaderboard = find(boardName(board));
+        Leaderboard.Entry entry = leaderboard == null || player == null ? null : leaderboard.getEntry(playerName(player));
+        return entry == null ? null : toOutput(entry);
+    }
+
+    private static String playerName(String player) {
+        return StringUtils.left(player.trim(), MAX_PLAYER_LENGTH);
+    }
+
+    private static String boardName(String board) {
+        if (StringUtils.isBlank(board)) {
+            return BOARD_ALL;
+        }
+        String name = board.trim().toLowerCase(Locale.ROOT);
+        if (BOARD_ALL.equals(name)) {
+            return name;
+        }
+        if (BOARD_TODAY.equals(name)) {
+            return LocalDate.now(ZoneOffset.UTC).toString();
+        }
+        try {
+            return LocalDate.parse(name).toString();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid board=[" + board + "], expect all, today or yyyy-MM-dd");
+        }
+    }
+
+    private Leaderboard find(String name) {
+        return BOARD_ALL.equals(name) ? this.allTime : this.daily.get(LocalDate.parse(name).toEpochDay());
+    }
+
+    private static LeaderboardEntryOutput toOutput(Leaderboard.Entry entry) {
+        LeaderboardEntryOutput output = new LeaderboardEntryOutput();
+        output.setRank(entry.getRank());
+        output.setPlayer(entry.getPlayer());
+        output.setScore(entry.getScore());
+        return output;
+    }
+
+}
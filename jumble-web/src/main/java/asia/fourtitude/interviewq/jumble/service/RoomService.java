@@ -0,0 +1,418 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.core.GameRoom;
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+import asia.fourtitude.interviewq.jumble.model.RoomOutput;
+
+/**
+ * Rooms: many players guessing the same scrambled word at once, see
+ * {@link GameRoom}.
+ * <p>
+ * Room members subscribe to its state, as frames of {@link RoomOutput}. A
+ * word found marks the room dirty; the first mark schedules a broadcast
+ * `coalesceMillis` later, and further marks until then are absorbed, so a
+ * burst of guesses becomes one frame. The frame is encoded once, then
+ * handed to every subscriber. Broadcasts of a room are serialized, so
+ * subscribers see increasing versions.
+ * <p>
+ * Each subscriber holds only its latest frame (a frame is the whole room
+ * state, so a newer one supersedes it), and is sent it by its own task on
+ * the `broadcastThreads`. So a slow subscriber skips frames, and holds up
+ * neither the room nor the other subscribers, but only itself and one
+ * sending thread.
+ * <p>
+ * Rooms with no subscriber, idle for `idleMillis`, are evicted.
+ */
+public class RoomService implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoomService.class);
+
+    public static final String RESULT_CREATED = "Created new room.";
+
+    public static final String RESULT_INVALID_ID = "Invalid Room ID.";
+
+    public static final String RESULT_INVALID_PLAYER = "Invalid player.";
+
+    public static final String RESULT_NOT_FOUND = "Room not found.";
+
+    public static final String RESULT_FOUND = "Found first.";
+
+    public static final String RESULT_ALREADY = "Found already.";
+
+    public static final String RESULT_INCORRECT = "Guessed incorrectly.";
+
+    public static final String RESULT_ALL_FOUND = "All words found.";
+
+    public static final String METRIC_ROOMS_ACTIVE = "jumble.rooms.active";
+
+    public static final String METRIC_ROOM_GUESSES = "jumble.room.guesses";
+
+    public static final String METRIC_ROOM_BROADCASTS = "jumble.room.broadcasts";
+
+    static final class Member {
+
+        final EventSubscriber subscriber;
+
+        final AtomicReference<Frame> latest = new AtomicReference<>();
+
+        final AtomicBoolean sending = new AtomicBoolean();
+
+        Member(EventSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+    }
+
+    static final class Frame {
+
+        final long version;
+
+        final String json;
+
+        Frame(long version, String json) {
+            this.version = version;
+            this.json = json;
+        }
+
+    }
+
+    static final class Room {
+
+        final GameRoom game;
+
+        final ConcurrentHashMap<EventSubscriber, Member> members = new ConcurrentHashMap<>();
+
+        final AtomicBoolean dirty = new AtomicBoolean();
+
+        volatile long lastActive;
+
+        Room(GameRoom game) {
+            this.game = game;
+            this.lastActive = game.getCreatedAt();
+        }
+
+    }
+
+    private final JumbleEngine jumbleEngine;
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<String, Room> rooms = new ConcurrentHashMap<>();
+
+    private final AtomicInteger roomCount = new AtomicInteger();
+
+    private final ScheduledExecutorService timer;
+
+    private final ExecutorService broadcaster;
+
+    private final long coalesceMillis;
+
+    private volatile int maxRooms = 10000;
+
+    private volatile long idleMillis = TimeUnit.MINUTES.toMillis(30);
+
+    private final Counter guessesFound;
+
+    private final Counter guessesAlready;
+
+    private final Counter guessesIncorrect;
+
+    private final Counter broadcasts;
+
+    /**
+     * @param jumbleEngine     The engine.
+     * @param objectMapper     The JSON encoder of frames.
+     * @param registry         The metrics registry.
+     * @param broadcastThreads The number of threads sending frames.
+     * @param coalesceMillis   The delay from the first change to its
+     *                         broadcast, absorbing the changes until then.
+     */
+    public RoomService(JumbleEngine jumbleEngine, ObjectMapper objectMapper, MeterRegistry registry,
+            int broadcastThreads, long coalesceMillis) {
+        if (broadcastThreads <= 0 || coalesceMillis < 0) {
+            throw new IllegalArgumentException("Invalid broadcastThreads=[" + broadcastThreads
+                    + "], coalesceMillis=[" + coalesceMillis + "]");
+        }
+        this.jumbleEngine = jumbleEngine;
+        this.objectMapper = objectMapper;
+        this.coalesceMillis = coalesceMillis;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threads = new AtomicInteger();
+        this.broadcaster = Executors.newFixedThreadPool(broadcastThreads, runnable -> {
+            Thread thread = new Thread(runnable, "room-broadcast-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.scheduleWithFixedDelay(this::evictIdle, 1L, 1L, TimeUnit.MINUTES);
+        Gauge.builder(METRIC_ROOMS_ACTIVE, this, RoomService::getRoomCount)
+                .description("Rooms (multiplayer games) in memory")
+                .register(registry);
+        this.guessesFound = guessCounter(registry, "found");
+        this.guessesAlready = guessCounter(registry, "already");
+        this.guessesIncorrect = guessCounter(registry, "incorrect");
+        this.broadcasts = Counter.builder(METRIC_ROOM_BROADCASTS)
+                .description("Room frames broadcast, one per coalesced burst of changes")
+                .register(registry);
+    }
+
+    private static Counter guessCounter(MeterRegistry registry, String result) {
+        return Counter.builder(METRIC_ROOM_GUESSES)
+                .description("Room guesses submitted, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public void setMaxRooms(int maxRooms) {
+        this.maxRooms = maxRooms;
+    }
+
+    public void setIdleMillis(long idleMillis) {
+        this.idleMillis = idleMillis;
+    }
+
+    public int getRoomCount() {
+        return this.roomCount.get();
+    }
+
+    /**
+     * Creates a new room of `difficulty`.
+     *
+     * @param difficulty The difficulty (easy, medium or hard), or null or
+     *                   blank for any.
+     * @return The room state.
+     * @throws IllegalArgumentException If `difficulty` is invalid.
+     * @throws IllegalStateException    If there are `maxRooms` rooms already.
+     */
+    public RoomOutput newRoom(String difficulty) {
+        SeedIndex.Difficulty parsed = SeedIndex.Difficulty.parse(difficulty);
+        if (this.roomCount.incrementAndGet() > this.maxRooms) {
+            this.roomCount.decrementAndGet();
+            throw new IllegalStateException("Too many rooms, maxRooms=[" + this.maxRooms + "]");
+        }
+        Room room;
+        try {
+            GameState state = this.jumbleEngine.createGameState(GameService.WORD_LENGTH, GameService.MIN_LENGTH,
+                    parsed);
+            room = new Room(new GameRoom(UUID.randomUUID().toString(), state, System.currentTimeMillis()));
+            this.rooms.put(room.game.getId(), room);
+        } catch (RuntimeException e) {
+            // the slot taken above, else leaked until restart
+            this.roomCount.decrementAndGet();
+            throw e;
+        }
+        LOG.debug("newRoom: {}", room.game);
+        return toOutput(room, RESULT_CREATED);
+    }
+
+    /**
+     * @param id The room ID.
+     * @return The room state, or null if not found.
+     */
+    public RoomOutput getRoom(String id) {
+        Room room = find(id);
+        return room == null ? null : toOutput(room, null);
+    }
+
+    private Room find(String id) {
+        return StringUtils.isBlank(id) ? null : this.rooms.get(id.trim());
+    }
+
+    /**
+     * Guesses `word` in room `id` on behalf of `player`. Never blocks on
+     * other guesses of the room; a word found is broadcast (coalesced).
+     *
+     * @param id     The room ID.
+     * @param player The player.
+     * @param word   The guessing word.
+     * @return The room state, with the guessing result and the finder of
+     * the word, or null if the room is not found.
+     */
+    public RoomOutput guess(String id, String player, String word) {
+        Room room = find(id);
+        if (room == null) {
+            return null;
+        }
+        room.lastActive = System.currentTimeMillis();
+        String guess = word == null ? null : word.trim().toLowerCase();
+        GameRoom.Result result = room.game.guess(player.trim(), guess);
+        String message;
+        switch (result) {
+        case FOUND:
+            this.guessesFound.increment();
+            room.game.setScramble(this.jumbleEngine.scramble(room.game.getOriginal()));
+            message = room.game.getRemainingWords() == 0 ? RESULT_ALL_FOUND : RESULT_FOUND;
+            markDirty(room);
+            break;
+        case ALREADY:
+            this.guessesAlready.increment();
+            message = RESULT_ALREADY;
+            break;
+        default:
+            this.guessesIncorrect.increment();
+            message = RESULT_INCORRECT;
+            break;
+        }
+        RoomOutput output = toOutput(room, message);
+        output.setGuessWord(word);
+        output.setFoundBy(room.game.getFinder(guess));
+        return output;
+    }
+
+    /**
+     * Subscribes to the frames of room `id`. The current state is sent
+     * (with the others, as the players count changes) after the coalescing
+     * delay.
+     *
+     * @param id         The room ID.
+     * @param subscriber The subscriber.
+     * @return false if the room is not found.
+     */
+    public boolean subscribe(String id, EventSubscriber subscriber) {
+        Room room = find(id);
+        if (room == null) {
+            return false;
+        }
+        room.members.putIfAbsent(subscriber, new Member(subscriber));
+        room.lastActive = System.currentTimeMillis();
+        markDirty(room);
+        return true;
+    }
+
+    public void unsubscribe(String id, EventSubscriber subscriber) {
+        Room room = find(id);
+        if (room != null && room.members.remove(subscriber) != null) {
+            room.lastActive = System.currentTimeMillis();
+            markDirty(room);
+        }
+    }
+
+    private void markDirty(Room room) {
+        if (room.dirty.compareAndSet(false, true)) {
+            try {
+                this.timer.schedule(() -> broadcast(room), this.coalesceMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // closed
+                room.dirty.set(false);
+            }
+        }
+    }
+
+    /*
+     * Serialized per room, and the frame taken under the lock, so a later
+     * broadcast never hands an older frame. Never blocks on a subscriber.
+     */
+    void broadcast(Room room) {
+        synchronized (room) {
+            room.dirty.set(false);
+            RoomOutput output = toOutput(room, null);
+            Frame frame = new Frame(output.getVersion(), encode(output));
+            for (Member member : room.members.values()) {
+                // supersedes the frame not sent yet, if any
+                member.latest.set(frame);
+                if (member.sending.compareAndSet(false, true)) {
+                    try {
+                        this.broadcaster.execute(() -> send(room, member));
+                    } catch (RejectedExecutionException e) {
+                        // closed
+                        member.sending.set(false);
+                    }
+                }
+            }
+            this.broadcasts.increment();
+        }
+    }
+
+    private void send(Room room, Member member) {
+        while (true) {
+            Frame frame;
+            while ((frame = member.latest.getAndSet(null)) != null) {
+                boolean sent;
+                try {
+                    sent = member.subscriber.send(frame.version, frame.json);
+                } catch (RuntimeException e) {
+                    LOG.debug("send: room={}, subscriber failed", room.game.getId(), e);
+                    sent = false;
+                }
+                if (!sent) {
+                    room.members.remove(member.subscriber, member);
+                }
+            }
+            member.sending.set(false);
+            // a frame handed after the take, but before the reset, is ours
+            if (member.latest.get() == null || !member.sending.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - this.idleMillis;
+        for (Room room : this.rooms.values()) {
+            if (room.members.isEmpty() && room.lastActive < idleBefore
+                    && this.rooms.remove(room.game.getId(), room)) {
+                this.roomCount.decrementAndGet();
+                LOG.debug("evictIdle: {}", room.game);
+            }
+        }
+    }
+
+    private RoomOutput toOutput(Room room, String result) {
+        GameRoom game = room.game;
+        RoomOutput output = new RoomOutput();
+        output.setResult(result);
+        output.setId(game.getId());
+        // version first: the words read after are at least as recent
+        output.setVersion(game.getVersion());
+        output.setOriginalWord(game.getOriginal());
+        output.setScrambleWord(game.getScramble());
+        output.setPlayers(room.members.size());
+        output.setTotalWords(game.getTotalWords());
+        output.setFoundWords(game.getFinders());
+        output.setRemainingWords(game.getTotalWords() - output.getFoundWords().size());
+        return output;
+    }
+
+    private String encode(RoomOutput output) {
+        try {
+            return this.objectMapper.writeValueAsString(output);
+        } catch (JsonProcessingException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.timer.shutdownNow();
+        this.broadcaster.shutdownNow();
+    }
+
+}
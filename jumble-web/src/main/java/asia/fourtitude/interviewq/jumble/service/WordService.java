@@ -0,0 +1,276 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import asia.fourtitude.interviewq.jumble.cache.AutoCompleteCache;
+import asia.fourtitude.interviewq.jumble.cache.CacheStats;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.PhraseAnagramSolver;
+import asia.fourtitude.interviewq.jumble.core.WordleSolver;
+import asia.fourtitude.interviewq.jumble.exception.JumbleEngineException;
+
+/**
+ * Word API operations shared by the servlet (MVC) and reactive (WebFlux)
+ * endpoints. Results are returned as encoded JSON bytes, so that either
+ * stack writes them as is.
+ */
+public class WordService {
+
+    private static final byte[] EMPTY_LIST = "[]".getBytes(StandardCharsets.UTF_8);
+
+    public static final int DEFAULT_PHRASE_LIMIT = 100;
+
+    public static final int MAX_PHRASE_LIMIT = 10000;
+
+    public static final long DEFAULT_PHRASE_BUDGET_MILLIS = 1000L;
+
+    public static final long MAX_PHRASE_BUDGET_MILLIS = 5000L;
+
+    public static final int MAX_WORDLE_CANDIDATES = 100;
+
+    private final JumbleEngine jumbleEngine;
+
+    private final AutoCompleteCache autoCompleteCache;
+
+    private final ObjectMapper objectMapper;
+
+    public WordService(JumbleEngine jumbleEngine, AutoCompleteCache autoCompleteCache, ObjectMapper objectMapper) {
+        this.jumbleEngine = jumbleEngine;
+        this.autoCompleteCache = autoCompleteCache;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Auto complete of `prefix` (of at least 3 letters).
+     *
+     * @param prefix The prefix.
+     * @param limit  The maximum number of words, or null for all words.
+     * @return The encoded JSON array of matching words.
+     */
+    public byte[] autoComplete(String prefix, Integer limit) {
+        prefix = StringUtils.trimToEmpty(prefix);
+        if (prefix.length() < 3 || (limit != null && limit <= 0)) {
+            return EMPTY_LIST;
+        }
+        prefix = prefix.toLowerCase(Locale.ROOT);
+
+        /*
+         * Hot prefixes are served straight from the encoded bytes, without
+         * going through engine nor JSON serialization.
+         */
+        AutoCompleteCache.Key key = new AutoCompleteCache.Key(
+                this.jumbleEngine.getDictionaryVersion(), prefix, limit == null ? 0 : limit);
+        byte[] body = this.autoCompleteCache.get(key);
+        if (body == null) {
+            Collection<String> words = this.jumbleEngine.wordsMatchingPrefix(prefix);
+            if (limit != null) {
+                words = words.stream().sorted().limit(limit).collect(Collectors.toList());
+            }
+            body = encode(words);
+            this.autoCompleteCache.put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Words matching the wildcard `pattern`, of letters, `?` (any single
+     * letter) and `*` (any run of letters).
+     *
+     * @param pattern The wildcard pattern.
+     * @param limit   The maximum number of words, or null for all words.
+     * @return The encoded JSON array of matching words, in alphabetical order.
+     */
+    public byte[] pattern(String pattern, Integer limit) {
+        Collection<String> words = this.jumbleEngine.wordsMatchingPattern(StringUtils.trimToEmpty(pattern), limit);
+        return words.isEmpty() ? EMPTY_LIST : encode(words);
+    }
+
+    /**
+     * Words fully matching the regular expression `regex`.
+     *
+     * @param regex The regular expression, of the subset supported by the engine.
+     * @param limit The maximum number of words, or null for all words.
+     * @return The encoded JSON array of matching words, in alphabetical order.
+     * @throws IllegalArgumentException If `regex` is invalid, unsupported or too complex.
+     */
+    public byte[] regex(String regex, Integer limit) {
+        Collection<String> words = this.jumbleEngine.wordsMatchingRegex(StringUtils.trimToEmpty(regex), limit);
+        return words.isEmpty() ? EMPTY_LIST : encode(words);
+    }
+
+    /**
+     * Crossword style lookup: words of `length` with letters at positions.
+     *
+     * @param length The length of words.
+     * @param at     Each a position (1 based) followed by its letter,
+     *               e.g. "2r", or null for all words of `length`.
+     * @param limit  The maximum number of words, or null for all words.
+     * @return The encoded JSON array of matching words, in alphabetical order.
+     * @throws IllegalArgumentException If an `at` is invalid, out of
+     *                                  `length`, or conflicts with another.
+     */
+    public byte[] crossword(Integer length, Collection<String> at, Integer limit) {
+        Map<Integer, Character> lettersAt = new HashMap<>();
+        if (at != null) {
+            for (String item : at) {
+                String trimmed = StringUtils.trimToEmpty(item);
+                if (trimmed.length() < 2 || !StringUtils.isNumeric(trimmed.substring(0, trimmed.length() - 1))
+                        || trimmed.length() > 4) {
+                    throw new IllegalArgumentException("Invalid at=[" + item + "], expect position and letter, e.g. 2r");
+                }
+                int position = Integer.parseInt(trimmed.substring(0, trimmed.length() - 1));
+                Character letter = trimmed.charAt(trimmed.length() - 1);
+                Character previous = lettersAt.put(position, letter);
+                if (previous != null && Character.toLowerCase(previous) != Character.toLowerCase(letter)) {
+                    throw new IllegalArgumentException("Invalid at=[" + item + "], expect one letter at position=[" + position + "]");
+                }
+            }
+        }
+        Collection<String> words = this.jumbleEngine.wordsWithLettersAt(length, lettersAt, limit);
+        return words.isEmpty() ? EMPTY_LIST : encode(words);
+    }
+
+    /**
+     * Wordle style solving: the candidates left by the guesses so far, and
+     * the most informative next guesses.
+     * <p>
+     * Encoded as `{"length": .., "candidate_count": .., "candidates": [..],
+     * "suggestions": [{"word": .., "bits": .., "candidate": ..}, ..]}`, with
+     * at most {@value #MAX_WORDLE_CANDIDATES} candidates listed.
+     *
+     * @param length The length of words.
+     * @param guess  Each a guess and its feedback, e.g. "crane:gyybb", or
+     *               null for the first guess.
+     * @param limit  The maximum number of suggestions, or null for default.
+     * @return The encoded JSON object.
+     * @throws IllegalArgumentException If `length`, a guess or a feedback is invalid.
+     */
+    public byte[] wordle(Integer length, Collection<String> guess, Integer limit) {
+        List<String> guesses = new ArrayList<>();
+        List<String> feedbacks = new ArrayList<>();
+        if (guess != null) {
+            for (String item : guess) {
+                String trimmed = StringUtils.trimToEmpty(item);
+                int colon = trimmed.indexOf(':');
+                if (colon <= 0 || colon == trimmed.length() - 1) {
+                    throw new IllegalArgumentException("Invalid guess=[" + item + "], expect guess and feedback, e.g. crane:gyybb");
+                }
+                guesses.add(trimmed.substring(0, colon));
+                feedbacks.add(trimmed.substring(colon + 1));
+            }
+        }
+        WordleSolver.Result result = this.jumbleEngine.wordle(length, guesses, feedbacks, limit);
+        List<Map<String, Object>> suggestions = new ArrayList<>();
+        for (WordleSolver.Suggestion suggestion : result.getSuggestions()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("word", suggestion.getWord());
+            item.put("bits", Math.round(suggestion.getBits() * 1000.0) / 1000.0);
+            item.put("candidate", suggestion.isCandidate());
+            suggestions.add(item);
+        }
+        List<String> candidates = result.getCandidates();
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("length", result.getLength());
+        output.put("candidate_count", candidates.size());
+        output.put("candidates", candidates.subList(0, Math.min(candidates.size(), MAX_WORDLE_CANDIDATES)));
+        output.put("suggestions", suggestions);
+        return encode(output);
+    }
+
+    /**
+     * Words using exactly the `letters`, in any order.
+     *
+     * @param letters The letters.
+     * @return The encoded JSON array of anagrams, in alphabetical order.
+     */
+    public byte[] anagrams(String letters) {
+        Collection<String> words = this.jumbleEngine.anagrams(StringUtils.trimToEmpty(letters));
+        return words.isEmpty() ? EMPTY_LIST : encode(words);
+    }
+
+    /**
+     * Streams the phrase anagrams of `phrase` as NDJSON (one JSON object per
+     * line): a line `{"words": [..]}` per solution as it is found, then a
+     * last line `{"outcome": .., "solutions": ..}`.
+     * <p>
+     * `limit` defaults to {@value #DEFAULT_PHRASE_LIMIT} (at most
+     * {@value #MAX_PHRASE_LIMIT}), and `budgetMillis` to
+     * {@value #DEFAULT_PHRASE_BUDGET_MILLIS} (at most
+     * {@value #MAX_PHRASE_BUDGET_MILLIS}).
+     *
+     * @param phrase       The phrase.
+     * @param minLength    The minimum length of words, or null for default.
+     * @param limit        The maximum number of solutions, or null for default.
+     * @param budgetMillis The time budget, or null for default.
+     * @param lines        Receives each encoded line (with the line feed).
+     * @throws IllegalArgumentException If `phrase` has too many letters.
+     */
+    public void phraseAnagrams(String phrase, Integer minLength, Integer limit, Long budgetMillis,
+            Consumer<byte[]> lines) {
+        String letters = StringUtils.trimToEmpty(phrase).toLowerCase(Locale.ROOT);
+        int maxSolutions = limit == null ? DEFAULT_PHRASE_LIMIT : Math.max(0, Math.min(limit, MAX_PHRASE_LIMIT));
+        long budget = budgetMillis == null ? DEFAULT_PHRASE_BUDGET_MILLIS
+                : Math.max(0L, Math.min(budgetMillis, MAX_PHRASE_BUDGET_MILLIS));
+        int[] solutions = new int[1];
+        PhraseAnagramSolver.Outcome outcome = this.jumbleEngine.phraseAnagrams(letters, minLength, maxSolutions, budget,
+                words -> {
+                    solutions[0] += 1;
+                    lines.accept(encodeLine(Collections.singletonMap("words", words)));
+                });
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("outcome", outcome.name().toLowerCase(Locale.ROOT));
+        summary.put("solutions", solutions[0]);
+        lines.accept(encodeLine(summary));
+    }
+
+    /**
+     * Checks `phrase` before streaming, as errors can no longer change the
+     * response status once the first line is written.
+     *
+     * @param phrase The phrase.
+     * @throws IllegalArgumentException If `phrase` has too many letters.
+     */
+    public void checkPhrase(String phrase) {
+        PhraseAnagramSolver.checkPhrase(StringUtils.trimToEmpty(phrase).toLowerCase(Locale.ROOT));
+    }
+
+    public CacheStats autoCompleteCacheStats() {
+        return this.autoCompleteCache.stats();
+    }
+
+    private byte[] encodeLine(Object value) {
+        try {
+            byte[] json = this.objectMapper.writeValueAsBytes(value);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            return line;
+        } catch (JsonProcessingException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            return this.objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new JumbleEngineException(e.getMessage(), e);
+        }
+    }
+
+}
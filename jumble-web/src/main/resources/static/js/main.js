@@ -71,12 +71,18 @@
         } else if (locPathname === '/prefix') {
             $('#mnuItmPrefix').addClass('active');
             $('#mnuDivRoot').addClass('show');
+        } else if (locPathname === '/pattern') {
+            $('#mnuItmPattern').addClass('active');
+            $('#mnuDivRoot').addClass('show');
         } else if (locPathname === '/search') {
             $('#mnuItmSearch').addClass('active');
             $('#mnuDivRoot').addClass('show');
         } else if (locPathname === '/subWords') {
             $('#mnuItmSubWords').addClass('active');
             $('#mnuDivRoot').addClass('show');
+        } else if (locPathname === '/admin/perf') {
+            $('#mnuItmAdminPerf').addClass('active');
+            $('#mnuDivAdmin').addClass('show');
         } else {
             $('#mnuItmHome').addClass('active');
         }
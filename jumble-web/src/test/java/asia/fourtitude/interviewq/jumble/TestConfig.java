@@ -0,0 +1,72 @@
+package asia.fourtitude.interviewq.jumble;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.bulkhead.Bulkhead;
+import asia.fourtitude.interviewq.jumble.cache.AutoCompleteCache;
+import asia.fourtitude.interviewq.jumble.cache.SeededGameCache;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.repository.MemoryGameRepository;
+import asia.fourtitude.interviewq.jumble.perf.PerfRecorder;
+import asia.fourtitude.interviewq.jumble.ratelimit.TokenBucketLimiter;
+import asia.fourtitude.interviewq.jumble.service.GameService;
+import asia.fourtitude.interviewq.jumble.service.LeaderboardService;
+import asia.fourtitude.interviewq.jumble.service.WordService;
+
+@TestConfiguration
+public class TestConfig {
+
+    @Bean
+    public JumbleEngine jumbleEngine() {
+        return new JumbleEngine();
+    }
+
+    @Bean
+    public PerfRecorder perfRecorder() {
+        return new PerfRecorder(10, 6);
+    }
+
+    @Bean
+    public AutoCompleteCache autoCompleteCache() {
+        return new AutoCompleteCache(16);
+    }
+
+    @Bean
+    public WordService wordService(JumbleEngine jumbleEngine, AutoCompleteCache autoCompleteCache,
+            ObjectMapper objectMapper) {
+        return new WordService(jumbleEngine, autoCompleteCache, objectMapper);
+    }
+
+    @Bean
+    public GameService gameService(JumbleEngine jumbleEngine) {
+        return new GameService(jumbleEngine, new SeededGameCache(8), new MemoryGameRepository(),
+                new SimpleMeterRegistry());
+    }
+
+    @Bean
+    public LeaderboardService leaderboardService() {
+        return new LeaderboardService(new SimpleMeterRegistry(), 7);
+    }
+
+    @Bean
+    public TokenBucketLimiter tokenBucketLimiter() {
+        return new TokenBucketLimiter(new SimpleMeterRegistry(), 1000, 1000, 1000,
+                TokenBucketLimiter.parseCosts("POST /subWords=4, GET /palindrome=4, POST /search=2"));
+    }
+
+    @Bean
+    public Bulkhead wordBulkhead() {
+        return new Bulkhead("word", new SimpleMeterRegistry(), 2, 16);
+    }
+
+    @Bean
+    public Bulkhead gameBulkhead() {
+        return new Bulkhead("game", new SimpleMeterRegistry(), 2, 16);
+    }
+
+}
@@ -0,0 +1,49 @@
+package asia.fourtitude.interviewq.jumble.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadTest {
+
+    @Test
+    void whenSupplyAsync_thenRunOnBulkheadThread() throws Exception {
+        try (Bulkhead bulkhead = new Bulkhead("word", new SimpleMeterRegistry(), 1, 1)) {
+            String thread = bulkhead.supplyAsync(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+            assertEquals("word-bulkhead-1", thread);
+        }
+    }
+
+    @Test
+    void givenThreadsBusyAndQueueFull_whenSupplyAsync_thenRejectedAtOnce() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (Bulkhead bulkhead = new Bulkhead("game", registry, 1, 1)) {
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> running = bulkhead.supplyAsync(() -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            });
+            CompletableFuture<String> queued = bulkhead.supplyAsync(() -> "queued");
+
+            assertThrows(RejectedExecutionException.class, () -> bulkhead.supplyAsync(() -> "rejected"));
+            assertEquals(1.0, registry.get(Bulkhead.METRIC_BULKHEAD_REJECTED).tag("bulkhead", "game").counter()
+                    .count());
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+            assertEquals("admitted", bulkhead.supplyAsync(() -> "admitted").get(5, TimeUnit.SECONDS));
+        }
+    }
+
+}
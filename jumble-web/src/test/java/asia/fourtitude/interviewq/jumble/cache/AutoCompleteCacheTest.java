@@ -0,0 +1,66 @@
+package asia.fourtitude.interviewq.jumble.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class AutoCompleteCacheTest {
+
+    static final byte[] BODY = "[\"awe\"]".getBytes();
+
+    @Test
+    void givenOneOffPrefix_whenPut_thenRejected() {
+        AutoCompleteCache cache = new AutoCompleteCache(4);
+        AutoCompleteCache.Key key = new AutoCompleteCache.Key(1L, "awe", 0);
+
+        assertNull(cache.get(key), "first request is a miss");
+        assertFalse(cache.put(key, BODY), "one-off prefix is not admitted");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void givenRepeatedPrefix_whenPut_thenHit() {
+        AutoCompleteCache cache = new AutoCompleteCache(4);
+        AutoCompleteCache.Key key = new AutoCompleteCache.Key(1L, "awe", 0);
+
+        assertNull(cache.get(key));
+        assertNull(cache.get(key));
+        assertTrue(cache.put(key, BODY), "repeated prefix is admitted");
+        assertSame(BODY, cache.get(new AutoCompleteCache.Key(1L, "awe", 0)));
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1.0 / 3, stats.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void givenDifferentVersionOrLimit_thenDifferentKey() {
+        AutoCompleteCache.Key key = new AutoCompleteCache.Key(1L, "awe", 0);
+        assertEquals(key, new AutoCompleteCache.Key(1L, "awe", 0));
+        assertNotEquals(key, new AutoCompleteCache.Key(2L, "awe", 0));
+        assertNotEquals(key, new AutoCompleteCache.Key(1L, "awe", 10));
+    }
+
+    @Test
+    void givenFullCache_whenColdPrefix_thenHotPrefixesKept() {
+        AutoCompleteCache cache = new AutoCompleteCache(2);
+        AutoCompleteCache.Key hot1 = new AutoCompleteCache.Key(1L, "abc", 0);
+        AutoCompleteCache.Key hot2 = new AutoCompleteCache.Key(1L, "def", 0);
+        for (int ix = 0; ix < 10; ix += 1) {
+            cache.get(hot1);
+            cache.get(hot2);
+        }
+        assertTrue(cache.put(hot1, BODY));
+        assertTrue(cache.put(hot2, BODY));
+
+        AutoCompleteCache.Key cold = new AutoCompleteCache.Key(1L, "xyz", 0);
+        cache.get(cold);
+        cache.get(cold);
+        assertFalse(cache.put(cold, BODY), "less popular than any victim");
+        assertNotNull(cache.get(hot1));
+        assertNotNull(cache.get(hot2));
+        assertEquals(2, cache.size());
+    }
+
+}
@@ -0,0 +1,65 @@
+package asia.fourtitude.interviewq.jumble.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+
+class SeededGameCacheTest {
+
+    static GameState game(SeededGameCache.Key key) {
+        return new GameState("seed" + key.getSeed(), "dees", new TreeMap<>());
+    }
+
+    @Test
+    void givenSameKey_whenGet_thenLoadedOnce() {
+        SeededGameCache cache = new SeededGameCache(4);
+        AtomicInteger loads = new AtomicInteger();
+        SeededGameCache.Key key = new SeededGameCache.Key(1L, 20000L, 6, 3, SeedIndex.Difficulty.EASY);
+
+        GameState first = cache.get(key, k -> {
+            loads.incrementAndGet();
+            return game(k);
+        });
+        GameState second = cache.get(new SeededGameCache.Key(1L, 20000L, 6, 3, SeedIndex.Difficulty.EASY), k -> {
+            loads.incrementAndGet();
+            return game(k);
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    void givenDifferentDifficulty_whenGet_thenDifferentKey() {
+        SeededGameCache.Key easy = new SeededGameCache.Key(1L, 20000L, 6, 3, SeedIndex.Difficulty.EASY);
+        SeededGameCache.Key any = new SeededGameCache.Key(1L, 20000L, 6, 3, null);
+        assertNotEquals(easy, any);
+    }
+
+    @Test
+    void givenFullCache_whenGet_thenOldestEvicted() {
+        SeededGameCache cache = new SeededGameCache(2);
+        for (long seed = 1L; seed <= 3L; seed += 1) {
+            cache.get(new SeededGameCache.Key(1L, seed, 6, 3, null), SeededGameCacheTest::game);
+        }
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().getEvictions());
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(new SeededGameCache.Key(1L, 3L, 6, 3, null), k -> {
+            loads.incrementAndGet();
+            return game(k);
+        });
+        assertEquals(0, loads.get(), "newest is kept");
+    }
+
+}
@@ -0,0 +1,38 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminPerfControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenVisitPerfPage_thenDefaultWindowAndSections() throws Exception {
+        this.mockMvc.perform(get("/admin/perf"))
+                .andExpect(view().name("admin/perf"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("window", "1m"))
+                .andExpect(model().attribute("windows", contains("10s", "1m", "5m")))
+                .andExpect(content().string(containsString("Engine Operations")))
+                .andExpect(content().string(containsString("Allocation rate")));
+    }
+
+    @Test
+    void givenUnknownWindow_whenVisitPerfPage_thenDefaultWindow() throws Exception {
+        this.mockMvc.perform(get("/admin/perf").param("window", "1h"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("window", "1m"));
+    }
+
+}
@@ -11,6 +11,9 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -19,6 +22,16 @@ class RootControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    /*
+     * The palindrome and search pages complete on the word bulkhead.
+     */
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = this.mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return this.mockMvc.perform(asyncDispatch(result));
+    }
+
     @Test
     void whenVisitHomePage_thenExpectTimeNow() throws Exception {
         this.mockMvc.perform(get("/"))
@@ -66,7 +79,7 @@ class RootControllerTest {
 
     @Test
     void whenVisitPalindrome_thenSuccess() throws Exception {
-        this.mockMvc.perform(get("/palindrome"))
+        performAsync(get("/palindrome"))
                 .andDo(print())
                 .andExpect(view().name("palindrome"))
                 .andExpect(status().isOk())
@@ -110,6 +123,18 @@ class RootControllerTest {
                 .andExpect(content().string(containsString(result)));
     }
 
+    @Test
+    void givenMisspelledWord_whenExecExists_thenDidYouMean() throws Exception {
+        String word = "fourtitude";
+        String result = "<p>Did you mean: <span>fortitude</span>?</p>";
+        this.mockMvc.perform(post("/exists")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("word", word))
+                .andExpect(view().name("exists"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(result)));
+    }
+
     @Test
     void givenEmptyWord_whenExecExists_thenFailure() throws Exception {
         String word = "";
@@ -147,6 +172,30 @@ class RootControllerTest {
                 .andExpect(content().string(containsString(result)));
     }
 
+    @Test
+    void givenValidPattern_whenExecPattern_thenSuccess() throws Exception {
+        String pattern = "c?t";
+        String result = "<p>The number of words: <span>3</span></p>";
+        this.mockMvc.perform(post("/pattern")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("pattern", pattern))
+                .andExpect(view().name("pattern"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(result)));
+    }
+
+    @Test
+    void givenInvalidPattern_whenExecPattern_thenFailure() throws Exception {
+        String pattern = "c?t!";
+        String result = "Pattern must be letters";
+        this.mockMvc.perform(post("/pattern")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .param("pattern", pattern))
+                .andExpect(view().name("pattern"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(result)));
+    }
+
     @Test
     void givenInvalidPrefix_whenExecPrefix_thenSuccess() throws Exception {
         String prefix = "tomatos";
@@ -173,7 +222,7 @@ class RootControllerTest {
 
     @Test
     void givenStartChar_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "a"))
                 .andExpect(view().name("search"))
@@ -183,7 +232,7 @@ class RootControllerTest {
 
     @Test
     void givenEndChar_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("endChar", "a"))
                 .andExpect(view().name("search"))
@@ -193,7 +242,7 @@ class RootControllerTest {
 
     @Test
     void givenLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("length", "1"))
                 .andExpect(view().name("search"))
@@ -203,7 +252,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharEndChar_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "a")
                 .param("endChar", "a"))
@@ -211,7 +260,7 @@ class RootControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("The number of words: ")));
 
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "a")
                 .param("endChar", ""))
@@ -219,7 +268,7 @@ class RootControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string(containsString("The number of words: ")));
 
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "")
                 .param("endChar", "a"))
@@ -230,7 +279,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "a")
                 .param("length", "5"))
@@ -241,7 +290,7 @@ class RootControllerTest {
 
     @Test
     void givenEndCharLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("endChar", "a")
                 .param("length", "5"))
@@ -252,7 +301,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharEndCharLength_whenExecSearch_thenSuccess() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "a")
                 .param("endChar", "a")
@@ -264,7 +313,7 @@ class RootControllerTest {
 
     @Test
     void givenAllEmpty_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "")
                 .param("endChar", "")
@@ -278,7 +327,7 @@ class RootControllerTest {
 
     @Test
     void givenStartCharLengthGe3_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("startChar", "are"))
                 .andExpect(view().name("search"))
@@ -288,7 +337,7 @@ class RootControllerTest {
 
     @Test
     void givenEndCharLengthGe2_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("endChar", "at"))
                 .andExpect(view().name("search"))
@@ -298,7 +347,7 @@ class RootControllerTest {
 
     @Test
     void givenInvalidLength_whenExecSearch_thenFailure() throws Exception {
-        this.mockMvc.perform(post("/search")
+        performAsync(post("/search")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .param("length", "a"))
                 .andExpect(view().name("search"))
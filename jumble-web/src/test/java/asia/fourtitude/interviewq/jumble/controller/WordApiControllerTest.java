@@ -0,0 +1,175 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import asia.fourtitude.interviewq.jumble.TestConfig;
+
+@WebMvcTest(WordApiController.class)
+@Import(TestConfig.class)
+class WordApiControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void givenShortPrefix_whenAutoComplete_thenEmptyList() throws Exception {
+        this.mvc.perform(get("/api/word/aw"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void givenPrefix_whenAutoComplete_thenWords() throws Exception {
+        this.mvc.perform(get("/api/word/AWE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(7)))
+                .andExpect(jsonPath("$", hasItem("awesome")));
+    }
+
+    @Test
+    void givenPrefixWithLimit_whenAutoCompleteRepeatedly_thenServedFromCache() throws Exception {
+        for (int ix = 0; ix < 3; ix += 1) {
+            this.mvc.perform(get("/api/word/pen").param("limit", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", contains("pen", "penal", "penalise")));
+        }
+        this.mvc.perform(get("/api/word/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.hit_ratio", greaterThan(0.0)));
+    }
+
+    @Test
+    void givenPattern_whenMatch_thenWords() throws Exception {
+        this.mvc.perform(get("/api/word/pattern").param("pattern", "C?T"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", contains("cat", "cot", "cut")));
+        this.mvc.perform(get("/api/word/pattern").param("pattern", "c?t*").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", contains("cat", "cataclysm")));
+    }
+
+    @Test
+    void givenInvalidPattern_whenMatch_thenEmptyList() throws Exception {
+        this.mvc.perform(get("/api/word/pattern").param("pattern", "c?t!"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void givenRegex_whenMatch_thenWords() throws Exception {
+        this.mvc.perform(get("/api/word/regex").param("regex", "colou?r"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", contains("color", "colour")));
+    }
+
+    @Test
+    void givenInvalidRegex_whenMatch_thenBadRequest() throws Exception {
+        this.mvc.perform(get("/api/word/regex").param("regex", "colo(u?r"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("colo(u?r")));
+        this.mvc.perform(get("/api/word/regex").param("regex", "[ab]*a[ab]{20}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("DFA states")));
+    }
+
+    @Test
+    void givenLetters_whenAnagrams_thenWords() throws Exception {
+        this.mvc.perform(get("/api/word/anagrams/Silent"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", contains("enlist", "inlets", "listen", "silent", "tinsel")));
+        this.mvc.perform(get("/api/word/anagrams/xyzzy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void givenLettersAt_whenCrossword_thenWords() throws Exception {
+        this.mvc.perform(get("/api/word/crossword").param("length", "7").param("at", "2r", "5N").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", contains("arrange", "arsenal", "arsenic")));
+        this.mvc.perform(get("/api/word/crossword").param("length", "5").param("at", "2a,3e"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", contains("caeca", "paean")));
+    }
+
+    @Test
+    void givenInvalidLettersAt_whenCrossword_thenBadRequest() throws Exception {
+        this.mvc.perform(get("/api/word/crossword").param("length", "7").param("at", "9r"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("position=[9]")));
+        this.mvc.perform(get("/api/word/crossword").param("length", "7").param("at", "r2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("at=[r2]")));
+    }
+
+    @Test
+    void givenGuesses_whenWordle_thenCandidatesAndSuggestions() throws Exception {
+        this.mvc.perform(get("/api/word/wordle").param("length", "5").param("guess", "crane:gyybb").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length").value(5))
+                .andExpect(jsonPath("$.candidate_count").value(14))
+                .andExpect(jsonPath("$.candidates", hasItem("cigar")))
+                .andExpect(jsonPath("$.suggestions", hasSize(3)));
+        this.mvc.perform(get("/api/word/wordle").param("length", "5").param("guess", "crane:gyybb", "cigar:GGGGG"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.candidates", contains("cigar")))
+                .andExpect(jsonPath("$.suggestions[0].word").value("cigar"))
+                .andExpect(jsonPath("$.suggestions[0].candidate").value(true));
+    }
+
+    @Test
+    void givenInvalidFeedback_whenWordle_thenBadRequest() throws Exception {
+        this.mvc.perform(get("/api/word/wordle").param("length", "5").param("guess", "crane:gyyxb"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("feedback=[gyyxb]")));
+        this.mvc.perform(get("/api/word/wordle").param("length", "5").param("guess", "crane"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("guess=[crane]")));
+        this.mvc.perform(get("/api/word/wordle").param("length", "1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("length=[1]")));
+    }
+
+    @Test
+    void givenPhrase_whenPhraseAnagrams_thenStreamedSolutions() throws Exception {
+        MvcResult result = this.mvc.perform(get("/api/word/phrase-anagrams")
+                        .param("phrase", "Dormitory")
+                        .param("limit", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split("\n");
+        assertEquals(4, lines.length, "lines");
+        assertTrue(lines[0].startsWith("{\"words\":["), "lines[0]");
+        assertEquals("{\"outcome\":\"limit\",\"solutions\":3}", lines[3], "lines[3]");
+    }
+
+    @Test
+    void givenTooLongPhrase_whenPhraseAnagrams_thenBadRequest() throws Exception {
+        this.mvc.perform(get("/api/word/phrase-anagrams").param("phrase", "the quick brown fox jumps over the lazy dog"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("at most 32 letters")));
+    }
+
+}
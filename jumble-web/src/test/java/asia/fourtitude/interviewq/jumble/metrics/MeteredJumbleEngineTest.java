@@ -0,0 +1,43 @@
+package asia.fourtitude.interviewq.jumble.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MeteredJumbleEngineTest {
+
+    @Test
+    void whenOperationCalled_thenTimedByOperation() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MeteredJumbleEngine engine = new MeteredJumbleEngine(registry);
+
+        assertTrue(engine.exists("awesome"));
+        assertFalse(engine.exists("awesomex"));
+        assertEquals(7, engine.wordsMatchingPrefix("awe").size());
+
+        Timer exists = registry.get(MeteredJumbleEngine.TIMER).tag("operation", "exists").timer();
+        assertEquals(2, exists.count());
+        Timer prefix = registry.get(MeteredJumbleEngine.TIMER).tag("operation", "wordsMatchingPrefix").timer();
+        assertEquals(1, prefix.count());
+        Timer search = registry.get(MeteredJumbleEngine.TIMER).tag("operation", "searchWords").timer();
+        assertEquals(0, search.count());
+    }
+
+    @Test
+    void whenDictionaryLoaded_thenGaugesReported() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MeteredJumbleEngine engine = new MeteredJumbleEngine(registry);
+
+        assertEquals(0.0, registry.get(MeteredJumbleEngine.DICTIONARY_WORDS).gauge().value(), "not loaded yet");
+        assertEquals(0.0, registry.get(MeteredJumbleEngine.INDEX_MEMORY).gauge().value(), "not loaded yet");
+
+        engine.exists("awesome");
+
+        assertEquals(engine.getDictionary().size(), registry.get(MeteredJumbleEngine.DICTIONARY_WORDS).gauge().value());
+        assertTrue(registry.get(MeteredJumbleEngine.INDEX_MEMORY).gauge().value() > engine.getDictionary().size() * 40.0);
+    }
+
+}
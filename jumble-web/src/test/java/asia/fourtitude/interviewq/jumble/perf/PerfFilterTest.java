@@ -0,0 +1,41 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class PerfFilterTest {
+
+    static List<String> filterAsync(String pattern, String contentType) throws Exception {
+        try (PerfRecorder recorder = new PerfRecorder(3600, 4)) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/game/1/events");
+            request.setAsyncSupported(true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            new PerfFilter(recorder).doFilter(request, response, (req, res) -> {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                req.startAsync();
+                res.setContentType(contentType);
+            });
+            request.getAsyncContext().complete();
+            return recorder.endpoints(4).stream().map(LatencySnapshot::getName).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void givenAsyncRequest_whenComplete_thenRecorded() throws Exception {
+        assertEquals(List.of("GET /search"), filterAsync("/search", MediaType.TEXT_HTML_VALUE));
+    }
+
+    @Test
+    void givenEventStream_whenComplete_thenNotRecorded() throws Exception {
+        assertEquals(List.of(), filterAsync("/api/game/{id}/events", MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+}
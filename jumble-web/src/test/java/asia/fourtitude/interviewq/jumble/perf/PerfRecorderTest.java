@@ -0,0 +1,69 @@
+package asia.fourtitude.interviewq.jumble.perf;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class PerfRecorderTest {
+
+    @Test
+    void givenRecordedLatency_whenSlotNotClosed_thenNotInWindow() {
+        try (PerfRecorder recorder = new PerfRecorder(3600, 4)) {
+            recorder.recordEndpoint("GET /api/word/{prefix}", TimeUnit.MILLISECONDS.toNanos(2));
+
+            List<LatencySnapshot> endpoints = recorder.endpoints(4);
+            assertEquals(1, endpoints.size());
+            assertEquals(0, endpoints.get(0).getCount());
+        }
+    }
+
+    @Test
+    void givenRecordedLatency_whenRotated_thenPercentilesInMillis() {
+        try (PerfRecorder recorder = new PerfRecorder(3600, 4)) {
+            for (int ix = 1; ix <= 100; ix += 1) {
+                recorder.recordOperation("exists", TimeUnit.MILLISECONDS.toNanos(ix));
+            }
+            recorder.rotate();
+
+            LatencySnapshot exists = recorder.operations(1).get(0);
+            assertEquals("exists", exists.getName());
+            assertEquals(100, exists.getCount());
+            assertEquals(50.0, exists.getP50(), 1.0);
+            assertEquals(99.0, exists.getP99(), 1.0);
+            assertEquals(100.0, exists.getMax(), 1.0);
+        }
+    }
+
+    @Test
+    void givenSlotsRotatedOut_thenDroppedFromWindow() {
+        try (PerfRecorder recorder = new PerfRecorder(3600, 2)) {
+            recorder.recordOperation("exists", 1000L);
+            recorder.rotate();
+            assertEquals(1, recorder.operations(2).get(0).getCount());
+            recorder.rotate();
+            assertEquals(1, recorder.operations(2).get(0).getCount(), "still in latest 2 slots");
+            assertEquals(0, recorder.operations(1).get(0).getCount(), "not in latest slot");
+            recorder.rotate();
+            assertEquals(0, recorder.operations(2).get(0).getCount(), "rotated out");
+        }
+    }
+
+    @Test
+    void givenAllocation_whenRotated_thenRatePerSecond() {
+        try (PerfRecorder recorder = new PerfRecorder(10, 6)) {
+            assertEquals(0.0, recorder.allocationRate(6));
+            recorder.recordAllocation(1000L);
+            recorder.rotate();
+            recorder.recordAllocation(3000L);
+            recorder.rotate();
+
+            assertEquals(20000L, recorder.windowMillis(6), "only 2 slots completed");
+            assertEquals(200.0, recorder.allocationRate(6), 1e-9);
+            assertEquals(300.0, recorder.allocationRate(1), 1e-9);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package asia.fourtitude.interviewq.jumble.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBucketLimiterTest {
+
+    static final Map<String, Integer> COSTS = TokenBucketLimiter.parseCosts("POST /subWords=4, get /search=1");
+
+    static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    @Test
+    void whenParseCosts_thenByMethodAndPath() {
+        assertEquals(4, COSTS.get("POST /subWords"));
+        assertEquals(1, COSTS.get("GET /search"));
+        assertTrue(TokenBucketLimiter.parseCosts(" ").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> TokenBucketLimiter.parseCosts("/subWords=4"));
+        assertThrows(IllegalArgumentException.class, () -> TokenBucketLimiter.parseCosts("POST /subWords=four"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TokenBucketLimiter(new SimpleMeterRegistry(), 1.0, 2, 10, COSTS));
+    }
+
+    @Test
+    void givenBurstSpent_whenAcquire_thenRejectedUntilRefilled() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TokenBucketLimiter limiter = new TokenBucketLimiter(registry, 2.0, 8, 10, COSTS);
+        long now = 1_000L * SECOND;
+
+        assertEquals(0L, limiter.acquire("POST /subWords", "a", now));
+        assertEquals(0L, limiter.acquire("POST /subWords", "a", now));
+        long wait = limiter.acquire("POST /subWords", "a", now);
+        assertEquals(2L * SECOND, wait);
+        assertEquals(0L, limiter.acquire("POST /subWords", "b", now), "other clients unaffected");
+        assertEquals(0L, limiter.acquire("GET /api/word/abc", "a", now), "not limited");
+        assertFalse(limiter.isLimited("GET /api/word/abc"));
+
+        assertTrue(limiter.acquire("POST /subWords", "a", now + wait - 1L) > 0L);
+        assertEquals(0L, limiter.acquire("POST /subWords", "a", now + wait));
+
+        assertEquals(4.0, registry.get(TokenBucketLimiter.METRIC_RATELIMIT_DECISIONS)
+                .tag("endpoint", "POST /subWords").tag("result", "admitted").counter().count());
+        assertEquals(2.0, registry.get(TokenBucketLimiter.METRIC_RATELIMIT_DECISIONS)
+                .tag("endpoint", "POST /subWords").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void givenFullClientTable_whenNewClient_thenIdleDroppedOrOverflow() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TokenBucketLimiter limiter = new TokenBucketLimiter(registry, 1.0, 4, 2, COSTS);
+        long now = 1_000L * SECOND;
+        limiter.acquire("GET /search", "a", now);
+        limiter.acquire("GET /search", "b", now);
+        assertEquals(2, limiter.getClientCount());
+
+        limiter.acquire("GET /search", "c", now);
+        assertEquals(2, limiter.getClientCount(), "a and b not refilled yet");
+        assertEquals(1.0, registry.get(TokenBucketLimiter.METRIC_RATELIMIT_OVERFLOW).counter().count());
+
+        limiter.acquire("GET /search", "c", now + 2L * SECOND);
+        assertEquals(1, limiter.getClientCount(), "a and b dropped, c added");
+    }
+
+    @Test
+    void givenRejected_whenFilter_thenTooManyRequestsWithRetryAfter() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(new SimpleMeterRegistry(), 0.5, 4, 10, COSTS);
+        RateLimitFilter filter = new RateLimitFilter(limiter);
+
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/subWords"), admitted, chain);
+        assertEquals(200, admitted.getStatus());
+        assertNotNull(chain.getRequest());
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/subWords"), rejected, chain);
+        assertEquals(429, rejected.getStatus());
+        assertNull(chain.getRequest(), "not passed on");
+        int retryAfter = Integer.parseInt(rejected.getHeader("Retry-After"));
+        assertTrue(retryAfter >= 7 && retryAfter <= 8, "retryAfter=" + retryAfter);
+        assertTrue(rejected.getContentAsString().contains("retry after"));
+    }
+
+    @Test
+    void givenPathVariants_whenFilter_thenChargedAsSameEndpoint() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(new SimpleMeterRegistry(), 0.5, 4, 10, COSTS);
+        RateLimitFilter filter = new RateLimitFilter(limiter);
+
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/subWords"), admitted, new MockFilterChain());
+        assertEquals(200, admitted.getStatus());
+
+        for (String uri : new String[] { "/subWords/", "/subWords;jsessionid=abc", "/sub%57ords", "//subWords" }) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", uri), response, new MockFilterChain());
+            assertEquals(429, response.getStatus(), uri);
+        }
+
+        MockHttpServletRequest contextRequest = new MockHttpServletRequest("POST", "/jumble/subWords/");
+        contextRequest.setContextPath("/jumble");
+        assertEquals("/subWords", RateLimitFilter.path(contextRequest));
+    }
+
+}
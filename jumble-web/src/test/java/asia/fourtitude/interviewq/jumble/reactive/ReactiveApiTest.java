@@ -0,0 +1,250 @@
+package asia.fourtitude.interviewq.jumble.reactive;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+import asia.fourtitude.interviewq.jumble.model.GameGuessOutput;
+import asia.fourtitude.interviewq.jumble.service.GameService;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveApiTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private GameService gameService;
+
+    @Test
+    void givenPrefix_whenAutoComplete_thenWords() {
+        this.client.get().uri("/api/word/{prefix}", "awe")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$").value(hasSize(7))
+                .jsonPath("$").value(hasItem("awesome"));
+    }
+
+    @Test
+    void givenShortPrefix_whenAutoComplete_thenEmptyList() {
+        this.client.get().uri("/api/word/{prefix}", "aw")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").value(hasSize(0));
+    }
+
+    @Test
+    void givenPattern_whenMatch_thenWords() {
+        this.client.get().uri("/api/word/pattern?pattern={pattern}", "c?t")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$").value(contains("cat", "cot", "cut"));
+    }
+
+    @Test
+    void givenLettersAt_whenCrossword_thenWords() {
+        this.client.get().uri("/api/word/crossword?length={length}&at={at}&at={at}", 7, "2r", "5n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$").value(hasSize(40))
+                .jsonPath("$[0]").isEqualTo("arrange");
+    }
+
+    @Test
+    void givenGuesses_whenWordle_thenCandidatesAndSuggestions() {
+        this.client.get().uri("/api/word/wordle?length={length}&guess={guess}&limit={limit}", 5, "crane:gyybb", 3)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.candidate_count").isEqualTo(14)
+                .jsonPath("$.suggestions").value(hasSize(3));
+        this.client.get().uri("/api/word/wordle?length={length}&guess={guess}", 5, "crane:gyyxb")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").value(containsString("feedback=[gyyxb]"));
+    }
+
+    @Test
+    void givenPhrase_whenPhraseAnagrams_thenStreamedSolutions() {
+        this.client.get().uri("/api/word/phrase-anagrams?phrase={phrase}&limit={limit}", "dormitory", 3)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> assertThat(body.split("\n"), arrayWithSize(4)))
+                .value(endsWith("{\"outcome\":\"limit\",\"solutions\":3}\n"));
+    }
+
+    @Test
+    void givenNewGame_whenGuessMisspelledWord_thenDidYouMean() {
+        GameGuessOutput game = this.client.get().uri("/api/game/new")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GameGuessOutput.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(game);
+        Set<String> subWords = this.gameService.getGame(game.getId()).getGameState().getSubWords().keySet();
+        String word = subWords.iterator().next();
+        this.client.post().uri("/api/game/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\": \"" + game.getId() + "\", \"word\": \"" + word + "q\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.result").isEqualTo(GameService.RESULT_INCORRECT)
+                .jsonPath("$.did_you_mean").value(hasSize(lessThanOrEqualTo(GameService.DID_YOU_MEAN_LIMIT)))
+                .jsonPath("$.did_you_mean[0]").value(in(subWords));
+    }
+
+    @Test
+    void givenDifficulty_whenNewGame_thenEnoughSubWords() {
+        this.client.get().uri("/api/game/new?difficulty=hard")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.result").isEqualTo(GameService.RESULT_CREATED)
+                .jsonPath("$.total_words").value(greaterThanOrEqualTo(SeedIndex.MIN_SUB_WORDS));
+    }
+
+    @Test
+    void givenInvalidDifficulty_whenNewGame_thenBadRequest() {
+        this.client.get().uri("/api/game/new?difficulty=tough")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.result").isEqualTo("Invalid difficulty=[tough], expect easy, medium or hard");
+    }
+
+    @Test
+    void givenDate_whenDailyGame_thenSameWordNewBoard() {
+        GameGuessOutput first = this.client.get().uri("/api/game/daily?date=2026-10-19&difficulty=medium")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GameGuessOutput.class)
+                .returnResult()
+                .getResponseBody();
+        GameGuessOutput second = this.client.get().uri("/api/game/daily?date=2026-10-19&difficulty=medium")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GameGuessOutput.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(first.getOriginalWord(), second.getOriginalWord());
+        assertEquals(first.getScrambleWord(), second.getScrambleWord());
+        assertEquals(first.getTotalWords(), second.getTotalWords());
+        this.client.get().uri("/api/game/daily/stats")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.hits").value(greaterThanOrEqualTo(1));
+    }
+
+    @Test
+    void givenInvalidDate_whenDailyGame_thenBadRequest() {
+        this.client.get().uri("/api/game/daily?date=19/10/2026")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.result").isEqualTo("Invalid date=[19/10/2026], expect yyyy-MM-dd");
+    }
+
+    @Test
+    void givenPlayerGuessesAll_whenLeaderboard_thenRanked() {
+        GameGuessOutput game = this.client.get().uri("/api/game/new")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GameGuessOutput.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(game);
+        GameGuessOutput output = null;
+        for (String word : this.gameService.getGame(game.getId()).getGameState().getSubWords().keySet()) {
+            output = this.client.post().uri("/api/game/guess")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"id\": \"" + game.getId() + "\", \"word\": \"" + word
+                            + "\", \"player\": \"reactive-player\"}")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(GameGuessOutput.class)
+                    .returnResult()
+                    .getResponseBody();
+        }
+        assertNotNull(output);
+        assertEquals(GameService.RESULT_ALL_GUESSED, output.getResult());
+        assertNotNull(output.getScore());
+
+        this.client.get().uri("/api/game/leaderboard/rank?player={player}", "reactive-player")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.score").isEqualTo(output.getScore());
+        this.client.get().uri("/api/game/leaderboard?board=today&limit=1000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.entries[*].player").value(hasItem("reactive-player"));
+        this.client.get().uri("/api/game/leaderboard?limit=many")
+                .exchange()
+                .expectStatus().isBadRequest();
+        this.client.get().uri("/api/game/leaderboard/rank?player={player}", "nobody")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void givenMissingRecord_whenEvents_thenNotFound() {
+        this.client.get().uri("/api/game/{id}/events", "4579256c-326f-4169-9b56-6d1d1a2c11f0")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void givenMissingId_whenPlayGame_thenInvalidId() {
+        this.client.post().uri("/api/game/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"word\": \"answer\"}")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.result").isEqualTo("Invalid Game ID.");
+    }
+
+    @Test
+    void givenMissingRecord_whenPlayGame_thenRecordNotFound() {
+        this.client.post().uri("/api/game/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\": \"4579256c-326f-4169-9b56-6d1d1a2c11f0\", \"word\": \"answer\"}")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.result").isEqualTo("Game board/state not found.");
+    }
+
+}
@@ -0,0 +1,294 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.cache.SeededGameCache;
+import asia.fourtitude.interviewq.jumble.core.GameTokenCodec;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.repository.GameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MappedFileGameRepository;
+import asia.fourtitude.interviewq.jumble.core.repository.MemoryGameRepository;
+import asia.fourtitude.interviewq.jumble.model.GameEventOutput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.model.GameGuessOutput;
+
+class GameServiceTest {
+
+    static final byte[] KEY = "shared-secret".getBytes(StandardCharsets.UTF_8);
+
+    static GameService statelessNode(byte[] key) {
+        JumbleEngine engine = new JumbleEngine();
+        GameService service = new GameService(engine, new SeededGameCache(4), new MemoryGameRepository(),
+                new SimpleMeterRegistry());
+        service.setGameTokenCodec(new GameTokenCodec(engine, key));
+        return service;
+    }
+
+    static GameService repositoryNode(GameRepository repository) {
+        return new GameService(new JumbleEngine(), new SeededGameCache(4), repository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenIdleGames_whenEvictIdle_thenOnlyIdleEvicted() {
+        GameService service = repositoryNode(new MemoryGameRepository());
+        long before = System.currentTimeMillis() - 1L;
+        assertTrue(service.isInMemory());
+        assertFalse(statelessNode(KEY).isInMemory());
+        GameGuessModel game1 = service.newGame();
+        GameGuessModel game2 = service.newGame();
+
+        assertEquals(0, service.evictIdle(before));
+        assertEquals(2, service.getGameCount());
+
+        assertEquals(2, service.evictIdle(System.currentTimeMillis() + 1_000L));
+        assertEquals(0, service.getGameCount());
+        assertNull(service.getGame(game1.getId()));
+        assertNull(service.getGame(game2.getId()));
+        service.close();
+    }
+
+    @Test
+    void givenFullFileRepository_whenNewGame_thenFailsUntilEvicted(@TempDir Path dir) {
+        try (GameRepository repository = new MappedFileGameRepository(dir.resolve("games.dat"), 1, 4096);
+                GameService service = repositoryNode(repository)) {
+            assertFalse(service.isInMemory());
+            service.newGame();
+            assertThrows(IllegalStateException.class, () -> service.newGame());
+
+            assertEquals(1, service.evictIdle(System.currentTimeMillis() + 1_000L));
+            assertNotNull(service.newGame());
+        }
+    }
+
+    @Test
+    void givenSharedRepository_whenConcurrentGuesses_thenNoneLost() {
+        GameRepository repository = new MemoryGameRepository();
+        GameService node1 = repositoryNode(repository);
+        GameService node2 = repositoryNode(repository);
+        GameGuessModel created = node1.newGame();
+        Iterator<String> words = created.getGameState().getSubWords().keySet().iterator();
+        String word1 = words.next();
+        String word2 = words.next();
+
+        // both loaded at version 0, so the second guess is retried on the first
+        GameGuessModel model1 = node1.getGame(created.getId());
+        GameGuessModel model2 = node2.getGame(created.getId());
+        assertEquals(GameService.RESULT_CORRECT, node1.guess(model1, word1).getResult());
+        GameGuessOutput output = node2.guess(model2, word2);
+
+        assertEquals(GameService.RESULT_CORRECT, output.getResult());
+        assertTrue(output.getGuessedWords().contains(word1));
+        assertTrue(output.getGuessedWords().contains(word2));
+        GameGuessModel latest = node1.getGame(created.getId());
+        assertEquals(2, latest.getVersion());
+        assertEquals(2, latest.getGameState().getGuessedWords().size());
+        assertEquals(1, node2.getGameCount());
+    }
+
+    @Test
+    void givenStatelessNodes_whenGuessOnOtherNode_thenServed() {
+        GameService node1 = statelessNode(KEY);
+        GameService node2 = statelessNode(KEY);
+        GameGuessModel created = node1.newGame();
+        String word = created.getGameState().getSubWords().keySet().iterator().next();
+
+        GameGuessModel model = node2.getGame(created.getId());
+        assertNotNull(model);
+        GameGuessOutput output = node2.guess(model, word);
+
+        assertEquals(GameService.RESULT_CORRECT, output.getResult());
+        assertNotEquals(created.getId(), output.getId(), "token renewed");
+        assertEquals(0, node1.getGameCount(), "nothing stored");
+        GameGuessModel next = node1.getGame(output.getId());
+        assertNotNull(next);
+        assertEquals(GameService.RESULT_ALREADY, node1.guess(next, word).getResult());
+    }
+
+    @Test
+    void givenOtherKey_whenGetGame_thenNotFound() {
+        GameGuessModel created = statelessNode(KEY).newGame();
+        assertNull(statelessNode("other".getBytes(StandardCharsets.UTF_8)).getGame(created.getId()));
+    }
+
+    @Test
+    void givenWatcher_whenGuess_thenDeltasPushedInOrder() throws Exception {
+        ObjectMapper om = new ObjectMapper();
+        List<GameEventOutput> events = new CopyOnWriteArrayList<>();
+        try (GameWatchers watchers = new GameWatchers(om, new SimpleMeterRegistry(), 1, 4)) {
+            GameService service = repositoryNode(new MemoryGameRepository());
+            service.setGameWatchers(watchers);
+            GameGuessModel created = service.newGame();
+            String word = created.getGameState().getSubWords().keySet().iterator().next();
+            int total = created.getGameState().getSubWords().size();
+            EventSubscriber subscriber = (version, frame) -> {
+                try {
+                    return events.add(om.readValue(frame, GameEventOutput.class));
+                } catch (JsonProcessingException e) {
+                    return false;
+                }
+            };
+
+            assertTrue(service.watchGame(created.getId(), subscriber));
+            assertFalse(service.watchGame("no-such-game", subscriber));
+            service.guess(service.getGame(created.getId()), "zzz");
+            service.guess(service.getGame(created.getId()), word.toUpperCase());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            assertEquals(3, events.size(), "events=" + events);
+            assertEquals(0L, events.get(0).getVersion());
+            assertEquals(total, events.get(0).getRemainingWords());
+            assertNull(events.get(1).getGuessedWord(), "incorrect");
+            assertEquals(1L, events.get(1).getVersion());
+            assertEquals(word, events.get(2).getGuessedWord());
+            assertEquals(total - 1, events.get(2).getRemainingWords());
+            assertEquals(1, watchers.getWatcherCount());
+
+            service.unwatchGame(created.getId(), subscriber);
+            service.guess(service.getGame(created.getId()), "zzz");
+            Thread.sleep(100L);
+            assertEquals(3, events.size());
+            assertEquals(0, watchers.getWatcherCount());
+        }
+    }
+
+    static GameEventOutput event(String id, long version) {
+        GameEventOutput event = new GameEventOutput();
+        event.setId(id);
+        event.setVersion(version);
+        return event;
+    }
+
+    @Test
+    void givenChangesWhileRegistering_whenWatch_thenFirstFrameThenNewerOnly() throws Exception {
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        EventSubscriber subscriber = (version, frame) -> versions.add(version);
+        try (GameWatchers watchers = new GameWatchers(new ObjectMapper(), new SimpleMeterRegistry(), 1, 4)) {
+            // guessed twice between registering and reading the state
+            assertTrue(watchers.watch("g", subscriber, () -> {
+                watchers.publish(event("g", 1L));
+                watchers.publish(event("g", 2L));
+                return event("g", 2L);
+            }));
+            watchers.publish(event("g", 2L));
+            watchers.publish(event("g", 3L));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (versions.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10L);
+            }
+            Thread.sleep(50L);
+
+            assertEquals(List.of(2L, 3L), versions);
+            assertFalse(watchers.watch("gone", subscriber, () -> null));
+            assertEquals(1, watchers.getWatcherCount());
+        }
+    }
+
+    @Test
+    void givenChangeBeforeFirstFrameQueued_whenWatch_thenChangeSentAfterFirstFrame() throws Exception {
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        GameEventOutput current = event("g", 5L);
+        GameWatchers[] holder = new GameWatchers[1];
+        // a guess lands after the state is read, while its frame is encoded
+        ObjectMapper objectMapper = new ObjectMapper() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (value == current) {
+                    holder[0].publish(event("g", 6L));
+                }
+                return super.writeValueAsString(value);
+            }
+
+        };
+        try (GameWatchers watchers = new GameWatchers(objectMapper, new SimpleMeterRegistry(), 1, 4)) {
+            holder[0] = watchers;
+            assertTrue(watchers.watch("g", (version, frame) -> versions.add(version), () -> current));
+            // concurrent guesses published out of order
+            watchers.publish(event("g", 8L));
+            watchers.publish(event("g", 7L));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (versions.size() < 4 && System.nanoTime() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            assertEquals(List.of(5L, 6L, 8L, 7L), versions);
+        }
+    }
+
+    @Test
+    void givenSlowWatcher_whenPublish_thenOthersServedAndSlowDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        EventSubscriber slow = new EventSubscriber() {
+
+            @Override
+            public boolean send(long version, String frame) {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+
+        };
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (GameWatchers watchers = new GameWatchers(new ObjectMapper(), registry, 2, 4)) {
+            watchers.setMaxPending(2);
+            assertTrue(watchers.watch("g", slow, () -> event("g", 0L)));
+            assertTrue(watchers.watch("g", (version, frame) -> versions.add(version), () -> event("g", 0L)));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            // in step with the fast one, which is never behind
+            for (long version = 0L; version <= 5L; version++) {
+                if (version > 0L) {
+                    watchers.publish(event("g", version));
+                }
+                while (versions.size() <= version && System.nanoTime() < deadline) {
+                    Thread.sleep(1L);
+                }
+            }
+
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L), versions, "not held up by the slow one");
+            assertEquals(1, watchers.getWatcherCount(), "slow one dropped");
+            assertEquals(1.0, registry.get(GameWatchers.METRIC_GAME_WATCHERS_DROPPED).counter().count());
+            release.countDown();
+            assertTrue(closed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void givenStatelessNode_whenWatchGame_thenNotSupported() {
+        try (GameWatchers watchers = new GameWatchers(new ObjectMapper(), new SimpleMeterRegistry(), 1, 4)) {
+            GameService service = statelessNode(KEY);
+            service.setGameWatchers(watchers);
+            assertFalse(service.watchGame(service.newGame().getId(), (version, frame) -> true));
+        }
+    }
+
+}
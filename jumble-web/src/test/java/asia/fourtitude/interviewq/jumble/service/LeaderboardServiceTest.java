@@ -0,0 +1,99 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.model.LeaderboardEntryOutput;
+import asia.fourtitude.interviewq.jumble.model.LeaderboardOutput;
+
+class LeaderboardServiceTest {
+
+    static final List<String> WORDS = Arrays.asList("goo", "log", "gloom");
+
+    static long epochMillis(String date) {
+        return LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    @Test
+    void whenScore_thenLettersAndTimeBonus() {
+        assertEquals(110 + 600, LeaderboardService.score(WORDS, 0L));
+        assertEquals(110 + 540, LeaderboardService.score(WORDS, TimeUnit.SECONDS.toMillis(60)));
+        assertEquals(110, LeaderboardService.score(WORDS, TimeUnit.HOURS.toMillis(1)));
+    }
+
+    @Test
+    void givenCompletedGames_whenTop_thenRankedByBestScore() {
+        LeaderboardService service = new LeaderboardService(new SimpleMeterRegistry(), 7);
+        long day = epochMillis("2026-10-19") + TimeUnit.HOURS.toMillis(1);
+        long minute = TimeUnit.MINUTES.toMillis(1);
+        service.submit("alice", WORDS, day, day + 5 * minute);
+        service.submit("bob", WORDS, day, day + minute);
+        service.submit(" alice ", WORDS, day, day + 2 * minute);
+        service.submit("carol", WORDS, day - TimeUnit.DAYS.toMillis(1), day - TimeUnit.DAYS.toMillis(1));
+
+        LeaderboardOutput all = service.top(null, null);
+        assertEquals(LeaderboardService.BOARD_ALL, all.getBoard());
+        assertEquals(3, all.getPlayers());
+        assertEquals("carol", all.getEntries().get(0).getPlayer());
+        assertEquals("bob", all.getEntries().get(1).getPlayer());
+        assertEquals("alice", all.getEntries().get(2).getPlayer());
+        assertEquals(110 + 480, all.getEntries().get(2).getScore());
+
+        LeaderboardOutput daily = service.top("2026-10-19", 1);
+        assertEquals("2026-10-19", daily.getBoard());
+        assertEquals(2, daily.getPlayers());
+        assertEquals(1, daily.getEntries().size());
+        assertEquals("bob", daily.getEntries().get(0).getPlayer());
+
+        LeaderboardEntryOutput alice = service.entry("2026-10-19", "alice");
+        assertEquals(2L, alice.getRank());
+        assertNull(service.entry("2026-10-19", "carol"));
+        assertTrue(service.top("2020-01-01", null).getEntries().isEmpty());
+    }
+
+    @Test
+    void givenOldDailyBoard_whenNewDay_thenEvicted() {
+        LeaderboardService service = new LeaderboardService(new SimpleMeterRegistry(), 2);
+        long first = epochMillis("2026-10-01");
+        service.submit("alice", WORDS, first, first);
+        service.submit("bob", WORDS, first + TimeUnit.DAYS.toMillis(1), first + TimeUnit.DAYS.toMillis(1));
+        assertEquals(1, service.top("2026-10-01", null).getPlayers());
+
+        service.submit("carol", WORDS, first + TimeUnit.DAYS.toMillis(2), first + TimeUnit.DAYS.toMillis(2));
+        assertEquals(0, service.top("2026-10-01", null).getPlayers());
+        assertEquals(1, service.top("2026-10-02", null).getPlayers());
+        assertEquals(3, service.top(LeaderboardService.BOARD_ALL, null).getPlayers());
+    }
+
+    @Test
+    void givenLongPlayerName_whenEntry_thenRankedUnderCutName() {
+        LeaderboardService service = new LeaderboardService(new SimpleMeterRegistry(), 7);
+        String player = "p".repeat(LeaderboardService.MAX_PLAYER_LENGTH + 10);
+        long now = System.currentTimeMillis();
+        service.submit(player, WORDS, now, now);
+
+        LeaderboardEntryOutput entry = service.entry(null, player);
+        assertNotNull(entry);
+        assertEquals(1L, entry.getRank());
+        assertEquals(LeaderboardService.MAX_PLAYER_LENGTH, entry.getPlayer().length());
+    }
+
+    @Test
+    void givenInvalidBoardOrLimit_thenIllegalArgument() {
+        LeaderboardService service = new LeaderboardService(new SimpleMeterRegistry(), 7);
+        assertThrows(IllegalArgumentException.class, () -> service.top("yesterday", null));
+        assertThrows(IllegalArgumentException.class, () -> service.top(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.top(null, LeaderboardService.MAX_LIMIT + 1));
+        assertNotNull(service.top(LeaderboardService.BOARD_TODAY, 5).getBoard());
+    }
+
+}
@@ -0,0 +1,194 @@
+package asia.fourtitude.interviewq.jumble.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.SeedIndex;
+import asia.fourtitude.interviewq.jumble.model.RoomOutput;
+
+class RoomServiceTest {
+
+    static final ObjectMapper OM = new ObjectMapper();
+
+    static final JumbleEngine ENGINE = new JumbleEngine();
+
+    static RoomService roomService(long coalesceMillis) {
+        return new RoomService(ENGINE, OM, new SimpleMeterRegistry(), 1, coalesceMillis);
+    }
+
+    static List<String> subWords(RoomOutput room) {
+        return ENGINE.generateSubWords(room.getOriginalWord(), GameService.MIN_LENGTH);
+    }
+
+    static void awaitFrames(List<String> frames, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (frames.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+    }
+
+    @Test
+    void givenRoom_whenTwoPlayersGuessSameWord_thenFirstFinderKept() {
+        try (RoomService service = roomService(0L)) {
+            RoomOutput room = service.newRoom(null);
+            assertEquals(RoomService.RESULT_CREATED, room.getResult());
+            String word = subWords(room).get(0);
+
+            RoomOutput first = service.guess(room.getId(), "alice", word);
+            RoomOutput second = service.guess(room.getId(), "bob", word.toUpperCase());
+            RoomOutput wrong = service.guess(room.getId(), "bob", "zzz");
+
+            assertEquals(RoomService.RESULT_FOUND, first.getResult());
+            assertEquals("alice", first.getFoundBy());
+            assertEquals(RoomService.RESULT_ALREADY, second.getResult());
+            assertEquals("alice", second.getFoundBy());
+            assertEquals(RoomService.RESULT_INCORRECT, wrong.getResult());
+            assertNull(wrong.getFoundBy());
+            assertEquals("alice", service.getRoom(room.getId()).getFoundWords().get(word));
+            assertEquals(1L, service.getRoom(room.getId()).getVersion());
+            assertNull(service.guess("no-such-room", "bob", word));
+        }
+    }
+
+    @Test
+    void givenBurstOfGuesses_whenBroadcast_thenOneFrame() throws Exception {
+        try (RoomService service = roomService(300L)) {
+            RoomOutput room = service.newRoom("easy");
+            List<String> frames = new CopyOnWriteArrayList<>();
+            assertTrue(service.subscribe(room.getId(), (version, frame) -> frames.add(frame)));
+            assertFalse(service.subscribe("no-such-room", (version, frame) -> true));
+
+            // join and all finds fall in the same coalescing window
+            List<String> words = subWords(room);
+            for (int ix = 0; ix < words.size(); ix += 1) {
+                service.guess(room.getId(), ix % 2 == 0 ? "alice" : "bob", words.get(ix));
+            }
+            awaitFrames(frames, 1);
+            Thread.sleep(400L);
+
+            assertEquals(1, frames.size(), "frames=" + frames);
+            RoomOutput frame = OM.readValue(frames.get(0), RoomOutput.class);
+            RoomOutput latest = service.getRoom(room.getId());
+            assertEquals(latest.getVersion(), frame.getVersion());
+            assertEquals(latest.getFoundWords(), frame.getFoundWords());
+            assertEquals(words.size(), frame.getFoundWords().size());
+            assertEquals("alice", frame.getFoundWords().get(words.get(0)));
+            assertEquals(0, frame.getRemainingWords());
+            assertEquals(1, frame.getPlayers());
+            assertNull(frame.getResult());
+        }
+    }
+
+    @Test
+    void givenGoneSubscriber_whenBroadcast_thenUnsubscribed() throws Exception {
+        try (RoomService service = roomService(0L)) {
+            RoomOutput room = service.newRoom(null);
+            List<String> frames = new CopyOnWriteArrayList<>();
+            service.subscribe(room.getId(), (version, frame) -> false);
+            service.subscribe(room.getId(), (version, frame) -> frames.add(frame));
+            awaitFrames(frames, 1);
+
+            service.guess(room.getId(), "alice", subWords(room).get(0));
+            awaitFrames(frames, 2);
+
+            assertEquals(1, service.getRoom(room.getId()).getPlayers());
+        }
+    }
+
+    @Test
+    void givenSlowSubscriber_whenBroadcast_thenOthersServedAndLatestFrameSent() throws Exception {
+        try (RoomService service = new RoomService(ENGINE, OM, new SimpleMeterRegistry(), 2, 0L)) {
+            RoomOutput room = service.newRoom(null);
+            CountDownLatch release = new CountDownLatch(1);
+            List<Long> slowVersions = new CopyOnWriteArrayList<>();
+            service.subscribe(room.getId(), (version, frame) -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+                return slowVersions.add(version);
+            });
+            List<String> frames = new CopyOnWriteArrayList<>();
+            service.subscribe(room.getId(), (version, frame) -> frames.add(frame));
+
+            List<String> words = subWords(room);
+            for (int ix = 0; ix < 3; ix += 1) {
+                service.guess(room.getId(), "alice", words.get(ix));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((frames.isEmpty() || !frames.get(frames.size() - 1).contains("\"version\":3"))
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertEquals(3L, OM.readValue(frames.get(frames.size() - 1), RoomOutput.class).getVersion(),
+                    "not held up by the slow one");
+            assertTrue(slowVersions.isEmpty());
+
+            release.countDown();
+            while (!slowVersions.contains(3L) && System.nanoTime() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertEquals(3L, slowVersions.get(slowVersions.size() - 1));
+            assertTrue(slowVersions.size() <= 2, "superseded frames skipped, versions=" + slowVersions);
+        }
+    }
+
+    @Test
+    void givenMaxRooms_whenNewRoom_thenException() {
+        try (RoomService service = roomService(0L)) {
+            service.setMaxRooms(1);
+            service.newRoom(null);
+            assertThrows(IllegalStateException.class, () -> service.newRoom(null));
+            assertThrows(IllegalArgumentException.class, () -> service.newRoom("tough"));
+            assertEquals(1, service.getRoomCount());
+        }
+    }
+
+    @Test
+    void givenEngineFailure_whenNewRoom_thenSlotReleased() {
+        JumbleEngine failing = new JumbleEngine() {
+            @Override
+            public GameState createGameState(Integer length, Integer minLength, SeedIndex.Difficulty difficulty) {
+                throw new IllegalStateException("No seed word");
+            }
+        };
+        try (RoomService service = new RoomService(failing, OM, new SimpleMeterRegistry(), 1, 0L)) {
+            service.setMaxRooms(1);
+            assertThrows(IllegalStateException.class, () -> service.newRoom(null));
+            // not "Too many rooms"
+            assertEquals("No seed word",
+                    assertThrows(IllegalStateException.class, () -> service.newRoom(null)).getMessage());
+            assertEquals(0, service.getRoomCount());
+        }
+    }
+
+    @Test
+    void givenIdleRoomWithoutPlayers_whenEvict_thenRemoved() {
+        try (RoomService service = roomService(0L)) {
+            RoomOutput idle = service.newRoom(null);
+            RoomOutput watched = service.newRoom(null);
+            service.subscribe(watched.getId(), (version, frame) -> true);
+            service.setIdleMillis(-1L);
+
+            service.evictIdle();
+
+            assertNull(service.getRoom(idle.getId()));
+            assertNotNull(service.getRoom(watched.getId()));
+            assertEquals(1, service.getRoomCount());
+        }
+    }
+
+}